@@ -2,11 +2,30 @@ package com.ts.rm.domain.common.service;
 
 import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
+import com.ts.rm.global.file.FileChecksumUtil;
+import com.ts.rm.global.file.FileChecksumUtil.ChecksumResult;
+import com.ts.rm.global.file.FileMaterializer;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -18,19 +37,63 @@ import org.springframework.web.multipart.MultipartFile;
  * 파일 저장소 서비스
  *
  * <p>릴리즈 파일의 물리적 저장 및 관리를 담당
+ *
+ * <p>블롭 저장소(콘텐츠 주소 기반): 동일한 내용의 파일은 SHA-256 체크섬을 키로
+ * {@code .blobs/{sha256 앞 2자리}/{sha256}} 위치에 한 번만 저장되고, 릴리즈 버전/패치 디렉토리의 같은 내용 파일은
+ * 블롭의 reflink(CoW 복제)로 생성되어 데이터 블록을 공유합니다. 기존 경로 구조(versions/, patches/)는 그대로
+ * 유지되므로 다운로드/파일 동기화 등 경로 기반 기능은 변경 없이 동작합니다.
+ *
+ * <p>버전/패치 경로의 파일은 블롭과 하드 링크로 연결하지 않습니다. 하드 링크는 inode를 공유하므로 어느 한 경로를
+ * 제자리에서 수정하면 블롭과 같은 내용의 모든 파일이 함께 바뀌기 때문입니다. reflink는 수정 시 복제되므로
+ * 각 경로는 독립된 파일로 동작합니다.
+ *
+ * <p><b>제한 사항:</b> 저장 공간 절감은 reflink를 지원하는 파일시스템(btrfs, XFS 등)에서만 얻을 수 있습니다.
+ * reflink를 지원하지 않으면 블롭을 만들지 않고 모든 경로를 일반 파일로 저장하므로, 같은 내용의 파일도 경로마다
+ * 전체 크기를 차지하며 블롭 저장소로 절약되는 공간은 없습니다 (복사본 블롭은 공유 없이 저장 공간만 늘림).
+ * 이 경우에도 기존에 등록된 블롭이 있으면 블롭에서 복사하므로 동작은 같습니다.
+ *
+ * <p>블롭은 읽기 전용으로 봉인되며, 봉인이 풀렸거나 크기가 다른 블롭은 내용을 다시 검증하여 변경된 경우 사용하지 않습니다.
+ * 블롭을 사용하지 못하면 항상 원본에서 다시 저장하므로, 블롭이 정리되거나 없어도 저장/패치 생성은 실패하지 않습니다.
  */
 @Slf4j
 @Service
 public class FileStorageService {
 
+    /**
+     * 블롭 저장소 디렉토리명 (base-path 하위)
+     */
+    public static final String BLOB_DIRECTORY = ".blobs";
+
+    /**
+     * 블롭 저장 중 임시 파일 디렉토리 (블롭 저장소 하위)
+     */
+    private static final String BLOB_TEMP_DIRECTORY = "tmp";
+
+    /**
+     * 블롭 정리 시 참조 여부를 한 번에 조회할 체크섬 수
+     */
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
+    private static final Pattern SHA256_PATTERN = Pattern.compile("^[0-9a-f]{64}$");
+
     private final Path baseStorageLocation;
+    private final Path blobStorageLocation;
+    private final Path blobTempLocation;
+    private final boolean blobStoreEnabled;
 
     public FileStorageService(
-            @Value("${app.release.base-path:data/release-manager}") String basePath) {
+            @Value("${app.release.base-path:data/release-manager}") String basePath,
+            @Value("${app.release.blob-store.enabled:true}") boolean blobStoreEnabled) {
         this.baseStorageLocation = Paths.get(basePath).toAbsolutePath().normalize();
+        this.blobStorageLocation = this.baseStorageLocation.resolve(BLOB_DIRECTORY);
+        this.blobTempLocation = this.blobStorageLocation.resolve(BLOB_TEMP_DIRECTORY);
+        this.blobStoreEnabled = blobStoreEnabled;
 
         try {
             Files.createDirectories(this.baseStorageLocation);
+            if (blobStoreEnabled) {
+                Files.createDirectories(this.blobTempLocation);
+            }
             log.info("파일 저장소 초기화 완료: {}", this.baseStorageLocation);
         } catch (IOException e) {
             log.error("파일 저장소 초기화 실패 - 경로: {}, 오류: {}",
@@ -76,6 +139,43 @@ public class FileStorageService {
         }
     }
 
+    /**
+     * 파일 저장 (체크섬/크기 동시 계산)
+     *
+     * <p>업로드 스트림을 한 번만 읽으며 저장과 동시에 SHA-256 체크섬과 크기를 계산합니다.
+     * 파일 전체를 메모리에 적재하지 않으며, 블롭 저장소가 활성화된 경우 블롭 저장소에도 등록합니다.
+     *
+     * @param file         업로드 파일
+     * @param relativePath 상대 경로 (예: versions/standard/1.1.x/1.1.3/mariadb/001.sql)
+     * @return 저장된 파일 정보 (상대 경로, 크기, 체크섬)
+     */
+    public StoredFile saveFileWithChecksum(MultipartFile file, String relativePath) {
+        String fileName = file.getOriginalFilename();
+        if (fileName == null || fileName.contains("..")) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "유효하지 않은 파일명입니다: " + fileName);
+        }
+
+        Path targetLocation = this.baseStorageLocation.resolve(relativePath).normalize();
+        if (!targetLocation.startsWith(this.baseStorageLocation)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "허용되지 않은 경로입니다: " + relativePath);
+        }
+
+        try (InputStream is = file.getInputStream()) {
+            ChecksumResult result = ingest(is, targetLocation);
+
+            log.info("파일 저장 완료: {} (size: {}, checksum: {})",
+                    relativePath, result.size(), result.checksum());
+            return new StoredFile(relativePath, result.size(), result.checksum());
+
+        } catch (IOException e) {
+            log.error("파일 저장 실패: {}", relativePath, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "파일 저장에 실패했습니다: " + e.getMessage());
+        }
+    }
+
     /**
      * 파일 로드
      *
@@ -239,4 +339,449 @@ public class FileStorageService {
                 this.baseStorageLocation, relativePath, absolutePath, Files.exists(absolutePath));
         return absolutePath;
     }
+
+    /**
+     * 파일을 대상 경로에 저장하고 블롭 저장소에 등록
+     *
+     * <p>원본 파일은 한 번만 읽으며, 읽는 동안 체크섬을 계산합니다.
+     * 동일 체크섬의 블롭이 이미 존재하면 블롭의 reflink로 대상 파일을 만들어 데이터 블록을 공유합니다.
+     * 블롭 저장소가 비활성화된 경우 일반 복사로 동작합니다.
+     *
+     * @param sourcePath 원본 파일 (절대 경로)
+     * @param targetPath 대상 파일 (절대 경로, base-path 하위)
+     * @return 파일의 SHA-256 체크섬
+     */
+    public String storeAsBlob(Path sourcePath, Path targetPath) {
+        try {
+            // 블롭 저장소 비활성화: 원본은 변경될 수 있으므로 하드 링크 대신 reflink 시도 (복제본 기준 체크섬)
+            if (!blobStoreEnabled) {
+                Files.createDirectories(targetPath.getParent());
+                Files.deleteIfExists(targetPath);
+                if (FileMaterializer.reflink(sourcePath, targetPath)) {
+                    return FileChecksumUtil.calculateChecksum(targetPath);
+                }
+            }
+            try (InputStream is = Files.newInputStream(sourcePath)) {
+                return ingest(is, targetPath).checksum();
+            }
+        } catch (IOException e) {
+            log.error("블롭 저장 실패: {} -> {}", sourcePath, targetPath, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "파일 저장에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 체크섬이 이미 계산된 임시 파일을 대상 경로로 이동하고 블롭 저장소에 등록
+     *
+     * <p>ZIP 병렬 압축 해제처럼 체크섬을 미리 계산한 경우 원본을 다시 읽지 않습니다.
+     * 원본 파일은 대상 경로로 이동(또는 동일 블롭의 reflink로 대체 후 삭제)되므로 임시 파일에만 사용해야 합니다.
+     *
+     * @param sourcePath 원본 임시 파일 (절대 경로, 호출 후 삭제됨)
+     * @param targetPath 대상 파일 (절대 경로, base-path 하위)
+     * @param checksum   원본 파일의 SHA-256 체크섬
+     * @return 파일의 SHA-256 체크섬
+     */
+    public String moveToBlob(Path sourcePath, Path targetPath, String checksum) {
+        try {
+            Files.createDirectories(targetPath.getParent());
+
+            if (!blobStoreEnabled) {
+                Files.move(sourcePath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                return checksum;
+            }
+
+            placeFile(sourcePath, targetPath, checksum, Files.size(sourcePath));
+            return checksum;
+
+        } catch (IOException e) {
+            log.error("블롭 저장 실패: {} -> {}", sourcePath, targetPath, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "파일 저장에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 업로드 처리용 임시 디렉토리 생성
+     *
+     * <p>블롭 저장소가 활성화된 경우 블롭 저장소와 같은 파일시스템(블롭 임시 디렉토리)에 생성하여
+     * {@link #moveToBlob}이 복사 없이 이동으로 처리되도록 합니다.
+     *
+     * @param prefix 디렉토리명 접두사
+     * @return 생성된 임시 디렉토리 (절대 경로)
+     */
+    public Path createTempDirectory(String prefix) {
+        try {
+            if (!blobStoreEnabled) {
+                return Files.createTempDirectory(prefix);
+            }
+            Files.createDirectories(blobTempLocation);
+            return Files.createTempDirectory(blobTempLocation, prefix);
+        } catch (IOException e) {
+            log.error("임시 디렉토리 생성 실패: {}", prefix, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "임시 디렉토리 생성에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 체크섬에 해당하는 블롭을 대상 경로에 생성 (reflink → 복사)
+     *
+     * <p>패치 파일처럼 생성 이후 내용이 바뀌면 안 되는 파일에 사용하므로 하드 링크는 만들지 않습니다
+     * (블롭과 inode를 공유하면 블롭이 수정될 때 이미 생성된 패치 파일까지 함께 바뀜).
+     * reflink/복사본은 이후 블롭이나 버전 파일이 수정되어도 영향을 받지 않습니다.
+     *
+     * <p>생성 전에 블롭이 변경되지 않았는지 확인합니다.
+     * <ul>
+     *   <li>크기가 예상과 다르면 변경된 블롭으로 판단하여 사용하지 않음
+     *   <li>읽기 전용 봉인이 풀려 있으면 체크섬을 다시 계산하여, 일치하면 재봉인 후 사용하고 다르면 사용하지 않음
+     * </ul>
+     * 변경된 블롭은 블롭 저장소에서 제거되며, 호출자는 원본에서 다시 등록해야 합니다.
+     *
+     * @param checksum     SHA-256 체크섬
+     * @param expectedSize 예상 파일 크기 (bytes, null이면 크기 검증 생략)
+     * @param targetPath   대상 파일 (절대 경로)
+     * @return 사용된 구체화 방식 (블롭이 없거나 변경되어 생성하지 못한 경우 empty)
+     */
+    public Optional<FileMaterializer.Method> materializeBlob(String checksum, Long expectedSize, Path targetPath) {
+        if (!hasBlob(checksum)) {
+            return Optional.empty();
+        }
+
+        Path blobPath = resolveBlobPath(checksum);
+        try {
+            if (!verifyBlob(blobPath, checksum, expectedSize)) {
+                return Optional.empty();
+            }
+            Files.createDirectories(targetPath.getParent());
+            return Optional.of(FileMaterializer.materialize(blobPath, targetPath, false));
+        } catch (IOException e) {
+            log.warn("블롭에서 파일 생성 실패 - checksum: {}, target: {}, error: {}",
+                    checksum, targetPath, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 블롭 존재 여부 확인
+     *
+     * @param checksum SHA-256 체크섬
+     * @return 존재 여부
+     */
+    public boolean hasBlob(String checksum) {
+        return blobStoreEnabled
+                && checksum != null
+                && SHA256_PATTERN.matcher(checksum).matches()
+                && Files.isRegularFile(resolveBlobPath(checksum));
+    }
+
+    /**
+     * 참조되지 않는 블롭 정리
+     *
+     * <p>블롭은 버전/패치 파일과 inode를 공유하지 않으므로, 블롭을 삭제해도 기존 파일에는 영향이 없습니다
+     * (같은 체크섬은 이후 원본에서 다시 등록). 참조 여부는 호출자가 DB의 체크섬으로 판단합니다.
+     * 방금 저장되어 아직 DB에 반영되지 않은 블롭을 지우지 않도록, 마지막 수정 후 {@code minAge}가 지나지 않은 블롭은 건너뜁니다.
+     * <p>블롭 저장소를 순차 탐색하며 {@value #CLEANUP_BATCH_SIZE}건 단위로 참조 여부를 조회하므로,
+     * 전체 체크섬 목록을 메모리에 올리지 않습니다.
+     * <p>중단된 업로드/블롭 등록이 남긴 임시 파일({@code .blobs/tmp})도 {@code minAge}가 지나면 함께 삭제합니다.
+     *
+     * @param findReferenced 주어진 체크섬 중 참조 중인 체크섬을 조회하는 함수
+     * @param minAge         정리 대상 최소 경과 시간
+     * @return 삭제된 블롭 수와 크기
+     */
+    public BlobCleanupResult cleanupUnreferencedBlobs(Function<Collection<String>, Collection<String>> findReferenced,
+            Duration minAge) {
+        if (!blobStoreEnabled || !Files.isDirectory(blobStorageLocation)) {
+            return new BlobCleanupResult(0, 0L);
+        }
+
+        Instant cutoff = Instant.now().minus(minAge);
+        BlobCleanupResult blobResult = new BlobCleanupResult(0, 0L);
+
+        try (Stream<Path> pathStream = Files.walk(blobStorageLocation)) {
+            Map<String, Path> batch = new LinkedHashMap<>();
+            for (Path blob : (Iterable<Path>) pathStream::iterator) {
+                if (blob.startsWith(blobTempLocation) || !Files.isRegularFile(blob)) {
+                    continue;
+                }
+                String checksum = blob.getFileName().toString();
+                if (!SHA256_PATTERN.matcher(checksum).matches() || !isStale(blob, cutoff)) {
+                    continue;
+                }
+                batch.put(checksum, blob);
+                if (batch.size() >= CLEANUP_BATCH_SIZE) {
+                    blobResult = blobResult.plus(deleteUnreferenced(batch, findReferenced, cutoff));
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                blobResult = blobResult.plus(deleteUnreferenced(batch, findReferenced, cutoff));
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.error("블롭 저장소 탐색 실패", e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "블롭 저장소 정리에 실패했습니다: " + e.getMessage());
+        }
+
+        BlobCleanupResult tempResult = cleanupStaleTempFiles(cutoff);
+        log.info("미참조 블롭 정리 완료 - {}건, {} bytes (임시 파일 {}건, {} bytes)",
+                blobResult.deletedCount(), blobResult.deletedSizeBytes(),
+                tempResult.deletedCount(), tempResult.deletedSizeBytes());
+        return blobResult.plus(tempResult);
+    }
+
+    /**
+     * 체크섬 묶음 중 참조되지 않는 블롭 삭제
+     */
+    private BlobCleanupResult deleteUnreferenced(Map<String, Path> batch,
+            Function<Collection<String>, Collection<String>> findReferenced, Instant cutoff) {
+        Set<String> referenced = Set.copyOf(findReferenced.apply(batch.keySet()));
+        int deletedCount = 0;
+        long deletedSizeBytes = 0;
+
+        for (Map.Entry<String, Path> entry : batch.entrySet()) {
+            if (referenced.contains(entry.getKey())) {
+                continue;
+            }
+            Path blob = entry.getValue();
+            try {
+                // 조회 중에 다시 등록된 블롭은 유지
+                if (!isOlderThan(blob, cutoff)) {
+                    continue;
+                }
+                long size = Files.size(blob);
+                Files.delete(blob);
+                deletedCount++;
+                deletedSizeBytes += size;
+            } catch (NoSuchFileException e) {
+                // 다른 인스턴스가 먼저 정리
+            } catch (IOException e) {
+                log.warn("블롭 정리 실패 - path: {}, error: {}", blob, e.getMessage());
+            }
+        }
+        return new BlobCleanupResult(deletedCount, deletedSizeBytes);
+    }
+
+    /**
+     * 블롭 임시 디렉토리에 남은 오래된 파일/디렉토리 삭제
+     *
+     * <p>최상위 항목 단위로, 하위 항목까지 모두 {@code cutoff} 이전에 수정된 경우에만 삭제합니다
+     * (진행 중인 업로드의 임시 디렉토리는 유지).
+     */
+    private BlobCleanupResult cleanupStaleTempFiles(Instant cutoff) {
+        if (!Files.isDirectory(blobTempLocation)) {
+            return new BlobCleanupResult(0, 0L);
+        }
+
+        int deletedCount = 0;
+        long deletedSizeBytes = 0;
+        try (Stream<Path> entries = Files.list(blobTempLocation)) {
+            for (Path entry : (Iterable<Path>) entries::iterator) {
+                try (Stream<Path> tree = Files.walk(entry)) {
+                    List<Path> paths = tree.sorted(Comparator.reverseOrder()).toList();
+                    boolean stale = true;
+                    for (Path path : paths) {
+                        stale &= isOlderThan(path, cutoff);
+                    }
+                    if (!stale) {
+                        continue;
+                    }
+                    for (Path path : paths) {
+                        if (Files.isRegularFile(path)) {
+                            deletedSizeBytes += Files.size(path);
+                        }
+                        Files.delete(path);
+                    }
+                    deletedCount++;
+                } catch (NoSuchFileException e) {
+                    // 진행 중인 작업이 먼저 정리
+                } catch (IOException | UncheckedIOException e) {
+                    log.warn("블롭 임시 파일 정리 실패 - path: {}, error: {}", entry, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("블롭 임시 디렉토리 탐색 실패 - error: {}", e.getMessage());
+        }
+        return new BlobCleanupResult(deletedCount, deletedSizeBytes);
+    }
+
+    private static boolean isOlderThan(Path path, Instant cutoff) throws IOException {
+        return Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+    }
+
+    /**
+     * 정리 대상 후보 여부 (탐색 중 삭제된 블롭은 제외)
+     */
+    private static boolean isStale(Path blob, Instant cutoff) {
+        try {
+            return isOlderThan(blob, cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 스트림을 대상 경로에 저장 (단일 패스 체크섬 계산)
+     *
+     * <p>블롭 저장소 사용 시: 임시 파일에 기록하며 체크섬 계산 → 대상 경로에 배치하고 블롭 등록 ({@link #placeFile})
+     */
+    private ChecksumResult ingest(InputStream inputStream, Path targetPath) throws IOException {
+        Files.createDirectories(targetPath.getParent());
+
+        if (!blobStoreEnabled) {
+            return FileChecksumUtil.copyWithChecksum(inputStream, targetPath);
+        }
+
+        Files.createDirectories(blobTempLocation);
+        Path tempFile = Files.createTempFile(blobTempLocation, "ingest-", ".tmp");
+        try {
+            ChecksumResult result = FileChecksumUtil.copyWithChecksum(inputStream, tempFile);
+            placeFile(tempFile, targetPath, result.checksum(), result.size());
+            return result;
+
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * 체크섬이 계산된 임시 파일을 대상 경로에 배치하고 블롭 저장소와 데이터 블록 공유
+     *
+     * <ol>
+     *   <li>같은 체크섬의 블롭이 있으면 블롭의 reflink로 대상 파일을 만들고 임시 파일은 폐기
+     *   <li>그 외에는 임시 파일을 대상 경로로 이동하고, 블롭이 없으면 대상 파일의 reflink를 블롭으로 등록
+     * </ol>
+     * 대상 파일은 어느 경우에도 블롭과 별개의 inode입니다. 블롭은 대상 파일이 배치된 뒤에 등록되고,
+     * 블롭을 사용하지 못하면 임시 파일로 대체하므로 동시에 실행된 블롭 정리와 경쟁해도 저장은 실패하지 않습니다.
+     */
+    private void placeFile(Path tempFile, Path targetPath, String checksum, long size) throws IOException {
+        Path blobPath = resolveBlobPath(checksum);
+        Files.deleteIfExists(targetPath);
+
+        if (cloneFromBlob(blobPath, checksum, size, targetPath)) {
+            Files.deleteIfExists(tempFile);
+            return;
+        }
+
+        Files.move(tempFile, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        if (!Files.exists(blobPath)) {
+            publishBlob(targetPath, blobPath, checksum);
+        }
+    }
+
+    /**
+     * 블롭의 reflink로 대상 파일 생성
+     *
+     * @return 생성했으면 true (블롭이 없거나 변경되었거나 reflink 미지원이면 false)
+     */
+    private boolean cloneFromBlob(Path blobPath, String checksum, long size, Path targetPath) {
+        try {
+            if (!Files.isRegularFile(blobPath) || !verifyBlob(blobPath, checksum, size)
+                    || !FileMaterializer.reflink(blobPath, targetPath)) {
+                return false;
+            }
+            targetPath.toFile().setWritable(true, true);
+            return true;
+        } catch (IOException e) {
+            // 검증 중 블롭이 정리된 경우 등
+            log.debug("블롭 복제 불가 - checksum: {}, error: {}", checksum, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 저장된 파일의 reflink 복제본을 봉인하여 블롭으로 등록
+     *
+     * <p>reflink를 지원하지 않으면 등록하지 않습니다. 같은 블롭을 동시에 등록해도 내용이 같으므로 원자적 이동으로 덮어씁니다.
+     */
+    private void publishBlob(Path sourcePath, Path blobPath, String checksum) throws IOException {
+        Path tempBlob = blobTempLocation.resolve("blob-" + UUID.randomUUID() + ".tmp");
+        if (!FileMaterializer.reflink(sourcePath, tempBlob)) {
+            return;
+        }
+        try {
+            FileMaterializer.seal(tempBlob);
+            Files.createDirectories(blobPath.getParent());
+            Files.move(tempBlob, blobPath, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("블롭 저장 완료: {}", checksum);
+        } finally {
+            Files.deleteIfExists(tempBlob);
+        }
+    }
+
+    /**
+     * 체크섬 기반 블롭 경로 계산
+     */
+    private Path resolveBlobPath(String checksum) {
+        if (!SHA256_PATTERN.matcher(checksum).matches()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "유효하지 않은 체크섬입니다: " + checksum);
+        }
+        return blobStorageLocation.resolve(checksum.substring(0, 2)).resolve(checksum);
+    }
+
+    /**
+     * 블롭이 봉인된 상태 그대로인지 검증
+     *
+     * @return 사용 가능하면 true, 변경되어 제거한 경우 false
+     */
+    private boolean verifyBlob(Path blobPath, String checksum, Long expectedSize) throws IOException {
+        if (expectedSize != null && Files.size(blobPath) != expectedSize) {
+            log.error("블롭 크기가 변경되었습니다 - checksum: {}, 예상: {} bytes, 실제: {} bytes",
+                    checksum, expectedSize, Files.size(blobPath));
+            quarantineBlob(blobPath);
+            return false;
+        }
+
+        if (FileMaterializer.isSealed(blobPath)) {
+            return true;
+        }
+
+        // 봉인이 풀린 블롭: 내용 재검증
+        if (!checksum.equals(FileChecksumUtil.calculateChecksum(blobPath))) {
+            log.error("블롭 내용이 변경되었습니다 - checksum: {}", checksum);
+            quarantineBlob(blobPath);
+            return false;
+        }
+        FileMaterializer.seal(blobPath);
+        log.warn("블롭 읽기 전용 속성 복구 - checksum: {}", checksum);
+        return true;
+    }
+
+    /**
+     * 변경된 블롭 제거 (이후 같은 체크섬은 원본에서 다시 등록)
+     *
+     * <p>패치 파일은 블롭의 독립된 복제본이므로 블롭이 변경되어도 이미 생성된 패치 파일에는 영향이 없습니다.
+     */
+    private void quarantineBlob(Path blobPath) {
+        try {
+            Files.deleteIfExists(blobPath);
+        } catch (IOException e) {
+            log.warn("변경된 블롭 제거 실패: {} - {}", blobPath, e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 파일 정보
+     *
+     * @param relativePath 상대 경로
+     * @param fileSize     파일 크기 (bytes)
+     * @param checksum     SHA-256 체크섬
+     */
+    public record StoredFile(String relativePath, long fileSize, String checksum) {
+    }
+
+    /**
+     * 블롭 정리 결과
+     *
+     * @param deletedCount     삭제된 블롭 수 (임시 파일 포함)
+     * @param deletedSizeBytes 삭제된 크기 (bytes)
+     */
+    public record BlobCleanupResult(int deletedCount, long deletedSizeBytes) {
+
+        BlobCleanupResult plus(BlobCleanupResult other) {
+            return new BlobCleanupResult(deletedCount + other.deletedCount,
+                    deletedSizeBytes + other.deletedSizeBytes);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.ts.rm.domain.customer.repository;
 
 import com.ts.rm.domain.customer.entity.CustomerProject;
 import com.ts.rm.domain.customer.entity.CustomerProjectId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -39,6 +40,16 @@ public interface CustomerProjectRepository extends JpaRepository<CustomerProject
      */
     Optional<CustomerProject> findByCustomer_CustomerIdAndProject_ProjectId(Long customerId, String projectId);
 
+    /**
+     * 프로젝트 ID와 고객사 ID 목록으로 매핑 목록 조회
+     *
+     * @param projectId   프로젝트 ID
+     * @param customerIds 고객사 ID 목록
+     * @return CustomerProject 목록
+     */
+    List<CustomerProject> findAllByProject_ProjectIdAndCustomer_CustomerIdIn(String projectId,
+            Collection<Long> customerIds);
+
     /**
      * 고객사의 특정 프로젝트 매핑 존재 여부 확인
      *
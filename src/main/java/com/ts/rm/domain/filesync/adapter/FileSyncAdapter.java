@@ -1,9 +1,11 @@
 package com.ts.rm.domain.filesync.adapter;
 
 import com.ts.rm.domain.filesync.dto.FileSyncMetadata;
+import com.ts.rm.domain.filesync.enums.FileSyncAction;
 import com.ts.rm.domain.filesync.enums.FileSyncTarget;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import org.springframework.lang.Nullable;
 
 /**
@@ -38,6 +40,18 @@ public interface FileSyncAdapter {
      */
     List<FileSyncMetadata> getRegisteredFiles(@Nullable String subPath);
 
+    /**
+     * DB에 등록된 파일 메타데이터 스트리밍 조회
+     *
+     * <p>경로 접두어 필터를 DB에서 처리하고 비교에 필요한 컬럼만 조회하므로,
+     * 메모리 사용량이 전체 테이블이 아닌 조회 경로 하위 건수에 비례합니다.
+     * <p>호출자의 트랜잭션 안에서 소비하고 닫아야 합니다 (try-with-resources).
+     *
+     * @param subPath 세부 경로 필터 (null이면 전체 조회)
+     * @return 등록된 파일 메타데이터 스트림
+     */
+    Stream<FileSyncMetadata> streamRegisteredFiles(@Nullable String subPath);
+
     /**
      * 미등록 파일을 DB에 신규 등록
      *
@@ -122,4 +136,16 @@ public interface FileSyncAdapter {
     default int getFolderScanDepth() {
         return 1;
     }
+
+    /**
+     * 동기화 액션 적용 후 호출
+     *
+     * <p>파일/폴더 또는 메타데이터가 변경된 뒤 도메인별 파생 데이터(캐시 등)를 정리할 때 사용합니다.
+     * <p>예: Patch는 폴더 변경 시 캐시된 패치 ZIP을 삭제합니다.
+     *
+     * @param filePath 적용 대상 경로 (base-path 기준 상대 경로)
+     * @param action   적용된 액션
+     */
+    default void afterApply(String filePath, FileSyncAction action) {
+    }
 }
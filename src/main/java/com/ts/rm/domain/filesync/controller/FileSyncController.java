@@ -46,7 +46,10 @@ public class FileSyncController {
     @PostMapping("/analyze")
     @Operation(
             summary = "파일 동기화 분석",
-            description = "파일시스템과 DB 메타데이터를 비교하여 불일치 항목을 분석합니다."
+            description = "파일시스템과 DB 메타데이터를 비교하여 불일치 항목을 분석합니다.\n\n"
+                    + "**증분 분석**: incremental=true면 마지막 전체 스캔 이후 변경 저널에 기록된 경로만 다시 확인합니다. "
+                    + "저널을 사용할 수 없으면 전체 스캔합니다.\n\n"
+                    + "**진행 상황 구독**: STOMP `/topic/file-sync/analyze` (메시지 타입: FILE_SYNC_ANALYZE_PROGRESS)"
     )
     public ResponseEntity<ApiResponse<FileSyncDto.AnalyzeResponse>> analyze(
             @RequestBody(required = false) FileSyncDto.AnalyzeRequest request) {
@@ -74,7 +77,9 @@ public class FileSyncController {
     @PostMapping("/apply")
     @Operation(
             summary = "동기화 액션 적용",
-            description = "분석된 불일치 항목에 대해 선택한 액션을 적용합니다."
+            description = "분석된 불일치 항목에 대해 선택한 액션을 적용합니다.\n\n"
+                    + "DB 반영은 청크 단위로 커밋되므로 일부 항목이 실패해도 나머지는 적용되며, "
+                    + "항목별 성공/실패는 results에서 확인합니다."
     )
     public ResponseEntity<ApiResponse<FileSyncDto.ApplyResponse>> apply(
             @Valid @RequestBody FileSyncDto.ApplyRequest request) {
@@ -86,6 +91,21 @@ public class FileSyncController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 변경 저널 상태 조회
+     *
+     * @return 대상별 저널 상태
+     */
+    @GetMapping("/journal")
+    @Operation(
+            summary = "변경 저널 상태 조회",
+            description = "증분 분석(incremental)에 사용하는 대상별 변경 저널 상태를 조회합니다.\n\n"
+                    + "저널이 비활성이거나 기록이 유실(overflowed)된 대상은 다음 분석 시 전체 스캔합니다."
+    )
+    public ResponseEntity<ApiResponse<List<FileSyncDto.JournalStatus>>> getJournalStatus() {
+        return ResponseEntity.ok(ApiResponse.success(fileSyncService.getJournalStatus()));
+    }
+
     /**
      * 무시된 파일 목록 조회
      *
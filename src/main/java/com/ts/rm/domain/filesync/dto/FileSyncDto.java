@@ -41,6 +41,12 @@ public class FileSyncDto {
 
         /** 스캔 기준 경로 (null이면 각 대상의 기본 경로) */
         private String basePath;
+
+        /** true면 체크섬 캐시를 사용하지 않고 전체 파일 체크섬 재계산 (캐시 검증용) */
+        private Boolean forceRehash;
+
+        /** true면 마지막 전체 스캔 이후 변경 저널에 기록된 경로만 다시 확인 (저널을 사용할 수 없으면 전체 스캔) */
+        private Boolean incremental;
     }
 
     /**
@@ -52,6 +58,9 @@ public class FileSyncDto {
     @AllArgsConstructor
     public static class AnalyzeResponse {
 
+        /** 분석 ID (불일치 항목 캐시 단위) */
+        private String analysisId;
+
         /** 분석 시각 */
         private LocalDateTime analyzedAt;
 
@@ -82,6 +91,56 @@ public class FileSyncDto {
 
         /** 불일치 파일 수 */
         private int discrepancies;
+
+        /** 체크섬 캐시를 사용한 파일 수 (파일을 다시 읽지 않음) */
+        private int checksumCacheHits;
+
+        /** 캐시와 재계산 체크섬이 다른 파일 수 (forceRehash 시에만 검출) */
+        private int checksumCacheMismatches;
+
+        /** 증분 분석으로 처리한 대상 (나머지는 전체 스캔) */
+        private List<FileSyncTarget> incrementalTargets;
+    }
+
+    /**
+     * 분석 진행 상황 (WebSocket 전송용)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AnalyzeProgress {
+
+        /** 스캔 중인 대상 */
+        private FileSyncTarget target;
+
+        /** 발견한 파일 수 */
+        private int scannedFiles;
+
+        /** 체크섬 계산까지 끝난 파일 수 */
+        private int processedFiles;
+    }
+
+    /**
+     * 변경 저널 상태
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JournalStatus {
+
+        /** 동기화 대상 */
+        private FileSyncTarget target;
+
+        /** 스캔 경로 감시 중 여부 */
+        private boolean watching;
+
+        /** 기록 유실 여부 (true면 다음 분석은 전체 스캔) */
+        private boolean overflowed;
+
+        /** 다음 증분 분석에서 확인할 변경 경로 수 */
+        private int pendingChanges;
     }
 
     // ========================================
@@ -0,0 +1,27 @@
+package com.ts.rm.domain.filesync.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파일 동기화 분석용 등록 파일 조회 결과 (엔티티 대신 비교에 필요한 컬럼만 조회)
+ *
+ * @param id           DB ID
+ * @param filePath     상대 경로
+ * @param fileName     파일명 (폴더 기반은 폴더명)
+ * @param fileSize     파일 크기 (폴더 기반은 null)
+ * @param checksum     체크섬 (폴더 기반은 null)
+ * @param registeredAt 등록일시
+ */
+public record RegisteredFileRow(Long id, String filePath, String fileName, Long fileSize, String checksum,
+        LocalDateTime registeredAt) {
+
+    /** 스트리밍 조회 시 한 번에 가져올 행 수 (MariaDB 드라이버는 fetch size 지정 시 결과를 나누어 수신) */
+    public static final int FETCH_SIZE = 1000;
+
+    /**
+     * 폴더 기반 항목 (파일 크기/체크섬 없음)
+     */
+    public RegisteredFileRow(Long id, String filePath, String fileName, LocalDateTime registeredAt) {
+        this(id, filePath, fileName, null, null, registeredAt);
+    }
+}
@@ -0,0 +1,106 @@
+package com.ts.rm.domain.filesync.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 파일 체크섬 캐시 엔티티
+ *
+ * <p>파일 동기화 분석/등록 시 계산한 체크섬을 파일 크기, 수정 시각, 파일 키(inode)와 함께 보관합니다.
+ * 세 값이 모두 같으면 파일이 바뀌지 않은 것으로 보고 체크섬을 다시 계산하지 않습니다.
+ * <p>크기만 같고 수정 시각/파일 키가 바뀐 파일은 CRC32C를 먼저 비교하여, 같으면 SHA-256을 다시 계산하지 않습니다.
+ */
+@Entity
+@Table(name = "file_checksum_cache")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FileChecksumCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "cache_id")
+    private Long cacheId;
+
+    /**
+     * 파일 경로 (base-path 기준 상대 경로)
+     */
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;
+
+    /**
+     * 파일 크기 (bytes)
+     */
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    /**
+     * 파일 수정 시각 (epoch nanoseconds)
+     */
+    @Column(name = "modified_nanos", nullable = false)
+    private Long modifiedNanos;
+
+    /**
+     * 파일 키 (inode 등, 지원하지 않는 파일시스템은 null)
+     */
+    @Column(name = "file_key", length = 100)
+    private String fileKey;
+
+    /**
+     * SHA-256 체크섬
+     */
+    @Column(name = "checksum", nullable = false, length = 64)
+    private String checksum;
+
+    /**
+     * CRC32C (내용 변경 여부 사전 검사용, 도입 전에 저장된 항목은 null)
+     */
+    @Column(name = "crc32c", length = 8)
+    private String crc32c;
+
+    /**
+     * 체크섬 계산 시각
+     */
+    @Column(name = "checked_at", nullable = false)
+    private LocalDateTime checkedAt;
+
+    /**
+     * 캐시 당시와 같은 파일인지 확인
+     */
+    public boolean matches(long fileSize, long modifiedNanos, String fileKey) {
+        return this.fileSize == fileSize
+                && this.modifiedNanos == modifiedNanos
+                && Objects.equals(this.fileKey, fileKey);
+    }
+
+    /**
+     * CRC32C 비교로 체크섬을 재사용할 수 있는지 확인 (크기가 같고 CRC32C가 저장된 항목)
+     */
+    public boolean canReuseByCrc32c(long fileSize) {
+        return crc32c != null && this.fileSize == fileSize;
+    }
+
+    /**
+     * 새로 계산한 체크섬으로 갱신
+     */
+    public void refresh(long fileSize, long modifiedNanos, String fileKey, String checksum, String crc32c,
+            LocalDateTime checkedAt) {
+        this.fileSize = fileSize;
+        this.modifiedNanos = modifiedNanos;
+        this.fileKey = fileKey;
+        this.checksum = checksum;
+        this.crc32c = crc32c;
+        this.checkedAt = checkedAt;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ts.rm.domain.filesync.repository;
+
+import com.ts.rm.domain.filesync.entity.FileChecksumCache;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 파일 체크섬 캐시 Repository
+ */
+@Repository
+public interface FileChecksumCacheRepository extends JpaRepository<FileChecksumCache, Long> {
+
+    /**
+     * 파일 경로로 조회
+     */
+    Optional<FileChecksumCache> findByFilePath(String filePath);
+
+    /**
+     * 경로 접두사로 조회 (스캔 경로 하위 전체)
+     */
+    List<FileChecksumCache> findAllByFilePathStartingWith(String pathPrefix);
+
+    /**
+     * 경로 목록으로 조회 (일괄 등록/메타데이터 갱신 시)
+     */
+    List<FileChecksumCache> findAllByFilePathIn(Collection<String> filePaths);
+}
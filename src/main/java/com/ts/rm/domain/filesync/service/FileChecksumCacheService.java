@@ -0,0 +1,312 @@
+package com.ts.rm.domain.filesync.service;
+
+import com.ts.rm.domain.filesync.entity.FileChecksumCache;
+import com.ts.rm.domain.filesync.repository.FileChecksumCacheRepository;
+import com.ts.rm.global.file.FileChecksumUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 파일 체크섬 캐시 서비스
+ *
+ * <p>파일 경로별로 마지막 체크섬 계산 결과를 크기, 수정 시각, 파일 키(inode)와 함께 DB에 보관하여,
+ * 바뀌지 않은 파일은 다시 읽지 않고 속성 조회만으로 체크섬을 확인합니다.
+ * <p>분석(스캔) 중에는 크기는 같고 수정 시각/파일 키만 바뀐 파일(touch, 같은 내용으로 다시 복사 등)의 CRC32C를 먼저 계산하여
+ * 캐시와 같으면 SHA-256을 다시 계산하지 않고 캐시된 체크섬을 사용합니다.
+ * CRC32C는 충돌 내성이 없으므로 우연히 같은 값이 나올 확률(약 2^-32)은 변경 감지 용도로만 감수합니다.
+ * 이렇게 재사용한 체크섬은 새 속성으로 캐시에 반영하지 않으므로, 속성이 일치하는 캐시 항목은 항상 그 속성의 파일로 계산한 SHA-256입니다.
+ * DB에 체크섬을 저장하는 일괄 등록/메타데이터 갱신({@link #load(Path, Collection)})과 단건 조회({@link #checksumOf})는
+ * CRC32C 비교로 재사용하지 않고 SHA-256을 다시 계산하며, 전체 재계산({@code forceRehash})은 캐시를 사용하지 않습니다.
+ * <p>수정된 지 {@link #RACY_WINDOW} 이내인 파일은 같은 수정 시각 안에서 다시 바뀔 수 있으므로 캐시하지 않습니다.
+ * <p>캐시 조회/저장은 호출한 트랜잭션과 분리하여 실행하므로 분석(읽기 전용 트랜잭션) 중에도 저장되고,
+ * 캐시 오류가 호출한 트랜잭션을 롤백 전용으로 만들지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileChecksumCacheService {
+
+    private static final Duration RACY_WINDOW = Duration.ofSeconds(2);
+
+    /**
+     * 경로 목록 조회 시 IN 절 하나에 넣는 경로 수
+     */
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+
+    private final FileChecksumCacheRepository fileChecksumCacheRepository;
+
+    /**
+     * 캐시 스냅샷 (스캔 중 여러 스레드에서 조회)
+     */
+    public static final class Snapshot implements FileSystemScanner.ChecksumLookup {
+
+        private final Path rootPath;
+        private final Map<String, FileChecksumCache> entries;
+        private final boolean crc32cReuse;
+        private final AtomicInteger hits = new AtomicInteger();
+
+        private Snapshot(Path rootPath, Map<String, FileChecksumCache> entries, boolean crc32cReuse) {
+            this.rootPath = rootPath;
+            this.entries = entries;
+            this.crc32cReuse = crc32cReuse;
+        }
+
+        @Override
+        public String find(Path path, long size, FileTime lastModified, String fileKey) throws IOException {
+            FileChecksumCache entry = entries.get(toRelativePath(rootPath, path));
+            if (entry == null) {
+                return null;
+            }
+            if (!entry.matches(size, toNanos(lastModified), fileKey)
+                    && !(crc32cReuse && entry.canReuseByCrc32c(size) && entry.getCrc32c().equals(crc32cOf(path)))) {
+                return null;
+            }
+            hits.incrementAndGet();
+            return entry.getChecksum();
+        }
+
+        /**
+         * 캐시에서 체크섬을 찾은 파일 수 (CRC32C 비교로 재사용한 파일 포함)
+         */
+        public int hits() {
+            return hits.get();
+        }
+    }
+
+    /**
+     * 스캔 경로 하위의 캐시 조회 (분석용, CRC32C 비교로 재사용 허용)
+     *
+     * @param rootPath 기준 경로 (base-path)
+     * @param scanPath 스캔 경로
+     * @return 캐시 스냅샷
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Snapshot load(Path rootPath, Path scanPath) {
+        Map<String, FileChecksumCache> entries = new HashMap<>();
+        for (FileChecksumCache entry : findUnder(toRelativePath(rootPath, scanPath))) {
+            entries.put(entry.getFilePath(), entry);
+        }
+        return new Snapshot(rootPath, entries, true);
+    }
+
+    /**
+     * 지정한 파일의 캐시 조회 (일괄 등록/메타데이터 갱신용)
+     *
+     * <p>조회한 체크섬을 DB에 저장하므로 속성이 일치하는 항목만 사용하고, 속성이 바뀐 파일은 SHA-256을 다시 계산합니다.
+     *
+     * @param rootPath 기준 경로 (base-path)
+     * @param paths    파일 경로 목록
+     * @return 캐시 스냅샷
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Snapshot load(Path rootPath, Collection<Path> paths) {
+        return new Snapshot(rootPath, findByPaths(rootPath, paths), false);
+    }
+
+    /**
+     * 빈 스냅샷 (전체 재계산 또는 캐시 조회 실패 시)
+     */
+    public static Snapshot empty(Path rootPath) {
+        return new Snapshot(rootPath, Map.of(), false);
+    }
+
+    /**
+     * 스캔 결과를 캐시에 반영
+     *
+     * <p>새로 계산한 체크섬을 저장하고, 스캔 경로 하위에서 더 이상 존재하지 않는 파일의 캐시는 삭제합니다.
+     * 크기/수정 시각/파일 키가 같은데 체크섬이 다르면(전체 재계산 시 캐시 오류 검출) 경고 로그를 남기고 갱신합니다.
+     *
+     * @param rootPath 기준 경로 (base-path)
+     * @param scanPath 스캔 경로
+     * @param scanned  스캔 결과
+     * @return 캐시와 체크섬이 다른 파일 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int store(Path rootPath, Path scanPath, List<FileSystemScanner.ScannedPath> scanned) {
+        Map<String, FileChecksumCache> existing = new HashMap<>();
+        for (FileChecksumCache entry : findUnder(toRelativePath(rootPath, scanPath))) {
+            existing.put(entry.getFilePath(), entry);
+        }
+
+        List<FileChecksumCache> created = new ArrayList<>();
+        int mismatches = upsert(rootPath, existing, scanned, created);
+        fileChecksumCacheRepository.saveAll(created);
+
+        // 스캔에서 빠진 항목 중 파일이 없어진 경우만 삭제 (필터로 제외된 파일의 캐시는 유지)
+        List<FileChecksumCache> removed = existing.values().stream()
+                .filter(entry -> Files.notExists(rootPath.resolve(entry.getFilePath())))
+                .toList();
+        fileChecksumCacheRepository.deleteAllInBatch(removed);
+
+        log.debug("체크섬 캐시 반영 - 신규: {}건, 삭제: {}건, 불일치: {}건",
+                created.size(), removed.size(), mismatches);
+        return mismatches;
+    }
+
+    /**
+     * 지정한 파일의 계산 결과를 캐시에 반영 (일괄 등록/메타데이터 갱신용)
+     *
+     * <p>{@link #store}와 달리 결과에 없는 파일의 캐시는 삭제하지 않습니다.
+     *
+     * @param rootPath 기준 경로 (base-path)
+     * @param scanned  계산 결과
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void merge(Path rootPath, List<FileSystemScanner.ScannedPath> scanned) {
+        Map<String, FileChecksumCache> existing = findByPaths(rootPath,
+                scanned.stream().map(FileSystemScanner.ScannedPath::path).toList());
+
+        List<FileChecksumCache> created = new ArrayList<>();
+        int mismatches = upsert(rootPath, existing, scanned, created);
+        fileChecksumCacheRepository.saveAll(created);
+
+        log.debug("체크섬 캐시 반영 - 신규: {}건, 불일치: {}건", created.size(), mismatches);
+    }
+
+    /**
+     * 단일 파일 체크섬 조회 (캐시에 없거나 파일 속성이 바뀌었으면 계산 후 저장)
+     *
+     * @param rootPath 기준 경로 (base-path)
+     * @param path     파일 경로
+     * @return SHA-256 체크섬
+     * @throws IOException 파일 읽기 실패 시
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public String checksumOf(Path rootPath, Path path) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        String relativePath = toRelativePath(rootPath, path);
+        long modifiedNanos = toNanos(attrs.lastModifiedTime());
+        String fileKey = attrs.fileKey() != null ? attrs.fileKey().toString() : null;
+
+        Optional<FileChecksumCache> cached = fileChecksumCacheRepository.findByFilePath(relativePath);
+        if (cached.isPresent() && cached.get().matches(attrs.size(), modifiedNanos, fileKey)) {
+            return cached.get().getChecksum();
+        }
+
+        List<String> hashes = FileChecksumUtil.calculateHashes(path,
+                FileChecksumUtil.HashAlgorithm.SHA_256, FileChecksumUtil.HashAlgorithm.CRC32C);
+        String checksum = hashes.get(0);
+        String crc32c = hashes.get(1);
+        if (attrs.lastModifiedTime().toInstant().isAfter(Instant.now().minus(RACY_WINDOW))) {
+            return checksum;
+        }
+
+        LocalDateTime checkedAt = LocalDateTime.now();
+        if (cached.isPresent()) {
+            cached.get().refresh(attrs.size(), modifiedNanos, fileKey, checksum, crc32c, checkedAt);
+        } else {
+            fileChecksumCacheRepository.save(
+                    newEntry(relativePath, attrs.size(), modifiedNanos, fileKey, checksum, crc32c, checkedAt));
+        }
+        return checksum;
+    }
+
+    /**
+     * 계산 결과를 기존 캐시에 반영 (갱신은 변경 감지로 저장, 신규 항목은 {@code created}에 추가)
+     *
+     * <p>처리한 항목은 {@code existing}에서 제거되므로, 남은 항목은 결과에 없는 파일의 캐시입니다.
+     *
+     * @return 캐시와 체크섬이 다른 파일 수
+     */
+    private int upsert(Path rootPath, Map<String, FileChecksumCache> existing,
+            List<FileSystemScanner.ScannedPath> scanned, List<FileChecksumCache> created) {
+        LocalDateTime checkedAt = LocalDateTime.now();
+        Instant racyLimit = Instant.now().minus(RACY_WINDOW);
+        int mismatches = 0;
+
+        for (FileSystemScanner.ScannedPath file : scanned) {
+            String relativePath = toRelativePath(rootPath, file.path());
+            FileChecksumCache entry = existing.remove(relativePath);
+            if (file.checksum() == null || file.lastModified().toInstant().isAfter(racyLimit)) {
+                continue;
+            }
+
+            long modifiedNanos = toNanos(file.lastModified());
+            if (entry == null) {
+                created.add(newEntry(relativePath, file.size(), modifiedNanos, file.fileKey(),
+                        file.checksum(), file.crc32c(), checkedAt));
+            } else if (!entry.matches(file.size(), modifiedNanos, file.fileKey())) {
+                // CRC32C 비교로 재사용한 체크섬(CRC32C 미계산)은 SHA-256으로 확인한 값이 아니므로 새 속성으로 반영하지 않음
+                if (file.crc32c() != null) {
+                    entry.refresh(file.size(), modifiedNanos, file.fileKey(), file.checksum(), file.crc32c(),
+                            checkedAt);
+                }
+            } else if (!entry.getChecksum().equals(file.checksum())) {
+                mismatches++;
+                log.warn("체크섬 캐시 불일치: {} (캐시: {}, 실제: {})",
+                        relativePath, entry.getChecksum(), file.checksum());
+                entry.refresh(file.size(), modifiedNanos, file.fileKey(), file.checksum(), file.crc32c(),
+                        checkedAt);
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * 경로 목록으로 캐시 조회 (IN 절 크기를 제한하여 나누어 조회)
+     */
+    private Map<String, FileChecksumCache> findByPaths(Path rootPath, Collection<Path> paths) {
+        List<String> relativePaths = paths.stream()
+                .map(path -> toRelativePath(rootPath, path))
+                .toList();
+
+        Map<String, FileChecksumCache> entries = new HashMap<>();
+        for (int from = 0; from < relativePaths.size(); from += LOOKUP_BATCH_SIZE) {
+            List<String> batch = relativePaths.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, relativePaths.size()));
+            for (FileChecksumCache entry : fileChecksumCacheRepository.findAllByFilePathIn(batch)) {
+                entries.put(entry.getFilePath(), entry);
+            }
+        }
+        return entries;
+    }
+
+    private List<FileChecksumCache> findUnder(String relativeScanPath) {
+        return relativeScanPath.isEmpty()
+                ? fileChecksumCacheRepository.findAll()
+                : fileChecksumCacheRepository.findAllByFilePathStartingWith(relativeScanPath + "/");
+    }
+
+    private static FileChecksumCache newEntry(String filePath, long fileSize, long modifiedNanos,
+            String fileKey, String checksum, String crc32c, LocalDateTime checkedAt) {
+        return FileChecksumCache.builder()
+                .filePath(filePath)
+                .fileSize(fileSize)
+                .modifiedNanos(modifiedNanos)
+                .fileKey(fileKey)
+                .checksum(checksum)
+                .crc32c(crc32c)
+                .checkedAt(checkedAt)
+                .build();
+    }
+
+    private static String crc32cOf(Path path) throws IOException {
+        return FileChecksumUtil.calculateHash(path, FileChecksumUtil.HashAlgorithm.CRC32C);
+    }
+
+    private static String toRelativePath(Path rootPath, Path path) {
+        return rootPath.relativize(path).toString().replace("\\", "/");
+    }
+
+    private static long toNanos(FileTime fileTime) {
+        return fileTime.to(TimeUnit.NANOSECONDS);
+    }
+}
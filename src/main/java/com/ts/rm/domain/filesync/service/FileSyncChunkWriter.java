@@ -0,0 +1,36 @@
+package com.ts.rm.domain.filesync.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 파일 동기화 일괄 적용 시 DB 반영 청크 실행기
+ *
+ * <p>청크마다 새 트랜잭션에서 실행하고 커밋하므로, 한 청크의 실패가 이전 청크나 호출한 쪽 트랜잭션을 롤백하지 않습니다.
+ * 어댑터 메서드는 이 트랜잭션에 참여하므로 청크 안의 갱신/삭제는 커밋 시점에 JDBC 배치로 전송됩니다.
+ */
+@Component
+public class FileSyncChunkWriter {
+
+    /**
+     * 청크를 하나의 트랜잭션으로 실행
+     *
+     * <p>항목 하나라도 예외가 발생하면 청크 전체를 롤백하고 예외를 그대로 던집니다.
+     *
+     * @param items  처리할 항목
+     * @param writer 항목별 DB 반영 작업
+     * @return 항목별 결과 (입력 순서)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public <T, R> List<R> write(List<T> items, Function<T, R> writer) {
+        List<R> results = new ArrayList<>(items.size());
+        for (T item : items) {
+            results.add(writer.apply(item));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,229 @@
+package com.ts.rm.domain.filesync.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ts.rm.domain.filesync.dto.FileSyncDiscrepancy;
+import com.ts.rm.domain.filesync.enums.FileSyncTarget;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 동기화 분석 결과(불일치 항목) 캐시
+ *
+ * <p>분석 ID 단위로 불일치 항목을 보관하며, 보관 시간({@code ttl})이 지나거나 전체 항목 수가
+ * {@code max-entries}를 넘으면 오래된 분석부터 제거합니다.
+ * <p>대상별로 가장 최근 분석의 항목만 유효합니다 (같은 대상을 다시 분석하면 이전 분석 항목은 조회되지 않음).
+ * <p>{@code redis-enabled}이면 Redis에도 저장하여, 다른 인스턴스에서 분석한 항목도 적용할 수 있습니다.
+ * Redis 오류 시에는 로컬 캐시만 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileSyncDiscrepancyCache {
+
+    private static final String DISCREPANCY_KEY_PREFIX = "file-sync:discrepancy:";
+    private static final String LATEST_ANALYSIS_KEY_PREFIX = "file-sync:latest-analysis:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.release.file-sync.discrepancy-cache.max-entries:50000}")
+    private int maxEntries;
+
+    @Value("${app.release.file-sync.discrepancy-cache.ttl:1h}")
+    private Duration ttl;
+
+    @Value("${app.release.file-sync.discrepancy-cache.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    /** 분석 ID → 분석 결과 (저장 순서 = 오래된 순) */
+    private final LinkedHashMap<String, Analysis> analyses = new LinkedHashMap<>();
+
+    /** 불일치 항목 ID → 분석 ID */
+    private final Map<String, String> analysisIdByDiscrepancy = new HashMap<>();
+
+    /** 대상별 최근 분석 ID */
+    private final Map<FileSyncTarget, String> latestAnalysisByTarget = new EnumMap<>(FileSyncTarget.class);
+
+    private int totalEntries;
+
+    /**
+     * Redis 저장 형식
+     */
+    record CachedDiscrepancy(String analysisId, FileSyncDiscrepancy discrepancy) {
+    }
+
+    private record Analysis(Instant createdAt, Map<String, FileSyncDiscrepancy> discrepancies) {
+    }
+
+    /**
+     * 분석 결과 저장
+     *
+     * @param analysisId    분석 ID
+     * @param targets       분석한 대상 (이 대상들의 이전 분석 항목은 무효화)
+     * @param discrepancies 불일치 항목
+     */
+    public void put(String analysisId, Collection<FileSyncTarget> targets, List<FileSyncDiscrepancy> discrepancies) {
+        Map<String, FileSyncDiscrepancy> entries = new HashMap<>();
+        for (FileSyncDiscrepancy discrepancy : discrepancies) {
+            entries.put(discrepancy.getId(), discrepancy);
+        }
+
+        synchronized (this) {
+            for (FileSyncTarget target : targets) {
+                latestAnalysisByTarget.put(target, analysisId);
+            }
+            analyses.put(analysisId, new Analysis(Instant.now(), entries));
+            for (String id : entries.keySet()) {
+                analysisIdByDiscrepancy.put(id, analysisId);
+            }
+            totalEntries += entries.size();
+            evict();
+        }
+
+        if (redisEnabled) {
+            putRemote(analysisId, targets, discrepancies);
+        }
+    }
+
+    /**
+     * 불일치 항목 조회
+     *
+     * @param id 불일치 항목 ID
+     * @return 불일치 항목, 만료되었거나 이후 분석으로 대체되었으면 null
+     */
+    public FileSyncDiscrepancy get(String id) {
+        String analysisId;
+        FileSyncDiscrepancy discrepancy = null;
+        synchronized (this) {
+            evict();
+            analysisId = analysisIdByDiscrepancy.get(id);
+            if (analysisId != null) {
+                discrepancy = analyses.get(analysisId).discrepancies().get(id);
+                if (!analysisId.equals(latestAnalysisByTarget.get(discrepancy.getTarget()))) {
+                    return null;
+                }
+            }
+        }
+
+        if (!redisEnabled) {
+            return discrepancy;
+        }
+        if (discrepancy == null) {
+            return getRemote(id);
+        }
+        // 다른 인스턴스에서 같은 대상을 다시 분석했으면 이 인스턴스의 항목도 무효
+        return isLatestRemote(analysisId, discrepancy.getTarget()) ? discrepancy : null;
+    }
+
+    /**
+     * 불일치 항목 제거 (적용 완료 시)
+     *
+     * @param id 불일치 항목 ID
+     */
+    public void remove(String id) {
+        synchronized (this) {
+            String analysisId = analysisIdByDiscrepancy.remove(id);
+            if (analysisId != null && analyses.get(analysisId).discrepancies().remove(id) != null) {
+                totalEntries--;
+            }
+        }
+
+        if (redisEnabled) {
+            try {
+                redisTemplate.delete(DISCREPANCY_KEY_PREFIX + id);
+            } catch (RuntimeException e) {
+                log.warn("불일치 항목 Redis 삭제 실패: {} ({})", id, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 만료된 분석 제거 후, 항목 수가 최대치를 넘으면 오래된 분석부터 제거 (가장 최근 분석은 유지)
+     */
+    private void evict() {
+        Instant expiredBefore = Instant.now().minus(ttl);
+        Iterator<Map.Entry<String, Analysis>> iterator = analyses.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Analysis> oldest = iterator.next();
+            boolean expired = oldest.getValue().createdAt().isBefore(expiredBefore);
+            boolean overflow = totalEntries > maxEntries && analyses.size() > 1;
+            if (!expired && !overflow) {
+                break;
+            }
+            iterator.remove();
+            totalEntries -= oldest.getValue().discrepancies().size();
+            analysisIdByDiscrepancy.keySet().removeAll(oldest.getValue().discrepancies().keySet());
+            latestAnalysisByTarget.values().removeIf(oldest.getKey()::equals);
+            log.debug("불일치 항목 캐시 제거 - analysisId: {}, {}건 ({})",
+                    oldest.getKey(), oldest.getValue().discrepancies().size(), expired ? "만료" : "용량 초과");
+        }
+    }
+
+    private void putRemote(String analysisId, Collection<FileSyncTarget> targets,
+            List<FileSyncDiscrepancy> discrepancies) {
+        try {
+            Map<String, String> values = new HashMap<>();
+            for (FileSyncDiscrepancy discrepancy : discrepancies) {
+                values.put(DISCREPANCY_KEY_PREFIX + discrepancy.getId(),
+                        objectMapper.writeValueAsString(new CachedDiscrepancy(analysisId, discrepancy)));
+            }
+            for (FileSyncTarget target : targets) {
+                values.put(LATEST_ANALYSIS_KEY_PREFIX + target, analysisId);
+            }
+
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> redis = (RedisOperations<String, Object>) operations;
+                    values.forEach((key, value) -> redis.opsForValue().set(key, value, ttl));
+                    return null;
+                }
+            });
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("불일치 항목 Redis 저장 실패, 이 인스턴스에서만 적용 가능: {}", e.getMessage());
+        }
+    }
+
+    private FileSyncDiscrepancy getRemote(String id) {
+        try {
+            Object value = redisTemplate.opsForValue().get(DISCREPANCY_KEY_PREFIX + id);
+            if (value == null) {
+                return null;
+            }
+            CachedDiscrepancy cached = objectMapper.readValue(value.toString(), CachedDiscrepancy.class);
+            return isLatestRemote(cached.analysisId(), cached.discrepancy().getTarget()) ? cached.discrepancy() : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("불일치 항목 Redis 조회 실패: {} ({})", id, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Redis에 기록된 대상별 최근 분석인지 확인 (기록이 없거나 조회 실패 시 유효로 간주)
+     */
+    private boolean isLatestRemote(String analysisId, FileSyncTarget target) {
+        try {
+            Object latest = redisTemplate.opsForValue().get(LATEST_ANALYSIS_KEY_PREFIX + target);
+            return latest == null || analysisId.equals(latest.toString());
+        } catch (RuntimeException e) {
+            log.warn("최근 분석 ID Redis 조회 실패: {} ({})", target, e.getMessage());
+            return true;
+        }
+    }
+}
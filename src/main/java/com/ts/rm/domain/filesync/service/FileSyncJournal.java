@@ -0,0 +1,320 @@
+package com.ts.rm.domain.filesync.service;
+
+import com.ts.rm.domain.common.service.FileStorageService;
+import com.ts.rm.domain.filesync.adapter.FileSyncAdapter;
+import com.ts.rm.domain.filesync.dto.FileSyncDto;
+import com.ts.rm.domain.filesync.enums.FileSyncTarget;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 동기화 변경 저널
+ *
+ * <p>각 동기화 대상의 스캔 경로를 {@link WatchService}로 감시하며 생성/수정/삭제된 경로를 기록합니다.
+ * 증분 분석은 마지막 전체 스캔 이후 기록된 경로만 다시 확인합니다.
+ * <p>기록이 용량을 넘거나 이벤트가 유실(OVERFLOW)되거나 감시 등록에 실패하면 저널을 신뢰할 수 없는 상태로 표시하고,
+ * 다음 분석은 전체 스캔으로 대체됩니다. 다른 호스트에서 NAS에 직접 쓴 변경은 감지되지 않으므로 기본값은 비활성입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileSyncJournal {
+
+    private final FileStorageService fileStorageService;
+    private final List<FileSyncAdapter> adapters;
+
+    @Value("${app.release.file-sync.journal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.release.file-sync.journal.capacity:100000}")
+    private int capacity;
+
+    private volatile Map<FileSyncTarget, RootJournal> journals = Map.of();
+
+    private volatile WatchService watchService;
+
+    /**
+     * 애플리케이션 시작 후 감시 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            log.warn("파일 동기화 저널 시작 실패, 항상 전체 스캔으로 분석: {}", e.getMessage());
+            return;
+        }
+
+        Map<FileSyncTarget, RootJournal> rootJournals = new EnumMap<>(FileSyncTarget.class);
+        for (FileSyncAdapter adapter : adapters) {
+            Path root = fileStorageService.getAbsolutePath(adapter.getBaseScanPath());
+            List<String> excludedDirs = adapter.getExcludedDirectories();
+            rootJournals.put(adapter.getTarget(),
+                    new RootJournal(root, excludedDirs != null ? Set.copyOf(excludedDirs) : Set.of()));
+        }
+        journals = rootJournals;
+
+        Thread watcher = new Thread(() -> {
+            journals.values().forEach(this::register);
+            processEvents();
+        }, "file-sync-journal");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    @PreDestroy
+    public void close() {
+        WatchService service = watchService;
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                log.warn("파일 동기화 저널 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 전체 스캔 시작 전 호출 - 이후 변경분부터 기록
+     *
+     * @param target 동기화 대상
+     * @return 변경을 기록 중이면 true (증분 분석 가능)
+     */
+    public boolean markScanned(FileSyncTarget target) {
+        RootJournal journal = journals.get(target);
+        if (journal == null) {
+            return false;
+        }
+        if (!journal.isWatching()) {
+            // 시작 시 스캔 경로가 없었거나 등록에 실패한 경우 재시도
+            register(journal);
+        }
+        return journal.reset();
+    }
+
+    /**
+     * 마지막 전체 스캔 이후 변경된 경로를 꺼내고 기록을 비움
+     *
+     * @param target 동기화 대상
+     * @return 변경된 경로 (절대 경로), 저널을 신뢰할 수 없으면 null (전체 스캔 필요)
+     */
+    public Set<Path> drain(FileSyncTarget target) {
+        RootJournal journal = journals.get(target);
+        return journal != null ? journal.drain() : null;
+    }
+
+    /**
+     * 대상별 저널 상태 조회
+     */
+    public List<FileSyncDto.JournalStatus> getStatus() {
+        List<FileSyncDto.JournalStatus> statuses = new ArrayList<>();
+        for (Map.Entry<FileSyncTarget, RootJournal> entry : journals.entrySet()) {
+            statuses.add(entry.getValue().toStatus(entry.getKey()));
+        }
+        return statuses;
+    }
+
+    /**
+     * 스캔 경로 하위 디렉토리 전체 감시 등록
+     */
+    private void register(RootJournal journal) {
+        if (!Files.isDirectory(journal.root)) {
+            log.info("파일 동기화 저널 - 스캔 경로가 없어 감시하지 않음: {}", journal.root);
+            journal.stopWatching();
+            return;
+        }
+        try {
+            registerTree(journal, journal.root);
+            journal.startWatching();
+            log.info("파일 동기화 저널 감시 시작: {}", journal.root);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.warn("파일 동기화 저널 감시 등록 실패, 전체 스캔으로 대체: {} ({})", journal.root, e.getMessage());
+            journal.stopWatching();
+        }
+    }
+
+    private void registerTree(RootJournal journal, Path directory) throws IOException {
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(directory) && journal.isExcluded(dir)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                dir.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                // 순회 중 삭제된 경로는 삭제 이벤트로 기록됨
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void processEvents() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Path directory = (Path) key.watchable();
+                List<WatchEvent<?>> events = key.pollEvents();
+                boolean valid = key.reset();
+
+                for (RootJournal journal : journals.values()) {
+                    if (!directory.startsWith(journal.root)) {
+                        continue;
+                    }
+                    handleEvents(journal, directory, events);
+                    // 하위 디렉토리 삭제는 상위 디렉토리의 삭제 이벤트로 기록되지만, 스캔 경로 자체가 삭제되면 감시 중단
+                    if (!valid && directory.equals(journal.root)) {
+                        log.warn("파일 동기화 저널 - 스캔 경로가 삭제되어 감시 중단: {}", journal.root);
+                        journal.stopWatching();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("파일 동기화 저널 종료");
+        }
+    }
+
+    private void handleEvents(RootJournal journal, Path directory, List<WatchEvent<?>> events) {
+        for (WatchEvent<?> event : events) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                log.warn("파일 동기화 저널 이벤트 유실, 다음 분석은 전체 스캔: {}", journal.root);
+                journal.overflow();
+                continue;
+            }
+
+            Path path = directory.resolve((Path) event.context());
+            if (journal.isExcluded(path)) {
+                continue;
+            }
+            boolean isDirectory = Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS);
+            if (isDirectory && event.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
+                // 디렉토리 수정 이벤트는 하위 항목 변경으로 이미 기록됨
+                continue;
+            }
+            if (isDirectory && event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                try {
+                    registerTree(journal, path);
+                } catch (IOException e) {
+                    log.warn("파일 동기화 저널 감시 등록 실패, 다음 분석은 전체 스캔: {} ({})", path, e.getMessage());
+                    journal.stopWatching();
+                }
+            }
+            journal.record(path);
+        }
+    }
+
+    /**
+     * 스캔 경로별 변경 기록
+     */
+    private final class RootJournal {
+
+        private final Path root;
+        private final Set<String> excludedDirs;
+        private final Set<Path> changes = new LinkedHashSet<>();
+        private boolean watching;
+        /** 전체 스캔 기준점이 없거나 기록이 유실된 상태 (처음에는 기준점이 없음) */
+        private boolean overflowed = true;
+
+        private RootJournal(Path root, Set<String> excludedDirs) {
+            this.root = root;
+            this.excludedDirs = excludedDirs;
+        }
+
+        private boolean isExcluded(Path path) {
+            for (Path part : root.relativize(path)) {
+                if (excludedDirs.contains(part.toString())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private synchronized boolean isWatching() {
+            return watching;
+        }
+
+        private synchronized void startWatching() {
+            watching = true;
+        }
+
+        private synchronized void stopWatching() {
+            watching = false;
+            overflow();
+        }
+
+        private synchronized void record(Path path) {
+            if (overflowed) {
+                return;
+            }
+            changes.add(path);
+            if (changes.size() > capacity) {
+                log.warn("파일 동기화 저널 용량({}) 초과, 다음 분석은 전체 스캔: {}", capacity, root);
+                overflow();
+            }
+        }
+
+        private synchronized void overflow() {
+            overflowed = true;
+            changes.clear();
+        }
+
+        private synchronized boolean reset() {
+            changes.clear();
+            overflowed = !watching;
+            return watching;
+        }
+
+        private synchronized Set<Path> drain() {
+            if (!watching || overflowed) {
+                return null;
+            }
+            Set<Path> drained = Set.copyOf(changes);
+            changes.clear();
+            return drained;
+        }
+
+        private synchronized FileSyncDto.JournalStatus toStatus(FileSyncTarget target) {
+            return FileSyncDto.JournalStatus.builder()
+                    .target(target)
+                    .watching(watching)
+                    .overflowed(overflowed)
+                    .pendingChanges(changes.size())
+                    .build();
+        }
+    }
+}
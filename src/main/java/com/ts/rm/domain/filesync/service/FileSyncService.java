@@ -6,7 +6,6 @@ import com.ts.rm.domain.filesync.entity.FileSyncIgnore;
 import com.ts.rm.domain.filesync.repository.FileSyncIgnoreRepository;
 import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
-import com.ts.rm.global.file.FileChecksumUtil;
 import com.ts.rm.domain.filesync.adapter.FileSyncAdapter;
 import com.ts.rm.domain.filesync.dto.FileSyncDiscrepancy;
 import com.ts.rm.domain.filesync.dto.FileSyncDto;
@@ -15,26 +14,33 @@ import com.ts.rm.domain.filesync.enums.FileSyncAction;
 import com.ts.rm.domain.filesync.enums.FileSyncStatus;
 import com.ts.rm.domain.filesync.enums.FileSyncTarget;
 import com.ts.rm.global.security.SecurityUtil;
+import com.ts.rm.global.websocket.messaging.WebSocketMessageSender;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -52,13 +58,28 @@ public class FileSyncService {
     private final FileSyncIgnoreRepository fileSyncIgnoreRepository;
     private final CodeService codeService;
     private final List<FileSyncAdapter> adapters;
+    private final FileSystemScanner fileSystemScanner;
+    private final FileChecksumCacheService fileChecksumCacheService;
+    private final FileSyncJournal fileSyncJournal;
+    private final WebSocketMessageSender webSocketMessageSender;
 
     /** 분석 결과 캐시 (apply 시 참조용) */
-    private final Map<String, FileSyncDiscrepancy> discrepancyCache = new ConcurrentHashMap<>();
+    private final FileSyncDiscrepancyCache discrepancyCache;
+
+    private final FileSyncChunkWriter fileSyncChunkWriter;
+
+    /** 일괄 적용/등록 시 한 트랜잭션에서 커밋하는 항목 수 */
+    @Value("${app.release.file-sync.apply.chunk-size:200}")
+    private int applyChunkSize;
+
+    /** 대상별 파일시스템 스냅샷 (증분 분석 기준, 상대 경로 순 정렬) */
+    private final Map<FileSyncTarget, NavigableMap<String, FileSyncMetadata>> fsSnapshots = new ConcurrentHashMap<>();
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
     private static final String CODE_TYPE_FILE_SYNC_STATUS = "FILE_SYNC_STATUS";
     private static final String CODE_TYPE_FILE_SYNC_TARGET = "FILE_SYNC_TARGET";
+    private static final String ANALYZE_PROGRESS_TOPIC = "file-sync/analyze";
+    private static final String ANALYZE_PROGRESS_MESSAGE_TYPE = "FILE_SYNC_ANALYZE_PROGRESS";
 
     /**
      * 파일 동기화 분석
@@ -71,8 +92,7 @@ public class FileSyncService {
         log.info("파일 동기화 분석 시작 - targets: {}, basePath: {}",
                 request.getTargets(), request.getBasePath());
 
-        // 캐시 초기화
-        discrepancyCache.clear();
+        String analysisId = UUID.randomUUID().toString();
 
         // 코드 테이블에서 동적 메시지 조회
         Map<String, String> statusDescriptions = codeService.getCodeDescriptionMap(CODE_TYPE_FILE_SYNC_STATUS);
@@ -92,19 +112,35 @@ public class FileSyncService {
         int totalScanned = 0;
         int synced = 0;
         int ignoredCount = 0;
+        int checksumCacheHits = 0;
+        int checksumCacheMismatches = 0;
+        boolean forceRehash = Boolean.TRUE.equals(request.getForceRehash());
+        boolean incremental = Boolean.TRUE.equals(request.getIncremental());
+        List<FileSyncTarget> incrementalTargets = new ArrayList<>();
 
         for (FileSyncAdapter adapter : targetAdapters) {
             log.debug("어댑터 분석 시작: {}", adapter.getTarget());
 
-            // 1. DB에서 등록된 파일 목록 조회
-            List<FileSyncMetadata> dbFiles = adapter.getRegisteredFiles(request.getBasePath());
+            // 1. DB에서 등록된 파일 목록 조회 (스캔 경로 하위만 스트리밍)
             Map<String, FileSyncMetadata> dbFileMap = new HashMap<>();
-            for (FileSyncMetadata meta : dbFiles) {
-                dbFileMap.put(meta.getFilePath(), meta);
+            int dbFileCount = 0;
+            try (Stream<FileSyncMetadata> dbFiles = adapter.streamRegisteredFiles(request.getBasePath())) {
+                Iterator<FileSyncMetadata> iterator = dbFiles.iterator();
+                while (iterator.hasNext()) {
+                    FileSyncMetadata meta = iterator.next();
+                    dbFileMap.put(meta.getFilePath(), meta);
+                    dbFileCount++;
+                }
             }
 
             // 2. 파일시스템 스캔
-            List<FileSyncMetadata> fsFiles = scanFileSystem(adapter, request.getBasePath());
+            ScanResult scanResult = scanFileSystem(adapter, request.getBasePath(), forceRehash, incremental);
+            List<FileSyncMetadata> fsFiles = scanResult.files();
+            if (scanResult.incremental()) {
+                incrementalTargets.add(adapter.getTarget());
+            }
+            checksumCacheHits += scanResult.checksumCacheHits();
+            checksumCacheMismatches += scanResult.checksumCacheMismatches();
             Map<String, FileSyncMetadata> fsFileMap = new HashMap<>();
             for (FileSyncMetadata meta : fsFiles) {
                 fsFileMap.put(meta.getFilePath(), meta);
@@ -123,30 +159,35 @@ public class FileSyncService {
                     .toList();
             ignoredCount += (beforeFilter - discrepancies.size());
 
-            synced += (dbFiles.size() - discrepancies.stream()
+            synced += (dbFileCount - discrepancies.stream()
                     .filter(d -> d.getStatus() != FileSyncStatus.UNREGISTERED)
                     .count());
 
             allDiscrepancies.addAll(discrepancies);
             discrepanciesByTarget.put(adapter.getTarget(), discrepancies.size());
 
-            // 캐시에 저장
-            for (FileSyncDiscrepancy disc : discrepancies) {
-                discrepancyCache.put(disc.getId(), disc);
-            }
-
             log.debug("어댑터 분석 완료: {} - 불일치 {}건", adapter.getTarget(), discrepancies.size());
         }
 
-        log.info("파일 동기화 분석 완료 - 총 {}건 스캔, 동기화 {}건, 불일치 {}건, 무시됨 {}건",
-                totalScanned, synced, allDiscrepancies.size(), ignoredCount);
+        log.info("파일 동기화 분석 완료 - 총 {}건 스캔, 동기화 {}건, 불일치 {}건, 무시됨 {}건, 체크섬 캐시 사용 {}건",
+                totalScanned, synced, allDiscrepancies.size(), ignoredCount, checksumCacheHits);
+        if (checksumCacheMismatches > 0) {
+            log.warn("체크섬 캐시 불일치 {}건 - 캐시를 재계산 결과로 갱신했습니다", checksumCacheMismatches);
+        }
+
+        // 캐시에 저장 (apply/등록 시 참조, 분석한 대상의 이전 분석 항목은 무효화)
+        discrepancyCache.put(analysisId, targetTypes, allDiscrepancies);
 
         return FileSyncDto.AnalyzeResponse.builder()
+                .analysisId(analysisId)
                 .analyzedAt(LocalDateTime.now())
                 .summary(FileSyncDto.Summary.builder()
                         .totalScanned(totalScanned)
                         .synced(synced)
                         .discrepancies(allDiscrepancies.size())
+                        .checksumCacheHits(checksumCacheHits)
+                        .checksumCacheMismatches(checksumCacheMismatches)
+                        .incrementalTargets(incrementalTargets)
                         .build())
                 .discrepanciesByTarget(discrepanciesByTarget)
                 .discrepancies(allDiscrepancies)
@@ -156,35 +197,110 @@ public class FileSyncService {
     /**
      * 동기화 액션 적용
      *
+     * <p>메타데이터 갱신 대상 파일의 크기/체크섬은 스캔 풀에서 병렬로 계산하고, DB 반영은 어댑터별로 묶어
+     * 청크 단위 트랜잭션으로 커밋합니다. 실패한 항목은 해당 항목만 결과에 실패로 남기고 나머지는 반영합니다.
+     *
      * @param request 적용 요청
      * @return 적용 결과
      */
-    @Transactional
     public FileSyncDto.ApplyResponse apply(FileSyncDto.ApplyRequest request) {
-        log.info("파일 동기화 적용 시작 - {}건", request.getActions().size());
+        List<FileSyncDto.ActionItem> actions = request.getActions();
+        log.info("파일 동기화 적용 시작 - {}건", actions.size());
 
-        List<FileSyncDto.ActionResult> results = new ArrayList<>();
-        int successCount = 0;
-        int failedCount = 0;
+        FileSyncDto.ActionResult[] results = new FileSyncDto.ActionResult[actions.size()];
+        Map<FileSyncTarget, FileSyncAdapter> adaptersByTarget = new EnumMap<>(FileSyncTarget.class);
+        for (FileSyncAdapter adapter : adapters) {
+            adaptersByTarget.put(adapter.getTarget(), adapter);
+        }
 
-        for (FileSyncDto.ActionItem actionItem : request.getActions()) {
-            FileSyncDto.ActionResult result = processAction(actionItem);
-            results.add(result);
+        // 불일치 항목 확인 후 파일 작업과 어댑터별 DB 작업으로 분류
+        List<PendingAction> fileActions = new ArrayList<>();
+        Map<FileSyncTarget, List<PendingAction>> dbActions = new EnumMap<>(FileSyncTarget.class);
+        for (int i = 0; i < actions.size(); i++) {
+            FileSyncDto.ActionItem actionItem = actions.get(i);
+            FileSyncAction action = actionItem.getAction();
+            FileSyncDiscrepancy discrepancy = discrepancyCache.get(actionItem.getId());
+            if (discrepancy == null) {
+                results[i] = FileSyncDto.ActionResult.builder()
+                        .id(actionItem.getId())
+                        .action(action)
+                        .success(false)
+                        .message("불일치 항목을 찾을 수 없습니다. 다시 분석해주세요.")
+                        .build();
+                continue;
+            }
 
-            if (result.isSuccess()) {
-                successCount++;
-            } else {
-                failedCount++;
+            PendingAction pending = new PendingAction(i, action, discrepancy);
+            if (!adaptersByTarget.containsKey(discrepancy.getTarget())) {
+                results[i] = pending.toResult(false, "처리 실패: 어댑터를 찾을 수 없습니다: " + discrepancy.getTarget());
+                continue;
+            }
+            switch (action) {
+                // REGISTER 액션은 유형별 분리 API 사용 안내
+                case REGISTER -> results[i] = pending.toResult(false,
+                        "파일 등록은 전용 API를 사용해주세요: " + getRegisterEndpoint(discrepancy.getTarget()));
+                case DELETE_FILE -> fileActions.add(pending);
+                case UPDATE_METADATA, DELETE_METADATA, IGNORE -> dbActions
+                        .computeIfAbsent(discrepancy.getTarget(), target -> new ArrayList<>())
+                        .add(pending);
+                default -> results[i] = pending.toResult(false, "지원하지 않는 액션입니다");
+            }
+        }
+
+        // 메타데이터 갱신 대상 파일 크기/체크섬 병렬 계산 (폴더 기반 어댑터는 계산하지 않음)
+        List<String> checksumPaths = dbActions.values().stream()
+                .flatMap(List::stream)
+                .filter(pending -> pending.action() == FileSyncAction.UPDATE_METADATA
+                        && !adaptersByTarget.get(pending.discrepancy().getTarget()).isFolderBased())
+                .map(pending -> pending.discrepancy().getFilePath())
+                .toList();
+        Map<String, FileSystemScanner.ScannedPath> files = checksumFiles(checksumPaths);
+
+        // 파일 삭제는 트랜잭션과 무관하므로 항목별 처리
+        for (PendingAction pending : fileActions) {
+            results[pending.index()] = applyFileAction(pending, adaptersByTarget.get(pending.discrepancy().getTarget()));
+        }
+
+        // DB 반영 (어댑터별 청크 단위 트랜잭션)
+        String currentUserEmail = dbActions.values().stream()
+                .flatMap(List::stream)
+                .anyMatch(pending -> pending.action() == FileSyncAction.IGNORE)
+                ? SecurityUtil.getTokenInfo().email() : null;
+        for (Map.Entry<FileSyncTarget, List<PendingAction>> group : dbActions.entrySet()) {
+            FileSyncAdapter adapter = adaptersByTarget.get(group.getKey());
+            List<PendingAction> writable = new ArrayList<>();
+            for (PendingAction pending : group.getValue()) {
+                if (pending.action() == FileSyncAction.UPDATE_METADATA && !adapter.isFolderBased()
+                        && !files.containsKey(pending.discrepancy().getFilePath())) {
+                    results[pending.index()] = pending.toResult(false, "처리 실패: 파일을 읽을 수 없습니다");
+                } else {
+                    writable.add(pending);
+                }
+            }
+
+            List<WriteOutcome<String>> outcomes = writeInChunks(writable,
+                    pending -> applyDbAction(pending, adapter, files, currentUserEmail));
+            for (int i = 0; i < writable.size(); i++) {
+                PendingAction pending = writable.get(i);
+                WriteOutcome<String> outcome = outcomes.get(i);
+                if (outcome.error() == null) {
+                    results[pending.index()] = completeAction(pending, adapter, outcome.value());
+                } else {
+                    log.error("액션 처리 실패: {} - {}", pending.discrepancy().getId(), pending.action(), outcome.error());
+                    results[pending.index()] = pending.toResult(false, "처리 실패: " + outcome.error().getMessage());
+                }
             }
         }
 
+        int successCount = (int) Arrays.stream(results).filter(FileSyncDto.ActionResult::isSuccess).count();
+        int failedCount = results.length - successCount;
         log.info("파일 동기화 적용 완료 - 성공 {}건, 실패 {}건", successCount, failedCount);
 
         return FileSyncDto.ApplyResponse.builder()
                 .appliedAt(LocalDateTime.now())
-                .results(results)
+                .results(Arrays.asList(results))
                 .summary(FileSyncDto.ApplySummary.builder()
-                        .total(request.getActions().size())
+                        .total(actions.size())
                         .success(successCount)
                         .failed(failedCount)
                         .build())
@@ -203,152 +319,230 @@ public class FileSyncService {
                 .toList();
     }
 
+    /**
+     * 파일시스템 스캔 결과
+     *
+     * @param files                   스캔된 파일/폴더 메타데이터
+     * @param checksumCacheHits       체크섬 캐시를 사용한 파일 수
+     * @param checksumCacheMismatches 전체 재계산 시 캐시와 체크섬이 다른 파일 수
+     * @param incremental             변경 저널 기반 증분 분석 여부
+     */
+    private record ScanResult(List<FileSyncMetadata> files, int checksumCacheHits, int checksumCacheMismatches,
+            boolean incremental) {
+    }
+
     /**
      * 파일시스템 스캔
+     *
+     * <p>기본 스캔 경로의 파일 기반 어댑터는 전체 스캔 결과를 스냅샷으로 보관하여 증분 분석의 기준으로 사용합니다.
+     *
+     * @param forceRehash true면 체크섬 캐시를 사용하지 않고 전체 파일 체크섬 재계산
+     * @param incremental true면 가능한 경우 변경 저널에 기록된 경로만 다시 스캔
      */
-    private List<FileSyncMetadata> scanFileSystem(FileSyncAdapter adapter, String subPath) {
+    private ScanResult scanFileSystem(FileSyncAdapter adapter, String subPath, boolean forceRehash,
+            boolean incremental) {
         String scanPath = adapter.getBaseScanPath();
-        if (subPath != null && !subPath.isEmpty()) {
+        boolean defaultPath = subPath == null || subPath.isEmpty();
+        if (!defaultPath) {
             scanPath = subPath;
         }
 
         Path basePath = fileStorageService.getAbsolutePath(scanPath);
         if (!Files.exists(basePath)) {
             log.warn("스캔 경로가 존재하지 않습니다: {}", basePath);
-            return List.of();
+            return new ScanResult(List.of(), 0, 0, false);
         }
 
         List<String> allowedExtensions = adapter.getAllowedExtensions();
         List<String> excludedDirs = adapter.getExcludedDirectories();
-
-        List<FileSyncMetadata> files = new ArrayList<>();
+        Path rootPath = fileStorageService.getAbsolutePath("");
 
         // 폴더 기반 어댑터인 경우 (예: PATCH_FILE)
         if (adapter.isFolderBased()) {
-            int depth = adapter.getFolderScanDepth();
-            try (Stream<Path> paths = Files.walk(basePath, depth)) {
-                paths.filter(Files::isDirectory)
-                        .filter(p -> !p.equals(basePath)) // 기준 경로 제외
-                        .filter(p -> isAllowedFolder(p, excludedDirs))
-                        .forEach(path -> {
-                            try {
-                                FileSyncMetadata metadata = createMetadataFromFolder(path, adapter);
-                                files.add(metadata);
-                            } catch (Exception e) {
-                                log.warn("폴더 메타데이터 생성 실패: {}", path, e);
-                            }
-                        });
+            try {
+                List<FileSyncMetadata> folders = fileSystemScanner
+                        .scanFolders(basePath, adapter.getFolderScanDepth(), excludedDirs).stream()
+                        .map(folder -> toMetadata(folder, rootPath, adapter))
+                        .toList();
+                return new ScanResult(folders, 0, 0, false);
             } catch (IOException e) {
                 log.error("폴더 스캔 실패: {}", basePath, e);
                 throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
                         "폴더 스캔에 실패했습니다: " + e.getMessage());
             }
-        } else {
-            // 파일 기반 어댑터 (기본)
-            try (Stream<Path> paths = Files.walk(basePath)) {
-                paths.filter(Files::isRegularFile)
-                        .filter(p -> isAllowedFile(p, allowedExtensions, excludedDirs))
-                        .forEach(path -> {
-                            try {
-                                FileSyncMetadata metadata = createMetadataFromPath(path, adapter);
-                                files.add(metadata);
-                            } catch (Exception e) {
-                                log.warn("파일 메타데이터 생성 실패: {}", path, e);
-                            }
-                        });
-            } catch (IOException e) {
-                log.error("파일시스템 스캔 실패: {}", basePath, e);
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                        "파일시스템 스캔에 실패했습니다: " + e.getMessage());
+        }
+
+        // 파일 기반 어댑터 (기본)
+        if (defaultPath && incremental && !forceRehash) {
+            ScanResult journaled = scanJournaledPaths(adapter, rootPath);
+            if (journaled != null) {
+                return journaled;
             }
         }
+        // 스캔 중 발생한 변경은 다음 증분 분석에서 다시 확인
+        boolean journaling = defaultPath && fileSyncJournal.markScanned(adapter.getTarget());
 
-        return files;
+        try {
+            long startTime = System.currentTimeMillis();
+            FileChecksumCacheService.Snapshot checksumCache = loadChecksumCache(rootPath, basePath, forceRehash);
+            List<FileSystemScanner.ScannedPath> scanned = fileSystemScanner.scanFiles(basePath,
+                    fileName -> isAllowedExtension(fileName, allowedExtensions), excludedDirs, checksumCache,
+                    (scannedFiles, processedFiles) ->
+                            publishAnalyzeProgress(adapter.getTarget(), scannedFiles, processedFiles));
+            int mismatches = storeChecksumCache(rootPath, basePath, scanned);
+
+            List<FileSyncMetadata> files = scanned.stream()
+                    .map(file -> toMetadata(file, rootPath, adapter))
+                    .toList();
+            if (journaling) {
+                NavigableMap<String, FileSyncMetadata> snapshot = new TreeMap<>();
+                for (FileSyncMetadata file : files) {
+                    snapshot.put(file.getFilePath(), file);
+                }
+                fsSnapshots.put(adapter.getTarget(), snapshot);
+            } else if (defaultPath) {
+                fsSnapshots.remove(adapter.getTarget());
+            }
+            log.info("파일시스템 스캔 완료 - target: {}, {}건 (체크섬 캐시 사용 {}건), {}ms",
+                    adapter.getTarget(), files.size(), checksumCache.hits(),
+                    System.currentTimeMillis() - startTime);
+            return new ScanResult(files, checksumCache.hits(), mismatches, false);
+        } catch (IOException e) {
+            fsSnapshots.remove(adapter.getTarget());
+            log.error("파일시스템 스캔 실패: {}", basePath, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "파일시스템 스캔에 실패했습니다: " + e.getMessage());
+        }
     }
 
     /**
-     * 허용된 폴더인지 확인
+     * 증분 스캔 - 마지막 전체 스캔 스냅샷에 변경 저널에 기록된 경로만 다시 스캔하여 반영
+     *
+     * @return 스캔 결과, 스냅샷이 없거나 저널을 신뢰할 수 없으면 null (전체 스캔 필요)
      */
-    private boolean isAllowedFolder(Path path, List<String> excludedDirs) {
-        if (excludedDirs != null) {
-            String folderName = path.getFileName().toString();
-            return !excludedDirs.contains(folderName);
+    private ScanResult scanJournaledPaths(FileSyncAdapter adapter, Path rootPath) {
+        FileSyncTarget target = adapter.getTarget();
+        NavigableMap<String, FileSyncMetadata> snapshot = fsSnapshots.get(target);
+        if (snapshot == null) {
+            return null;
         }
-        return true;
+        Set<Path> changes = fileSyncJournal.drain(target);
+        if (changes == null) {
+            log.info("변경 저널을 사용할 수 없어 전체 스캔 - target: {}", target);
+            return null;
+        }
+
+        long startTime = System.currentTimeMillis();
+        NavigableMap<String, FileSyncMetadata> updated = new TreeMap<>(snapshot);
+        List<Path> existing = new ArrayList<>();
+        for (Path path : changes) {
+            // 변경 경로와 (디렉토리인 경우) 그 하위 항목을 스냅샷에서 제거 후, 남아있는 경로만 다시 스캔
+            String relativePath = rootPath.relativize(path).toString().replace("\\", "/");
+            updated.remove(relativePath);
+            updated.subMap(relativePath + "/", true, relativePath + "0", false).clear();
+            if (Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+                existing.add(path);
+            }
+        }
+
+        try {
+            List<String> allowedExtensions = adapter.getAllowedExtensions();
+            for (FileSystemScanner.ScannedPath file : fileSystemScanner.scanPaths(existing,
+                    fileName -> isAllowedExtension(fileName, allowedExtensions),
+                    adapter.getExcludedDirectories(), null)) {
+                FileSyncMetadata metadata = toMetadata(file, rootPath, adapter);
+                updated.put(metadata.getFilePath(), metadata);
+            }
+        } catch (RuntimeException e) {
+            // 꺼낸 변경 기록이 반영되지 않았으므로 다음 분석은 전체 스캔
+            fsSnapshots.remove(target);
+            throw e;
+        }
+        fsSnapshots.put(target, updated);
+
+        log.info("증분 스캔 완료 - target: {}, 변경 경로 {}건, 전체 {}건, {}ms",
+                target, changes.size(), updated.size(), System.currentTimeMillis() - startTime);
+        return new ScanResult(new ArrayList<>(updated.values()), 0, 0, true);
     }
 
     /**
-     * 폴더에서 FileSyncMetadata 생성 (폴더 기반 어댑터용)
+     * 체크섬 캐시 조회 (실패 시 캐시 없이 전체 계산)
      */
-    private FileSyncMetadata createMetadataFromFolder(Path path, FileSyncAdapter adapter) throws IOException {
-        Path basePath = fileStorageService.getAbsolutePath("");
-        String relativePath = basePath.relativize(path).toString().replace("\\", "/");
-
-        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
-        LocalDateTime lastModified = LocalDateTime.ofInstant(
-                attrs.lastModifiedTime().toInstant(), ZoneId.systemDefault());
-
-        // 폴더는 파일 크기와 체크섬이 없음
-        return FileSyncMetadata.builder()
-                .filePath(relativePath)
-                .fileName(path.getFileName().toString())
-                .fileSize(null)  // 폴더는 크기 없음
-                .checksum(null)  // 폴더는 체크섬 없음
-                .lastModified(lastModified)
-                .target(adapter.getTarget())
-                .build();
+    private FileChecksumCacheService.Snapshot loadChecksumCache(Path rootPath, Path basePath, boolean forceRehash) {
+        if (forceRehash) {
+            return FileChecksumCacheService.empty(rootPath);
+        }
+        try {
+            return fileChecksumCacheService.load(rootPath, basePath);
+        } catch (RuntimeException e) {
+            log.warn("체크섬 캐시 조회 실패, 전체 파일 체크섬 계산: {}", e.getMessage());
+            return FileChecksumCacheService.empty(rootPath);
+        }
     }
 
     /**
-     * 허용된 파일인지 확인
+     * 스캔 결과를 체크섬 캐시에 반영 (실패해도 분석은 계속 진행)
+     *
+     * @return 캐시와 체크섬이 다른 파일 수
      */
-    private boolean isAllowedFile(Path path, List<String> allowedExtensions, List<String> excludedDirs) {
-        // 제외 디렉토리 확인
-        if (excludedDirs != null) {
-            for (Path part : path) {
-                if (excludedDirs.contains(part.toString())) {
-                    return false;
-                }
-            }
+    private int storeChecksumCache(Path rootPath, Path basePath, List<FileSystemScanner.ScannedPath> scanned) {
+        try {
+            return fileChecksumCacheService.store(rootPath, basePath, scanned);
+        } catch (RuntimeException e) {
+            log.warn("체크섬 캐시 저장 실패: {}", e.getMessage());
+            return 0;
         }
+    }
 
-        // 확장자 확인
+    /**
+     * 허용된 확장자인지 확인
+     */
+    private boolean isAllowedExtension(String fileName, List<String> allowedExtensions) {
         if (allowedExtensions != null && !allowedExtensions.isEmpty()) {
-            String fileName = path.getFileName().toString().toLowerCase();
+            String lowerName = fileName.toLowerCase();
             return allowedExtensions.stream()
-                    .anyMatch(ext -> fileName.endsWith(ext.toLowerCase()));
+                    .anyMatch(ext -> lowerName.endsWith(ext.toLowerCase()));
         }
-
         return true;
     }
 
     /**
-     * Path에서 FileSyncMetadata 생성
+     * 스캔 결과에서 FileSyncMetadata 생성 (폴더는 파일 크기와 체크섬이 없음)
      */
-    private FileSyncMetadata createMetadataFromPath(Path path, FileSyncAdapter adapter) throws IOException {
-        Path basePath = fileStorageService.getAbsolutePath("");
-        String relativePath = basePath.relativize(path).toString().replace("\\", "/");
-
-        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+    private FileSyncMetadata toMetadata(FileSystemScanner.ScannedPath scanned, Path rootPath,
+            FileSyncAdapter adapter) {
+        String relativePath = rootPath.relativize(scanned.path()).toString().replace("\\", "/");
         LocalDateTime lastModified = LocalDateTime.ofInstant(
-                attrs.lastModifiedTime().toInstant(), ZoneId.systemDefault());
-
-        // 체크섬 계산 (성능 고려: 크기가 작을 때만 미리 계산)
-        String checksum = null;
-        if (attrs.size() < 10 * 1024 * 1024) { // 10MB 미만
-            checksum = FileChecksumUtil.calculateChecksum(path);
-        }
+                scanned.lastModified().toInstant(), ZoneId.systemDefault());
 
         return FileSyncMetadata.builder()
                 .filePath(relativePath)
-                .fileName(path.getFileName().toString())
-                .fileSize(attrs.size())
-                .checksum(checksum)
+                .fileName(scanned.path().getFileName().toString())
+                .fileSize(scanned.size())
+                .checksum(scanned.checksum())
                 .lastModified(lastModified)
                 .target(adapter.getTarget())
                 .build();
     }
 
+    /**
+     * 스캔 진행 상황 전송 (스캔 풀의 작업 스레드에서 호출됨)
+     */
+    private void publishAnalyzeProgress(FileSyncTarget target, int scannedFiles, int processedFiles) {
+        log.debug("파일시스템 스캔 진행 - target: {}, 처리: {}/{}", target, processedFiles, scannedFiles);
+        try {
+            webSocketMessageSender.sendToTopic(ANALYZE_PROGRESS_TOPIC, ANALYZE_PROGRESS_MESSAGE_TYPE,
+                    FileSyncDto.AnalyzeProgress.builder()
+                            .target(target)
+                            .scannedFiles(scannedFiles)
+                            .processedFiles(processedFiles)
+                            .build());
+        } catch (RuntimeException e) {
+            // 진행 상황 전송 실패가 분석을 중단시키지 않도록 함
+            log.warn("파일 동기화 분석 진행 상황 전송 실패: {}", e.getMessage());
+        }
+    }
+
     /**
      * DB와 파일시스템 비교
      */
@@ -483,136 +677,205 @@ public class FileSyncService {
     }
 
     /**
-     * 개별 액션 처리
+     * 적용 대기 항목
+     *
+     * @param index       요청 내 순번 (결과 순서 유지용)
+     * @param action      수행할 액션
+     * @param discrepancy 불일치 항목
      */
-    private FileSyncDto.ActionResult processAction(FileSyncDto.ActionItem actionItem) {
-        String id = actionItem.getId();
-        FileSyncAction action = actionItem.getAction();
+    private record PendingAction(int index, FileSyncAction action, FileSyncDiscrepancy discrepancy) {
 
-        // 캐시에서 discrepancy 조회
-        FileSyncDiscrepancy discrepancy = discrepancyCache.get(id);
-        if (discrepancy == null) {
+        private FileSyncDto.ActionResult toResult(boolean success, String message) {
             return FileSyncDto.ActionResult.builder()
-                    .id(id)
+                    .id(discrepancy.getId())
+                    .filePath(discrepancy.getFilePath())
                     .action(action)
-                    .success(false)
-                    .message("불일치 항목을 찾을 수 없습니다. 다시 분석해주세요.")
+                    .success(success)
+                    .message(message)
                     .build();
         }
+    }
 
+    /**
+     * 파일/폴더 삭제 처리
+     */
+    private FileSyncDto.ActionResult applyFileAction(PendingAction pending, FileSyncAdapter adapter) {
+        String filePath = pending.discrepancy().getFilePath();
         try {
-            FileSyncAdapter adapter = getAdapterByTarget(discrepancy.getTarget());
-            String resultMessage;
+            // 폴더 기반 어댑터는 디렉토리 삭제, 아니면 파일 삭제
+            if (adapter.isFolderBased()) {
+                fileStorageService.deleteDirectory(filePath);
+                return completeAction(pending, adapter, "폴더 삭제됨");
+            }
+            fileStorageService.deleteFile(filePath);
+            return completeAction(pending, adapter, "파일 삭제됨");
+        } catch (Exception e) {
+            log.error("액션 처리 실패: {} - {}", pending.discrepancy().getId(), pending.action(), e);
+            return pending.toResult(false, "처리 실패: " + e.getMessage());
+        }
+    }
 
-            switch (action) {
-                case REGISTER -> {
-                    // REGISTER 액션은 유형별 분리 API 사용 안내
-                    String apiEndpoint = switch (discrepancy.getTarget()) {
-                        case RESOURCE_FILE -> "/api/file-sync/resources/register";
-                        case BACKUP_FILE -> "/api/file-sync/backups/register";
-                        case PATCH_FILE -> "/api/file-sync/patches/register";
-                        case RELEASE_FILE -> "/api/file-sync/releases/register";
-                    };
-                    return FileSyncDto.ActionResult.builder()
-                            .id(id)
-                            .filePath(discrepancy.getFilePath())
-                            .action(action)
-                            .success(false)
-                            .message("파일 등록은 전용 API를 사용해주세요: " + apiEndpoint)
-                            .build();
+    /**
+     * 메타데이터 갱신/삭제, 무시 목록 등록 처리 (청크 트랜잭션 안에서 호출)
+     *
+     * @return 결과 메시지
+     */
+    private String applyDbAction(PendingAction pending, FileSyncAdapter adapter,
+            Map<String, FileSystemScanner.ScannedPath> files, String currentUserEmail) {
+        FileSyncDiscrepancy discrepancy = pending.discrepancy();
+        switch (pending.action()) {
+            case UPDATE_METADATA -> {
+                // 파일시스템 정보로 DB 갱신 (폴더 기반 어댑터는 크기/체크섬 없음)
+                FileSystemScanner.ScannedPath file = files.get(discrepancy.getFilePath());
+                FileSyncMetadata newMetadata = FileSyncMetadata.builder()
+                        .filePath(discrepancy.getFilePath())
+                        .fileName(discrepancy.getFileName())
+                        .fileSize(file != null ? file.size() : null)
+                        .checksum(file != null ? file.checksum() : null)
+                        .build();
+
+                adapter.updateMetadata(discrepancy.getDbInfo().getId(), newMetadata);
+                if (adapter.isFolderBased()) {
+                    return "폴더 메타데이터 갱신됨";
                 }
-                case UPDATE_METADATA -> {
-                    // 파일시스템 정보로 DB 갱신
-                    Path filePath = fileStorageService.getAbsolutePath(discrepancy.getFilePath());
-
-                    // 폴더 기반 어댑터는 크기/체크섬 계산하지 않음
-                    Long fileSize = null;
-                    String checksum = null;
-                    if (!adapter.isFolderBased()) {
-                        checksum = FileChecksumUtil.calculateChecksum(filePath);
-                        fileSize = Files.size(filePath);
-                    }
-
-                    FileSyncMetadata newMetadata = FileSyncMetadata.builder()
-                            .filePath(discrepancy.getFilePath())
-                            .fileName(discrepancy.getFileName())
-                            .fileSize(fileSize)
-                            .checksum(checksum)
-                            .build();
-
-                    Long dbId = discrepancy.getDbInfo().getId();
-                    adapter.updateMetadata(dbId, newMetadata);
-                    if (adapter.isFolderBased()) {
-                        resultMessage = "폴더 메타데이터 갱신됨";
-                    } else {
-                        resultMessage = String.format("메타데이터 갱신됨 (size: %d → %d)",
-                                discrepancy.getDbInfo().getSize(), fileSize);
-                    }
+                return String.format("메타데이터 갱신됨 (size: %d → %d)",
+                        discrepancy.getDbInfo().getSize(), newMetadata.getFileSize());
+            }
+            case DELETE_METADATA -> {
+                adapter.deleteMetadata(discrepancy.getDbInfo().getId());
+                return "메타데이터 삭제됨";
+            }
+            case IGNORE -> {
+                // 무시 목록에 등록 (중복 체크)
+                if (fileSyncIgnoreRepository.existsByFilePathAndTargetType(
+                        discrepancy.getFilePath(), discrepancy.getTarget())) {
+                    return "이미 무시 목록에 등록된 항목";
                 }
-                case DELETE_METADATA -> {
-                    Long dbId = discrepancy.getDbInfo().getId();
-                    adapter.deleteMetadata(dbId);
-                    resultMessage = "메타데이터 삭제됨";
+                FileSyncIgnore ignore = FileSyncIgnore.builder()
+                        .filePath(discrepancy.getFilePath())
+                        .targetType(discrepancy.getTarget())
+                        .status(discrepancy.getStatus())
+                        .ignoredBy(currentUserEmail)
+                        .build();
+                fileSyncIgnoreRepository.save(ignore);
+                return "무시 목록에 등록됨";
+            }
+            default -> throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 액션입니다");
+        }
+    }
+
+    /**
+     * 적용 완료 처리 (도메인별 후처리, 캐시에서 제거)
+     */
+    private FileSyncDto.ActionResult completeAction(PendingAction pending, FileSyncAdapter adapter, String message) {
+        String filePath = pending.discrepancy().getFilePath();
+        try {
+            adapter.afterApply(filePath, pending.action());
+        } catch (RuntimeException e) {
+            // 반영은 이미 완료되었으므로 후처리 실패는 경고만 남김
+            log.warn("적용 후처리 실패: {} - {} ({})", filePath, pending.action(), e.getMessage());
+        }
+        discrepancyCache.remove(pending.discrepancy().getId());
+        return pending.toResult(true, message);
+    }
+
+    /**
+     * 유형별 등록 API 경로
+     */
+    private String getRegisterEndpoint(FileSyncTarget target) {
+        return switch (target) {
+            case RESOURCE_FILE -> "/api/file-sync/resources/register";
+            case BACKUP_FILE -> "/api/file-sync/backups/register";
+            case PATCH_FILE -> "/api/file-sync/patches/register";
+            case RELEASE_FILE -> "/api/file-sync/releases/register";
+        };
+    }
+
+    /**
+     * DB 반영 결과
+     *
+     * @param value 작업 결과 (실패 시 null)
+     * @param error 실패 원인 (성공 시 null)
+     */
+    private record WriteOutcome<R>(R value, RuntimeException error) {
+    }
+
+    /**
+     * 청크 단위 트랜잭션으로 DB 반영
+     *
+     * <p>청크 안에서 실패한 항목이 있으면 그 청크만 롤백하고 항목별 트랜잭션으로 다시 실행하여,
+     * 실패한 항목만 제외하고 반영합니다. 이미 커밋된 청크는 유지됩니다.
+     * <p>재시도 시 writer가 같은 항목으로 다시 실행되므로, writer에는 트랜잭션에 묶이지 않는 부수 효과
+     * (파일 작업, 캐시 갱신 등)를 두지 않습니다. 캐시 무효화처럼 필요한 후처리는 커밋 이후에 실행되도록
+     * 트랜잭션 동기화로 등록하거나 결과를 받은 뒤 처리합니다.
+     *
+     * @return 항목별 결과 (입력 순서)
+     */
+    private <T, R> List<WriteOutcome<R>> writeInChunks(List<T> items, Function<T, R> writer) {
+        List<WriteOutcome<R>> outcomes = new ArrayList<>(items.size());
+        for (int from = 0; from < items.size(); from += applyChunkSize) {
+            List<T> chunk = items.subList(from, Math.min(from + applyChunkSize, items.size()));
+            try {
+                for (R value : fileSyncChunkWriter.write(chunk, writer)) {
+                    outcomes.add(new WriteOutcome<>(value, null));
                 }
-                case DELETE_FILE -> {
-                    // 폴더 기반 어댑터는 디렉토리 삭제, 아니면 파일 삭제
-                    if (adapter.isFolderBased()) {
-                        fileStorageService.deleteDirectory(discrepancy.getFilePath());
-                        resultMessage = "폴더 삭제됨";
-                    } else {
-                        fileStorageService.deleteFile(discrepancy.getFilePath());
-                        resultMessage = "파일 삭제됨";
-                    }
+            } catch (RuntimeException chunkError) {
+                if (chunk.size() == 1) {
+                    outcomes.add(new WriteOutcome<>(null, chunkError));
+                    continue;
                 }
-                case IGNORE -> {
-                    // 무시 목록에 등록 (중복 체크)
-                    if (!fileSyncIgnoreRepository.existsByFilePathAndTargetType(
-                            discrepancy.getFilePath(), discrepancy.getTarget())) {
-                        String currentUserEmail = SecurityUtil.getTokenInfo().email();
-                        FileSyncIgnore ignore = FileSyncIgnore.builder()
-                                .filePath(discrepancy.getFilePath())
-                                .targetType(discrepancy.getTarget())
-                                .status(discrepancy.getStatus())
-                                .ignoredBy(currentUserEmail)
-                                .build();
-                        fileSyncIgnoreRepository.save(ignore);
-                        resultMessage = "무시 목록에 등록됨";
-                    } else {
-                        resultMessage = "이미 무시 목록에 등록된 항목";
+                log.warn("일괄 적용 청크 실패, 항목별로 다시 적용 - {}건 ({})", chunk.size(), chunkError.getMessage());
+                for (T item : chunk) {
+                    try {
+                        outcomes.add(new WriteOutcome<>(fileSyncChunkWriter.write(List.of(item), writer).get(0), null));
+                    } catch (RuntimeException e) {
+                        outcomes.add(new WriteOutcome<>(null, e));
                     }
                 }
-                default -> {
-                    return FileSyncDto.ActionResult.builder()
-                            .id(id)
-                            .filePath(discrepancy.getFilePath())
-                            .action(action)
-                            .success(false)
-                            .message("지원하지 않는 액션입니다")
-                            .build();
-                }
             }
+        }
+        return outcomes;
+    }
 
-            // 캐시에서 제거
-            discrepancyCache.remove(id);
+    /**
+     * 파일 크기/체크섬 일괄 계산 (스캔 풀에서 병렬 계산, 바뀌지 않은 파일은 체크섬 캐시 사용)
+     *
+     * <p>결과 체크섬은 DB에 저장되므로 속성이 바뀐 파일은 CRC32C 비교로 재사용하지 않고 SHA-256을 다시 계산합니다.
+     *
+     * @param relativePaths 파일 경로 목록 (base-path 기준 상대 경로)
+     * @return 상대 경로 → 계산 결과 (존재하지 않거나 읽을 수 없는 파일은 제외)
+     */
+    private Map<String, FileSystemScanner.ScannedPath> checksumFiles(List<String> relativePaths) {
+        if (relativePaths.isEmpty()) {
+            return Map.of();
+        }
+        Path rootPath = fileStorageService.getAbsolutePath("");
+        Map<Path, String> relativePathByPath = new HashMap<>();
+        for (String relativePath : relativePaths) {
+            relativePathByPath.put(fileStorageService.getAbsolutePath(relativePath), relativePath);
+        }
 
-            return FileSyncDto.ActionResult.builder()
-                    .id(id)
-                    .filePath(discrepancy.getFilePath())
-                    .action(action)
-                    .success(true)
-                    .message(resultMessage)
-                    .build();
+        FileChecksumCacheService.Snapshot snapshot;
+        try {
+            snapshot = fileChecksumCacheService.load(rootPath, relativePathByPath.keySet());
+        } catch (RuntimeException e) {
+            log.warn("체크섬 캐시 조회 실패, 전체 파일 체크섬 계산: {}", e.getMessage());
+            snapshot = FileChecksumCacheService.empty(rootPath);
+        }
+        List<FileSystemScanner.ScannedPath> scanned =
+                fileSystemScanner.checksumFiles(relativePathByPath.keySet(), snapshot);
+        try {
+            fileChecksumCacheService.merge(rootPath, scanned);
+        } catch (RuntimeException e) {
+            log.warn("체크섬 캐시 저장 실패: {}", e.getMessage());
+        }
 
-        } catch (Exception e) {
-            log.error("액션 처리 실패: {} - {}", id, action, e);
-            return FileSyncDto.ActionResult.builder()
-                    .id(id)
-                    .filePath(discrepancy.getFilePath())
-                    .action(action)
-                    .success(false)
-                    .message("처리 실패: " + e.getMessage())
-                    .build();
+        Map<String, FileSystemScanner.ScannedPath> files = new HashMap<>();
+        for (FileSystemScanner.ScannedPath file : scanned) {
+            files.put(relativePathByPath.get(file.path()), file);
         }
+        log.debug("파일 체크섬 일괄 계산 - {}건 (캐시 사용: {}건)", files.size(), snapshot.hits());
+        return files;
     }
 
     /**
@@ -630,6 +893,15 @@ public class FileSyncService {
     // 무시 목록 관리
     // ========================================
 
+    /**
+     * 변경 저널 상태 조회
+     *
+     * @return 대상별 저널 상태 (저널 비활성 시 빈 목록)
+     */
+    public List<FileSyncDto.JournalStatus> getJournalStatus() {
+        return fileSyncJournal.getStatus();
+    }
+
     /**
      * 무시된 파일 목록 조회
      *
@@ -690,38 +962,26 @@ public class FileSyncService {
      * @param request 등록 요청
      * @return 등록 결과
      */
-    @Transactional
     public FileSyncDto.RegisterResponse registerResourceFiles(FileSyncDto.ResourceFileRegisterRequest request) {
-        log.info("리소스 파일 등록 시작 - {}건", request.getItems().size());
-
-        List<FileSyncDto.RegisterResult> results = new ArrayList<>();
-        int successCount = 0;
-        int failedCount = 0;
-
-        FileSyncAdapter adapter = getAdapterByTarget(FileSyncTarget.RESOURCE_FILE);
-
-        for (FileSyncDto.ResourceFileRegisterItem item : request.getItems()) {
-            FileSyncDto.RegisterResult result = processResourceFileRegister(item, adapter);
-            results.add(result);
-
-            if (result.isSuccess()) {
-                successCount++;
-            } else {
-                failedCount++;
-            }
-        }
-
-        log.info("리소스 파일 등록 완료 - 성공 {}건, 실패 {}건", successCount, failedCount);
-
-        return FileSyncDto.RegisterResponse.builder()
-                .registeredAt(LocalDateTime.now())
-                .results(results)
-                .summary(FileSyncDto.ApplySummary.builder()
-                        .total(request.getItems().size())
-                        .success(successCount)
-                        .failed(failedCount)
-                        .build())
-                .build();
+        String currentUserEmail = SecurityUtil.getTokenInfo().email();
+        return registerFiles(FileSyncTarget.RESOURCE_FILE, "리소스 파일", "리소스 파일 등록 완료",
+                request.getItems(), FileSyncDto.ResourceFileRegisterItem::getId, item -> {
+                    Map<String, Object> additionalData = new HashMap<>();
+                    if (item.getResourceFileName() != null) {
+                        additionalData.put("resourceFileName", item.getResourceFileName());
+                    }
+                    if (item.getFileCategory() != null) {
+                        additionalData.put("fileCategory", item.getFileCategory());
+                    }
+                    if (item.getSubCategory() != null) {
+                        additionalData.put("subCategory", item.getSubCategory());
+                    }
+                    if (item.getDescription() != null) {
+                        additionalData.put("description", item.getDescription());
+                    }
+                    additionalData.put("createdByEmail", currentUserEmail);
+                    return additionalData;
+                });
     }
 
     /**
@@ -730,38 +990,20 @@ public class FileSyncService {
      * @param request 등록 요청
      * @return 등록 결과
      */
-    @Transactional
     public FileSyncDto.RegisterResponse registerBackupFiles(FileSyncDto.BackupFileRegisterRequest request) {
-        log.info("백업 파일 등록 시작 - {}건", request.getItems().size());
-
-        List<FileSyncDto.RegisterResult> results = new ArrayList<>();
-        int successCount = 0;
-        int failedCount = 0;
-
-        FileSyncAdapter adapter = getAdapterByTarget(FileSyncTarget.BACKUP_FILE);
-
-        for (FileSyncDto.BackupFileRegisterItem item : request.getItems()) {
-            FileSyncDto.RegisterResult result = processBackupFileRegister(item, adapter);
-            results.add(result);
-
-            if (result.isSuccess()) {
-                successCount++;
-            } else {
-                failedCount++;
-            }
-        }
-
-        log.info("백업 파일 등록 완료 - 성공 {}건, 실패 {}건", successCount, failedCount);
-
-        return FileSyncDto.RegisterResponse.builder()
-                .registeredAt(LocalDateTime.now())
-                .results(results)
-                .summary(FileSyncDto.ApplySummary.builder()
-                        .total(request.getItems().size())
-                        .success(successCount)
-                        .failed(failedCount)
-                        .build())
-                .build();
+        String currentUserEmail = SecurityUtil.getTokenInfo().email();
+        return registerFiles(FileSyncTarget.BACKUP_FILE, "백업 파일", "백업 파일 등록 완료",
+                request.getItems(), FileSyncDto.BackupFileRegisterItem::getId, item -> {
+                    Map<String, Object> additionalData = new HashMap<>();
+                    if (item.getFileCategory() != null) {
+                        additionalData.put("fileCategory", item.getFileCategory());
+                    }
+                    if (item.getDescription() != null) {
+                        additionalData.put("description", item.getDescription());
+                    }
+                    additionalData.put("createdByEmail", currentUserEmail);
+                    return additionalData;
+                });
     }
 
     /**
@@ -770,38 +1012,23 @@ public class FileSyncService {
      * @param request 등록 요청
      * @return 등록 결과
      */
-    @Transactional
     public FileSyncDto.RegisterResponse registerPatchFiles(FileSyncDto.PatchFileRegisterRequest request) {
-        log.info("패치 파일 등록 시작 - {}건", request.getItems().size());
-
-        List<FileSyncDto.RegisterResult> results = new ArrayList<>();
-        int successCount = 0;
-        int failedCount = 0;
-
-        FileSyncAdapter adapter = getAdapterByTarget(FileSyncTarget.PATCH_FILE);
-
-        for (FileSyncDto.PatchFileRegisterItem item : request.getItems()) {
-            FileSyncDto.RegisterResult result = processPatchFileRegister(item, adapter);
-            results.add(result);
-
-            if (result.isSuccess()) {
-                successCount++;
-            } else {
-                failedCount++;
-            }
-        }
-
-        log.info("패치 파일 등록 완료 - 성공 {}건, 실패 {}건", successCount, failedCount);
-
-        return FileSyncDto.RegisterResponse.builder()
-                .registeredAt(LocalDateTime.now())
-                .results(results)
-                .summary(FileSyncDto.ApplySummary.builder()
-                        .total(request.getItems().size())
-                        .success(successCount)
-                        .failed(failedCount)
-                        .build())
-                .build();
+        String currentUserEmail = SecurityUtil.getTokenInfo().email();
+        return registerFiles(FileSyncTarget.PATCH_FILE, "패치 파일", "패치 폴더 등록 완료",
+                request.getItems(), FileSyncDto.PatchFileRegisterItem::getId, item -> {
+                    Map<String, Object> additionalData = new HashMap<>();
+                    if (item.getEngineerId() != null) {
+                        additionalData.put("engineerId", item.getEngineerId());
+                    }
+                    if (item.getCustomerCode() != null) {
+                        additionalData.put("customerCode", item.getCustomerCode());
+                    }
+                    if (item.getDescription() != null) {
+                        additionalData.put("description", item.getDescription());
+                    }
+                    additionalData.put("createdByEmail", currentUserEmail);
+                    return additionalData;
+                });
     }
 
     /**
@@ -810,335 +1037,149 @@ public class FileSyncService {
      * @param request 등록 요청
      * @return 등록 결과
      */
-    @Transactional
     public FileSyncDto.RegisterResponse registerReleaseFiles(FileSyncDto.ReleaseFileRegisterRequest request) {
-        log.info("릴리즈 파일 등록 시작 - {}건", request.getItems().size());
-
-        List<FileSyncDto.RegisterResult> results = new ArrayList<>();
-        int successCount = 0;
-        int failedCount = 0;
-
-        FileSyncAdapter adapter = getAdapterByTarget(FileSyncTarget.RELEASE_FILE);
-
-        for (FileSyncDto.ReleaseFileRegisterItem item : request.getItems()) {
-            FileSyncDto.RegisterResult result = processReleaseFileRegister(item, adapter);
-            results.add(result);
-
-            if (result.isSuccess()) {
-                successCount++;
-            } else {
-                failedCount++;
-            }
-        }
-
-        log.info("릴리즈 파일 등록 완료 - 성공 {}건, 실패 {}건", successCount, failedCount);
-
-        return FileSyncDto.RegisterResponse.builder()
-                .registeredAt(LocalDateTime.now())
-                .results(results)
-                .summary(FileSyncDto.ApplySummary.builder()
-                        .total(request.getItems().size())
-                        .success(successCount)
-                        .failed(failedCount)
-                        .build())
-                .build();
+        return registerFiles(FileSyncTarget.RELEASE_FILE, "릴리즈 파일", "릴리즈 파일 등록 완료",
+                request.getItems(), FileSyncDto.ReleaseFileRegisterItem::getId, item -> {
+                    Map<String, Object> additionalData = new HashMap<>();
+                    if (item.getReleaseVersionId() != null) {
+                        additionalData.put("releaseVersionId", item.getReleaseVersionId());
+                    }
+                    if (item.getFileCategory() != null) {
+                        additionalData.put("fileCategory", item.getFileCategory());
+                    }
+                    if (item.getSubCategory() != null) {
+                        additionalData.put("subCategory", item.getSubCategory());
+                    }
+                    if (item.getExecutionOrder() != null) {
+                        additionalData.put("executionOrder", item.getExecutionOrder());
+                    }
+                    if (item.getDescription() != null) {
+                        additionalData.put("description", item.getDescription());
+                    }
+                    return additionalData;
+                });
     }
 
     // ----------------------------------------
-    // 유형별 등록 처리 메서드
+    // 일괄 등록 처리
     // ----------------------------------------
 
-    private FileSyncDto.RegisterResult processResourceFileRegister(
-            FileSyncDto.ResourceFileRegisterItem item, FileSyncAdapter adapter) {
-
-        String id = item.getId();
-        FileSyncDiscrepancy discrepancy = discrepancyCache.get(id);
-
-        if (discrepancy == null) {
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .success(false)
-                    .message("불일치 항목을 찾을 수 없습니다. 다시 분석해주세요.")
-                    .build();
-        }
-
-        if (discrepancy.getTarget() != FileSyncTarget.RESOURCE_FILE) {
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .filePath(discrepancy.getFilePath())
-                    .success(false)
-                    .message("리소스 파일이 아닙니다. 대상 유형: " + discrepancy.getTarget())
-                    .build();
-        }
-
-        try {
-            Path filePath = fileStorageService.getAbsolutePath(discrepancy.getFilePath());
-            String checksum = FileChecksumUtil.calculateChecksum(filePath);
-            Long fileSize = Files.size(filePath);
-
-            FileSyncMetadata metadata = FileSyncMetadata.builder()
-                    .filePath(discrepancy.getFilePath())
-                    .fileName(discrepancy.getFileName())
-                    .fileSize(fileSize)
-                    .checksum(checksum)
-                    .target(FileSyncTarget.RESOURCE_FILE)
-                    .build();
-
-            // 추가 메타데이터 구성
-            Map<String, Object> additionalData = new HashMap<>();
-            if (item.getResourceFileName() != null) {
-                additionalData.put("resourceFileName", item.getResourceFileName());
-            }
-            if (item.getFileCategory() != null) {
-                additionalData.put("fileCategory", item.getFileCategory());
-            }
-            if (item.getSubCategory() != null) {
-                additionalData.put("subCategory", item.getSubCategory());
-            }
-            if (item.getDescription() != null) {
-                additionalData.put("description", item.getDescription());
-            }
-            additionalData.put("createdByEmail", SecurityUtil.getTokenInfo().email());
-
-            Long newId = adapter.registerFile(metadata, additionalData);
-
-            // 캐시에서 제거
-            discrepancyCache.remove(id);
-
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .filePath(discrepancy.getFilePath())
-                    .success(true)
-                    .message("리소스 파일 등록 완료")
-                    .registeredId(newId)
-                    .build();
-
-        } catch (Exception e) {
-            log.error("리소스 파일 등록 실패: {}", id, e);
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .filePath(discrepancy.getFilePath())
-                    .success(false)
-                    .message("등록 실패: " + e.getMessage())
-                    .build();
-        }
+    /**
+     * 등록 대기 항목
+     *
+     * @param index          요청 내 순번 (결과 순서 유지용)
+     * @param discrepancy    불일치 항목
+     * @param additionalData 도메인별 추가 데이터
+     */
+    private record PendingRegister(int index, FileSyncDiscrepancy discrepancy, Map<String, Object> additionalData) {
     }
 
-    private FileSyncDto.RegisterResult processBackupFileRegister(
-            FileSyncDto.BackupFileRegisterItem item, FileSyncAdapter adapter) {
-
-        String id = item.getId();
-        FileSyncDiscrepancy discrepancy = discrepancyCache.get(id);
-
-        if (discrepancy == null) {
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .success(false)
-                    .message("불일치 항목을 찾을 수 없습니다. 다시 분석해주세요.")
-                    .build();
-        }
-
-        if (discrepancy.getTarget() != FileSyncTarget.BACKUP_FILE) {
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .filePath(discrepancy.getFilePath())
-                    .success(false)
-                    .message("백업 파일이 아닙니다. 대상 유형: " + discrepancy.getTarget())
-                    .build();
-        }
-
-        try {
-            Path filePath = fileStorageService.getAbsolutePath(discrepancy.getFilePath());
-            String checksum = FileChecksumUtil.calculateChecksum(filePath);
-            Long fileSize = Files.size(filePath);
-
-            FileSyncMetadata metadata = FileSyncMetadata.builder()
-                    .filePath(discrepancy.getFilePath())
-                    .fileName(discrepancy.getFileName())
-                    .fileSize(fileSize)
-                    .checksum(checksum)
-                    .target(FileSyncTarget.BACKUP_FILE)
-                    .build();
-
-            // 추가 메타데이터 구성
-            Map<String, Object> additionalData = new HashMap<>();
-            if (item.getFileCategory() != null) {
-                additionalData.put("fileCategory", item.getFileCategory());
-            }
-            if (item.getDescription() != null) {
-                additionalData.put("description", item.getDescription());
+    /**
+     * 유형별 파일 일괄 등록
+     *
+     * <p>파일 크기/체크섬은 스캔 풀에서 병렬로 계산하고, DB 등록은 청크 단위 트랜잭션으로 커밋합니다.
+     * 실패한 항목은 해당 항목만 결과에 실패로 남기고 나머지는 등록합니다.
+     *
+     * @param target           등록 대상 유형
+     * @param targetLabel      대상 유형 이름 (로그/메시지용)
+     * @param successMessage   등록 성공 메시지
+     * @param items            등록 요청 항목
+     * @param idOf             항목의 불일치 항목 ID
+     * @param additionalDataOf 항목의 도메인별 추가 데이터
+     * @return 등록 결과
+     */
+    private <I> FileSyncDto.RegisterResponse registerFiles(FileSyncTarget target, String targetLabel,
+            String successMessage, List<I> items, Function<I, String> idOf,
+            Function<I, Map<String, Object>> additionalDataOf) {
+        log.info("{} 등록 시작 - {}건", targetLabel, items.size());
+
+        FileSyncAdapter adapter = getAdapterByTarget(target);
+        FileSyncDto.RegisterResult[] results = new FileSyncDto.RegisterResult[items.size()];
+
+        // 불일치 항목 확인
+        List<PendingRegister> pending = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            I item = items.get(i);
+            String id = idOf.apply(item);
+            FileSyncDiscrepancy discrepancy = discrepancyCache.get(id);
+            if (discrepancy == null) {
+                results[i] = registerFailure(id, null, "불일치 항목을 찾을 수 없습니다. 다시 분석해주세요.");
+            } else if (discrepancy.getTarget() != target) {
+                results[i] = registerFailure(id, discrepancy.getFilePath(),
+                        targetLabel + "이 아닙니다. 대상 유형: " + discrepancy.getTarget());
+            } else {
+                pending.add(new PendingRegister(i, discrepancy, additionalDataOf.apply(item)));
             }
-            additionalData.put("createdByEmail", SecurityUtil.getTokenInfo().email());
-
-            Long newId = adapter.registerFile(metadata, additionalData);
-
-            // 캐시에서 제거
-            discrepancyCache.remove(id);
-
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .filePath(discrepancy.getFilePath())
-                    .success(true)
-                    .message("백업 파일 등록 완료")
-                    .registeredId(newId)
-                    .build();
-
-        } catch (Exception e) {
-            log.error("백업 파일 등록 실패: {}", id, e);
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .filePath(discrepancy.getFilePath())
-                    .success(false)
-                    .message("등록 실패: " + e.getMessage())
-                    .build();
-        }
-    }
-
-    private FileSyncDto.RegisterResult processPatchFileRegister(
-            FileSyncDto.PatchFileRegisterItem item, FileSyncAdapter adapter) {
-
-        String id = item.getId();
-        FileSyncDiscrepancy discrepancy = discrepancyCache.get(id);
-
-        if (discrepancy == null) {
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .success(false)
-                    .message("불일치 항목을 찾을 수 없습니다. 다시 분석해주세요.")
-                    .build();
         }
 
-        if (discrepancy.getTarget() != FileSyncTarget.PATCH_FILE) {
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .filePath(discrepancy.getFilePath())
-                    .success(false)
-                    .message("패치 파일이 아닙니다. 대상 유형: " + discrepancy.getTarget())
-                    .build();
-        }
-
-        try {
-            // 패치는 폴더 기반이므로 크기/체크섬 없음
-            FileSyncMetadata metadata = FileSyncMetadata.builder()
-                    .filePath(discrepancy.getFilePath())
-                    .fileName(discrepancy.getFileName())
-                    .fileSize(null)
-                    .checksum(null)
-                    .target(FileSyncTarget.PATCH_FILE)
-                    .build();
-
-            // 추가 메타데이터 구성
-            Map<String, Object> additionalData = new HashMap<>();
-            if (item.getEngineerId() != null) {
-                additionalData.put("engineerId", item.getEngineerId());
-            }
-            if (item.getCustomerCode() != null) {
-                additionalData.put("customerCode", item.getCustomerCode());
-            }
-            if (item.getDescription() != null) {
-                additionalData.put("description", item.getDescription());
+        // 파일 크기/체크섬 병렬 계산 (폴더 기반 어댑터는 크기/체크섬 없음)
+        Map<String, FileSystemScanner.ScannedPath> files = adapter.isFolderBased()
+                ? Map.of()
+                : checksumFiles(pending.stream().map(item -> item.discrepancy().getFilePath()).toList());
+        List<PendingRegister> writable = new ArrayList<>();
+        for (PendingRegister item : pending) {
+            String filePath = item.discrepancy().getFilePath();
+            if (!adapter.isFolderBased() && !files.containsKey(filePath)) {
+                results[item.index()] = registerFailure(item.discrepancy().getId(), filePath,
+                        "등록 실패: 파일을 읽을 수 없습니다");
+            } else {
+                writable.add(item);
             }
-            additionalData.put("createdByEmail", SecurityUtil.getTokenInfo().email());
-
-            Long newId = adapter.registerFile(metadata, additionalData);
-
-            // 캐시에서 제거
-            discrepancyCache.remove(id);
-
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .filePath(discrepancy.getFilePath())
-                    .success(true)
-                    .message("패치 폴더 등록 완료")
-                    .registeredId(newId)
-                    .build();
-
-        } catch (Exception e) {
-            log.error("패치 파일 등록 실패: {}", id, e);
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .filePath(discrepancy.getFilePath())
-                    .success(false)
-                    .message("등록 실패: " + e.getMessage())
-                    .build();
         }
-    }
-
-    private FileSyncDto.RegisterResult processReleaseFileRegister(
-            FileSyncDto.ReleaseFileRegisterItem item, FileSyncAdapter adapter) {
-
-        String id = item.getId();
-        FileSyncDiscrepancy discrepancy = discrepancyCache.get(id);
-
-        if (discrepancy == null) {
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .success(false)
-                    .message("불일치 항목을 찾을 수 없습니다. 다시 분석해주세요.")
-                    .build();
-        }
-
-        if (discrepancy.getTarget() != FileSyncTarget.RELEASE_FILE) {
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .filePath(discrepancy.getFilePath())
-                    .success(false)
-                    .message("릴리즈 파일이 아닙니다. 대상 유형: " + discrepancy.getTarget())
-                    .build();
-        }
-
-        try {
-            Path filePath = fileStorageService.getAbsolutePath(discrepancy.getFilePath());
-            String checksum = FileChecksumUtil.calculateChecksum(filePath);
-            Long fileSize = Files.size(filePath);
 
+        // DB 등록 (청크 단위 트랜잭션)
+        List<WriteOutcome<Long>> outcomes = writeInChunks(writable, item -> {
+            FileSystemScanner.ScannedPath file = files.get(item.discrepancy().getFilePath());
             FileSyncMetadata metadata = FileSyncMetadata.builder()
-                    .filePath(discrepancy.getFilePath())
-                    .fileName(discrepancy.getFileName())
-                    .fileSize(fileSize)
-                    .checksum(checksum)
-                    .target(FileSyncTarget.RELEASE_FILE)
+                    .filePath(item.discrepancy().getFilePath())
+                    .fileName(item.discrepancy().getFileName())
+                    .fileSize(file != null ? file.size() : null)
+                    .checksum(file != null ? file.checksum() : null)
+                    .target(target)
                     .build();
-
-            // 추가 메타데이터 구성
-            Map<String, Object> additionalData = new HashMap<>();
-            if (item.getReleaseVersionId() != null) {
-                additionalData.put("releaseVersionId", item.getReleaseVersionId());
-            }
-            if (item.getFileCategory() != null) {
-                additionalData.put("fileCategory", item.getFileCategory());
-            }
-            if (item.getSubCategory() != null) {
-                additionalData.put("subCategory", item.getSubCategory());
-            }
-            if (item.getExecutionOrder() != null) {
-                additionalData.put("executionOrder", item.getExecutionOrder());
-            }
-            if (item.getDescription() != null) {
-                additionalData.put("description", item.getDescription());
+            return adapter.registerFile(metadata, item.additionalData());
+        });
+        for (int i = 0; i < writable.size(); i++) {
+            PendingRegister item = writable.get(i);
+            WriteOutcome<Long> outcome = outcomes.get(i);
+            String id = item.discrepancy().getId();
+            if (outcome.error() == null) {
+                discrepancyCache.remove(id);
+                results[item.index()] = FileSyncDto.RegisterResult.builder()
+                        .id(id)
+                        .filePath(item.discrepancy().getFilePath())
+                        .success(true)
+                        .message(successMessage)
+                        .registeredId(outcome.value())
+                        .build();
+            } else {
+                log.error("{} 등록 실패: {}", targetLabel, id, outcome.error());
+                results[item.index()] = registerFailure(id, item.discrepancy().getFilePath(),
+                        "등록 실패: " + outcome.error().getMessage());
             }
+        }
 
-            Long newId = adapter.registerFile(metadata, additionalData);
-
-            // 캐시에서 제거
-            discrepancyCache.remove(id);
+        int successCount = (int) Arrays.stream(results).filter(FileSyncDto.RegisterResult::isSuccess).count();
+        int failedCount = results.length - successCount;
+        log.info("{} 등록 완료 - 성공 {}건, 실패 {}건", targetLabel, successCount, failedCount);
 
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .filePath(discrepancy.getFilePath())
-                    .success(true)
-                    .message("릴리즈 파일 등록 완료")
-                    .registeredId(newId)
-                    .build();
+        return FileSyncDto.RegisterResponse.builder()
+                .registeredAt(LocalDateTime.now())
+                .results(Arrays.asList(results))
+                .summary(FileSyncDto.ApplySummary.builder()
+                        .total(items.size())
+                        .success(successCount)
+                        .failed(failedCount)
+                        .build())
+                .build();
+    }
 
-        } catch (Exception e) {
-            log.error("릴리즈 파일 등록 실패: {}", id, e);
-            return FileSyncDto.RegisterResult.builder()
-                    .id(id)
-                    .filePath(discrepancy.getFilePath())
-                    .success(false)
-                    .message("등록 실패: " + e.getMessage())
-                    .build();
-        }
+    private FileSyncDto.RegisterResult registerFailure(String id, String filePath, String message) {
+        return FileSyncDto.RegisterResult.builder()
+                .id(id)
+                .filePath(filePath)
+                .success(false)
+                .message(message)
+                .build();
     }
 }
@@ -0,0 +1,425 @@
+package com.ts.rm.domain.filesync.service;
+
+import com.ts.rm.global.file.FileChecksumUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 동기화용 파일시스템 스캐너
+ *
+ * <p>디렉토리마다 {@link Files#walkFileTree}로 한 단계씩 순회하면서 디렉토리 항목과 함께 전달되는 속성을 그대로 사용하고,
+ * 하위 디렉토리 순회와 체크섬 계산을 {@code fileSyncScanPool}에 나누어 실행합니다.
+ * 파일마다 속성을 다시 읽지 않으므로 NAS처럼 메타데이터 조회 지연이 큰 저장소에서 효과가 큽니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileSystemScanner {
+
+    /**
+     * 체크섬을 미리 계산하는 파일 크기 상한 (10MB 미만만 계산)
+     */
+    public static final long CHECKSUM_SIZE_LIMIT = 10L * 1024 * 1024;
+
+    /**
+     * 체크섬 계산 작업 하나가 처리하는 파일 수
+     */
+    private static final int HASH_BATCH_SIZE = 32;
+
+    /**
+     * 진행 상황 보고 간격 (처리 파일 수)
+     */
+    private static final int PROGRESS_INTERVAL = 1000;
+
+    @Qualifier("fileSyncScanPool")
+    private final ForkJoinPool fileSyncScanPool;
+
+    /**
+     * 스캔 진행 상황 리스너 (스캔 풀의 작업 스레드에서 호출됨)
+     */
+    @FunctionalInterface
+    public interface ScanProgressListener {
+
+        /**
+         * @param scannedFiles   지금까지 발견한 대상 파일 수
+         * @param processedFiles 체크섬 계산까지 끝난 파일 수
+         */
+        void onProgress(int scannedFiles, int processedFiles);
+    }
+
+    /**
+     * 이전에 계산한 체크섬 조회 (스캔 풀의 작업 스레드에서 호출됨)
+     */
+    @FunctionalInterface
+    public interface ChecksumLookup {
+
+        /**
+         * @return 크기/수정 시각/파일 키가 같거나, (분석 시) 크기와 CRC32C가 같은 파일의 체크섬 (없으면 null)
+         * @throws IOException CRC32C 비교를 위해 파일을 읽다 실패한 경우
+         */
+        String find(Path path, long size, FileTime lastModified, String fileKey) throws IOException;
+    }
+
+    /**
+     * 스캔 결과 항목
+     *
+     * @param path         절대 경로
+     * @param size         파일 크기 (폴더는 null)
+     * @param lastModified 수정 시각
+     * @param fileKey      파일 키 (inode 등, 폴더 또는 지원하지 않는 파일시스템은 null)
+     * @param checksum     SHA-256 체크섬 (폴더 또는 캐시되지 않은 10MB 이상 파일은 null)
+     * @param crc32c       CRC32C (체크섬과 함께 새로 계산한 경우만, 캐시된 체크섬을 사용했으면 null)
+     */
+    public record ScannedPath(Path path, Long size, FileTime lastModified, String fileKey, String checksum,
+            String crc32c) {
+    }
+
+    /**
+     * 파일 스캔 (하위 디렉토리 전체)
+     *
+     * <p>제외 디렉토리 이름과 같은 경로 구성 요소가 있는 파일은 제외하며, 해당 디렉토리 아래로는 내려가지 않습니다.
+     * 하위 디렉토리를 읽을 수 없거나 체크섬 계산에 실패한 파일은 경고 로그를 남기고 건너뜁니다.
+     * {@code checksumLookup}에서 체크섬을 찾은 파일은 파일 내용을 읽지 않습니다.
+     *
+     * @param root           스캔 시작 디렉토리
+     * @param fileNameFilter 파일명 필터
+     * @param excludedDirs   제외 디렉토리 이름 목록 (null이면 제외 없음)
+     * @param checksumLookup 체크섬 캐시 (null이면 모든 파일 계산)
+     * @param listener       진행 상황 리스너 (null 가능)
+     * @return 스캔된 파일 목록 (순서 보장 없음)
+     * @throws IOException 시작 디렉토리를 읽을 수 없는 경우
+     */
+    public List<ScannedPath> scanFiles(Path root, Predicate<String> fileNameFilter,
+            Collection<String> excludedDirs, ChecksumLookup checksumLookup, ScanProgressListener listener)
+            throws IOException {
+        Set<String> excluded = excludedDirs != null ? Set.copyOf(excludedDirs) : Set.of();
+        if (isExcluded(root, excluded)) {
+            return List.of();
+        }
+
+        ScanContext context = new ScanContext(fileNameFilter, excluded, checksumLookup, listener,
+                CHECKSUM_SIZE_LIMIT);
+        try {
+            List<ScannedPath> files = fileSyncScanPool.invoke(new DirectoryTask(root, true, context));
+            context.reportProgress();
+            return files;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 지정한 경로만 스캔 (증분 분석용)
+     *
+     * <p>파일은 그대로, 디렉토리는 하위 전체를 {@link #scanFiles}와 같은 규칙으로 스캔합니다.
+     * 존재하지 않는 경로(삭제된 파일 등)와 제외 디렉토리 하위 경로는 건너뜁니다.
+     *
+     * @param paths          스캔할 경로 목록
+     * @param fileNameFilter 파일명 필터
+     * @param excludedDirs   제외 디렉토리 이름 목록 (null이면 제외 없음)
+     * @param checksumLookup 체크섬 캐시 (null이면 모든 파일 계산)
+     * @return 스캔된 파일 목록 (순서 보장 없음)
+     */
+    public List<ScannedPath> scanPaths(Collection<Path> paths, Predicate<String> fileNameFilter,
+            Collection<String> excludedDirs, ChecksumLookup checksumLookup) {
+        Set<String> excluded = excludedDirs != null ? Set.copyOf(excludedDirs) : Set.of();
+        return scanPaths(paths, new ScanContext(fileNameFilter, excluded, checksumLookup, null, CHECKSUM_SIZE_LIMIT));
+    }
+
+    /**
+     * 지정한 파일의 체크섬 일괄 계산 (일괄 등록/메타데이터 갱신용)
+     *
+     * <p>{@link #scanPaths}와 달리 크기와 관계없이 모든 파일의 체크섬을 계산합니다.
+     * 존재하지 않거나 읽을 수 없는 파일은 결과에서 빠집니다.
+     *
+     * @param files          파일 경로 목록
+     * @param checksumLookup 체크섬 캐시 (null이면 모든 파일 계산)
+     * @return 계산된 파일 목록 (순서 보장 없음)
+     */
+    public List<ScannedPath> checksumFiles(Collection<Path> files, ChecksumLookup checksumLookup) {
+        return scanPaths(files, new ScanContext(name -> true, Set.of(), checksumLookup, null, Long.MAX_VALUE));
+    }
+
+    private List<ScannedPath> scanPaths(Collection<Path> paths, ScanContext context) {
+        List<RecursiveTask<List<ScannedPath>>> directories = new ArrayList<>();
+        List<ScannedPath> candidates = new ArrayList<>();
+
+        for (Path path : paths) {
+            if (isExcluded(path, context.excludedDirs)) {
+                continue;
+            }
+            BasicFileAttributes attrs;
+            try {
+                attrs = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            } catch (IOException e) {
+                continue;
+            }
+            if (attrs.isDirectory()) {
+                directories.add(new DirectoryTask(path, false, context));
+                continue;
+            }
+            ScannedPath candidate = toCandidate(path, attrs, context);
+            if (candidate != null) {
+                candidates.add(candidate);
+            }
+        }
+        context.scannedFiles.addAndGet(candidates.size());
+
+        return fileSyncScanPool.invoke(new RecursiveTask<>() {
+            @Override
+            protected List<ScannedPath> compute() {
+                return forkAndJoin(directories, candidates, context);
+            }
+        });
+    }
+
+    /**
+     * 폴더 스캔 (폴더 기반 어댑터용)
+     *
+     * <p>시작 디렉토리를 제외한 지정 깊이까지의 디렉토리를 반환합니다. 제외 디렉토리 이름과 같은 폴더는 결과에서만 빠집니다.
+     *
+     * @param root         스캔 시작 디렉토리
+     * @param maxDepth     스캔 깊이 (1 = 바로 아래 폴더)
+     * @param excludedDirs 제외 디렉토리 이름 목록 (null이면 제외 없음)
+     * @return 스캔된 폴더 목록
+     * @throws IOException 디렉토리를 읽을 수 없는 경우
+     */
+    public List<ScannedPath> scanFolders(Path root, int maxDepth, Collection<String> excludedDirs)
+            throws IOException {
+        Set<String> excluded = excludedDirs != null ? Set.copyOf(excludedDirs) : Set.of();
+        List<ScannedPath> folders = new ArrayList<>();
+
+        Files.walkFileTree(root, Set.of(), maxDepth, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                addFolder(dir, attrs);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                // 최대 깊이의 디렉토리는 visitFile로 전달됨
+                if (attrs.isDirectory()) {
+                    addFolder(file, attrs);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            private void addFolder(Path dir, BasicFileAttributes attrs) {
+                if (!dir.equals(root) && !excluded.contains(dir.getFileName().toString())) {
+                    folders.add(new ScannedPath(dir, null, attrs.lastModifiedTime(), null, null, null));
+                }
+            }
+        });
+        return folders;
+    }
+
+    private static boolean isExcluded(Path path, Set<String> excludedDirs) {
+        for (Path part : path) {
+            if (excludedDirs.contains(part.toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 체크섬 계산 대상 파일 항목 생성 (일반 파일이 아니거나 파일명 필터에 맞지 않으면 null)
+     */
+    private static ScannedPath toCandidate(Path file, BasicFileAttributes attrs, ScanContext context) {
+        BasicFileAttributes fileAttrs = attrs.isSymbolicLink() ? readTarget(file) : attrs;
+        if (fileAttrs == null || !fileAttrs.isRegularFile()
+                || !context.fileNameFilter.test(file.getFileName().toString())) {
+            return null;
+        }
+        Object fileKey = fileAttrs.fileKey();
+        return new ScannedPath(file, fileAttrs.size(), fileAttrs.lastModifiedTime(),
+                fileKey != null ? fileKey.toString() : null, null, null);
+    }
+
+    /**
+     * 심볼릭 링크 대상 속성 조회 (대상이 없으면 null)
+     */
+    private static BasicFileAttributes readTarget(Path link) {
+        try {
+            return Files.readAttributes(link, BasicFileAttributes.class);
+        } catch (IOException e) {
+            log.warn("심볼릭 링크 대상 조회 실패: {} ({})", link, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 하위 디렉토리 작업과 파일 묶음별 체크섬 계산 작업을 분기하고 결과 병합 (스캔 풀의 작업 스레드에서 호출)
+     */
+    private static List<ScannedPath> forkAndJoin(List<? extends RecursiveTask<List<ScannedPath>>> directories,
+            List<ScannedPath> candidates, ScanContext context) {
+        List<RecursiveTask<List<ScannedPath>>> tasks = new ArrayList<>(directories);
+        for (int from = 0; from < candidates.size(); from += HASH_BATCH_SIZE) {
+            int to = Math.min(from + HASH_BATCH_SIZE, candidates.size());
+            tasks.add(new ChecksumTask(candidates.subList(from, to), context));
+        }
+
+        List<ScannedPath> results = new ArrayList<>(candidates.size());
+        for (RecursiveTask<List<ScannedPath>> task : ForkJoinTask.invokeAll(tasks)) {
+            results.addAll(task.join());
+        }
+        return results;
+    }
+
+    /**
+     * 스캔 공유 상태
+     */
+    private static final class ScanContext {
+
+        private final Predicate<String> fileNameFilter;
+        private final Set<String> excludedDirs;
+        private final ChecksumLookup checksumLookup;
+        private final ScanProgressListener listener;
+        private final long checksumSizeLimit;
+        private final AtomicInteger scannedFiles = new AtomicInteger();
+        private final AtomicInteger processedFiles = new AtomicInteger();
+
+        private ScanContext(Predicate<String> fileNameFilter, Set<String> excludedDirs,
+                ChecksumLookup checksumLookup, ScanProgressListener listener, long checksumSizeLimit) {
+            this.fileNameFilter = fileNameFilter;
+            this.excludedDirs = excludedDirs;
+            this.checksumLookup = checksumLookup;
+            this.listener = listener;
+            this.checksumSizeLimit = checksumSizeLimit;
+        }
+
+        private void fileProcessed() {
+            if (processedFiles.incrementAndGet() % PROGRESS_INTERVAL == 0) {
+                reportProgress();
+            }
+        }
+
+        private void reportProgress() {
+            if (listener != null) {
+                listener.onProgress(scannedFiles.get(), processedFiles.get());
+            }
+        }
+    }
+
+    /**
+     * 디렉토리 한 단계 순회 작업 (하위 디렉토리와 체크섬 계산은 별도 작업으로 분기)
+     */
+    private static final class DirectoryTask extends RecursiveTask<List<ScannedPath>> {
+
+        private final Path directory;
+        private final boolean root;
+        private final ScanContext context;
+
+        private DirectoryTask(Path directory, boolean root, ScanContext context) {
+            this.directory = directory;
+            this.root = root;
+            this.context = context;
+        }
+
+        @Override
+        protected List<ScannedPath> compute() {
+            List<DirectoryTask> subdirectories = new ArrayList<>();
+            List<ScannedPath> candidates = new ArrayList<>();
+
+            try {
+                Files.walkFileTree(directory, Set.of(), 1, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        String name = file.getFileName().toString();
+                        if (context.excludedDirs.contains(name)) {
+                            return FileVisitResult.CONTINUE;
+                        }
+                        if (attrs.isDirectory()) {
+                            subdirectories.add(new DirectoryTask(file, false, context));
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        ScannedPath candidate = toCandidate(file, attrs, context);
+                        if (candidate != null) {
+                            candidates.add(candidate);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException e) throws IOException {
+                        if (file.equals(directory)) {
+                            throw e;
+                        }
+                        log.warn("파일 속성 조회 실패: {} ({})", file, e.getMessage());
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                if (root) {
+                    throw new UncheckedIOException(e);
+                }
+                log.warn("디렉토리 스캔 실패: {} ({})", directory, e.getMessage());
+                return List.of();
+            }
+            context.scannedFiles.addAndGet(candidates.size());
+            return forkAndJoin(subdirectories, candidates, context);
+        }
+    }
+
+    /**
+     * 파일 묶음 체크섬 계산 작업
+     */
+    private static final class ChecksumTask extends RecursiveTask<List<ScannedPath>> {
+
+        private final List<ScannedPath> files;
+        private final ScanContext context;
+
+        private ChecksumTask(List<ScannedPath> files, ScanContext context) {
+            this.files = files;
+            this.context = context;
+        }
+
+        @Override
+        protected List<ScannedPath> compute() {
+            List<ScannedPath> results = new ArrayList<>(files.size());
+            for (ScannedPath file : files) {
+                try {
+                    String checksum = context.checksumLookup != null
+                            ? context.checksumLookup.find(file.path(), file.size(), file.lastModified(), file.fileKey())
+                            : null;
+                    String crc32c = null;
+                    if (checksum == null && file.size() < context.checksumSizeLimit) {
+                        // 다음 스캔에서 속성만 바뀐 경우 비교할 수 있도록 CRC32C를 같은 읽기에서 함께 계산
+                        List<String> hashes = FileChecksumUtil.calculateHashes(file.path(),
+                                FileChecksumUtil.HashAlgorithm.SHA_256, FileChecksumUtil.HashAlgorithm.CRC32C);
+                        checksum = hashes.get(0);
+                        crc32c = hashes.get(1);
+                    }
+                    results.add(new ScannedPath(file.path(), file.size(), file.lastModified(), file.fileKey(),
+                            checksum, crc32c));
+                } catch (IOException e) {
+                    log.warn("파일 메타데이터 생성 실패: {}", file.path(), e);
+                }
+                context.fileProcessed();
+            }
+            return results;
+        }
+    }
+}
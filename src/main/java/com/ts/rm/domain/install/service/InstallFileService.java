@@ -7,6 +7,7 @@ import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
 import com.ts.rm.global.file.FileContentUtil;
 import com.ts.rm.global.file.StreamingZipUtil;
+import com.ts.rm.global.file.ZipCompressionPolicy;
 import com.ts.rm.global.file.ZipExtractUtil;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -20,9 +21,11 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -38,10 +41,15 @@ import org.springframework.web.multipart.MultipartFile;
 public class InstallFileService {
 
     private final ProjectRepository projectRepository;
+    @Qualifier("zipCompressPool")
+    private final ForkJoinPool zipCompressPool;
 
     @Value("${app.release.base-path:data/release-manager}")
     private String baseReleasePath;
 
+    @Value("${app.release.zip-compression.install:AUTO}")
+    private ZipCompressionPolicy zipCompressionPolicy;
+
     private static final String INSTALLS_DIR = "installs";
 
     /**
@@ -277,7 +285,7 @@ public class InstallFileService {
                 throw new BusinessException(ErrorCode.FILE_NOT_FOUND, "다운로드할 파일이 없습니다");
             }
 
-            StreamingZipUtil.compressFilesToStream(outputStream, fileEntries);
+            StreamingZipUtil.compressFilesToStream(outputStream, fileEntries, zipCompressPool, zipCompressionPolicy);
             log.info("인스톨 전체 파일 다운로드 완료 - projectId: {}, fileCount: {}", projectId, fileEntries.size());
 
         } catch (IOException e) {
@@ -393,7 +401,7 @@ public class InstallFileService {
 
         List<InstallFileDto.UploadedFileInfo> uploadedFiles = new ArrayList<>();
 
-        ZipExtractUtil.extractWithCallback(zipFile.getInputStream(), targetDir, (entry, filePath) -> {
+        ZipExtractUtil.extractWithCallback(zipFile, targetDir, (entry, filePath) -> {
             try {
                 String fileRelativePath = targetSubPath.isEmpty()
                         ? entry.getName()
@@ -2,10 +2,12 @@ package com.ts.rm.domain.job.controller;
 
 import com.ts.rm.domain.job.dto.BackupFileDto;
 import com.ts.rm.domain.job.service.BackupFileService;
+import com.ts.rm.global.file.FileTransferUtil;
 import com.ts.rm.global.file.HttpFileDownloadUtil;
 import com.ts.rm.global.response.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.io.IOException;
+import java.nio.file.Path;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -55,19 +57,19 @@ public class BackupFileController implements BackupFileControllerDocs {
 
     @Override
     @GetMapping("/{id}/download")
-    public void downloadBackupFile(@PathVariable Long id, HttpServletResponse response) throws IOException {
+    public void downloadBackupFile(@PathVariable Long id, HttpServletRequest request,
+            HttpServletResponse response) {
 
         log.info("백업 파일 다운로드 요청 - ID: {}", id);
 
         String fileName = backupFileService.getFileName(id);
-        long fileSize = backupFileService.getFileSize(id);
+        Path filePath = backupFileService.getDownloadFile(id);
 
         response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
         response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
                 HttpFileDownloadUtil.buildContentDisposition(fileName));
-        response.setContentLengthLong(fileSize);
 
-        backupFileService.downloadFile(id, response.getOutputStream());
+        FileTransferUtil.serveFile(request, response, filePath);
 
         log.info("백업 파일 다운로드 완료 - ID: {}, fileName: {}", id, fileName);
     }
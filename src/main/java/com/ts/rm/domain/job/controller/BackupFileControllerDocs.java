@@ -8,8 +8,8 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.io.IOException;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -54,12 +54,15 @@ public interface BackupFileControllerDocs {
 
     @Operation(
             summary = "백업 파일 다운로드",
-            description = "백업 파일을 다운로드합니다."
+            description = "백업 파일을 다운로드합니다.\n\n"
+                    + "**이어받기**: `Range` 헤더로 일부 구간만 받을 수 있으며(206), "
+                    + "`If-Range`에 이전 응답의 `ETag`를 보내면 파일이 변경된 경우 전체 파일을 응답합니다."
     )
     void downloadBackupFile(
             @PathVariable Long id,
+            @Parameter(hidden = true) HttpServletRequest request,
             HttpServletResponse response
-    ) throws IOException;
+    );
 
     @Operation(
             summary = "백업 파일 삭제",
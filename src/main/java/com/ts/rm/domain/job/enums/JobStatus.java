@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum JobStatus {
 
+    QUEUED("queued", "대기 중"),
     RUNNING("running", "실행 중"),
     SUCCESS("success", "성공"),
     FAILED("failed", "실패");
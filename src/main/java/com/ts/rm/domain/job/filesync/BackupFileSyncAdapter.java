@@ -12,9 +12,11 @@ import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
 import com.ts.rm.domain.filesync.adapter.FileSyncAdapter;
 import com.ts.rm.domain.filesync.dto.FileSyncMetadata;
+import com.ts.rm.domain.filesync.dto.RegisteredFileRow;
 import com.ts.rm.domain.filesync.enums.FileSyncTarget;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.Nullable;
@@ -47,20 +49,18 @@ public class BackupFileSyncAdapter implements FileSyncAdapter {
     @Override
     @Transactional(readOnly = true)
     public List<FileSyncMetadata> getRegisteredFiles(@Nullable String subPath) {
-        List<BackupFile> files;
-
-        if (subPath != null && !subPath.isEmpty()) {
-            // filePath가 subPath로 시작하는 파일들 조회
-            files = backupFileRepository.findAll().stream()
-                    .filter(f -> f.getFilePath() != null && f.getFilePath().startsWith(subPath))
-                    .toList();
-        } else {
-            files = backupFileRepository.findAllByOrderByCreatedAtDesc();
+        try (Stream<FileSyncMetadata> files = streamRegisteredFiles(subPath)) {
+            return files.toList();
         }
+    }
 
-        return files.stream()
-                .map(this::toMetadata)
-                .toList();
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<FileSyncMetadata> streamRegisteredFiles(@Nullable String subPath) {
+        // DB 콜레이션은 대소문자를 구분하지 않으므로 경로 접두어를 한 번 더 확인
+        return backupFileRepository.streamSyncRows(subPath)
+                .filter(row -> subPath == null || row.filePath().startsWith(subPath))
+                .map(this::toMetadata);
     }
 
     @Override
@@ -138,14 +138,14 @@ public class BackupFileSyncAdapter implements FileSyncAdapter {
     /**
      * BackupFile 엔티티를 FileSyncMetadata로 변환
      */
-    private FileSyncMetadata toMetadata(BackupFile file) {
+    private FileSyncMetadata toMetadata(RegisteredFileRow row) {
         return FileSyncMetadata.builder()
-                .id(file.getBackupFileId())
-                .filePath(file.getFilePath())
-                .fileName(file.getFileName())
-                .fileSize(file.getFileSize())
-                .checksum(file.getChecksum())
-                .registeredAt(file.getCreatedAt())
+                .id(row.id())
+                .filePath(row.filePath())
+                .fileName(row.fileName())
+                .fileSize(row.fileSize())
+                .checksum(row.checksum())
+                .registeredAt(row.registeredAt())
                 .target(FileSyncTarget.BACKUP_FILE)
                 .build();
     }
@@ -1,8 +1,11 @@
 package com.ts.rm.domain.job.repository;
 
+import com.ts.rm.domain.filesync.dto.RegisteredFileRow;
 import com.ts.rm.domain.job.entity.BackupFile;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
 
 /**
  * BackupFile Custom Repository Interface
@@ -23,4 +26,14 @@ public interface BackupFileRepositoryCustom {
             String fileType,
             String fileName,
             Pageable pageable);
+
+    /**
+     * 파일 동기화 분석용 등록 백업 파일 스트리밍 조회 (경로 접두어 필터는 DB에서 처리)
+     *
+     * <p>엔티티 대신 필요한 컬럼만 조회하며, 호출자의 트랜잭션 안에서 소비하고 닫아야 합니다.
+     *
+     * @param pathPrefix 경로 접두어 (null이면 전체)
+     * @return 등록 백업 파일 스트림
+     */
+    Stream<RegisteredFileRow> streamSyncRows(@Nullable String pathPrefix);
 }
@@ -1,14 +1,19 @@
 package com.ts.rm.domain.job.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ts.rm.domain.filesync.dto.RegisteredFileRow;
 import com.ts.rm.domain.job.entity.BackupFile;
 import com.ts.rm.domain.job.entity.QBackupFile;
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
@@ -61,6 +66,24 @@ public class BackupFileRepositoryImpl implements BackupFileRepositoryCustom {
         return new PageImpl<>(content, pageable, total);
     }
 
+    @Override
+    public Stream<RegisteredFileRow> streamSyncRows(@Nullable String pathPrefix) {
+        QBackupFile backupFile = QBackupFile.backupFile;
+
+        return queryFactory
+                .select(Projections.constructor(RegisteredFileRow.class,
+                        backupFile.backupFileId,
+                        backupFile.filePath,
+                        backupFile.fileName,
+                        backupFile.fileSize,
+                        backupFile.checksum,
+                        backupFile.createdAt))
+                .from(backupFile)
+                .where(pathPrefix != null && !pathPrefix.isEmpty() ? backupFile.filePath.startsWith(pathPrefix) : null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, RegisteredFileRow.FETCH_SIZE)
+                .stream();
+    }
+
     private BooleanExpression fileCategoryEq(String fileCategory) {
         return StringUtils.hasText(fileCategory)
                 ? QBackupFile.backupFile.fileCategory.eq(fileCategory.toUpperCase())
@@ -8,8 +8,6 @@ import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
 import com.ts.rm.global.pagination.PageRowNumberUtil;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -41,33 +39,23 @@ public class BackupFileService {
     private String releaseBasePath;
 
     /**
-     * 백업 파일 다운로드 (스트리밍)
+     * 백업 파일 다운로드 경로 조회
      *
-     * @param id           백업 파일 ID
-     * @param outputStream 출력 스트림
+     * @param id 백업 파일 ID
+     * @return 백업 파일 절대 경로
+     * @throws BusinessException 파일이 존재하지 않는 경우
      */
-    public void downloadFile(Long id, OutputStream outputStream) {
+    public Path getDownloadFile(Long id) {
         BackupFile backupFile = getBackupFile(id);
         Path filePath = Paths.get(releaseBasePath, backupFile.getFilePath());
 
         log.info("백업 파일 다운로드 - ID: {}, 경로: {}", id, filePath);
 
-        if (!Files.exists(filePath)) {
+        if (!Files.isRegularFile(filePath)) {
             throw new BusinessException(ErrorCode.FILE_NOT_FOUND,
                     "파일이 존재하지 않습니다: " + backupFile.getFilePath());
         }
-
-        try (InputStream is = Files.newInputStream(filePath)) {
-            byte[] buffer = new byte[8192];
-            int bytesRead;
-            while ((bytesRead = is.read(buffer)) != -1) {
-                outputStream.write(buffer, 0, bytesRead);
-            }
-            outputStream.flush();
-        } catch (IOException e) {
-            log.error("백업 파일 다운로드 실패: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.FILE_DOWNLOAD_FAILED, "파일 다운로드에 실패했습니다");
-        }
+        return filePath;
     }
 
     /**
@@ -213,12 +201,4 @@ public class BackupFileService {
     public String getFileName(Long id) {
         return getBackupFile(id).getFileName();
     }
-
-    /**
-     * 파일 크기 조회
-     */
-    public long getFileSize(Long id) {
-        BackupFile backupFile = getBackupFile(id);
-        return backupFile.getFileSize() != null ? backupFile.getFileSize() : 0L;
-    }
 }
@@ -1,6 +1,7 @@
 package com.ts.rm.domain.maintenance.controller;
 
 import com.ts.rm.domain.maintenance.dto.MaintenanceResultDto;
+import com.ts.rm.domain.maintenance.service.BlobCleanupService;
 import com.ts.rm.domain.maintenance.service.BoardImageCleanupService;
 import com.ts.rm.domain.scheduler.service.ScheduleJobHistoryService;
 import com.ts.rm.global.exception.BusinessException;
@@ -32,6 +33,7 @@ public class MaintenanceController implements MaintenanceControllerDocs {
     private final BoardImageCleanupService boardImageCleanupService;
     private final ScheduleJobHistoryService scheduleJobHistoryService;
     private final ApiLogService apiLogService;
+    private final BlobCleanupService blobCleanupService;
 
     private static final String SCHEDULER_HEADER = "X-Schedule-Job";
 
@@ -103,6 +105,24 @@ public class MaintenanceController implements MaintenanceControllerDocs {
         return ResponseEntity.ok(ApiResponse.success(result));
     }
 
+    /**
+     * 미참조 블롭 정리
+     *
+     * <p>어떤 릴리즈 파일의 체크섬과도 일치하지 않고 일정 시간이 지난 블롭 저장소 파일을 삭제
+     *
+     * @param retentionHours 보관 시간 (기본값: 24시간)
+     */
+    @Override
+    @DeleteMapping("/blobs")
+    public ResponseEntity<ApiResponse<MaintenanceResultDto.CleanupResult>> cleanupBlobs(
+            @RequestParam(defaultValue = "24") int retentionHours,
+            HttpServletRequest request) {
+        validateMaintenanceAccess(request);
+        log.info("미참조 블롭 정리 API 호출 - retentionHours: {}", retentionHours);
+        MaintenanceResultDto.CleanupResult result = blobCleanupService.cleanupUnreferencedBlobs(retentionHours);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
     /**
      * 유지보수 API 접근 검증
      *
@@ -31,4 +31,12 @@ public interface MaintenanceControllerDocs {
     ResponseEntity<ApiResponse<MaintenanceResultDto.CleanupResult>> cleanupApiLogs(
             @Parameter(description = "보관 기간 (일)", example = "30") int retentionDays,
             @Parameter(hidden = true) HttpServletRequest request);
+
+    @Operation(summary = "미참조 블롭 정리",
+            description = "어떤 릴리즈 파일의 체크섬과도 일치하지 않고 보관 시간이 지난 블롭 저장소 파일을 삭제합니다. "
+                    + "블롭은 버전/패치 파일과 독립된 파일이므로 삭제해도 기존 파일에는 영향이 없습니다. "
+                    + "스케줄러 내부 호출 또는 인증된 사용자만 접근 가능합니다.")
+    ResponseEntity<ApiResponse<MaintenanceResultDto.CleanupResult>> cleanupBlobs(
+            @Parameter(description = "보관 시간 (시간)", example = "24") int retentionHours,
+            @Parameter(hidden = true) HttpServletRequest request);
 }
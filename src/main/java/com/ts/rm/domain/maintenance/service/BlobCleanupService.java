@@ -0,0 +1,50 @@
+package com.ts.rm.domain.maintenance.service;
+
+import com.ts.rm.domain.common.service.FileStorageService;
+import com.ts.rm.domain.maintenance.dto.MaintenanceResultDto;
+import com.ts.rm.domain.releasefile.repository.ReleaseFileRepository;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Blob Cleanup Service
+ *
+ * <p>블롭 저장소 정리 서비스
+ * <p>어떤 릴리즈 파일의 체크섬과도 일치하지 않고 일정 시간이 지난 블롭을 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlobCleanupService {
+
+    private final ReleaseFileRepository releaseFileRepository;
+    private final FileStorageService fileStorageService;
+
+    /**
+     * 미참조 블롭 정리
+     *
+     * <p>파일시스템 탐색 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행하며,
+     * 참조 여부는 블롭 저장소를 탐색하면서 일정 건수씩 조회합니다.
+     *
+     * @param retentionHours 보관 시간 (시간, 이보다 최근에 저장된 블롭은 참조 여부와 관계없이 유지)
+     * @return 정리 결과
+     */
+    public MaintenanceResultDto.CleanupResult cleanupUnreferencedBlobs(int retentionHours) {
+        log.info("미참조 블롭 정리 시작 - retentionHours: {}", retentionHours);
+
+        FileStorageService.BlobCleanupResult cleanupResult = fileStorageService.cleanupUnreferencedBlobs(
+                releaseFileRepository::findReferencedChecksums, Duration.ofHours(retentionHours));
+
+        String message = String.format("미참조 블롭 %d건 삭제 완료 (%.2f MB)",
+                cleanupResult.deletedCount(),
+                cleanupResult.deletedSizeBytes() / (1024.0 * 1024.0));
+
+        return MaintenanceResultDto.CleanupResult.of(
+                "blob-cleanup",
+                cleanupResult.deletedCount(),
+                cleanupResult.deletedSizeBytes(),
+                message);
+    }
+}
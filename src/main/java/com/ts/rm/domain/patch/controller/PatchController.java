@@ -3,9 +3,13 @@ package com.ts.rm.domain.patch.controller;
 import com.ts.rm.domain.patch.dto.PatchDto;
 import com.ts.rm.domain.patch.entity.Patch;
 import com.ts.rm.domain.patch.mapper.PatchDtoMapper;
+import com.ts.rm.domain.patch.service.PatchJobService;
 import com.ts.rm.domain.patch.service.PatchService;
+import com.ts.rm.domain.patch.service.PatchZipCacheService;
+import com.ts.rm.global.file.FileTransferUtil;
 import com.ts.rm.global.file.HttpFileDownloadUtil;
 import com.ts.rm.global.response.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springdoc.core.annotations.ParameterObject;
 import jakarta.validation.Valid;
@@ -37,6 +41,7 @@ public class PatchController implements PatchControllerDocs {
 
     private final PatchService patchService;
     private final PatchDtoMapper patchDtoMapper;
+    private final PatchJobService patchJobService;
 
     /**
      * 표준 패치 생성 (누적 패치 생성)
@@ -68,6 +73,27 @@ public class PatchController implements PatchControllerDocs {
         return ApiResponse.success(response);
     }
 
+    /**
+     * 패치 구성 미리보기 (파일 생성 없음)
+     */
+    @Override
+    @GetMapping("/standard/preview")
+    public ApiResponse<PatchDto.PreviewResponse> previewPatch(
+            @RequestParam String projectId,
+            @RequestParam(defaultValue = "STANDARD") String type,
+            @RequestParam String fromVersion,
+            @RequestParam String toVersion,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) String patchName,
+            @RequestParam(defaultValue = "false") boolean includeAllBuildVersions) {
+
+        log.info("패치 구성 미리보기 요청 - Project: {}, From: {}, To: {}, Type: {}, IncludeAllBuildVersions: {}",
+                projectId, fromVersion, toVersion, type, includeAllBuildVersions);
+
+        return ApiResponse.success(patchService.previewPatchByVersion(projectId, type, fromVersion, toVersion,
+                assigneeId, patchName, includeAllBuildVersions));
+    }
+
     /**
      * 패치 상세 조회
      */
@@ -129,8 +155,12 @@ public class PatchController implements PatchControllerDocs {
     /**
      * 패치 다운로드 (ZIP)
      *
+     * <p>최초 다운로드 시 생성되어 캐시된 ZIP을 sendfile(zero-copy)로 전송합니다.
+     *
      * <p>응답 헤더:
      * <ul>
+     *   <li><b>Content-Length</b>: ZIP 파일 크기 (바이트)</li>
+     *   <li><b>ETag</b>: ZIP 파일 SHA-256 (If-None-Match 일치 시 304 응답)</li>
      *   <li><b>X-Uncompressed-Size</b>: 압축 전 총 파일 크기 (바이트) - 진행률 표시용</li>
      * </ul>
      */
@@ -138,24 +168,26 @@ public class PatchController implements PatchControllerDocs {
     @GetMapping("/{id}/download")
     public void downloadPatch(
             @PathVariable Long id,
+            HttpServletRequest request,
             HttpServletResponse response) throws IOException {
 
         log.info("패치 다운로드 요청 - ID: {}", id);
 
         String fileName = patchService.getZipFileName(id);
-        long uncompressedSize = patchService.calculateUncompressedSize(id);
+        PatchZipCacheService.CachedZip patchZip = patchService.getPatchZip(id);
 
         response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
         response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
                 HttpFileDownloadUtil.buildContentDisposition(fileName));
 
         // 압축 전 크기를 커스텀 헤더로 전달 (프론트엔드 진행률 표시용)
-        response.setHeader("X-Uncompressed-Size", String.valueOf(uncompressedSize));
+        response.setHeader("X-Uncompressed-Size", String.valueOf(patchZip.uncompressedSize()));
 
-        patchService.streamPatchAsZip(id, response.getOutputStream());
+        // 조건부 요청(304/412)과 Range(206/416) 처리 - 이어받기/분할 다운로드 지원
+        FileTransferUtil.serveFile(request, response, patchZip.path(), patchZip.etag());
 
-        log.info("패치 다운로드 완료 - ID: {}, fileName: {}, uncompressedSize: {} bytes",
-                id, fileName, uncompressedSize);
+        log.info("패치 다운로드 완료 - ID: {}, fileName: {}, size: {} bytes, uncompressedSize: {} bytes",
+                id, fileName, patchZip.size(), patchZip.uncompressedSize());
     }
 
     /**
@@ -265,4 +297,57 @@ public class PatchController implements PatchControllerDocs {
 
         return ApiResponse.success(response);
     }
+
+    /**
+     * 표준 패치 생성 작업 등록 (백그라운드 실행)
+     */
+    @Override
+    @PostMapping("/standard/generate/jobs")
+    public ApiResponse<PatchDto.JobResponse> submitPatchJob(
+            @Valid @RequestBody PatchDto.GenerateRequest request) {
+
+        log.info("패치 생성 작업 요청 - Project: {}, From: {}, To: {}, Type: {}, PatchName: {}, IncludeAllBuildVersions: {}",
+                request.projectId(), request.fromVersion(), request.toVersion(), request.type(),
+                request.patchName(), request.shouldIncludeAllBuildVersions());
+
+        return ApiResponse.success(patchJobService.submitStandard(request));
+    }
+
+    /**
+     * 커스텀 패치 생성 작업 등록 (백그라운드 실행)
+     */
+    @Override
+    @PostMapping("/custom/generate/jobs")
+    public ApiResponse<PatchDto.JobResponse> submitCustomPatchJob(
+            @Valid @RequestBody PatchDto.GenerateCustomPatchRequest request) {
+
+        log.info("커스텀 패치 생성 작업 요청 - Project: {}, Customer: {}, From: {}, To: {}",
+                request.projectId(), request.customerId(), request.fromVersion(), request.toVersion());
+
+        return ApiResponse.success(patchJobService.submitCustom(request));
+    }
+
+    /**
+     * 일괄 패치 생성 작업 등록 (백그라운드 실행)
+     */
+    @Override
+    @PostMapping("/standard/generate/batch-jobs")
+    public ApiResponse<PatchDto.JobResponse> submitBatchPatchJob(
+            @Valid @RequestBody PatchDto.BatchGenerateRequest request) {
+
+        log.info("일괄 패치 생성 작업 요청 - Project: {}, From: {}, To: {}, Type: {}, Customers: {}",
+                request.projectId(), request.fromVersion(), request.toVersion(), request.type(),
+                request.customerIds());
+
+        return ApiResponse.success(patchJobService.submitBatch(request));
+    }
+
+    /**
+     * 패치 생성 작업 상태 조회
+     */
+    @Override
+    @GetMapping("/jobs/{jobId}")
+    public ApiResponse<PatchDto.JobResponse> getPatchJob(@PathVariable String jobId) {
+        return ApiResponse.success(patchJobService.getJob(jobId));
+    }
 }
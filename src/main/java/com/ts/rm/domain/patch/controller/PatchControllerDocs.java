@@ -9,6 +9,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.io.IOException;
@@ -59,6 +60,38 @@ public interface PatchControllerDocs {
             @PathVariable Long id
     );
 
+    @Operation(
+            summary = "패치 구성 미리보기",
+            description = "패치를 생성하지 않고 포함될 버전, 파일, 스크립트와 전체 크기를 미리 확인합니다.\n\n"
+                    + "패치 생성과 같은 버전 검증(핫픽스/미승인 버전/버전 순서)과 WEB/ENGINE 빌드 파일 선별 규칙을 적용하며, "
+                    + "디렉토리나 파일은 만들지 않고 릴리즈 파일 메타데이터(크기, 체크섬, 실행 순서)와 "
+                    + "메모리에서 렌더링한 스크립트/README의 줄 수, 크기만으로 계산합니다.",
+            responses = @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PatchPreviewApiResponse.class)
+                    )
+            )
+    )
+    ApiResponse<PatchDto.PreviewResponse> previewPatch(
+            @Parameter(description = "프로젝트 ID", required = true, example = "infraeye2")
+            @RequestParam String projectId,
+            @Parameter(description = "릴리즈 타입", example = "STANDARD")
+            @RequestParam(defaultValue = "STANDARD") String type,
+            @Parameter(description = "시작 버전", required = true, example = "1.0.0")
+            @RequestParam String fromVersion,
+            @Parameter(description = "종료 버전", required = true, example = "1.1.1")
+            @RequestParam String toVersion,
+            @Parameter(description = "패치 담당자 ID (MariaDB 스크립트 기본 담당자)")
+            @RequestParam(required = false) Long assigneeId,
+            @Parameter(description = "패치 이름 (미입력 시 자동 생성)")
+            @RequestParam(required = false) String patchName,
+            @Parameter(description = "WEB/ENGINE 빌드 파일의 모든 버전 포함 여부")
+            @RequestParam(defaultValue = "false") boolean includeAllBuildVersions
+    );
+
     @Operation(
             summary = "패치 목록 조회",
             description = "패치 목록을 페이징하여 조회합니다. projectId, releaseType, customerId로 필터링 가능. page, size, sort 파라미터 사용 가능\n\n"
@@ -199,11 +232,18 @@ public interface PatchControllerDocs {
                     + "- database/mariadb/ : MariaDB 패치 스크립트 및 SQL 파일\n"
                     + "- database/cratedb/ : CrateDB 패치 스크립트 및 SQL 파일\n"
                     + "- README.md : 패치 설명 파일\n\n"
+                    + "ZIP은 최초 다운로드 시 한 번 생성되어 캐시되며, 패치 디렉토리가 변경되면 다시 생성됩니다.\n\n"
                     + "**응답 헤더**:\n"
-                    + "- `X-Uncompressed-Size`: 압축 전 총 파일 크기 (바이트) - 진행률 표시용"
+                    + "- `Content-Length`: ZIP 파일 크기 (바이트)\n"
+                    + "- `ETag`: ZIP 파일 SHA-256 (`If-None-Match` 일치 시 304 응답)\n"
+                    + "- `Accept-Ranges`: bytes\n"
+                    + "- `X-Uncompressed-Size`: 압축 전 총 파일 크기 (바이트) - 진행률 표시용\n\n"
+                    + "**이어받기**: `Range` 헤더로 일부 구간만 받을 수 있습니다 (206, 다중 구간은 multipart/byteranges). "
+                    + "`If-Range`에 이전 ETag를 함께 보내면 ZIP이 재생성된 경우 전체 파일을 200으로 응답합니다."
     )
     void downloadPatch(
             @PathVariable Long id,
+            @Parameter(hidden = true) HttpServletRequest request,
             HttpServletResponse response
     ) throws IOException;
 
@@ -366,6 +406,86 @@ public interface PatchControllerDocs {
             @Valid @RequestBody PatchDto.GenerateCustomPatchRequest request
     );
 
+    @Operation(
+            summary = "표준 패치 생성 작업 등록",
+            description = "표준 패치 생성을 백그라운드 작업으로 등록하고 작업 ID를 즉시 반환합니다.\n\n"
+                    + "**진행 상황 구독**: STOMP `/topic/patch-jobs/{jobId}` (메시지 타입: PATCH_JOB_PROGRESS)\n\n"
+                    + "**상태**: 대기열에 있는 동안 QUEUED, 실행이 시작되면 RUNNING → SUCCESS/FAILED\n\n"
+                    + "**단계**: QUEUED → RESOLVE_VERSIONS → COPY_FILES (processedFiles/totalFiles) → "
+                    + "GENERATE_MARIADB_SCRIPT → GENERATE_CRATEDB_SCRIPT → GENERATE_README → SAVE → COMPLETED/FAILED\n\n"
+                    + "패치 정보는 모든 파일 생성이 끝난 뒤 마지막 단계에서만 DB에 저장됩니다.",
+            responses = @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PatchJobApiResponse.class)
+                    )
+            )
+    )
+    ApiResponse<PatchDto.JobResponse> submitPatchJob(
+            @Valid @RequestBody PatchDto.GenerateRequest request
+    );
+
+    @Operation(
+            summary = "커스텀 패치 생성 작업 등록",
+            description = "커스텀 패치 생성을 백그라운드 작업으로 등록하고 작업 ID를 즉시 반환합니다.\n\n"
+                    + "진행 상황은 표준 패치 생성 작업과 동일하게 STOMP `/topic/patch-jobs/{jobId}`로 전송됩니다.",
+            responses = @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PatchJobApiResponse.class)
+                    )
+            )
+    )
+    ApiResponse<PatchDto.JobResponse> submitCustomPatchJob(
+            @Valid @RequestBody PatchDto.GenerateCustomPatchRequest request
+    );
+
+    @Operation(
+            summary = "일괄 패치 생성 작업 등록",
+            description = "같은 버전 범위의 표준 패치를 여러 고객사에 대해 한 번에 생성하는 백그라운드 작업을 등록합니다.\n\n"
+                    + "버전 조회와 파일 복사, 스크립트/README 생성은 한 번만 수행하고, "
+                    + "고객사별 패치 디렉토리(patches/{projectId}/{patchName}_{customerCode})는 생성된 파일을 공유하여 병렬로 구성합니다.\n\n"
+                    + "**단계**: QUEUED → RESOLVE_VERSIONS → COPY_FILES → GENERATE_MARIADB_SCRIPT → GENERATE_CRATEDB_SCRIPT → "
+                    + "GENERATE_README → LINK_CUSTOMER_PATCHES (processedFiles/totalFiles: 고객사 수) → SAVE → COMPLETED/FAILED\n\n"
+                    + "작업 완료 시 `customers`에 고객사별 상태와 패치 ID가 기록되며, "
+                    + "성공한 고객사의 패치 정보와 고객사 마지막 패치 정보는 단일 트랜잭션으로 저장됩니다.",
+            responses = @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PatchJobApiResponse.class)
+                    )
+            )
+    )
+    ApiResponse<PatchDto.JobResponse> submitBatchPatchJob(
+            @Valid @RequestBody PatchDto.BatchGenerateRequest request
+    );
+
+    @Operation(
+            summary = "패치 생성 작업 상태 조회",
+            description = "패치 생성 작업의 현재 단계와 진행률을 조회합니다. 종료된 작업은 1시간 후 정리됩니다.\n\n"
+                    + "작업은 등록한 인스턴스에서만 실행됩니다. 여러 인스턴스로 운영할 때는 "
+                    + "`app.release.patch-job.redis-enabled`를 켜야 다른 인스턴스에서도 조회할 수 있으며, "
+                    + "WebSocket 진행 알림은 작업을 등록한 인스턴스에 연결된 경우에만 수신됩니다.",
+            responses = @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PatchJobApiResponse.class)
+                    )
+            )
+    )
+    ApiResponse<PatchDto.JobResponse> getPatchJob(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable String jobId
+    );
+
     /**
      * Swagger 스키마용 wrapper 클래스 - 패치 상세 응답
      */
@@ -378,6 +498,30 @@ public interface PatchControllerDocs {
         public PatchDto.DetailResponse data;
     }
 
+    /**
+     * Swagger 스키마용 wrapper 클래스 - 패치 구성 미리보기 응답
+     */
+    @Schema(description = "패치 구성 미리보기 API 응답")
+    class PatchPreviewApiResponse {
+        @Schema(description = "응답 상태", example = "success")
+        public String status;
+
+        @Schema(description = "패치 구성 미리보기")
+        public PatchDto.PreviewResponse data;
+    }
+
+    /**
+     * Swagger 스키마용 wrapper 클래스 - 패치 생성 작업 응답
+     */
+    @Schema(description = "패치 생성 작업 API 응답")
+    class PatchJobApiResponse {
+        @Schema(description = "응답 상태", example = "success")
+        public String status;
+
+        @Schema(description = "패치 생성 작업 상태")
+        public PatchDto.JobResponse data;
+    }
+
     /**
      * Swagger 스키마용 wrapper 클래스 - 패치 목록 응답
      */
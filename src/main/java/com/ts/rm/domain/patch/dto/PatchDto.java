@@ -1,10 +1,15 @@
 package com.ts.rm.domain.patch.dto;
 
+import com.ts.rm.domain.job.enums.JobStatus;
+import com.ts.rm.domain.patch.enums.PatchJobStage;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.Builder;
 
 /**
@@ -73,6 +78,62 @@ public final class PatchDto {
         }
     }
 
+    /**
+     * 일괄 패치 생성 요청 (여러 고객사에 같은 버전 범위의 표준 패치 생성)
+     */
+    @Builder
+    @Schema(description = "일괄 패치 생성 요청")
+    public record BatchGenerateRequest(
+            @Schema(description = "프로젝트 ID", example = "infraeye2")
+            @NotBlank(message = "프로젝트 ID는 필수입니다")
+            @Size(max = 50, message = "프로젝트 ID는 50자 이하여야 합니다")
+            String projectId,
+
+            @Schema(description = "릴리즈 타입", example = "standard")
+            @NotBlank(message = "릴리즈 타입은 필수입니다")
+            String type,
+
+            @Schema(description = "고객사 ID 목록", example = "[1, 2, 3]")
+            @NotEmpty(message = "고객사 ID 목록은 필수입니다")
+            @Size(max = 100, message = "고객사는 한 번에 100개까지 지정할 수 있습니다")
+            List<@NotNull Long> customerIds,
+
+            @Schema(description = "시작 버전", example = "1.0.0")
+            @NotBlank(message = "시작 버전은 필수입니다")
+            @Pattern(regexp = "^\\d+\\.\\d+\\.\\d+$", message = "버전 형식이 올바르지 않습니다 (예: 1.0.0)")
+            String fromVersion,
+
+            @Schema(description = "종료 버전", example = "1.1.1")
+            @NotBlank(message = "종료 버전은 필수입니다")
+            @Pattern(regexp = "^\\d+\\.\\d+\\.\\d+$", message = "버전 형식이 올바르지 않습니다 (예: 1.1.1)")
+            String toVersion,
+
+            @Schema(description = "생성자 이메일", example = "admin@tscientific")
+            @NotBlank(message = "생성자 이메일은 필수입니다")
+            @Size(max = 100, message = "생성자 이메일은 100자 이하여야 합니다")
+            String createdByEmail,
+
+            @Schema(description = "설명", example = "1.0.0에서 1.1.1로 업그레이드용 누적 패치")
+            String description,
+
+            @Schema(description = "패치 담당자 ID", example = "1")
+            Long assigneeId,
+
+            @Schema(description = "패치 이름 (고객사 코드가 뒤에 붙음, 미입력 시 자동 생성: 날짜_fromversion_toversion)", example = "20251125_1.0.0_1.1.1")
+            @Size(max = 50, message = "패치 이름은 50자 이하여야 합니다")
+            String patchName,
+
+            @Schema(description = "WEB/ENGINE 빌드 파일의 모든 버전 포함 여부 (false: 마지막 버전만, true: 모든 버전)", example = "false", defaultValue = "false")
+            Boolean includeAllBuildVersions
+    ) {
+        /**
+         * WEB/ENGINE 빌드 파일의 모든 버전 포함 여부 반환 (null인 경우 false)
+         */
+        public boolean shouldIncludeAllBuildVersions() {
+            return Boolean.TRUE.equals(includeAllBuildVersions);
+        }
+    }
+
     // ========================================
     // Response DTOs
     // ========================================
@@ -384,6 +445,129 @@ public final class PatchDto {
 
     }
 
+    /**
+     * 패치 구성 미리보기 응답
+     */
+    @Builder
+    @Schema(description = "패치 구성 미리보기 응답")
+    public record PreviewResponse(
+            @Schema(description = "프로젝트 ID", example = "infraeye2")
+            String projectId,
+
+            @Schema(description = "릴리즈 타입", example = "STANDARD")
+            String releaseType,
+
+            @Schema(description = "시작 버전", example = "1.0.0")
+            String fromVersion,
+
+            @Schema(description = "종료 버전", example = "1.1.1")
+            String toVersion,
+
+            @Schema(description = "패치 이름 (미입력 시 생성 시점 기준으로 다시 자동 생성됨)", example = "202511271430_1.0.0_1.1.1")
+            String patchName,
+
+            @Schema(description = "출력 경로", example = "patches/infraeye2/202511271430_1.0.0_1.1.1")
+            String outputPath,
+
+            @Schema(description = "WEB/ENGINE 빌드 파일의 모든 버전 포함 여부", example = "false")
+            boolean includeAllBuildVersions,
+
+            @Schema(description = "포함 버전 목록 (버전 순)")
+            List<PreviewVersion> versions,
+
+            @Schema(description = "복사될 릴리즈 파일 목록")
+            List<PreviewFile> files,
+
+            @Schema(description = "생성될 스크립트/README 목록")
+            List<PreviewGeneratedFile> generatedFiles,
+
+            @Schema(description = "전체 파일 수 (릴리즈 파일 + 생성 파일)", example = "42")
+            int totalFileCount,
+
+            @Schema(description = "전체 크기 (bytes)", example = "10485760")
+            long totalSize,
+
+            @Schema(description = "미리보기 계산 소요 시간 (ms)", example = "35")
+            long elapsedMillis
+    ) {
+
+    }
+
+    /**
+     * 패치 구성 미리보기 - 포함 버전
+     */
+    @Builder
+    @Schema(description = "패치 구성 미리보기 - 포함 버전")
+    public record PreviewVersion(
+            @Schema(description = "버전", example = "1.0.1")
+            String version,
+
+            @Schema(description = "버전 코멘트", example = "버그 수정")
+            String comment,
+
+            @Schema(description = "복사될 파일 수", example = "5")
+            int fileCount,
+
+            @Schema(description = "이후 버전에 포함되어 건너뛴 WEB/ENGINE 빌드 파일 수", example = "2")
+            int skippedBuildFileCount,
+
+            @Schema(description = "복사될 파일 크기 합계 (bytes)", example = "20480")
+            long totalSize
+    ) {
+
+    }
+
+    /**
+     * 패치 구성 미리보기 - 릴리즈 파일
+     */
+    @Builder
+    @Schema(description = "패치 구성 미리보기 - 릴리즈 파일")
+    public record PreviewFile(
+            @Schema(description = "버전", example = "1.0.1")
+            String version,
+
+            @Schema(description = "파일 카테고리", example = "DATABASE")
+            String fileCategory,
+
+            @Schema(description = "하위 카테고리", example = "MARIADB")
+            String subCategory,
+
+            @Schema(description = "파일명", example = "1.patch_mariadb_ddl.sql")
+            String fileName,
+
+            @Schema(description = "패치 내 경로", example = "database/mariadb/1.0.1/1.patch_mariadb_ddl.sql")
+            String path,
+
+            @Schema(description = "파일 크기 (bytes)", example = "4867")
+            long fileSize,
+
+            @Schema(description = "체크섬", example = "d41d8cd98f00b204e9800998ecf8427e")
+            String checksum,
+
+            @Schema(description = "실행 순서", example = "1")
+            Integer executionOrder
+    ) {
+
+    }
+
+    /**
+     * 패치 구성 미리보기 - 생성 파일 (스크립트/README)
+     */
+    @Builder
+    @Schema(description = "패치 구성 미리보기 - 생성 파일")
+    public record PreviewGeneratedFile(
+            @Schema(description = "파일명", example = "mariadb_patch.sh")
+            String fileName,
+
+            @Schema(description = "줄 수", example = "320")
+            long lineCount,
+
+            @Schema(description = "크기 (bytes)", example = "12800")
+            long size
+    ) {
+
+    }
+
     // ========================================
     // 커스텀 패치용 DTOs
     // ========================================
@@ -469,4 +653,70 @@ public final class PatchDto {
     ) {
 
     }
+
+    /**
+     * 패치 생성 작업 상태 응답
+     */
+    @Builder
+    @Schema(description = "패치 생성 작업 상태 응답")
+    public record JobResponse(
+            @Schema(description = "작업 ID", example = "3f2b8c1e-7a4d-4c2e-9b1f-0d6e5a4c3b2a")
+            String jobId,
+
+            @Schema(description = "작업 상태 (QUEUED, RUNNING, SUCCESS, FAILED)", example = "RUNNING")
+            JobStatus status,
+
+            @Schema(description = "현재 단계", example = "COPY_FILES")
+            PatchJobStage stage,
+
+            @Schema(description = "처리한 항목 수 (파일 복사: 파일 수, 고객사별 패치 구성: 고객사 수)", example = "120")
+            int processedFiles,
+
+            @Schema(description = "처리할 전체 항목 수 (파일 복사: 파일 수, 고객사별 패치 구성: 고객사 수)", example = "340")
+            int totalFiles,
+
+            @Schema(description = "진행 메시지", example = "파일 복사 (120/340)")
+            String message,
+
+            @Schema(description = "생성된 패치 ID (완료 시)", example = "1")
+            Long patchId,
+
+            @Schema(description = "오류 메시지 (실패 시)")
+            String errorMessage,
+
+            @Schema(description = "작업 등록 시간")
+            LocalDateTime startTime,
+
+            @Schema(description = "작업 종료 시간")
+            LocalDateTime endTime,
+
+            @Schema(description = "고객사별 상태 (일괄 패치 생성 작업인 경우)")
+            List<CustomerJobResponse> customers
+    ) {
+
+    }
+
+    /**
+     * 일괄 패치 생성 작업의 고객사별 상태 응답
+     */
+    @Builder
+    @Schema(description = "일괄 패치 생성 작업의 고객사별 상태 응답")
+    public record CustomerJobResponse(
+            @Schema(description = "고객사 ID", example = "1")
+            Long customerId,
+
+            @Schema(description = "고객사 코드 (작업 완료 시)", example = "company_a")
+            String customerCode,
+
+            @Schema(description = "상태 (QUEUED, RUNNING, SUCCESS, FAILED)", example = "SUCCESS")
+            JobStatus status,
+
+            @Schema(description = "생성된 패치 ID (성공 시)", example = "1")
+            Long patchId,
+
+            @Schema(description = "오류 메시지 (실패 시)")
+            String errorMessage
+    ) {
+
+    }
 }
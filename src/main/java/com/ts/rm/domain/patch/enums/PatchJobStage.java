@@ -0,0 +1,25 @@
+package com.ts.rm.domain.patch.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 패치 생성 작업 단계
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PatchJobStage {
+
+    QUEUED("대기 중"),
+    RESOLVE_VERSIONS("버전 조회 및 검증"),
+    COPY_FILES("파일 복사"),
+    GENERATE_MARIADB_SCRIPT("MariaDB 스크립트 생성"),
+    GENERATE_CRATEDB_SCRIPT("CrateDB 스크립트 생성"),
+    GENERATE_README("README 생성"),
+    LINK_CUSTOMER_PATCHES("고객사별 패치 구성"),
+    SAVE("패치 정보 저장"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+}
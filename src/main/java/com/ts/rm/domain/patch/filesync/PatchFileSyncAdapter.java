@@ -10,9 +10,12 @@ import com.ts.rm.domain.customer.entity.Customer;
 import com.ts.rm.domain.customer.repository.CustomerRepository;
 import com.ts.rm.domain.filesync.adapter.FileSyncAdapter;
 import com.ts.rm.domain.filesync.dto.FileSyncMetadata;
+import com.ts.rm.domain.filesync.dto.RegisteredFileRow;
+import com.ts.rm.domain.filesync.enums.FileSyncAction;
 import com.ts.rm.domain.filesync.enums.FileSyncTarget;
 import com.ts.rm.domain.patch.entity.Patch;
 import com.ts.rm.domain.patch.repository.PatchRepository;
+import com.ts.rm.domain.patch.service.PatchZipCacheService;
 import com.ts.rm.domain.project.entity.Project;
 import com.ts.rm.domain.project.repository.ProjectRepository;
 import com.ts.rm.global.account.AccountLookupService;
@@ -22,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.Nullable;
@@ -48,6 +52,7 @@ public class PatchFileSyncAdapter implements FileSyncAdapter {
     private final CustomerRepository customerRepository;
     private final AccountRepository accountRepository;
     private final AccountLookupService accountLookupService;
+    private final PatchZipCacheService patchZipCacheService;
 
     /**
      * 패치 폴더명 파싱 패턴
@@ -80,20 +85,18 @@ public class PatchFileSyncAdapter implements FileSyncAdapter {
     @Override
     @Transactional(readOnly = true)
     public List<FileSyncMetadata> getRegisteredFiles(@Nullable String subPath) {
-        List<Patch> patches;
-
-        if (subPath != null && !subPath.isEmpty()) {
-            patches = patchRepository.findAll().stream()
-                    .filter(p -> p.getOutputPath() != null && p.getOutputPath().startsWith(subPath))
-                    .toList();
-        } else {
-            patches = patchRepository.findAllByOrderByCreatedAtDesc(
-                    org.springframework.data.domain.Pageable.unpaged()).getContent();
+        try (Stream<FileSyncMetadata> patches = streamRegisteredFiles(subPath)) {
+            return patches.toList();
         }
+    }
 
-        return patches.stream()
-                .map(this::toMetadata)
-                .toList();
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<FileSyncMetadata> streamRegisteredFiles(@Nullable String subPath) {
+        // DB 콜레이션은 대소문자를 구분하지 않으므로 경로 접두어를 한 번 더 확인
+        return patchRepository.streamSyncRows(subPath)
+                .filter(row -> subPath == null || row.filePath().startsWith(subPath))
+                .map(this::toMetadata);
     }
 
     @Override
@@ -240,6 +243,16 @@ public class PatchFileSyncAdapter implements FileSyncAdapter {
         return 2;
     }
 
+    /**
+     * 패치 폴더 변경/삭제 시 캐시된 패치 ZIP 삭제
+     */
+    @Override
+    public void afterApply(String filePath, FileSyncAction action) {
+        if (action != FileSyncAction.IGNORE) {
+            patchZipCacheService.invalidate(filePath);
+        }
+    }
+
     /**
      * 유효한 동기화 경로인지 확인
      *
@@ -288,15 +301,15 @@ public class PatchFileSyncAdapter implements FileSyncAdapter {
     /**
      * Patch 엔티티를 FileSyncMetadata로 변환
      */
-    private FileSyncMetadata toMetadata(Patch patch) {
+    private FileSyncMetadata toMetadata(RegisteredFileRow row) {
         return FileSyncMetadata.builder()
-                .id(patch.getPatchId())
-                .filePath(patch.getOutputPath())
-                .fileName(patch.getPatchName())
+                .id(row.id())
+                .filePath(row.filePath())
+                .fileName(row.fileName())
                 // 패치는 폴더 단위이므로 파일 크기/체크섬 없음
                 .fileSize(null)
                 .checksum(null)
-                .registeredAt(patch.getCreatedAt())
+                .registeredAt(row.registeredAt())
                 .target(FileSyncTarget.PATCH_FILE)
                 .build();
     }
@@ -1,10 +1,13 @@
 package com.ts.rm.domain.patch.repository;
 
+import com.ts.rm.domain.filesync.dto.RegisteredFileRow;
 import com.ts.rm.domain.patch.entity.Patch;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
 
 /**
  * Patch Repository Custom Interface
@@ -44,4 +47,14 @@ public interface PatchRepositoryCustom {
      * @return 실제 존재하는 패치명 Set
      */
     Set<String> findExistingPatchNames(Set<String> patchNames);
+
+    /**
+     * 파일 동기화 분석용 등록 패치 폴더 스트리밍 조회 (경로 접두어 필터는 DB에서 처리)
+     *
+     * <p>엔티티 대신 필요한 컬럼만 조회하며, 호출자의 트랜잭션 안에서 소비하고 닫아야 합니다.
+     *
+     * @param pathPrefix 출력 경로 접두어 (null이면 전체)
+     * @return 등록 패치 폴더 스트림
+     */
+    Stream<RegisteredFileRow> streamSyncRows(@Nullable String pathPrefix);
 }
@@ -1,8 +1,10 @@
 package com.ts.rm.domain.patch.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ts.rm.domain.filesync.dto.RegisteredFileRow;
 import com.ts.rm.domain.patch.entity.Patch;
 import com.ts.rm.domain.patch.entity.QPatch;
 import com.ts.rm.global.querydsl.QuerydslPaginationUtil;
@@ -10,9 +12,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -126,4 +131,18 @@ public class PatchRepositoryImpl implements PatchRepositoryCustom {
 
         return new HashSet<>(existingNames);
     }
+
+    @Override
+    public Stream<RegisteredFileRow> streamSyncRows(@Nullable String pathPrefix) {
+        return queryFactory
+                .select(Projections.constructor(RegisteredFileRow.class,
+                        patch.patchId,
+                        patch.outputPath,
+                        patch.patchName,
+                        patch.createdAt))
+                .from(patch)
+                .where(pathPrefix != null && !pathPrefix.isEmpty() ? patch.outputPath.startsWith(pathPrefix) : null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, RegisteredFileRow.FETCH_SIZE)
+                .stream();
+    }
 }
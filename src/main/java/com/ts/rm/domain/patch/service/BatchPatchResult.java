@@ -0,0 +1,26 @@
+package com.ts.rm.domain.patch.service;
+
+import com.ts.rm.domain.patch.entity.Patch;
+
+/**
+ * 일괄 패치 생성 결과 (고객사별)
+ *
+ * @param customerId   고객사 ID
+ * @param customerCode 고객사 코드
+ * @param patch        생성된 패치 (실패 시 null)
+ * @param errorMessage 오류 메시지 (성공 시 null)
+ */
+public record BatchPatchResult(
+        Long customerId,
+        String customerCode,
+        Patch patch,
+        String errorMessage
+) {
+
+    /**
+     * 성공 여부
+     */
+    public boolean succeeded() {
+        return patch != null;
+    }
+}
@@ -5,9 +5,7 @@ import com.ts.rm.domain.patch.entity.Patch;
 import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
 import com.ts.rm.global.file.FileContentUtil;
-import com.ts.rm.global.file.StreamingZipUtil;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -20,35 +18,26 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * 패치 다운로드 서비스
  *
- * <p>패치 파일 다운로드, ZIP 스트리밍, 파일 구조 조회, 파일 내용 조회를 담당합니다.
+ * <p>패치 파일 다운로드(캐시된 ZIP), 파일 구조 조회, 파일 내용 조회를 담당합니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PatchDownloadService {
 
+    private final PatchZipCacheService patchZipCacheService;
+
     @Value("${app.release.base-path:data/release-manager}")
     private String releaseBasePath;
 
     /**
-     * 패치를 스트리밍 방식으로 ZIP 압축하여 출력 스트림에 작성
+     * 다운로드용 패치 ZIP 조회 (캐시된 ZIP, 없거나 오래된 경우 생성)
      *
-     * @param patch        패치 엔티티
-     * @param outputStream 출력 스트림
+     * @param patch 패치 엔티티
+     * @return 캐시된 ZIP 정보 (경로, 크기, ETag, 압축 전 크기)
      */
-    @Transactional(readOnly = true)
-    public void streamPatchAsZip(Patch patch, OutputStream outputStream) {
-        Path patchDir = Paths.get(releaseBasePath, patch.getOutputPath());
-
-        if (!Files.exists(patchDir)) {
-            throw new BusinessException(ErrorCode.DATA_NOT_FOUND,
-                    "패치 디렉토리를 찾을 수 없습니다: " + patch.getOutputPath());
-        }
-
-        // 스트리밍 시작 전 파일 존재 여부 검증 (응답 헤더 설정 후 예외 발생 방지)
-        validatePatchDirectoryFiles(patchDir);
-
-        StreamingZipUtil.compressDirectoryToStream(outputStream, patchDir);
+    public PatchZipCacheService.CachedZip getPatchZip(Patch patch) {
+        return patchZipCacheService.getOrBuild(patch);
     }
 
     /**
@@ -114,35 +103,6 @@ public class PatchDownloadService {
                 .sum();
     }
 
-    /**
-     * 패치 디렉토리 내 파일 존재 여부 검증
-     *
-     * <p>스트리밍 시작 전에 디렉토리에 최소 1개 이상의 파일이 존재하는지 확인합니다.
-     * Content-Type 설정 후 예외 발생을 방지하기 위한 사전 검증입니다.
-     *
-     * @param directory 패치 디렉토리 경로
-     * @throws BusinessException 파일이 하나도 없을 경우
-     */
-    private void validatePatchDirectoryFiles(Path directory) {
-        try {
-            long fileCount = Files.walk(directory)
-                    .filter(Files::isRegularFile)
-                    .count();
-
-            if (fileCount == 0) {
-                throw new BusinessException(ErrorCode.DATA_NOT_FOUND,
-                        "패치 디렉토리에 압축할 파일이 없습니다: " + directory);
-            }
-
-            log.debug("패치 파일 검증 완료 - 파일 개수: {}", fileCount);
-
-        } catch (IOException e) {
-            log.error("패치 디렉토리 검증 실패: {}", directory, e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "패치 디렉토리 검증 중 오류가 발생했습니다: " + e.getMessage());
-        }
-    }
-
     /**
      * 패치 ZIP 파일 내부 구조 조회
      *
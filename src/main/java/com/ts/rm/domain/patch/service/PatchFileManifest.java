@@ -0,0 +1,76 @@
+package com.ts.rm.domain.patch.service;
+
+import com.ts.rm.domain.releasefile.entity.ReleaseFile;
+import com.ts.rm.domain.releaseversion.entity.ReleaseVersion;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패치 파일 매니페스트
+ *
+ * <p>패치 대상 버전 범위의 모든 릴리즈 파일을 한 번의 쿼리로 조회한 결과를 버전 순서대로 묶어 보관합니다.
+ * 파일 복사와 MariaDB/CrateDB 스크립트 생성이 모두 이 매니페스트를 사용하므로,
+ * 버전 범위가 넓어져도 DB 조회 횟수는 늘어나지 않습니다.
+ */
+public final class PatchFileManifest {
+
+    /**
+     * 버전 ID → 파일 목록 (패치 대상 버전 순서, 버전 내 실행 순서)
+     */
+    private final Map<Long, List<ReleaseFile>> filesByVersionId;
+
+    private PatchFileManifest(Map<Long, List<ReleaseFile>> filesByVersionId) {
+        this.filesByVersionId = filesByVersionId;
+    }
+
+    /**
+     * 매니페스트 생성
+     *
+     * @param versions 패치 대상 버전 목록 (버전 순 정렬)
+     * @param files    버전 범위의 전체 파일 (버전 내 실행 순서 정렬)
+     * @return 매니페스트
+     */
+    public static PatchFileManifest of(List<ReleaseVersion> versions, List<ReleaseFile> files) {
+        Map<Long, List<ReleaseFile>> filesByVersionId = new LinkedHashMap<>();
+        for (ReleaseVersion version : versions) {
+            filesByVersionId.put(version.getReleaseVersionId(), new ArrayList<>());
+        }
+        for (ReleaseFile file : files) {
+            List<ReleaseFile> versionFiles = filesByVersionId.get(file.getReleaseVersion().getReleaseVersionId());
+            if (versionFiles != null) {
+                versionFiles.add(file);
+            }
+        }
+        filesByVersionId.replaceAll((versionId, versionFiles) -> Collections.unmodifiableList(versionFiles));
+        return new PatchFileManifest(filesByVersionId);
+    }
+
+    /**
+     * 버전의 파일 목록 (실행 순서)
+     */
+    public List<ReleaseFile> filesOf(ReleaseVersion version) {
+        return filesByVersionId.getOrDefault(version.getReleaseVersionId(), List.of());
+    }
+
+    /**
+     * 하위 카테고리 파일 목록 (버전 순서 → 실행 순서)
+     *
+     * @param subCategory 하위 카테고리 (대소문자 무시, 예: MARIADB, CRATEDB)
+     */
+    public List<ReleaseFile> filesBySubCategory(String subCategory) {
+        return filesByVersionId.values().stream()
+                .flatMap(List::stream)
+                .filter(file -> subCategory.equalsIgnoreCase(file.getSubCategory()))
+                .toList();
+    }
+
+    /**
+     * 전체 파일 수
+     */
+    public int size() {
+        return filesByVersionId.values().stream().mapToInt(List::size).sum();
+    }
+}
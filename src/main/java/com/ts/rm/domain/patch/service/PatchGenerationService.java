@@ -2,15 +2,19 @@ package com.ts.rm.domain.patch.service;
 
 import com.ts.rm.domain.account.entity.Account;
 import com.ts.rm.domain.account.repository.AccountRepository;
+import com.ts.rm.domain.common.service.FileStorageService;
 import com.ts.rm.domain.customer.entity.Customer;
 import com.ts.rm.domain.customer.entity.CustomerProject;
 import com.ts.rm.domain.customer.repository.CustomerProjectRepository;
 import com.ts.rm.domain.customer.repository.CustomerRepository;
+import com.ts.rm.domain.patch.dto.PatchDto;
 import com.ts.rm.domain.patch.entity.Patch;
 import com.ts.rm.domain.patch.entity.PatchHistory;
+import com.ts.rm.domain.patch.enums.PatchJobStage;
 import com.ts.rm.domain.patch.repository.PatchHistoryRepository;
 import com.ts.rm.domain.patch.repository.PatchRepository;
 import com.ts.rm.domain.patch.util.ScriptGenerator;
+import com.ts.rm.domain.patch.util.ScriptPreview;
 import com.ts.rm.domain.project.entity.Project;
 import com.ts.rm.domain.project.repository.ProjectRepository;
 import com.ts.rm.domain.releasefile.entity.ReleaseFile;
@@ -21,21 +25,39 @@ import com.ts.rm.domain.releaseversion.repository.ReleaseVersionRepository;
 import com.ts.rm.global.account.AccountLookupService;
 import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
+import com.ts.rm.global.file.FileMaterializer;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -48,6 +70,8 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class PatchGenerationService {
 
+    private static final String README_FILE_NAME = "README.md";
+
     private final PatchRepository patchRepository;
     private final PatchHistoryRepository patchHistoryRepository;
     private final ReleaseVersionRepository releaseVersionRepository;
@@ -59,6 +83,10 @@ public class PatchGenerationService {
     private final ScriptGenerator mariaDBScriptGenerator;
     private final ScriptGenerator crateDBScriptGenerator;
     private final AccountLookupService accountLookupService;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    @Qualifier("patchBatchExecutor")
+    private final ExecutorService patchBatchExecutor;
 
     @Value("${app.release.base-path:data/release-manager}")
     private String releaseBasePath;
@@ -78,24 +106,239 @@ public class PatchGenerationService {
      * @param includeAllBuildVersions WEB/ENGINE 모든 버전 포함 여부 (false: 마지막 버전만)
      * @return 생성된 패치
      */
-    @Transactional
     public Patch generatePatchByVersion(String projectId, String releaseType, Long customerId,
             String fromVersion, String toVersion, String createdByEmail, String description,
             Long assigneeId, String patchName, boolean includeAllBuildVersions) {
+        return generatePatchByVersion(projectId, releaseType, customerId, fromVersion, toVersion,
+                createdByEmail, description, assigneeId, patchName, includeAllBuildVersions,
+                PatchProgressListener.NONE);
+    }
 
-        // 버전 조회 (프로젝트 내에서, 핫픽스 제외)
-        ReleaseVersion from = releaseVersionRepository.findByProject_ProjectIdAndReleaseTypeAndVersionAndHotfixVersion(
-                        projectId, releaseType.toUpperCase(), fromVersion, 0)
-                .orElseThrow(() -> new BusinessException(ErrorCode.RELEASE_VERSION_NOT_FOUND,
-                        "From 버전을 찾을 수 없습니다: " + fromVersion));
+    /**
+     * 패치 생성 (버전 문자열 기반) - 표준 버전용, 진행 상황 통지
+     *
+     * @param listener 진행 상황 리스너
+     * @return 생성된 패치
+     */
+    public Patch generatePatchByVersion(String projectId, String releaseType, Long customerId,
+            String fromVersion, String toVersion, String createdByEmail, String description,
+            Long assigneeId, String patchName, boolean includeAllBuildVersions,
+            PatchProgressListener listener) {
+        return generate(() -> {
+            ReleaseVersion from = findStandardVersion(projectId, releaseType, fromVersion, "From");
+            ReleaseVersion to = findStandardVersion(projectId, releaseType, toVersion, "To");
+
+            return planPatch(projectId, from, to, customerId, createdByEmail, description,
+                    assigneeId, patchName, includeAllBuildVersions);
+        }, listener);
+    }
+
+    /**
+     * 일괄 패치 생성 (여러 고객사에 같은 버전 범위의 표준 패치 생성)
+     *
+     * <p>버전 조회/검증과 파일 매니페스트 조회는 한 번만 수행하고, 파일 복사와 스크립트/README 생성도
+     * 첫 번째 고객사 패치 디렉토리에 한 번만 수행합니다. 나머지 고객사 패치 디렉토리는 이 파일들을
+     * reflink(미지원 시 복사)로 병렬 구성하며, 고객사별 구성 실패는 해당 고객사만 실패로 처리합니다.
+     * <p>성공한 고객사의 패치, 패치 이력, CustomerProject 패치 정보는 단일 트랜잭션에서 함께 저장합니다.
+     * <p>패치 이름은 {@code {패치 이름}_{고객사 코드}} 형식이며, 패치 이름 미입력 시 자동 생성 규칙을 따릅니다.
+     *
+     * @param projectId    프로젝트 ID
+     * @param releaseType  릴리즈 타입 (STANDARD)
+     * @param customerIds  고객사 ID 목록 (중복 제거, 요청 순서 유지)
+     * @param fromVersion  From 버전 (예: 1.0.0)
+     * @param toVersion    To 버전 (예: 1.1.1)
+     * @param createdByEmail    생성자
+     * @param description  설명 (선택)
+     * @param assigneeId   패치 담당자 ID (선택)
+     * @param patchName    패치 이름 (선택, 미입력 시 자동 생성)
+     * @param includeAllBuildVersions WEB/ENGINE 모든 버전 포함 여부 (false: 마지막 버전만)
+     * @param listener     진행 상황 리스너 (고객사별 패치 구성 단계는 구성 완료 고객사 수 / 전체 고객사 수)
+     * @return 고객사별 생성 결과 (요청 순서)
+     */
+    public List<BatchPatchResult> generateBatchPatches(String projectId, String releaseType,
+            List<Long> customerIds, String fromVersion, String toVersion, String createdByEmail,
+            String description, Long assigneeId, String patchName, boolean includeAllBuildVersions,
+            PatchProgressListener listener) {
+        try {
+            listener.onProgress(PatchJobStage.RESOLVE_VERSIONS, 0, 0);
+            List<PatchPlan> plans = inReadOnlyTransaction(() -> {
+                ReleaseVersion from = findStandardVersion(projectId, releaseType, fromVersion, "From");
+                ReleaseVersion to = findStandardVersion(projectId, releaseType, toVersion, "To");
+
+                PatchPlan shared = planPatch(projectId, from, to, null, createdByEmail, description,
+                        assigneeId, patchName, includeAllBuildVersions);
+
+                return findCustomers(customerIds).stream()
+                        .map(customer -> {
+                            String customerPatchName = shared.patchName() + "_" + customer.getCustomerCode();
+                            return shared.toBuilder()
+                                    .customer(customer)
+                                    .patchName(customerPatchName)
+                                    .outputPath(String.format("patches/%s/%s", projectId, customerPatchName))
+                                    .build();
+                        })
+                        .toList();
+            });
+            return executeBatch(plans, listener);
 
-        ReleaseVersion to = releaseVersionRepository.findByProject_ProjectIdAndReleaseTypeAndVersionAndHotfixVersion(
-                        projectId, releaseType.toUpperCase(), toVersion, 0)
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("일괄 패치 생성 실패", e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "일괄 패치 생성 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 표준 버전 조회 (프로젝트 내에서, 핫픽스 제외)
+     */
+    private ReleaseVersion findStandardVersion(String projectId, String releaseType, String version,
+            String label) {
+        return releaseVersionRepository.findByProject_ProjectIdAndReleaseTypeAndVersionAndHotfixVersion(
+                        projectId, releaseType.toUpperCase(), version, 0)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RELEASE_VERSION_NOT_FOUND,
-                        "To 버전을 찾을 수 없습니다: " + toVersion));
+                        label + " 버전을 찾을 수 없습니다: " + version));
+    }
+
+    /**
+     * 패치 구성 미리보기 (표준 버전용, 파일 I/O 없음)
+     *
+     * <p>패치 생성과 같은 버전 검증과 복사 대상 선별 규칙을 적용하되, 디렉토리와 파일은 만들지 않고
+     * 릴리즈 파일 메타데이터(크기, 체크섬, 실행 순서)와 메모리에서 렌더링한 스크립트/README의 줄 수, 크기만으로
+     * 패치 구성을 반환합니다. 패치 이름이 없으면 생성 시와 같은 규칙으로 자동 생성한 이름을 보여줍니다.
+     *
+     * @param projectId    프로젝트 ID
+     * @param releaseType  릴리즈 타입 (STANDARD)
+     * @param fromVersion  From 버전 (예: 1.0.0)
+     * @param toVersion    To 버전 (예: 1.1.1)
+     * @param assigneeId   패치 담당자 ID (선택, MariaDB 스크립트 기본 담당자)
+     * @param patchName    패치 이름 (선택)
+     * @param includeAllBuildVersions WEB/ENGINE 모든 버전 포함 여부 (false: 마지막 버전만)
+     * @return 패치 구성 미리보기
+     */
+    public PatchDto.PreviewResponse previewPatchByVersion(String projectId, String releaseType,
+            String fromVersion, String toVersion, Long assigneeId, String patchName,
+            boolean includeAllBuildVersions) {
+        long startTime = System.nanoTime();
+
+        PatchPlan plan = inReadOnlyTransaction(() -> {
+            ReleaseVersion from = findStandardVersion(projectId, releaseType, fromVersion, "From");
+            ReleaseVersion to = findStandardVersion(projectId, releaseType, toVersion, "To");
+
+            return planPatch(projectId, from, to, null, null, null, assigneeId, patchName,
+                    includeAllBuildVersions);
+        });
+
+        CopySelection selection = selectCopyTargets(plan);
+
+        // 버전별 복사 대상 파일
+        List<PatchDto.PreviewVersion> versions = new ArrayList<>();
+        List<PatchDto.PreviewFile> files = new ArrayList<>();
+        long totalFileSize = 0;
+        for (ReleaseVersion version : plan.versions()) {
+            List<ReleaseFile> targets = selection.targetsOf(version);
+            long versionSize = 0;
+            for (ReleaseFile file : targets) {
+                long fileSize = file.getFileSize() != null ? file.getFileSize() : 0L;
+                versionSize += fileSize;
+                files.add(PatchDto.PreviewFile.builder()
+                        .version(version.getVersion())
+                        .fileCategory(file.getFileCategory() != null ? file.getFileCategory().getCode() : null)
+                        .subCategory(file.getSubCategory())
+                        .fileName(file.getFileName())
+                        .path(determineTargetPath(file, version, Path.of("")).toString())
+                        .fileSize(fileSize)
+                        .checksum(file.getChecksum())
+                        .executionOrder(file.getExecutionOrder())
+                        .build());
+            }
+            totalFileSize += versionSize;
+            versions.add(PatchDto.PreviewVersion.builder()
+                    .version(version.getVersion())
+                    .comment(version.getComment())
+                    .fileCount(targets.size())
+                    .skippedBuildFileCount(selection.skippedBuildCountOf(version))
+                    .totalSize(versionSize)
+                    .build());
+        }
+
+        // 생성될 스크립트/README (메모리에서 렌더링하여 줄 수와 크기만 계산)
+        List<PatchDto.PreviewGeneratedFile> generatedFiles = new ArrayList<>();
+        String from = plan.fromVersion().getVersion();
+        String to = plan.toVersion().getVersion();
+        String patchedBy = plan.assignee() != null ? plan.assignee().getEmail() : null;
+        List<ReleaseFile> mariadbFiles = plan.manifest().filesBySubCategory("MARIADB");
+        List<ReleaseFile> cratedbFiles = plan.manifest().filesBySubCategory("CRATEDB");
+
+        generatedFiles.add(toPreviewGeneratedFile(mariaDBScriptGenerator.previewPatchScript(
+                projectId, from, to, plan.versions(), mariadbFiles, patchedBy)));
+        if (!cratedbFiles.isEmpty()) {
+            generatedFiles.add(toPreviewGeneratedFile(crateDBScriptGenerator.previewPatchScript(
+                    projectId, from, to, plan.versions(), cratedbFiles, null)));
+        }
+        String readme = buildReadme(plan.fromVersion(), plan.toVersion(), plan.versions());
+        generatedFiles.add(PatchDto.PreviewGeneratedFile.builder()
+                .fileName(README_FILE_NAME)
+                .lineCount(readme.lines().count())
+                .size(readme.getBytes(StandardCharsets.UTF_8).length)
+                .build());
+
+        long totalSize = totalFileSize + generatedFiles.stream()
+                .mapToLong(PatchDto.PreviewGeneratedFile::size)
+                .sum();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        log.info("패치 구성 미리보기 - Project: {}, From: {}, To: {}, 파일: {}개, 크기: {} bytes, 소요: {}ms",
+                projectId, from, to, files.size(), totalSize, elapsedMillis);
+
+        return PatchDto.PreviewResponse.builder()
+                .projectId(projectId)
+                .releaseType(plan.releaseType())
+                .fromVersion(from)
+                .toVersion(to)
+                .patchName(plan.patchName())
+                .outputPath(plan.outputPath())
+                .includeAllBuildVersions(includeAllBuildVersions)
+                .versions(versions)
+                .files(files)
+                .generatedFiles(generatedFiles)
+                .totalFileCount(files.size() + generatedFiles.size())
+                .totalSize(totalSize)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private PatchDto.PreviewGeneratedFile toPreviewGeneratedFile(ScriptPreview preview) {
+        return PatchDto.PreviewGeneratedFile.builder()
+                .fileName(preview.fileName())
+                .lineCount(preview.lineCount())
+                .size(preview.size())
+                .build();
+    }
+
+    /**
+     * 고객사 목록 조회 (중복 제거, 요청 순서 유지)
+     */
+    private List<Customer> findCustomers(List<Long> customerIds) {
+        List<Long> distinctIds = customerIds == null ? List.of()
+                : new ArrayList<>(new LinkedHashSet<>(customerIds));
+        if (distinctIds.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "고객사를 한 개 이상 지정해야 합니다.");
+        }
+
+        Map<Long, Customer> customersById = customerRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(Customer::getCustomerId, Function.identity()));
+
+        List<Long> missingIds = distinctIds.stream()
+                .filter(id -> !customersById.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND,
+                    "고객사를 찾을 수 없습니다: " + missingIds);
+        }
 
-        return generatePatch(projectId, from.getReleaseVersionId(), to.getReleaseVersionId(),
-                customerId, createdByEmail, description, assigneeId, patchName, includeAllBuildVersions);
+        return distinctIds.stream().map(customersById::get).toList();
     }
 
     /**
@@ -111,167 +354,134 @@ public class PatchGenerationService {
      * @param patchName    패치 이름 (선택, 미입력 시 자동 생성)
      * @return 생성된 패치
      */
-    @Transactional
     public Patch generateCustomPatchByVersion(String projectId, Long customerId,
             String fromVersion, String toVersion, String createdByEmail, String description,
             Long assigneeId, String patchName) {
+        return generateCustomPatchByVersion(projectId, customerId, fromVersion, toVersion,
+                createdByEmail, description, assigneeId, patchName, PatchProgressListener.NONE);
+    }
 
-        // 고객사 조회
-        Customer customer = customerRepository.findById(customerId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND,
-                        "고객사를 찾을 수 없습니다: " + customerId));
+    /**
+     * 커스텀 패치 생성 (커스텀 버전 문자열 기반), 진행 상황 통지
+     *
+     * @param listener 진행 상황 리스너
+     * @return 생성된 패치
+     */
+    public Patch generateCustomPatchByVersion(String projectId, Long customerId,
+            String fromVersion, String toVersion, String createdByEmail, String description,
+            Long assigneeId, String patchName, PatchProgressListener listener) {
+        return generate(() -> {
+            // From 버전 조회 (베이스 버전 또는 커스텀 버전)
+            // 베이스 버전 형식: 1.1.0, 커스텀 버전 형식: 1.1.0-companyA.1.0.0
+            ReleaseVersion from;
+            if (fromVersion.contains("-")) {
+                // 커스텀 버전인 경우: version 필드로 조회 (핫픽스 제외)
+                from = releaseVersionRepository.findAllByCustomer_CustomerIdOrderByCreatedAtDesc(customerId)
+                        .stream()
+                        .filter(v -> fromVersion.equals(v.getVersion()))
+                        .filter(v -> v.getHotfixVersion() == 0)  // 핫픽스 제외
+                        .findFirst()
+                        .orElseThrow(() -> new BusinessException(ErrorCode.RELEASE_VERSION_NOT_FOUND,
+                                "From 커스텀 버전을 찾을 수 없습니다: " + fromVersion));
+            } else {
+                // 베이스 버전(표준 버전)인 경우: 프로젝트 내 표준 버전에서 조회 (핫픽스 제외)
+                from = releaseVersionRepository.findByProject_ProjectIdAndReleaseTypeAndVersionAndHotfixVersion(
+                                projectId, "STANDARD", fromVersion, 0)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.RELEASE_VERSION_NOT_FOUND,
+                                "From 베이스 버전을 찾을 수 없습니다: " + fromVersion));
+            }
 
-        // From 버전 조회 (베이스 버전 또는 커스텀 버전)
-        // 베이스 버전 형식: 1.1.0, 커스텀 버전 형식: 1.1.0-companyA.1.0.0
-        ReleaseVersion from;
-        if (fromVersion.contains("-")) {
-            // 커스텀 버전인 경우: version 필드로 조회 (핫픽스 제외)
-            from = releaseVersionRepository.findAllByCustomer_CustomerIdOrderByCreatedAtDesc(customerId)
+            // To 버전 조회 (커스텀 버전만 허용, 핫픽스 제외)
+            ReleaseVersion to = releaseVersionRepository.findAllByCustomer_CustomerIdOrderByCreatedAtDesc(customerId)
                     .stream()
-                    .filter(v -> fromVersion.equals(v.getVersion()))
+                    .filter(v -> toVersion.equals(v.getVersion()))
                     .filter(v -> v.getHotfixVersion() == 0)  // 핫픽스 제외
                     .findFirst()
                     .orElseThrow(() -> new BusinessException(ErrorCode.RELEASE_VERSION_NOT_FOUND,
-                            "From 커스텀 버전을 찾을 수 없습니다: " + fromVersion));
-        } else {
-            // 베이스 버전(표준 버전)인 경우: 프로젝트 내 표준 버전에서 조회 (핫픽스 제외)
-            from = releaseVersionRepository.findByProject_ProjectIdAndReleaseTypeAndVersionAndHotfixVersion(
-                            projectId, "STANDARD", fromVersion, 0)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.RELEASE_VERSION_NOT_FOUND,
-                            "From 베이스 버전을 찾을 수 없습니다: " + fromVersion));
-        }
-
-        // To 버전 조회 (커스텀 버전만 허용, 핫픽스 제외)
-        ReleaseVersion to = releaseVersionRepository.findAllByCustomer_CustomerIdOrderByCreatedAtDesc(customerId)
-                .stream()
-                .filter(v -> toVersion.equals(v.getVersion()))
-                .filter(v -> v.getHotfixVersion() == 0)  // 핫픽스 제외
-                .findFirst()
-                .orElseThrow(() -> new BusinessException(ErrorCode.RELEASE_VERSION_NOT_FOUND,
-                        "To 커스텀 버전을 찾을 수 없습니다: " + toVersion));
+                            "To 커스텀 버전을 찾을 수 없습니다: " + toVersion));
 
-        return generateCustomPatch(projectId, customerId, from, to,
-                createdByEmail, description, assigneeId, patchName);
+            return planCustomPatch(projectId, customerId, from, to,
+                    createdByEmail, description, assigneeId, patchName);
+        }, listener);
     }
 
     /**
-     * 커스텀 패치 생성 (ReleaseVersion 기반)
+     * 커스텀 패치 생성 계획 수립 (ReleaseVersion 기반)
      *
      * <p>fromVersion이 베이스 버전(STANDARD)인 경우와 커스텀 버전인 경우를 모두 지원합니다.
      */
-    @Transactional
-    public Patch generateCustomPatch(String projectId, Long customerId,
+    private PatchPlan planCustomPatch(String projectId, Long customerId,
             ReleaseVersion fromVersion, ReleaseVersion toVersion,
             String createdByEmail, String description, Long assigneeId, String patchName) {
-        try {
-            // 프로젝트 조회
-            Project project = projectRepository.findById(projectId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_NOT_FOUND,
-                            "프로젝트를 찾을 수 없습니다: " + projectId));
-
-            // 고객사 조회
-            Customer customer = customerRepository.findById(customerId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND,
-                            "고객사를 찾을 수 없습니다: " + customerId));
-
-            // 핫픽스 버전은 패치 생성 대상이 아님
-            if (fromVersion.isHotfix()) {
-                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
-                        "핫픽스 버전은 패치 생성의 From 버전으로 사용할 수 없습니다: " + fromVersion.getVersion());
-            }
-            if (toVersion.isHotfix()) {
-                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
-                        "핫픽스 버전은 패치 생성의 To 버전으로 사용할 수 없습니다: " + toVersion.getVersion());
-            }
-
-            // 1. 버전 검증
-            validateCustomVersionRange(fromVersion, toVersion);
-
-            // fromVersion이 베이스 버전인지 확인
-            boolean isFromBaseVersion = isBaseVersion(fromVersion);
-
-            // 2. 중간 버전 목록 조회 (fromVersion <= customVersion <= toVersion)
-            // 베이스 버전에서 시작하는 경우 모든 커스텀 버전을 포함 (fromCustomVersion = "0.0.-1")
-            String fromCustomVersionForQuery = isFromBaseVersion ? "0.0.-1" : fromVersion.getCustomVersion();
-            List<ReleaseVersion> betweenVersions = releaseVersionRepository.findCustomVersionsBetween(
-                    customerId,
-                    fromCustomVersionForQuery,
-                    toVersion.getCustomVersion()
-            );
-
-            if (betweenVersions.isEmpty()) {
-                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
-                        String.format("From %s와 To %s 사이에 패치할 커스텀 버전이 없습니다.",
-                                fromVersion.getVersion(), toVersion.getVersion()));
-            }
-
-            log.info("커스텀 패치 생성 시작 - Project: {}, Customer: {}, From: {}{}, To: {}, 포함 버전: {}",
-                    projectId, customer.getCustomerCode(),
-                    fromVersion.getVersion(), isFromBaseVersion ? " (베이스)" : "",
-                    toVersion.getVersion(),
-                    betweenVersions.stream().map(ReleaseVersion::getVersion).toList());
-
-            // 3. 담당자 조회 (assigneeId가 있는 경우)
-            Account assignee = null;
-            if (assigneeId != null) {
-                assignee = accountRepository.findByAccountId(assigneeId)
-                        .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND,
-                                "담당자를 찾을 수 없습니다: " + assigneeId));
-            }
-
-            // 4. 패치 이름 결정 (전체 버전 형식 사용)
-            String resolvedPatchName = resolvePatchName(patchName, fromVersion.getVersion(), toVersion.getVersion());
-
-            // 5. 출력 디렉토리 생성 (커스텀 패치용)
-            String outputPath = createCustomOutputDirectory(resolvedPatchName, projectId, customer.getCustomerCode());
-
-            // 6. SQL 파일 복사 (커스텀 패치는 기본적으로 WEB/ENGINE 마지막 버전만 포함)
-            copySqlFiles(betweenVersions, outputPath, false);
-
-            // 7. 패치 스크립트 생성
-            String assigneeEmail = assignee != null ? assignee.getEmail() : null;
-            generatePatchScripts(fromVersion, toVersion, betweenVersions, outputPath, assigneeEmail);
-
-            // 8. README 생성
-            generateCustomReadme(fromVersion, toVersion, betweenVersions, outputPath, customer);
+        // 프로젝트 조회
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_NOT_FOUND,
+                        "프로젝트를 찾을 수 없습니다: " + projectId));
 
-            // 9. 생성자 Account 조회
-            Account creator = accountLookupService.findByEmail(createdByEmail);
-
-            // 10. 패치 저장 (전체 버전 형식 저장)
-            Patch patch = Patch.builder()
-                    .project(project)
-                    .releaseType("CUSTOM")
-                    .customer(customer)
-                    .fromVersion(fromVersion.getVersion())
-                    .toVersion(toVersion.getVersion())
-                    .patchName(resolvedPatchName)
-                    .outputPath(outputPath)
-                    .creator(creator)
-                    .createdByEmail(creator.getEmail())
-                    .description(description)
-                    .assignee(assignee)
-                    .build();
-
-            Patch saved = patchRepository.save(patch);
+        // 고객사 조회
+        Customer customer = customerRepository.findById(customerId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND,
+                        "고객사를 찾을 수 없습니다: " + customerId));
 
-            // 10. 패치 이력 저장 (영구 보존)
-            savePatchHistory(saved);
+        // 핫픽스 버전은 패치 생성 대상이 아님
+        if (fromVersion.isHotfix()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "핫픽스 버전은 패치 생성의 From 버전으로 사용할 수 없습니다: " + fromVersion.getVersion());
+        }
+        if (toVersion.isHotfix()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "핫픽스 버전은 패치 생성의 To 버전으로 사용할 수 없습니다: " + toVersion.getVersion());
+        }
 
-            // 11. CustomerProject 마지막 패치 정보 업데이트
-            updateCustomerProjectPatchInfo(customer, project, toVersion.getVersion());
+        // 1. 버전 검증
+        validateCustomVersionRange(fromVersion, toVersion);
 
-            log.info("커스텀 패치 생성 완료 - ID: {}, Path: {}", saved.getPatchId(), outputPath);
+        // fromVersion이 베이스 버전인지 확인
+        boolean isFromBaseVersion = isBaseVersion(fromVersion);
 
-            return saved;
+        // 2. 중간 버전 목록 조회 (fromVersion <= customVersion <= toVersion)
+        // 베이스 버전에서 시작하는 경우 모든 커스텀 버전을 포함 (fromCustomVersion = "0.0.-1")
+        String fromCustomVersionForQuery = isFromBaseVersion ? "0.0.-1" : fromVersion.getCustomVersion();
+        List<ReleaseVersion> betweenVersions = releaseVersionRepository.findCustomVersionsBetween(
+                customerId,
+                fromCustomVersionForQuery,
+                toVersion.getCustomVersion()
+        );
 
-        } catch (BusinessException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("커스텀 패치 생성 실패", e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "커스텀 패치 생성 중 오류가 발생했습니다: " + e.getMessage());
+        if (betweenVersions.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    String.format("From %s와 To %s 사이에 패치할 커스텀 버전이 없습니다.",
+                            fromVersion.getVersion(), toVersion.getVersion()));
         }
+
+        log.info("커스텀 패치 생성 시작 - Project: {}, Customer: {}, From: {}{}, To: {}, 포함 버전: {}",
+                projectId, customer.getCustomerCode(),
+                fromVersion.getVersion(), isFromBaseVersion ? " (베이스)" : "",
+                toVersion.getVersion(),
+                betweenVersions.stream().map(ReleaseVersion::getVersion).toList());
+
+        // 3. 패치 이름 결정 (전체 버전 형식 사용)
+        String resolvedPatchName = resolvePatchName(patchName, fromVersion.getVersion(), toVersion.getVersion());
+
+        // 4. 패치 대상 파일 조회 (커스텀 패치는 기본적으로 WEB/ENGINE 마지막 버전만 포함)
+        return PatchPlan.builder()
+                .project(project)
+                .customer(customer)
+                .assignee(findAssignee(assigneeId))
+                .creator(accountLookupService.findByEmail(createdByEmail))
+                .fromVersion(fromVersion)
+                .toVersion(toVersion)
+                .versions(betweenVersions)
+                .manifest(loadManifest(betweenVersions))
+                .releaseType("CUSTOM")
+                .custom(true)
+                .patchName(resolvedPatchName)
+                // 출력 경로: patches/{projectId}/custom/{customerCode}/{patchName}
+                .outputPath(String.format("patches/%s/custom/%s/%s",
+                        projectId, customer.getCustomerCode(), resolvedPatchName))
+                .description(description)
+                .includeAllBuildVersions(false)
+                .build();
     }
 
     /**
@@ -357,28 +567,6 @@ public class PatchGenerationService {
         return Integer.compare(v1.getCustomPatchVersion(), v2.getCustomPatchVersion());
     }
 
-    /**
-     * 커스텀 패치 출력 디렉토리 생성
-     */
-    private String createCustomOutputDirectory(String patchName, String projectId, String customerCode) {
-        try {
-            // 출력 경로: patches/{projectId}/custom/{customerCode}/{patchName}
-            String relativePath = String.format("patches/%s/custom/%s/%s", projectId, customerCode, patchName);
-
-            Path outputDir = Paths.get(releaseBasePath, relativePath);
-            Files.createDirectories(outputDir);
-
-            log.info("커스텀 패치 출력 디렉토리 생성 완료: {}", outputDir.toAbsolutePath());
-
-            return relativePath;
-
-        } catch (IOException e) {
-            log.error("커스텀 패치 출력 디렉토리 생성 실패: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "커스텀 패치 출력 디렉토리 생성 실패");
-        }
-    }
-
     /**
      * 커스텀 패치 README.md 생성
      *
@@ -447,17 +635,23 @@ public class PatchGenerationService {
      * @param includeAllBuildVersions WEB/ENGINE 모든 버전 포함 여부 (false: 마지막 버전만)
      * @return 생성된 패치
      */
-    @Transactional
     public Patch generatePatch(String projectId, Long fromVersionId, Long toVersionId, Long customerId,
             String createdByEmail, String description, Long assigneeId, String patchName,
             boolean includeAllBuildVersions) {
-        try {
-            // 프로젝트 조회
-            Project project = projectRepository.findById(projectId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_NOT_FOUND,
-                            "프로젝트를 찾을 수 없습니다: " + projectId));
+        return generatePatch(projectId, fromVersionId, toVersionId, customerId, createdByEmail,
+                description, assigneeId, patchName, includeAllBuildVersions, PatchProgressListener.NONE);
+    }
 
-            // 1. 버전 조회 및 검증
+    /**
+     * 패치 생성 (버전 ID 기반), 진행 상황 통지
+     *
+     * @param listener 진행 상황 리스너
+     * @return 생성된 패치
+     */
+    public Patch generatePatch(String projectId, Long fromVersionId, Long toVersionId, Long customerId,
+            String createdByEmail, String description, Long assigneeId, String patchName,
+            boolean includeAllBuildVersions, PatchProgressListener listener) {
+        return generate(() -> {
             ReleaseVersion fromVersion = releaseVersionRepository.findById(fromVersionId)
                     .orElseThrow(() -> new BusinessException(ErrorCode.RELEASE_VERSION_NOT_FOUND,
                             "From 버전을 찾을 수 없습니다: " + fromVersionId));
@@ -466,108 +660,343 @@ public class PatchGenerationService {
                     .orElseThrow(() -> new BusinessException(ErrorCode.RELEASE_VERSION_NOT_FOUND,
                             "To 버전을 찾을 수 없습니다: " + toVersionId));
 
-            // 핫픽스 버전은 패치 생성 대상이 아님
-            if (fromVersion.isHotfix()) {
-                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
-                        "핫픽스 버전은 패치 생성의 From 버전으로 사용할 수 없습니다: " + fromVersion.getVersion());
-            }
-            if (toVersion.isHotfix()) {
-                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
-                        "핫픽스 버전은 패치 생성의 To 버전으로 사용할 수 없습니다: " + toVersion.getVersion());
-            }
+            return planPatch(projectId, fromVersion, toVersion, customerId, createdByEmail,
+                    description, assigneeId, patchName, includeAllBuildVersions);
+        }, listener);
+    }
 
-            validateVersionRange(fromVersion, toVersion);
+    /**
+     * 표준 패치 생성 계획 수립 (ReleaseVersion 기반)
+     */
+    private PatchPlan planPatch(String projectId, ReleaseVersion fromVersion, ReleaseVersion toVersion,
+            Long customerId, String createdByEmail, String description, Long assigneeId, String patchName,
+            boolean includeAllBuildVersions) {
+        // 프로젝트 조회
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_NOT_FOUND,
+                        "프로젝트를 찾을 수 없습니다: " + projectId));
 
-            // 2. 중간 버전 목록 조회 (fromVersion <= version <= toVersion)
-            List<ReleaseVersion> betweenVersions = releaseVersionRepository.findVersionsBetween(
-                    projectId,
-                    fromVersion.getReleaseType(),
-                    fromVersion.getVersion(),
-                    toVersion.getVersion()
-            );
+        // 1. 버전 검증 (핫픽스 버전은 패치 생성 대상이 아님)
+        if (fromVersion.isHotfix()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "핫픽스 버전은 패치 생성의 From 버전으로 사용할 수 없습니다: " + fromVersion.getVersion());
+        }
+        if (toVersion.isHotfix()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "핫픽스 버전은 패치 생성의 To 버전으로 사용할 수 없습니다: " + toVersion.getVersion());
+        }
 
-            if (betweenVersions.isEmpty()) {
-                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
-                        String.format("From %s와 To %s 사이에 패치할 버전이 없습니다.",
-                                fromVersion.getVersion(), toVersion.getVersion()));
+        validateVersionRange(fromVersion, toVersion);
+
+        // 2. 중간 버전 목록 조회 (fromVersion <= version <= toVersion)
+        List<ReleaseVersion> betweenVersions = releaseVersionRepository.findVersionsBetween(
+                projectId,
+                fromVersion.getReleaseType(),
+                fromVersion.getVersion(),
+                toVersion.getVersion()
+        );
+
+        if (betweenVersions.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    String.format("From %s와 To %s 사이에 패치할 버전이 없습니다.",
+                            fromVersion.getVersion(), toVersion.getVersion()));
+        }
+
+        log.info("패치 생성 시작 - Project: {}, From: {}, To: {}, 포함 버전: {}",
+                projectId, fromVersion.getVersion(), toVersion.getVersion(),
+                betweenVersions.stream().map(ReleaseVersion::getVersion).toList());
+
+        // 3. 고객사 조회 (customerId가 있는 경우)
+        Customer customer = null;
+        if (customerId != null) {
+            customer = customerRepository.findById(customerId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND,
+                            "고객사를 찾을 수 없습니다: " + customerId));
+        }
+
+        // 4. 패치 이름 결정 (입력값이 없으면 자동 생성: YYYYMMDDHHMMSS_fromversion_toversion)
+        String resolvedPatchName = resolvePatchName(patchName, fromVersion.getVersion(), toVersion.getVersion());
+
+        // 5. 패치 대상 파일 조회 (WEB/ENGINE은 includeAllBuildVersions에 따라 마지막 버전만 또는 모든 버전 포함)
+        return PatchPlan.builder()
+                .project(project)
+                .customer(customer)
+                .assignee(findAssignee(assigneeId))
+                // 미리보기는 생성자 없이 계획만 수립
+                .creator(createdByEmail != null ? accountLookupService.findByEmail(createdByEmail) : null)
+                .fromVersion(fromVersion)
+                .toVersion(toVersion)
+                .versions(betweenVersions)
+                .manifest(loadManifest(betweenVersions))
+                .releaseType(fromVersion.getReleaseType())
+                .custom(false)
+                .patchName(resolvedPatchName)
+                // 출력 경로: patches/{projectId}/{patchName}
+                .outputPath(String.format("patches/%s/%s", projectId, resolvedPatchName))
+                .description(description)
+                .includeAllBuildVersions(includeAllBuildVersions)
+                .build();
+    }
+
+    /**
+     * 패치 생성 실행
+     *
+     * <p>DB 커넥션을 파일 작업 동안 점유하지 않도록 단계별로 트랜잭션을 분리합니다.
+     * <ol>
+     *   <li>계획 수립: 읽기 전용 트랜잭션에서 버전/파일 목록을 모두 조회 (지연 로딩 대상 포함)</li>
+     *   <li>파일 복사, 스크립트/README 생성: 트랜잭션 없이 수행</li>
+     *   <li>저장: 짧은 쓰기 트랜잭션에서 패치, 패치 이력, 고객사 패치 정보를 함께 커밋</li>
+     * </ol>
+     * <p>저장 전에 실패하면 DB에는 아무것도 기록되지 않으며, 이번 실행에서 생성한 출력 디렉토리는 삭제합니다.
+     */
+    private Patch generate(Supplier<PatchPlan> planner, PatchProgressListener listener) {
+        try {
+            listener.onProgress(PatchJobStage.RESOLVE_VERSIONS, 0, 0);
+            PatchPlan plan = inReadOnlyTransaction(planner);
+            return execute(plan, listener);
+
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("패치 생성 실패", e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "패치 생성 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    private Patch execute(PatchPlan plan, PatchProgressListener listener) {
+        Path outputDir = Paths.get(releaseBasePath, plan.outputPath());
+        boolean outputDirCreated = false;
+
+        try {
+            // 1. 출력 디렉토리 생성
+            outputDirCreated = createOutputDirectory(outputDir);
+
+            // 2. 파일 복사
+            copySqlFiles(plan, outputDir, listener);
+
+            // 3. 패치 스크립트 생성
+            generatePatchScripts(plan, listener);
+
+            // 4. README 생성
+            listener.onProgress(PatchJobStage.GENERATE_README, 0, 0);
+            if (plan.custom()) {
+                generateCustomReadme(plan.fromVersion(), plan.toVersion(), plan.versions(),
+                        plan.outputPath(), plan.customer());
+            } else {
+                generateReadme(plan.fromVersion(), plan.toVersion(), plan.versions(), plan.outputPath());
             }
 
-            log.info("패치 생성 시작 - Project: {}, From: {}, To: {}, 포함 버전: {}",
-                    projectId, fromVersion.getVersion(), toVersion.getVersion(),
-                    betweenVersions.stream().map(ReleaseVersion::getVersion).toList());
+            // 5. 패치, 패치 이력, CustomerProject 저장 (단일 트랜잭션)
+            listener.onProgress(PatchJobStage.SAVE, 0, 0);
+            Patch saved = transactionTemplate.execute(status -> savePatch(plan));
+
+            log.info("{} 생성 완료 - ID: {}, Path: {}", plan.custom() ? "커스텀 패치" : "패치",
+                    saved.getPatchId(), plan.outputPath());
 
-            // 3. 고객사 조회 (customerId가 있는 경우)
-            Customer customer = null;
-            if (customerId != null) {
-                customer = customerRepository.findById(customerId)
-                        .orElseThrow(() -> new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND,
-                                "고객사를 찾을 수 없습니다: " + customerId));
+            return saved;
+
+        } catch (RuntimeException e) {
+            if (outputDirCreated) {
+                deleteOutputDirectory(outputDir);
             }
+            throw e;
+        }
+    }
+
+    /**
+     * 일괄 패치 생성 실행
+     *
+     * <p>첫 번째 고객사 패치 디렉토리에 파일 복사와 스크립트/README 생성을 수행한 뒤,
+     * 나머지 고객사 패치 디렉토리를 {@code patchBatchExecutor}에서 병렬로 구성합니다.
+     * 저장 전에 실패하면 이번 실행에서 생성한 모든 출력 디렉토리를 삭제합니다.
+     */
+    private List<BatchPatchResult> executeBatch(List<PatchPlan> plans, PatchProgressListener listener) {
+        PatchPlan primary = plans.get(0);
+        Path primaryDir = Paths.get(releaseBasePath, primary.outputPath());
+        List<Path> createdDirs = Collections.synchronizedList(new ArrayList<>());
 
-            // 3-1. 담당자 조회 (assigneeId가 있는 경우)
-            Account assignee = null;
-            if (assigneeId != null) {
-                assignee = accountRepository.findByAccountId(assigneeId)
-                        .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND,
-                                "담당자를 찾을 수 없습니다: " + assigneeId));
+        try {
+            // 1. 공유 파일 생성 (첫 번째 고객사 패치 디렉토리)
+            if (createOutputDirectory(primaryDir)) {
+                createdDirs.add(primaryDir);
+            }
+            copySqlFiles(primary, primaryDir, listener);
+            generatePatchScripts(primary, listener);
+            listener.onProgress(PatchJobStage.GENERATE_README, 0, 0);
+            generateReadme(primary.fromVersion(), primary.toVersion(), primary.versions(), primary.outputPath());
+
+            // 2. 나머지 고객사 패치 디렉토리 구성 (병렬, 공유 파일 reflink/복사)
+            String[] errors = new String[plans.size()];
+            AtomicInteger linkedCount = new AtomicInteger(1);
+            listener.onProgress(PatchJobStage.LINK_CUSTOMER_PATCHES, linkedCount.get(), plans.size());
+
+            CompletableFuture.allOf(IntStream.range(1, plans.size())
+                    .mapToObj(index -> CompletableFuture.runAsync(() -> {
+                        errors[index] = linkCustomerPatch(primaryDir, plans.get(index), createdDirs);
+                        listener.onProgress(PatchJobStage.LINK_CUSTOMER_PATCHES,
+                                linkedCount.incrementAndGet(), plans.size());
+                    }, patchBatchExecutor))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+
+            // 3. 성공한 고객사의 패치, 패치 이력, CustomerProject 저장 (단일 트랜잭션)
+            List<PatchPlan> succeededPlans = IntStream.range(0, plans.size())
+                    .filter(index -> errors[index] == null)
+                    .mapToObj(plans::get)
+                    .toList();
+
+            listener.onProgress(PatchJobStage.SAVE, 0, 0);
+            List<Patch> saved = transactionTemplate.execute(status -> saveBatchPatches(succeededPlans));
+
+            List<BatchPatchResult> results = new ArrayList<>();
+            int savedIndex = 0;
+            for (int index = 0; index < plans.size(); index++) {
+                Customer customer = plans.get(index).customer();
+                Patch patch = errors[index] == null ? saved.get(savedIndex++) : null;
+                results.add(new BatchPatchResult(customer.getCustomerId(), customer.getCustomerCode(),
+                        patch, errors[index]));
             }
 
-            // 4. 패치 이름 결정 (입력값이 없으면 자동 생성: YYYYMMDDHHMMSS_fromversion_toversion)
-            String resolvedPatchName = resolvePatchName(patchName, fromVersion.getVersion(), toVersion.getVersion());
+            log.info("일괄 패치 생성 완료 - From: {}, To: {}, 성공: {}/{}",
+                    primary.fromVersion().getVersion(), primary.toVersion().getVersion(),
+                    saved.size(), plans.size());
 
-            // 5. 출력 디렉토리 생성 (패치 이름으로)
-            String outputPath = createOutputDirectory(resolvedPatchName, projectId);
+            return results;
 
-            // 6. SQL 파일 복사 (WEB/ENGINE은 includeAllBuildVersions에 따라 마지막 버전만 또는 모든 버전 포함)
-            copySqlFiles(betweenVersions, outputPath, includeAllBuildVersions);
+        } catch (RuntimeException e) {
+            new ArrayList<>(createdDirs).forEach(this::deleteOutputDirectory);
+            throw e;
+        }
+    }
 
-            // 7. 패치 스크립트 생성
-            String assigneeEmail = assignee != null ? assignee.getEmail() : null;
-            generatePatchScripts(fromVersion, toVersion, betweenVersions, outputPath, assigneeEmail);
+    /**
+     * 고객사 패치 디렉토리 구성 (공유 파일 reflink/복사)
+     *
+     * <p>고객사 패치 디렉토리는 이후 개별적으로 수정/삭제될 수 있으므로 하드 링크를 쓰지 않습니다.
+     * 하드 링크는 inode를 공유해 한 고객사 패치의 제자리 수정이 다른 고객사 패치에도 반영되기 때문입니다.
+     *
+     * @return 오류 메시지 (성공 시 null)
+     */
+    private String linkCustomerPatch(Path sourceDir, PatchPlan plan, List<Path> createdDirs) {
+        Path outputDir = Paths.get(releaseBasePath, plan.outputPath());
+        boolean outputDirCreated = false;
 
-            // 8. README 생성
-            generateReadme(fromVersion, toVersion, betweenVersions, outputPath);
+        try {
+            outputDirCreated = createOutputDirectory(outputDir);
+            try (Stream<Path> paths = Files.walk(sourceDir)) {
+                for (Path source : (Iterable<Path>) paths::iterator) {
+                    Path target = outputDir.resolve(sourceDir.relativize(source).toString());
+                    if (Files.isDirectory(source)) {
+                        Files.createDirectories(target);
+                    } else {
+                        FileMaterializer.materialize(source, target, false);
+                    }
+                }
+            }
+            if (outputDirCreated) {
+                createdDirs.add(outputDir);
+            }
+            return null;
 
-            // 9. 생성자 Account 조회
-            Account creator = accountLookupService.findByEmail(createdByEmail);
+        } catch (IOException | RuntimeException e) {
+            log.warn("고객사 패치 구성 실패 - customer: {}, path: {}, error: {}",
+                    plan.customer().getCustomerCode(), plan.outputPath(), e.getMessage());
+            if (outputDirCreated) {
+                deleteOutputDirectory(outputDir);
+            }
+            return "고객사 패치 구성 실패: " + e.getMessage();
+        }
+    }
 
-            // 10. 패치 저장
-            Patch patch = Patch.builder()
-                    .project(project)
-                    .releaseType(fromVersion.getReleaseType())
-                    .customer(customer)
-                    .fromVersion(fromVersion.getVersion())
-                    .toVersion(toVersion.getVersion())
-                    .patchName(resolvedPatchName)
-                    .outputPath(outputPath)
-                    .creator(creator)
-                    .createdByEmail(creator.getEmail())
-                    .description(description)
-                    .assignee(assignee)
-                    .build();
+    /**
+     * 일괄 패치 저장
+     *
+     * <p>패치와 패치 이력을 한 번에 저장하고, CustomerProject는 한 번의 조회로 가져와 함께 갱신합니다.
+     */
+    private List<Patch> saveBatchPatches(List<PatchPlan> plans) {
+        List<Patch> saved = patchRepository.saveAll(plans.stream().map(this::toPatch).toList());
+        patchHistoryRepository.saveAll(saved.stream().map(PatchHistory::fromPatch).toList());
+
+        if (!plans.isEmpty()) {
+            PatchPlan first = plans.get(0);
+            updateCustomerProjectPatchInfos(plans.stream().map(PatchPlan::customer).toList(),
+                    first.project(), first.toVersion().getVersion());
+        }
 
-            Patch saved = patchRepository.save(patch);
+        log.info("일괄 패치 저장 완료 - {}건", saved.size());
+        return saved;
+    }
 
-            // 10. 패치 이력 저장 (영구 보존)
-            savePatchHistory(saved);
+    /**
+     * 패치 저장
+     *
+     * <p>패치 이력(영구 보존)과 CustomerProject 마지막 패치 정보(고객사가 지정된 경우)를 함께 저장합니다.
+     */
+    private Patch savePatch(PatchPlan plan) {
+        Patch saved = patchRepository.save(toPatch(plan));
 
-            // 11. CustomerProject 마지막 패치 정보 업데이트 (고객사가 지정된 경우)
-            if (customer != null) {
-                updateCustomerProjectPatchInfo(customer, project, toVersion.getVersion());
-            }
+        savePatchHistory(saved);
 
-            log.info("패치 생성 완료 - ID: {}, Path: {}", saved.getPatchId(),
-                    outputPath);
+        if (plan.customer() != null) {
+            updateCustomerProjectPatchInfo(plan.customer(), plan.project(), plan.toVersion().getVersion());
+        }
 
-            return saved;
+        return saved;
+    }
 
-        } catch (BusinessException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("패치 생성 실패", e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "패치 생성 중 오류가 발생했습니다: " + e.getMessage());
+    /**
+     * 패치 생성 계획으로 패치 엔티티 생성
+     */
+    private Patch toPatch(PatchPlan plan) {
+        return Patch.builder()
+                .project(plan.project())
+                .releaseType(plan.releaseType())
+                .customer(plan.customer())
+                .fromVersion(plan.fromVersion().getVersion())
+                .toVersion(plan.toVersion().getVersion())
+                .patchName(plan.patchName())
+                .outputPath(plan.outputPath())
+                .creator(plan.creator())
+                .createdByEmail(plan.creator().getEmail())
+                .description(plan.description())
+                .assignee(plan.assignee())
+                .build();
+    }
+
+    /**
+     * 담당자 조회 (assigneeId가 없으면 null)
+     */
+    private Account findAssignee(Long assigneeId) {
+        if (assigneeId == null) {
+            return null;
         }
+        return accountRepository.findByAccountId(assigneeId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ACCOUNT_NOT_FOUND,
+                        "담당자를 찾을 수 없습니다: " + assigneeId));
+    }
+
+    /**
+     * 패치 대상 버전 범위의 파일 매니페스트 조회 (단일 쿼리)
+     *
+     * <p>릴리즈 버전을 함께 조회하므로 트랜잭션 종료 후에도 스크립트 생성에서 버전 정보를 사용할 수 있습니다.
+     * 버전 생성자 정보는 버전 범위 조회 시 함께 조회됩니다.
+     */
+    private PatchFileManifest loadManifest(List<ReleaseVersion> versions) {
+        List<ReleaseFile> files = releaseFileRepository.findPatchManifest(
+                versions.stream().map(ReleaseVersion::getReleaseVersionId).toList());
+        PatchFileManifest manifest = PatchFileManifest.of(versions, files);
+        log.info("패치 파일 매니페스트 조회 - 버전 {}개, 파일 {}개", versions.size(), manifest.size());
+        return manifest;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션에서 실행
+     */
+    private <T> T inReadOnlyTransaction(Supplier<T> action) {
+        TransactionTemplate readOnlyTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTemplate.setReadOnly(true);
+        return readOnlyTemplate.execute(status -> action.get());
     }
 
     /**
@@ -642,166 +1071,232 @@ public class PatchGenerationService {
     /**
      * 출력 디렉토리 생성
      *
-     * @param patchName 패치 이름 (디렉토리명으로 사용)
-     * @return 상대 경로 (예: patches/{projectId}/20251127143025_1.0.0_1.1.1)
+     * <p>루트 디렉토리만 생성합니다 (하위 디렉토리는 파일 복사 시 동적 생성).
+     *
+     * @param outputDir 출력 디렉토리 (예: patches/{projectId}/20251127143025_1.0.0_1.1.1)
+     * @return 이번 호출에서 새로 생성했으면 true (이미 존재하면 false)
      */
-    private String createOutputDirectory(String patchName, String projectId) {
+    private boolean createOutputDirectory(Path outputDir) {
         try {
-            // 출력 경로: patches/{projectId}/{patchName}
-            String relativePath = String.format("patches/%s/%s", projectId, patchName);
-
-            Path outputDir = Paths.get(releaseBasePath, relativePath);
-
-            // 루트 디렉토리만 생성 (하위 디렉토리는 파일 복사 시 동적 생성)
+            boolean created = !Files.exists(outputDir);
             Files.createDirectories(outputDir);
 
             log.info("출력 디렉토리 생성 완료: {}", outputDir.toAbsolutePath());
 
-            return relativePath;
+            return created;
 
         } catch (IOException e) {
-            log.error("출력 디렉토리 생성 실패: releaseBasePath={}, projectId={}, patchName={}",
-                    releaseBasePath, projectId, patchName, e);
+            log.error("출력 디렉토리 생성 실패: {}", outputDir, e);
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "출력 디렉토리 생성 실패: " + releaseBasePath + "/patches/" + projectId + "/" + patchName);
+                    "출력 디렉토리 생성 실패: " + outputDir);
+        }
+    }
+
+    /**
+     * 패치 생성 실패 시 출력 디렉토리 삭제
+     */
+    private void deleteOutputDirectory(Path outputDir) {
+        try {
+            FileSystemUtils.deleteRecursively(outputDir);
+            log.info("패치 생성 실패로 출력 디렉토리 삭제: {}", outputDir);
+        } catch (IOException e) {
+            log.warn("출력 디렉토리 삭제 실패: {} - {}", outputDir, e.getMessage());
         }
     }
 
     /**
      * 모든 파일 복사 (버전별 디렉토리 구조 유지)
-     * <p>⚠️ WEB 카테고리는 해당 파일이 있는 마지막 버전만 포함됩니다.
-     * <p>⚠️ ENGINE 카테고리는 sub_category(NC_SMS, NC_FAULT_MS 등)별로 각각 마지막 버전만 포함됩니다.
+     * <p>복사 대상은 {@link #selectCopyTargets(PatchPlan)}로 선별합니다.
      *
-     * @param versions 복사할 버전 목록
-     * @param outputPath 출력 경로
-     * @param includeAllBuildVersions WEB/ENGINE 모든 버전 포함 여부 (false: 마지막 버전만)
+     * @param plan      패치 생성 계획 (버전별 파일 목록, includeAllBuildVersions)
+     * @param outputDir 출력 디렉토리
+     * @param listener  진행 상황 리스너 (복사한 파일 수 / 전체 파일 수)
      */
-    private void copySqlFiles(List<ReleaseVersion> versions, String outputPath, boolean includeAllBuildVersions) {
+    private void copySqlFiles(PatchPlan plan, Path outputDir, PatchProgressListener listener) {
         try {
-            Path outputDir = Paths.get(releaseBasePath, outputPath);
-
-            // WEB은 카테고리 전체에서 마지막 버전, ENGINE은 sub_category별 마지막 버전 파악
-            Long lastVersionIdForWeb = null;
-            // ENGINE: sub_category → 해당 sub_category 파일이 있는 마지막 버전 ID
-            Map<String, Long> lastVersionIdByEngineSubCategory = new HashMap<>();
-
-            if (!includeAllBuildVersions && !versions.isEmpty()) {
-                // 모든 버전의 파일을 역순으로 조회하여 마지막 버전 찾기
-                for (int i = versions.size() - 1; i >= 0; i--) {
-                    ReleaseVersion v = versions.get(i);
+            CopySelection selection = selectCopyTargets(plan);
 
-                    List<ReleaseFile> files = releaseFileRepository
-                            .findAllByReleaseVersion_ReleaseVersionIdOrderByExecutionOrderAsc(v.getReleaseVersionId());
+            // 파일 생성 방식별 건수 (REFLINK이면 데이터 블록을 공유하여 복사 I/O 없이 생성됨)
+            Map<FileMaterializer.Method, Integer> materializeCounts = new EnumMap<>(FileMaterializer.Method.class);
+            int processedFiles = 0;
+            int totalFiles = selection.totalFiles();
+            listener.onProgress(PatchJobStage.COPY_FILES, processedFiles, totalFiles);
 
-                    for (ReleaseFile file : files) {
-                        if (file.getFileCategory() == null) continue;
-
-                        // WEB: 아직 찾지 못했으면 이 버전이 마지막
-                        if (lastVersionIdForWeb == null && file.getFileCategory() == FileCategory.WEB) {
-                            lastVersionIdForWeb = v.getReleaseVersionId();
-                            log.info("WEB 카테고리는 버전 {}의 파일만 포함됩니다.", v.getVersion());
-                        }
+            for (ReleaseVersion version : plan.versions()) {
+                if (plan.manifest().filesOf(version).isEmpty()) {
+                    log.warn("버전 {}의 패치 대상 파일이 없습니다.", version.getVersion());
+                    continue;
+                }
 
-                        // ENGINE: sub_category별로 아직 찾지 못했으면 이 버전이 해당 sub_category의 마지막
-                        if (file.getFileCategory() == FileCategory.ENGINE) {
-                            String subCategory = file.getSubCategory() != null ? file.getSubCategory() : "ETC";
-                            if (!lastVersionIdByEngineSubCategory.containsKey(subCategory)) {
-                                lastVersionIdByEngineSubCategory.put(subCategory, v.getReleaseVersionId());
-                                log.info("ENGINE/{} 카테고리는 버전 {}의 파일만 포함됩니다.", subCategory, v.getVersion());
-                            }
-                        }
+                List<ReleaseFile> targets = selection.targetsOf(version);
+                for (ReleaseFile file : targets) {
+                    FileMaterializer.Method method = copyFileByCategory(file, version, outputDir);
+                    if (method != null) {
+                        materializeCounts.merge(method, 1, Integer::sum);
                     }
+                    listener.onProgress(PatchJobStage.COPY_FILES, ++processedFiles, totalFiles);
                 }
-            }
-
-            for (ReleaseVersion version : versions) {
-                // 모든 파일 조회
-                List<ReleaseFile> files = releaseFileRepository
-                        .findAllByReleaseVersion_ReleaseVersionIdOrderByExecutionOrderAsc(
-                                version.getReleaseVersionId());
 
-                if (files.isEmpty()) {
-                    log.warn("버전 {}의 패치 대상 파일이 없습니다.", version.getVersion());
-                    continue;
+                int skippedBuildCount = selection.skippedBuildCountOf(version);
+                if (skippedBuildCount > 0) {
+                    log.info("버전 {} 파일 복사 완료 - {}개 (WEB/ENGINE 빌드 파일 {}개 건너뜀)",
+                            version.getVersion(), targets.size(), skippedBuildCount);
+                } else {
+                    log.info("버전 {} 파일 복사 완료 - {}개", version.getVersion(), targets.size());
                 }
+            }
 
-                int copiedCount = 0;
-                int skippedBuildCount = 0;
+            log.info("패치 파일 생성 방식 - {}", materializeCounts);
 
-                for (ReleaseFile file : files) {
-                    // WEB/ENGINE 카테고리 필터링
-                    if (!includeAllBuildVersions && file.getFileCategory() != null) {
-                        boolean shouldSkip = false;
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "파일 복사 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 버전별 복사 대상 파일 선별 (파일 I/O 없음)
+     * <p>⚠️ WEB 카테고리는 해당 파일이 있는 마지막 버전만 포함됩니다.
+     * <p>⚠️ ENGINE 카테고리는 sub_category(NC_SMS, NC_FAULT_MS 등)별로 각각 마지막 버전만 포함됩니다.
+     *
+     * @param plan 패치 생성 계획 (버전별 파일 목록, includeAllBuildVersions)
+     * @return 버전별 복사 대상 및 건너뛴 빌드 파일 수
+     */
+    private CopySelection selectCopyTargets(PatchPlan plan) {
+        List<ReleaseVersion> versions = plan.versions();
+        boolean includeAllBuildVersions = plan.includeAllBuildVersions();
+
+        // WEB은 카테고리 전체에서 마지막 버전, ENGINE은 sub_category별 마지막 버전 파악
+        Long lastVersionIdForWeb = null;
+        // ENGINE: sub_category → 해당 sub_category 파일이 있는 마지막 버전 ID
+        Map<String, Long> lastVersionIdByEngineSubCategory = new HashMap<>();
+
+        if (!includeAllBuildVersions && !versions.isEmpty()) {
+            // 모든 버전의 파일을 역순으로 조회하여 마지막 버전 찾기
+            for (int i = versions.size() - 1; i >= 0; i--) {
+                ReleaseVersion v = versions.get(i);
+
+                for (ReleaseFile file : plan.manifest().filesOf(v)) {
+                    if (file.getFileCategory() == null) continue;
+
+                    // WEB: 아직 찾지 못했으면 이 버전이 마지막
+                    if (lastVersionIdForWeb == null && file.getFileCategory() == FileCategory.WEB) {
+                        lastVersionIdForWeb = v.getReleaseVersionId();
+                        log.info("WEB 카테고리는 버전 {}의 파일만 포함됩니다.", v.getVersion());
+                    }
 
-                        // WEB: 마지막 버전이 아니면 건너뛰기
-                        if (file.getFileCategory() == FileCategory.WEB) {
-                            if (lastVersionIdForWeb == null
-                                    || !version.getReleaseVersionId().equals(lastVersionIdForWeb)) {
-                                shouldSkip = true;
-                            }
+                    // ENGINE: sub_category별로 아직 찾지 못했으면 이 버전이 해당 sub_category의 마지막
+                    if (file.getFileCategory() == FileCategory.ENGINE) {
+                        String subCategory = file.getSubCategory() != null ? file.getSubCategory() : "ETC";
+                        if (!lastVersionIdByEngineSubCategory.containsKey(subCategory)) {
+                            lastVersionIdByEngineSubCategory.put(subCategory, v.getReleaseVersionId());
+                            log.info("ENGINE/{} 카테고리는 버전 {}의 파일만 포함됩니다.", subCategory, v.getVersion());
                         }
+                    }
+                }
+            }
+        }
 
-                        // ENGINE: 해당 sub_category의 마지막 버전이 아니면 건너뛰기
-                        if (file.getFileCategory() == FileCategory.ENGINE) {
-                            String subCategory = file.getSubCategory() != null ? file.getSubCategory() : "ETC";
-                            Long lastVersionId = lastVersionIdByEngineSubCategory.get(subCategory);
-                            if (lastVersionId == null
-                                    || !version.getReleaseVersionId().equals(lastVersionId)) {
-                                shouldSkip = true;
-                            }
+        // 버전별 복사 대상 선별 (진행률 계산을 위해 전체 건수를 먼저 확정)
+        Map<Long, List<ReleaseFile>> targetsByVersionId = new HashMap<>();
+        Map<Long, Integer> skippedBuildCountByVersionId = new HashMap<>();
+        int totalFiles = 0;
+
+        for (ReleaseVersion version : versions) {
+            List<ReleaseFile> targets = new ArrayList<>();
+            int skippedBuildCount = 0;
+
+            for (ReleaseFile file : plan.manifest().filesOf(version)) {
+                // WEB/ENGINE 카테고리 필터링
+                if (!includeAllBuildVersions && file.getFileCategory() != null) {
+                    boolean shouldSkip = false;
+
+                    // WEB: 마지막 버전이 아니면 건너뛰기
+                    if (file.getFileCategory() == FileCategory.WEB) {
+                        if (lastVersionIdForWeb == null
+                                || !version.getReleaseVersionId().equals(lastVersionIdForWeb)) {
+                            shouldSkip = true;
                         }
+                    }
 
-                        if (shouldSkip) {
-                            skippedBuildCount++;
-                            continue;
+                    // ENGINE: 해당 sub_category의 마지막 버전이 아니면 건너뛰기
+                    if (file.getFileCategory() == FileCategory.ENGINE) {
+                        String subCategory = file.getSubCategory() != null ? file.getSubCategory() : "ETC";
+                        Long lastVersionId = lastVersionIdByEngineSubCategory.get(subCategory);
+                        if (lastVersionId == null
+                                || !version.getReleaseVersionId().equals(lastVersionId)) {
+                            shouldSkip = true;
                         }
                     }
-                    copyFileByCategory(file, version, outputDir);
-                    copiedCount++;
-                }
 
-                if (skippedBuildCount > 0) {
-                    log.info("버전 {} 파일 복사 완료 - {}개 (WEB/ENGINE 빌드 파일 {}개 건너뜀)",
-                            version.getVersion(), copiedCount, skippedBuildCount);
-                } else {
-                    log.info("버전 {} 파일 복사 완료 - {}개", version.getVersion(), copiedCount);
+                    if (shouldSkip) {
+                        skippedBuildCount++;
+                        continue;
+                    }
                 }
+                targets.add(file);
             }
 
-        } catch (Exception e) {
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "파일 복사 실패: " + e.getMessage());
+            targetsByVersionId.put(version.getReleaseVersionId(), targets);
+            skippedBuildCountByVersionId.put(version.getReleaseVersionId(), skippedBuildCount);
+            totalFiles += targets.size();
         }
+
+        return new CopySelection(targetsByVersionId, skippedBuildCountByVersionId, totalFiles);
     }
 
     /**
      * 개별 파일 복사 (카테고리 기반)
      * <p>Phase 5: 파일 카테고리별 디렉토리 구조 생성
+     * <p>ReleaseFile.checksum에 해당하는 블롭이 있으면 원본 대신 블롭에서 생성합니다
+     * (reflink → 복사 순으로 시도). 블롭이 없는 기존 파일은 블롭 저장소에 등록한 뒤 생성합니다.
+     * <p>패치 파일은 원본 버전 파일과 inode를 공유하지 않으므로, 이후 버전 파일이 수정되어도 이미 생성된 패치는 바뀌지 않습니다.
+     * <p>원본에서 등록한 파일의 체크섬이 릴리즈 파일 등록 시점과 다르면 원본이 변경된 것이므로 패치 생성을 중단합니다.
+     * <p>블롭과 원본이 모두 없거나 파일 생성에 실패하면 누락된 패치가 만들어지지 않도록 패치 생성을 중단합니다.
+     *
+     * @return 블롭에서 생성한 방식 (원본에서 새로 등록한 경우 null)
+     * @throws BusinessException 원본 파일이 없거나, 파일 생성에 실패했거나, 원본이 등록 이후 변경된 경우
      */
-    private void copyFileByCategory(ReleaseFile file, ReleaseVersion version, Path outputDir) {
-        try {
-            // 원본 파일 경로
-            Path sourcePath = Paths.get(releaseBasePath, file.getFilePath());
-
-            if (!Files.exists(sourcePath)) {
-                log.warn("파일이 존재하지 않습니다: {}", sourcePath);
-                return;
-            }
+    private FileMaterializer.Method copyFileByCategory(ReleaseFile file, ReleaseVersion version, Path outputDir) {
+        // 대상 파일 경로 결정 (카테고리별)
+        Path targetPath = determineTargetPath(file, version, outputDir);
+
+        // 블롭에서 생성 (원본 파일 I/O 없음)
+        Optional<FileMaterializer.Method> method = fileStorageService.materializeBlob(
+                file.getChecksum(), file.getFileSize(), targetPath);
+        if (method.isPresent()) {
+            log.debug("블롭에서 생성 ({}): {} -> {}", method.get(), file.getFileName(), targetPath);
+            return method.get();
+        }
 
-            // 대상 파일 경로 결정 (카테고리별)
-            Path targetPath = determineTargetPath(file, version, outputDir);
+        // 원본 파일 경로
+        Path sourcePath = Paths.get(releaseBasePath, file.getFilePath());
 
-            // 대상 디렉토리 생성
-            Files.createDirectories(targetPath.getParent());
+        if (!Files.exists(sourcePath)) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND,
+                    "패치 대상 파일이 존재하지 않습니다: " + file.getFilePath());
+        }
 
-            // 파일 복사
-            Files.copy(sourcePath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        // 블롭 등록 후 생성 (이후 패치 생성 시 재사용)
+        String storedChecksum;
+        try {
+            storedChecksum = fileStorageService.storeAsBlob(sourcePath, targetPath);
+        } catch (BusinessException e) {
+            log.error("파일 복사 실패: {}", file.getFileName(), e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    String.format("패치 파일 생성 실패: %s (%s)", file.getFilePath(), e.getMessage()));
+        }
 
-            log.debug("파일 복사: {} -> {}", sourcePath.getFileName(), targetPath);
+        log.debug("파일 복사: {} -> {}", sourcePath.getFileName(), targetPath);
 
-        } catch (IOException e) {
-            log.error("파일 복사 실패: {}", file.getFileName(), e);
+        if (file.getChecksum() != null && !file.getChecksum().equals(storedChecksum)) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    String.format("릴리즈 파일이 등록 이후 변경되었습니다: %s (등록: %s, 현재: %s)",
+                            file.getFilePath(), file.getChecksum(), storedChecksum));
         }
+        return null;
     }
 
     /**
@@ -857,30 +1352,21 @@ public class PatchGenerationService {
     /**
      * 패치 스크립트 생성 (MariaDB, CrateDB)
      */
-    private void generatePatchScripts(ReleaseVersion fromVersion, ReleaseVersion toVersion,
-            List<ReleaseVersion> versions, String outputPath, String patchedBy) {
+    private void generatePatchScripts(PatchPlan plan, PatchProgressListener listener) {
+        String outputPath = plan.outputPath();
         try {
-            // 프로젝트 ID 추출 (versions 목록의 첫 번째 버전에서)
-            String projectId = versions.get(0).getProject().getProjectId();
-
-            List<ReleaseFile> mariadbFiles = releaseFileRepository.findReleaseFilesBetweenVersionsBySubCategory(
-                    projectId,
-                    versions.get(0).getVersion(),
-                    versions.get(versions.size() - 1).getVersion(),
-                    "MARIADB"
-            );
-
-            List<ReleaseFile> cratedbFiles = releaseFileRepository.findReleaseFilesBetweenVersionsBySubCategory(
-                    projectId,
-                    versions.get(0).getVersion(),
-                    versions.get(versions.size() - 1).getVersion(),
-                    "CRATEDB"
-            );
+            String projectId = plan.project().getProjectId();
+            String fromVersion = plan.fromVersion().getVersion();
+            String toVersion = plan.toVersion().getVersion();
+            List<ReleaseFile> mariadbFiles = plan.manifest().filesBySubCategory("MARIADB");
+            List<ReleaseFile> cratedbFiles = plan.manifest().filesBySubCategory("CRATEDB");
+            String patchedBy = plan.assignee() != null ? plan.assignee().getEmail() : null;
 
             // MariaDB 스크립트는 항상 생성 (VERSION_HISTORY INSERT를 위해 필수 - 단, infraeye1/infraeye2만)
             // SQL 파일이 없더라도 VERSION_HISTORY에 버전 이력을 기록해야 함
-            mariaDBScriptGenerator.generatePatchScript(projectId, fromVersion.getVersion(),
-                    toVersion.getVersion(), versions, mariadbFiles, outputPath, patchedBy);
+            listener.onProgress(PatchJobStage.GENERATE_MARIADB_SCRIPT, 0, 0);
+            mariaDBScriptGenerator.generatePatchScript(projectId, fromVersion,
+                    toVersion, plan.versions(), mariadbFiles, outputPath, patchedBy);
             if (mariadbFiles.isEmpty()) {
                 log.info("MariaDB SQL 파일은 없지만 스크립트 생성: {}/{}", outputPath, mariaDBScriptGenerator.getScriptFileName());
             } else {
@@ -888,9 +1374,10 @@ public class PatchGenerationService {
             }
 
             // CrateDB 스크립트는 파일이 있을 때만 생성
+            listener.onProgress(PatchJobStage.GENERATE_CRATEDB_SCRIPT, 0, 0);
             if (!cratedbFiles.isEmpty()) {
-                crateDBScriptGenerator.generatePatchScript(projectId, fromVersion.getVersion(),
-                        toVersion.getVersion(), versions, cratedbFiles, outputPath, null);
+                crateDBScriptGenerator.generatePatchScript(projectId, fromVersion,
+                        toVersion, plan.versions(), cratedbFiles, outputPath, null);
                 log.info("CrateDB 패치 스크립트 생성 완료: {}/{}", outputPath, crateDBScriptGenerator.getScriptFileName());
             } else {
                 log.info("CrateDB 파일이 없어 스크립트를 생성하지 않습니다.");
@@ -909,52 +1396,9 @@ public class PatchGenerationService {
     private void generateReadme(ReleaseVersion fromVersion, ReleaseVersion toVersion,
             List<ReleaseVersion> includedVersions, String outputPath) {
         try {
-            Path readmePath = Paths.get(releaseBasePath, outputPath, "README.md");
-
-            StringBuilder content = new StringBuilder();
-            content.append(String.format("# 누적 패치: from-%s to %s\n\n",
-                    fromVersion.getVersion(), toVersion.getVersion()));
-            content.append("## 개요\n");
-            content.append(String.format(
-                    "이 패치는 **%s** 버전에서 **%s** 버전으로 업그레이드하기 위한 누적 패치입니다.\n\n",
-                    fromVersion.getVersion(), toVersion.getVersion()));
-
-            content.append("## 생성 정보\n");
-            content.append(String.format("- **생성일**: %s\n",
-                    LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
-            content.append(String.format("- **From Version**: %s\n", fromVersion.getVersion()));
-            content.append(String.format("- **To Version**: %s\n", toVersion.getVersion()));
-            content.append("- **포함된 버전**: ");
-            content.append(includedVersions.stream()
-                    .map(ReleaseVersion::getVersion)
-                    .reduce((a, b) -> a + ", " + b)
-                    .orElse(""));
-            content.append("\n\n");
-
-            content.append("## 디렉토리 구조\n");
-            content.append("```\n");
-            content.append(".\n");
-            content.append("├── mariadb_patch.sh            # MariaDB 패치 실행 스크립트\n");
-            content.append("├── cratedb_patch.sh            # CrateDB 패치 실행 스크립트\n");
-            content.append("├── database/\n");
-            content.append("│   ├── mariadb/\n");
-            content.append("│   │   ├── {version}/          # 누적된 SQL 파일들\n");
-            content.append("│   │   │   └── *.sql\n");
-            content.append("│   └── cratedb/\n");
-            content.append("│       ├── {version}/          # 누적된 SQL 파일들\n");
-            content.append("│       │   └── *.sql\n");
-            content.append("└── README.md                   # 이 파일\n");
-            content.append("```\n\n");
-
-            content.append("## 주의사항\n");
-            content.append("⚠️ **중요**: 이 패치는 여러 버전의 변경사항을 누적한 것입니다.\n");
-            content.append("- 패치 실행 전 반드시 백업을 수행하세요.\n");
-            content.append("- 패치 실행 중 오류 발생 시 로그를 확인하세요.\n\n");
+            Path readmePath = Paths.get(releaseBasePath, outputPath, README_FILE_NAME);
 
-            content.append("---\n");
-            content.append("CREATED BY - Release Manager\n");
-
-            Files.writeString(readmePath, content.toString());
+            Files.writeString(readmePath, buildReadme(fromVersion, toVersion, includedVersions));
 
             log.info("README.md 생성 완료: {}", readmePath);
 
@@ -964,6 +1408,57 @@ public class PatchGenerationService {
         }
     }
 
+    /**
+     * README.md 내용 생성
+     */
+    private String buildReadme(ReleaseVersion fromVersion, ReleaseVersion toVersion,
+        List<ReleaseVersion> includedVersions) {
+        StringBuilder content = new StringBuilder();
+        content.append(String.format("# 누적 패치: from-%s to %s\n\n",
+                fromVersion.getVersion(), toVersion.getVersion()));
+        content.append("## 개요\n");
+        content.append(String.format(
+                "이 패치는 **%s** 버전에서 **%s** 버전으로 업그레이드하기 위한 누적 패치입니다.\n\n",
+                fromVersion.getVersion(), toVersion.getVersion()));
+
+        content.append("## 생성 정보\n");
+        content.append(String.format("- **생성일**: %s\n",
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))));
+        content.append(String.format("- **From Version**: %s\n", fromVersion.getVersion()));
+        content.append(String.format("- **To Version**: %s\n", toVersion.getVersion()));
+        content.append("- **포함된 버전**: ");
+        content.append(includedVersions.stream()
+                .map(ReleaseVersion::getVersion)
+                .reduce((a, b) -> a + ", " + b)
+                .orElse(""));
+        content.append("\n\n");
+
+        content.append("## 디렉토리 구조\n");
+        content.append("```\n");
+        content.append(".\n");
+        content.append("├── mariadb_patch.sh            # MariaDB 패치 실행 스크립트\n");
+        content.append("├── cratedb_patch.sh            # CrateDB 패치 실행 스크립트\n");
+        content.append("├── database/\n");
+        content.append("│   ├── mariadb/\n");
+        content.append("│   │   ├── {version}/          # 누적된 SQL 파일들\n");
+        content.append("│   │   │   └── *.sql\n");
+        content.append("│   └── cratedb/\n");
+        content.append("│       ├── {version}/          # 누적된 SQL 파일들\n");
+        content.append("│       │   └── *.sql\n");
+        content.append("└── README.md                   # 이 파일\n");
+        content.append("```\n\n");
+
+        content.append("## 주의사항\n");
+        content.append("⚠️ **중요**: 이 패치는 여러 버전의 변경사항을 누적한 것입니다.\n");
+        content.append("- 패치 실행 전 반드시 백업을 수행하세요.\n");
+        content.append("- 패치 실행 중 오류 발생 시 로그를 확인하세요.\n\n");
+
+        content.append("---\n");
+        content.append("CREATED BY - Release Manager\n");
+
+        return content.toString();
+    }
+
     /**
      * CustomerProject 마지막 패치 정보 업데이트
      *
@@ -991,6 +1486,37 @@ public class PatchGenerationService {
                 customer.getCustomerId(), project.getProjectId(), toVersion);
     }
 
+    /**
+     * CustomerProject 마지막 패치 정보 일괄 업데이트
+     *
+     * <p>기존 매핑을 한 번에 조회하고, 매핑이 없는 고객사는 새로 생성하여 함께 저장합니다.
+     *
+     * @param customers 고객사 목록
+     * @param project   프로젝트
+     * @param toVersion 패치된 버전 (to_version)
+     */
+    private void updateCustomerProjectPatchInfos(List<Customer> customers, Project project, String toVersion) {
+        Map<Long, CustomerProject> customerProjects = customerProjectRepository
+                .findAllByProject_ProjectIdAndCustomer_CustomerIdIn(project.getProjectId(),
+                        customers.stream().map(Customer::getCustomerId).toList())
+                .stream()
+                .collect(Collectors.toMap(cp -> cp.getId().getCustomerId(), Function.identity()));
+
+        LocalDateTime patchedAt = LocalDateTime.now();
+        List<CustomerProject> updated = customers.stream()
+                .map(customer -> {
+                    CustomerProject customerProject = customerProjects.computeIfAbsent(
+                            customer.getCustomerId(), id -> CustomerProject.create(customer, project));
+                    customerProject.updateLastPatchInfo(toVersion, patchedAt);
+                    return customerProject;
+                })
+                .toList();
+        customerProjectRepository.saveAll(updated);
+
+        log.info("CustomerProject 일괄 업데이트 완료 - projectId: {}, 고객사 {}개, lastPatchedVersion: {}",
+                project.getProjectId(), updated.size(), toVersion);
+    }
+
     /**
      * 패치 이력 저장 (영구 보존)
      *
@@ -1004,4 +1530,47 @@ public class PatchGenerationService {
         log.info("패치 이력 저장 완료 - historyId: {}, patchName: {}",
                 saved.getHistoryId(), saved.getPatchName());
     }
+
+    /**
+     * 버전별 복사 대상 파일 선별 결과
+     */
+    private record CopySelection(
+            Map<Long, List<ReleaseFile>> targetsByVersionId,
+            Map<Long, Integer> skippedBuildCountByVersionId,
+            int totalFiles
+    ) {
+
+        List<ReleaseFile> targetsOf(ReleaseVersion version) {
+            return targetsByVersionId.getOrDefault(version.getReleaseVersionId(), List.of());
+        }
+
+        int skippedBuildCountOf(ReleaseVersion version) {
+            return skippedBuildCountByVersionId.getOrDefault(version.getReleaseVersionId(), 0);
+        }
+    }
+
+    /**
+     * 패치 생성 계획
+     *
+     * <p>읽기 전용 트랜잭션에서 조회를 마친 결과로, 이후 파일 작업은 DB 조회 없이 이 정보만 사용합니다.
+     */
+    @Builder(toBuilder = true)
+    private record PatchPlan(
+            Project project,
+            Customer customer,
+            Account assignee,
+            Account creator,
+            ReleaseVersion fromVersion,
+            ReleaseVersion toVersion,
+            List<ReleaseVersion> versions,
+            PatchFileManifest manifest,
+            String releaseType,
+            boolean custom,
+            String patchName,
+            String outputPath,
+            String description,
+            boolean includeAllBuildVersions
+    ) {
+
+    }
 }
@@ -0,0 +1,386 @@
+package com.ts.rm.domain.patch.service;
+
+import com.ts.rm.domain.job.enums.JobStatus;
+import com.ts.rm.domain.patch.dto.PatchDto;
+import com.ts.rm.domain.patch.entity.Patch;
+import com.ts.rm.domain.patch.enums.PatchJobStage;
+import com.ts.rm.global.exception.BusinessException;
+import com.ts.rm.global.exception.ErrorCode;
+import com.ts.rm.global.websocket.messaging.WebSocketMessageSender;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 패치 생성 작업 서비스
+ *
+ * <p>패치 생성을 백그라운드 작업으로 실행하고 작업 ID를 즉시 반환합니다.
+ * 진행 상황은 {@code /topic/patch-jobs/{jobId}}로 전송하며, 작업 상태 조회 API로도 확인할 수 있습니다.
+ * <p>작업 상태는 메모리에서 관리하며, 종료된 작업은 일정 시간 후 정리됩니다.
+ * <p>작업은 등록한 인스턴스에서만 실행됩니다. 여러 인스턴스로 운영할 때는 {@link PatchJobSnapshotStore}
+ * ({@code app.release.patch-job.redis-enabled})로 상태 스냅샷을 Redis에 공유하여 어느 인스턴스에서든
+ * 상태 조회 API로 확인할 수 있습니다. WebSocket 진행 알림은 인스턴스별 브로커로 전송되므로
+ * 다른 인스턴스에 연결된 클라이언트는 상태 조회 API로 확인해야 합니다.
+ * 인스턴스가 중단되면 실행 중이던 작업은 재개되지 않으며, 스냅샷은 마지막 상태로 남아 있다가 만료됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PatchJobService {
+
+    static final String TOPIC_PREFIX = "patch-jobs/";
+    static final String MESSAGE_TYPE = "PATCH_JOB_PROGRESS";
+
+    /**
+     * 종료된 작업 상태 보관 시간 (시간)
+     */
+    private static final long RETENTION_HOURS = 1;
+
+    /**
+     * 파일 복사 진행률 전송 간격 (%)
+     */
+    private static final int PROGRESS_STEP_PERCENT = 5;
+
+    private final PatchGenerationService patchGenerationService;
+    private final WebSocketMessageSender webSocketMessageSender;
+    private final PatchJobSnapshotStore patchJobSnapshotStore;
+    @Qualifier("patchJobExecutor")
+    private final ExecutorService patchJobExecutor;
+
+    private final Map<String, PatchJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * 표준 패치 생성 작업 등록
+     *
+     * @param request 패치 생성 요청
+     * @return 등록된 작업 상태 (대기 중)
+     */
+    public PatchDto.JobResponse submitStandard(PatchDto.GenerateRequest request) {
+        return submit(listener -> patchGenerationService.generatePatchByVersion(
+                request.projectId(),
+                request.type(),
+                request.customerId(),
+                request.fromVersion(),
+                request.toVersion(),
+                request.createdByEmail(),
+                request.description(),
+                request.assigneeId(),
+                request.patchName(),
+                request.shouldIncludeAllBuildVersions(),
+                listener));
+    }
+
+    /**
+     * 커스텀 패치 생성 작업 등록
+     *
+     * @param request 커스텀 패치 생성 요청
+     * @return 등록된 작업 상태 (대기 중)
+     */
+    public PatchDto.JobResponse submitCustom(PatchDto.GenerateCustomPatchRequest request) {
+        return submit(listener -> patchGenerationService.generateCustomPatchByVersion(
+                request.projectId(),
+                request.customerId(),
+                request.fromVersion(),
+                request.toVersion(),
+                request.createdByEmail(),
+                request.description(),
+                request.assigneeId(),
+                request.patchName(),
+                listener));
+    }
+
+    /**
+     * 일괄 패치 생성 작업 등록
+     *
+     * <p>고객사별 상태는 작업 완료 시 한 번에 갱신되며, 대기 중에는 모두 대기(QUEUED), 실행 중에는 모두 실행 중(RUNNING)으로
+     * 표시됩니다.
+     *
+     * @param request 일괄 패치 생성 요청
+     * @return 등록된 작업 상태 (대기 중, 고객사별 상태 포함)
+     */
+    public PatchDto.JobResponse submitBatch(PatchDto.BatchGenerateRequest request) {
+        PatchJob job = new PatchJob(UUID.randomUUID().toString(), request.customerIds());
+        return enqueue(job, () -> runBatch(job, request));
+    }
+
+    /**
+     * 작업 상태 조회 (이 인스턴스에 없으면 공유된 스냅샷 조회)
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태
+     */
+    public PatchDto.JobResponse getJob(String jobId) {
+        PatchJob job = jobs.get(jobId);
+        if (job != null) {
+            return job.toResponse();
+        }
+
+        PatchDto.JobResponse snapshot = patchJobSnapshotStore.find(jobId);
+        if (snapshot == null) {
+            throw new BusinessException(ErrorCode.PATCH_JOB_NOT_FOUND,
+                    "패치 생성 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 종료된 작업 상태 정리 (매 10분마다 실행)
+     */
+    @Scheduled(fixedDelay = 600000) // 10분
+    public void cleanupFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusHours(RETENTION_HOURS);
+        jobs.values().removeIf(job -> job.isFinishedBefore(threshold));
+    }
+
+    private PatchDto.JobResponse submit(Function<PatchProgressListener, Patch> generator) {
+        PatchJob job = new PatchJob(UUID.randomUUID().toString(), null);
+        return enqueue(job, () -> run(job, generator));
+    }
+
+    private PatchDto.JobResponse enqueue(PatchJob job, Runnable task) {
+        jobs.put(job.jobId, job);
+        // 작업 스레드가 바로 시작하더라도 등록 시점(대기 중) 상태를 응답
+        PatchDto.JobResponse queued = job.toResponse();
+        // 작업 스레드의 상태 저장보다 먼저 기록되도록 실행 전에 저장
+        patchJobSnapshotStore.save(queued);
+
+        try {
+            patchJobExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.jobId);
+            patchJobSnapshotStore.remove(job.jobId);
+            throw new BusinessException(ErrorCode.PATCH_JOB_QUEUE_FULL);
+        }
+
+        log.info("패치 생성 작업 등록 - jobId: {}", job.jobId);
+        return queued;
+    }
+
+    private void run(PatchJob job, Function<PatchProgressListener, Patch> generator) {
+        start(job);
+        try {
+            Patch patch = generator.apply(progressListener(job));
+            job.complete(patch.getPatchId());
+            log.info("패치 생성 작업 완료 - jobId: {}, patchId: {}", job.jobId, patch.getPatchId());
+
+        } catch (BusinessException e) {
+            job.fail(e.getMessage());
+            log.warn("패치 생성 작업 실패 - jobId: {}, error: {}", job.jobId, e.getMessage());
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            log.error("패치 생성 작업 실패 - jobId: {}", job.jobId, e);
+        }
+        publish(job);
+    }
+
+    private void runBatch(PatchJob job, PatchDto.BatchGenerateRequest request) {
+        start(job);
+        try {
+            List<BatchPatchResult> results = patchGenerationService.generateBatchPatches(
+                    request.projectId(),
+                    request.type(),
+                    request.customerIds(),
+                    request.fromVersion(),
+                    request.toVersion(),
+                    request.createdByEmail(),
+                    request.description(),
+                    request.assigneeId(),
+                    request.patchName(),
+                    request.shouldIncludeAllBuildVersions(),
+                    progressListener(job));
+            job.completeBatch(results);
+            log.info("일괄 패치 생성 작업 완료 - jobId: {}, 성공: {}/{}", job.jobId,
+                    results.stream().filter(BatchPatchResult::succeeded).count(), results.size());
+
+        } catch (BusinessException e) {
+            job.fail(e.getMessage());
+            log.warn("일괄 패치 생성 작업 실패 - jobId: {}, error: {}", job.jobId, e.getMessage());
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            log.error("일괄 패치 생성 작업 실패 - jobId: {}", job.jobId, e);
+        }
+        publish(job);
+    }
+
+    /**
+     * 작업 스레드에서 실행을 시작할 때 대기(QUEUED) → 실행 중(RUNNING)으로 전환
+     */
+    private void start(PatchJob job) {
+        job.start();
+        publish(job);
+    }
+
+    private PatchProgressListener progressListener(PatchJob job) {
+        return (stage, processed, total) -> {
+            if (job.progress(stage, processed, total)) {
+                publish(job);
+            }
+        };
+    }
+
+    private void publish(PatchJob job) {
+        PatchDto.JobResponse response = job.toResponse();
+        patchJobSnapshotStore.save(response);
+        try {
+            webSocketMessageSender.sendToTopic(TOPIC_PREFIX + job.jobId, MESSAGE_TYPE, response);
+        } catch (RuntimeException e) {
+            // 진행 상황 전송 실패가 패치 생성을 중단시키지 않도록 함
+            log.warn("패치 생성 진행 상황 전송 실패 - jobId: {}, error: {}", job.jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 패치 생성 작업 상태 (작업 스레드가 갱신하고 요청 스레드가 조회)
+     */
+    private static final class PatchJob {
+
+        private final String jobId;
+        private final LocalDateTime startTime = LocalDateTime.now();
+
+        private JobStatus status = JobStatus.QUEUED;
+        private PatchJobStage stage = PatchJobStage.QUEUED;
+        private int processedFiles;
+        private int totalFiles;
+        private Long patchId;
+        private String errorMessage;
+        private LocalDateTime endTime;
+
+        /**
+         * 고객사별 상태 (일괄 패치 생성 작업이 아니면 null)
+         */
+        private List<PatchDto.CustomerJobResponse> customers;
+
+        private PatchJob(String jobId, List<Long> customerIds) {
+            this.jobId = jobId;
+            if (customerIds != null) {
+                this.customers = customerIds.stream()
+                        .distinct()
+                        .map(customerId -> PatchDto.CustomerJobResponse.builder()
+                                .customerId(customerId)
+                                .status(JobStatus.QUEUED)
+                                .build())
+                        .toList();
+            }
+        }
+
+        synchronized void start() {
+            this.status = JobStatus.RUNNING;
+            if (customers != null) {
+                this.customers = customers.stream()
+                        .map(customer -> PatchDto.CustomerJobResponse.builder()
+                                .customerId(customer.customerId())
+                                .status(JobStatus.RUNNING)
+                                .build())
+                        .toList();
+            }
+        }
+
+        /**
+         * 진행 상황 갱신
+         *
+         * @return 단계가 바뀌었거나 파일 복사 진행률이 전송 간격 이상 증가했으면 true
+         */
+        synchronized boolean progress(PatchJobStage stage, int processed, int total) {
+            boolean changed = this.stage != stage
+                    || processed == total
+                    || percent(processed, total) / PROGRESS_STEP_PERCENT
+                    != percent(processedFiles, totalFiles) / PROGRESS_STEP_PERCENT;
+            this.stage = stage;
+            if (hasItemProgress(stage)) {
+                this.processedFiles = processed;
+                this.totalFiles = total;
+            }
+            return changed;
+        }
+
+        synchronized void complete(Long patchId) {
+            this.status = JobStatus.SUCCESS;
+            this.stage = PatchJobStage.COMPLETED;
+            this.patchId = patchId;
+            this.endTime = LocalDateTime.now();
+        }
+
+        /**
+         * 일괄 작업 완료 (일부 고객사만 실패한 경우에도 작업은 성공으로 처리하고 실패 건수를 기록)
+         */
+        synchronized void completeBatch(List<BatchPatchResult> results) {
+            this.status = JobStatus.SUCCESS;
+            this.stage = PatchJobStage.COMPLETED;
+            this.customers = results.stream()
+                    .map(result -> PatchDto.CustomerJobResponse.builder()
+                            .customerId(result.customerId())
+                            .customerCode(result.customerCode())
+                            .status(result.succeeded() ? JobStatus.SUCCESS : JobStatus.FAILED)
+                            .patchId(result.succeeded() ? result.patch().getPatchId() : null)
+                            .errorMessage(result.errorMessage())
+                            .build())
+                    .toList();
+            long failedCount = results.stream().filter(result -> !result.succeeded()).count();
+            if (failedCount > 0) {
+                this.errorMessage = String.format("%d개 고객사의 패치 생성에 실패했습니다.", failedCount);
+            }
+            this.endTime = LocalDateTime.now();
+        }
+
+        synchronized void fail(String errorMessage) {
+            this.status = JobStatus.FAILED;
+            this.stage = PatchJobStage.FAILED;
+            this.errorMessage = errorMessage;
+            if (customers != null) {
+                this.customers = customers.stream()
+                        .map(customer -> PatchDto.CustomerJobResponse.builder()
+                                .customerId(customer.customerId())
+                                .customerCode(customer.customerCode())
+                                .status(JobStatus.FAILED)
+                                .errorMessage(errorMessage)
+                                .build())
+                        .toList();
+            }
+            this.endTime = LocalDateTime.now();
+        }
+
+        synchronized boolean isFinishedBefore(LocalDateTime threshold) {
+            return endTime != null && endTime.isBefore(threshold);
+        }
+
+        synchronized PatchDto.JobResponse toResponse() {
+            String message = hasItemProgress(stage)
+                    ? String.format("%s (%d/%d)", stage.getDescription(), processedFiles, totalFiles)
+                    : stage.getDescription();
+            return PatchDto.JobResponse.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .stage(stage)
+                    .processedFiles(processedFiles)
+                    .totalFiles(totalFiles)
+                    .message(message)
+                    .patchId(patchId)
+                    .errorMessage(errorMessage)
+                    .startTime(startTime)
+                    .endTime(endTime)
+                    .customers(customers)
+                    .build();
+        }
+
+        /**
+         * 처리 건수를 통지하는 단계 여부 (파일 복사, 고객사별 패치 구성)
+         */
+        private static boolean hasItemProgress(PatchJobStage stage) {
+            return stage == PatchJobStage.COPY_FILES || stage == PatchJobStage.LINK_CUSTOMER_PATCHES;
+        }
+
+        private static int percent(int processed, int total) {
+            return total > 0 ? processed * 100 / total : 0;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.ts.rm.domain.patch.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ts.rm.domain.patch.dto.PatchDto;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 패치 생성 작업 상태 스냅샷 저장소
+ *
+ * <p>{@code redis-enabled}이면 작업 상태가 바뀔 때마다 Redis에 스냅샷을 저장하여,
+ * 작업을 등록하지 않은 인스턴스에서도 작업 상태를 조회할 수 있습니다.
+ * 스냅샷은 마지막 저장 후 {@code snapshot-ttl}이 지나면 만료되며, Redis 오류 시에는 저장/조회를 건너뜁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PatchJobSnapshotStore {
+
+    private static final String KEY_PREFIX = "patch-job:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.release.patch-job.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${app.release.patch-job.snapshot-ttl:2h}")
+    private Duration ttl;
+
+    /**
+     * 작업 상태 스냅샷 저장
+     *
+     * @param job 작업 상태
+     */
+    public void save(PatchDto.JobResponse job) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + job.jobId(), objectMapper.writeValueAsString(job), ttl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("패치 생성 작업 상태 Redis 저장 실패 - jobId: {} ({})", job.jobId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 상태 스냅샷 조회
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태, 없거나 만료되었거나 조회 실패 시 null
+     */
+    public PatchDto.JobResponse find(String jobId) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            Object value = redisTemplate.opsForValue().get(KEY_PREFIX + jobId);
+            return value != null ? objectMapper.readValue(value.toString(), PatchDto.JobResponse.class) : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("패치 생성 작업 상태 Redis 조회 실패 - jobId: {} ({})", jobId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 작업 상태 스냅샷 삭제 (대기열 등록 실패 시)
+     *
+     * @param jobId 작업 ID
+     */
+    public void remove(String jobId) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.delete(KEY_PREFIX + jobId);
+        } catch (RuntimeException e) {
+            log.warn("패치 생성 작업 상태 Redis 삭제 실패 - jobId: {} ({})", jobId, e.getMessage());
+        }
+    }
+}
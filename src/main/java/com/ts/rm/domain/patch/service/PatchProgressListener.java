@@ -0,0 +1,25 @@
+package com.ts.rm.domain.patch.service;
+
+import com.ts.rm.domain.patch.enums.PatchJobStage;
+
+/**
+ * 패치 생성 진행 상황 리스너
+ */
+@FunctionalInterface
+public interface PatchProgressListener {
+
+    /**
+     * 진행 상황을 통지하지 않는 리스너 (동기 패치 생성용)
+     */
+    PatchProgressListener NONE = (stage, processed, total) -> {
+    };
+
+    /**
+     * 진행 상황 통지
+     *
+     * @param stage     현재 단계
+     * @param processed 처리한 항목 수 (파일 복사 단계 외에는 0)
+     * @param total     전체 항목 수 (파일 복사 단계 외에는 0)
+     */
+    void onProgress(PatchJobStage stage, int processed, int total);
+}
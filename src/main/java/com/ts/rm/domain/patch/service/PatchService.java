@@ -12,7 +12,6 @@ import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
 import com.ts.rm.global.pagination.PageRowNumberUtil;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -39,6 +38,7 @@ public class PatchService {
     private final PatchDtoMapper patchDtoMapper;
     private final PatchGenerationService patchGenerationService;
     private final PatchDownloadService patchDownloadService;
+    private final PatchZipCacheService patchZipCacheService;
     private final ReleaseVersionRepository releaseVersionRepository;
     private final CustomerRepository customerRepository;
 
@@ -48,9 +48,10 @@ public class PatchService {
     /**
      * 패치 생성 (버전 문자열 기반) - 위임
      *
+     * <p>트랜잭션은 파일 작업 동안 DB 커넥션을 점유하지 않도록 PatchGenerationService에서 단계별로 관리합니다.
+     *
      * @param includeAllBuildVersions WEB/ENGINE 모든 버전 포함 여부 (false: 마지막 버전만)
      */
-    @Transactional
     public Patch generatePatchByVersion(String projectId, String releaseType, Long customerId,
             String fromVersion, String toVersion, String createdByEmail, String description,
             Long engineerId, String patchName, boolean includeAllBuildVersions) {
@@ -59,12 +60,23 @@ public class PatchService {
                 createdByEmail, description, engineerId, patchName, includeAllBuildVersions);
     }
 
+    /**
+     * 패치 구성 미리보기 (버전 문자열 기반) - 위임
+     *
+     * <p>디렉토리/파일을 생성하지 않고 메타데이터만으로 패치 구성을 계산합니다.
+     */
+    public PatchDto.PreviewResponse previewPatchByVersion(String projectId, String releaseType,
+            String fromVersion, String toVersion, Long engineerId, String patchName,
+            boolean includeAllBuildVersions) {
+        return patchGenerationService.previewPatchByVersion(projectId, releaseType, fromVersion, toVersion,
+                engineerId, patchName, includeAllBuildVersions);
+    }
+
     /**
      * 패치 생성 (버전 ID 기반) - 위임
      *
      * @param includeAllBuildVersions WEB/ENGINE 모든 버전 포함 여부 (false: 마지막 버전만)
      */
-    @Transactional
     public Patch generatePatch(String projectId, Long fromVersionId, Long toVersionId, Long customerId,
             String createdByEmail, String description, Long engineerId, String patchName,
             boolean includeAllBuildVersions) {
@@ -125,12 +137,14 @@ public class PatchService {
     }
 
     /**
-     * 패치를 스트리밍 방식으로 ZIP 압축하여 출력 스트림에 작성 - 위임
+     * 다운로드용 패치 ZIP 조회 - 위임
+     *
+     * <p>패치 조회만 리포지토리의 짧은 읽기 트랜잭션으로 수행하고, 캐시 미스 시 ZIP 생성은 트랜잭션 밖에서 수행하여
+     * 압축하는 동안 DB 커넥션을 점유하지 않습니다 (출력 경로 등 기본 컬럼만 사용).
      */
-    @Transactional(readOnly = true)
-    public void streamPatchAsZip(Long patchId, OutputStream outputStream) {
+    public PatchZipCacheService.CachedZip getPatchZip(Long patchId) {
         Patch patch = getPatch(patchId);
-        patchDownloadService.streamPatchAsZip(patch, outputStream);
+        return patchDownloadService.getPatchZip(patch);
     }
 
     /**
@@ -193,6 +207,8 @@ public class PatchService {
             log.warn("패치 디렉토리가 존재하지 않습니다: {}", patchDir);
         }
 
+        patchZipCacheService.invalidate(patch.getOutputPath());
+
         // 3. DB 레코드 삭제
         patchRepository.delete(patch);
 
@@ -301,7 +317,6 @@ public class PatchService {
     /**
      * 커스텀 패치 생성 (버전 문자열 기반) - 위임
      */
-    @Transactional
     public Patch generateCustomPatchByVersion(String projectId, Long customerId,
             String fromVersion, String toVersion, String createdByEmail, String description,
             Long engineerId, String patchName) {
@@ -351,6 +366,7 @@ public class PatchService {
             } else {
                 log.warn("패치 디렉토리가 존재하지 않습니다: {}", patchDir);
             }
+            patchZipCacheService.invalidate(patch.getOutputPath());
         }
 
         // 3. DB 레코드 일괄 삭제
@@ -0,0 +1,282 @@
+package com.ts.rm.domain.patch.service;
+
+import com.ts.rm.domain.patch.entity.Patch;
+import com.ts.rm.global.exception.BusinessException;
+import com.ts.rm.global.exception.ErrorCode;
+import com.ts.rm.global.file.StreamingZipUtil;
+import com.ts.rm.global.file.ZipCompressionPolicy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 패치 ZIP 캐시 서비스
+ *
+ * <p>패치 디렉토리를 다운로드할 때마다 다시 압축하지 않도록, 최초 다운로드 시 ZIP을 한 번 생성하여
+ * 패치 디렉토리 옆에 저장합니다 ({@code patches/{projectId}/{patchName}.zip}).
+ * ZIP과 함께 메타 파일({@code .zip.meta})에 SHA-256(ETag), 크기, 디렉토리 지문을 기록합니다.
+ *
+ * <p>디렉토리 지문(파일 수, 총 크기, 최종 수정 시각)이 달라지면 캐시를 무효로 보고 다시 생성하므로,
+ * 파일 동기화 적용({@link #invalidate})을 거치지 않은 변경도 반영됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PatchZipCacheService {
+
+    private static final String ZIP_EXTENSION = ".zip";
+    private static final String META_EXTENSION = ".zip.meta";
+
+    private static final String META_FINGERPRINT = "fingerprint";
+    private static final String META_SHA256 = "sha256";
+    private static final String META_SIZE = "size";
+
+    /**
+     * 패치별 ZIP 생성 잠금 (동시 다운로드 시 한 번만 생성)
+     */
+    private final ConcurrentMap<Path, Object> buildLocks = new ConcurrentHashMap<>();
+
+    @Qualifier("zipCompressPool")
+    private final ForkJoinPool zipCompressPool;
+
+    @Value("${app.release.base-path:data/release-manager}")
+    private String releaseBasePath;
+
+    @Value("${app.release.zip-compression.patch:AUTO}")
+    private ZipCompressionPolicy zipCompressionPolicy;
+
+    /**
+     * 캐시된 패치 ZIP 조회 (없거나 오래된 경우 생성)
+     *
+     * @param patch 패치 엔티티
+     * @return 캐시된 ZIP 정보
+     * @throws BusinessException 패치 디렉토리가 없거나 비어있는 경우, ZIP 생성 실패 시
+     */
+    public CachedZip getOrBuild(Patch patch) {
+        Path patchDir = Paths.get(releaseBasePath, patch.getOutputPath()).toAbsolutePath().normalize();
+
+        if (!Files.isDirectory(patchDir)) {
+            throw new BusinessException(ErrorCode.DATA_NOT_FOUND,
+                    "패치 디렉토리를 찾을 수 없습니다: " + patch.getOutputPath());
+        }
+
+        Path zipPath = resolveZipPath(patchDir);
+        DirectoryFingerprint fingerprint = fingerprint(patchDir);
+
+        CachedZip cached = readCache(zipPath, fingerprint);
+        if (cached != null) {
+            return cached;
+        }
+
+        Object lock = buildLocks.computeIfAbsent(zipPath, key -> new Object());
+        synchronized (lock) {
+            try {
+                // 다른 요청이 먼저 생성했을 수 있으므로 재확인
+                cached = readCache(zipPath, fingerprint);
+                if (cached != null) {
+                    return cached;
+                }
+                return build(patchDir, zipPath, fingerprint);
+            } finally {
+                buildLocks.remove(zipPath, lock);
+            }
+        }
+    }
+
+    /**
+     * 패치 ZIP 캐시 삭제
+     *
+     * @param outputPath 패치 출력 경로 (base-path 기준 상대 경로, 예: patches/infraeye2/20251226123045_1.0.0_1.1.0)
+     */
+    public void invalidate(String outputPath) {
+        if (outputPath == null || outputPath.isBlank()) {
+            return;
+        }
+
+        Path patchDir = Paths.get(releaseBasePath, outputPath).toAbsolutePath().normalize();
+        Path zipPath = resolveZipPath(patchDir);
+        try {
+            boolean deleted = Files.deleteIfExists(metaPath(zipPath));
+            deleted |= Files.deleteIfExists(zipPath);
+            if (deleted) {
+                log.info("패치 ZIP 캐시 삭제: {}", zipPath);
+            }
+        } catch (IOException e) {
+            log.warn("패치 ZIP 캐시 삭제 실패: {} - {}", zipPath, e.getMessage());
+        }
+    }
+
+    /**
+     * ZIP 생성 (임시 파일에 병렬 압축하며 SHA-256 계산 → 원자적 이동)
+     */
+    private CachedZip build(Path patchDir, Path zipPath, DirectoryFingerprint fingerprint) {
+        long startTime = System.currentTimeMillis();
+        Path tempZip = null;
+        Path tempMeta = null;
+
+        try {
+            tempZip = Files.createTempFile(zipPath.getParent(), "." + zipPath.getFileName(), ".tmp");
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (OutputStream os = new DigestOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempZip)), digest)) {
+                StreamingZipUtil.compressDirectoryToStream(os, patchDir, zipCompressPool, zipCompressionPolicy);
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            long size = Files.size(tempZip);
+
+            Properties meta = new Properties();
+            meta.setProperty(META_FINGERPRINT, fingerprint.value());
+            meta.setProperty(META_SHA256, sha256);
+            meta.setProperty(META_SIZE, String.valueOf(size));
+            tempMeta = Files.createTempFile(zipPath.getParent(), "." + zipPath.getFileName(), ".meta.tmp");
+            try (OutputStream os = Files.newOutputStream(tempMeta)) {
+                meta.store(os, null);
+            }
+
+            // ZIP을 먼저 교체하고 메타를 교체 (중간 상태는 크기 불일치로 재생성됨)
+            Files.move(tempZip, zipPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.move(tempMeta, metaPath(zipPath), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+
+            log.info("패치 ZIP 캐시 생성 완료: {} ({} bytes, {}ms)",
+                    zipPath.getFileName(), size, System.currentTimeMillis() - startTime);
+            return new CachedZip(zipPath, size, sha256, fingerprint.totalSize());
+
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.error("패치 ZIP 캐시 생성 실패: {}", patchDir, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "패치 ZIP 생성 실패: " + e.getMessage());
+        } finally {
+            deleteQuietly(tempZip);
+            deleteQuietly(tempMeta);
+        }
+    }
+
+    /**
+     * 메타 파일과 디렉토리 지문이 일치하는 캐시 조회
+     *
+     * @return 유효한 캐시가 없으면 null
+     */
+    private CachedZip readCache(Path zipPath, DirectoryFingerprint fingerprint) {
+        Path metaPath = metaPath(zipPath);
+        if (!Files.isRegularFile(zipPath) || !Files.isRegularFile(metaPath)) {
+            return null;
+        }
+
+        Properties meta = new Properties();
+        try (InputStream is = Files.newInputStream(metaPath)) {
+            meta.load(is);
+
+            long size = Long.parseLong(meta.getProperty(META_SIZE, "-1"));
+            String sha256 = meta.getProperty(META_SHA256);
+            if (!fingerprint.value().equals(meta.getProperty(META_FINGERPRINT))
+                    || sha256 == null
+                    || size != Files.size(zipPath)) {
+                log.debug("패치 ZIP 캐시 만료: {}", zipPath.getFileName());
+                return null;
+            }
+            return new CachedZip(zipPath, size, sha256, fingerprint.totalSize());
+
+        } catch (IOException | NumberFormatException e) {
+            log.warn("패치 ZIP 캐시 메타 읽기 실패: {} - {}", metaPath, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 디렉토리 지문 계산 (파일 수, 총 크기, 하위 파일/디렉토리 최종 수정 시각, 압축 정책)
+     */
+    private DirectoryFingerprint fingerprint(Path patchDir) {
+        long fileCount = 0;
+        long totalSize = 0;
+        long lastModified = 0;
+
+        try (Stream<Path> paths = Files.walk(patchDir)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                lastModified = Math.max(lastModified, attrs.lastModifiedTime().toMillis());
+                if (attrs.isRegularFile()) {
+                    fileCount++;
+                    totalSize += attrs.size();
+                }
+            }
+        } catch (IOException e) {
+            log.error("패치 디렉토리 검증 실패: {}", patchDir, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "패치 디렉토리 검증 중 오류가 발생했습니다: " + e.getMessage());
+        }
+
+        if (fileCount == 0) {
+            throw new BusinessException(ErrorCode.DATA_NOT_FOUND,
+                    "패치 디렉토리에 압축할 파일이 없습니다: " + patchDir);
+        }
+
+        // 압축 정책이 바뀌면 ZIP 내용도 달라지므로 지문에 포함
+        String fingerprint = fileCount + ":" + totalSize + ":" + lastModified + ":" + zipCompressionPolicy;
+        return new DirectoryFingerprint(fingerprint, totalSize);
+    }
+
+    private Path resolveZipPath(Path patchDir) {
+        return patchDir.resolveSibling(patchDir.getFileName() + ZIP_EXTENSION);
+    }
+
+    private Path metaPath(Path zipPath) {
+        String zipFileName = zipPath.getFileName().toString();
+        return zipPath.resolveSibling(
+                zipFileName.substring(0, zipFileName.length() - ZIP_EXTENSION.length()) + META_EXTENSION);
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private record DirectoryFingerprint(String value, long totalSize) {
+    }
+
+    /**
+     * 캐시된 패치 ZIP 정보
+     *
+     * @param path             ZIP 파일 경로
+     * @param size             ZIP 파일 크기 (bytes)
+     * @param sha256           ZIP 파일 SHA-256 (강한 ETag 값)
+     * @param uncompressedSize 압축 전 총 크기 (bytes)
+     */
+    public record CachedZip(Path path, long size, String sha256, long uncompressedSize) {
+
+        /**
+         * 강한 ETag 헤더 값
+         */
+        public String etag() {
+            return "\"" + sha256 + "\"";
+        }
+    }
+}
@@ -3,14 +3,17 @@ package com.ts.rm.domain.patch.util;
 import com.ts.rm.domain.releaseversion.entity.ReleaseVersion;
 import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
+import java.io.FilterWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 
@@ -28,6 +31,15 @@ public abstract class AbstractScriptGenerator implements ScriptGenerator {
     protected static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(
             "yyyy-MM-dd HH:mm:ss");
 
+    protected static final DateTimeFormatter METADATA_DATE_FORMATTER = DateTimeFormatter.ofPattern(
+            "yyyy-MM-dd");
+
+    private final ScriptTemplateCache templateCache;
+
+    protected AbstractScriptGenerator(ScriptTemplateCache templateCache) {
+        this.templateCache = templateCache;
+    }
+
     /**
      * 템플릿 파일 경로 반환 (구현체에서 정의)
      *
@@ -36,18 +48,17 @@ public abstract class AbstractScriptGenerator implements ScriptGenerator {
     protected abstract String getTemplatePath();
 
     /**
-     * 템플릿 로드 (파일 시스템 기반)
+     * 템플릿 로드 (파일 시스템 기반, 컴파일된 템플릿은 파일 변경 전까지 재사용)
      *
-     * @return 템플릿 내용
+     * @return 컴파일된 템플릿
      */
-    protected String loadTemplate() {
+    protected ScriptTemplate loadTemplate() {
+        Path templatePath = Paths.get(baseReleasePath, getTemplatePath());
         try {
-            Path templatePath = Paths.get(baseReleasePath, getTemplatePath());
-            if (!Files.exists(templatePath)) {
-                throw new BusinessException(ErrorCode.DATA_NOT_FOUND,
-                        "템플릿 파일을 찾을 수 없습니다: " + templatePath);
-            }
-            return Files.readString(templatePath);
+            return templateCache.get(templatePath);
+        } catch (NoSuchFileException e) {
+            throw new BusinessException(ErrorCode.DATA_NOT_FOUND,
+                    "템플릿 파일을 찾을 수 없습니다: " + templatePath);
         } catch (IOException e) {
             log.error("템플릿 로드 실패: {}", getTemplatePath(), e);
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
@@ -58,18 +69,22 @@ public abstract class AbstractScriptGenerator implements ScriptGenerator {
     /**
      * 스크립트 파일 저장
      *
-     * @param script        스크립트 내용
+     * <p>템플릿을 출력 파일에 바로 렌더링하므로 스크립트 전체를 메모리에 만들지 않습니다.
+     *
+     * @param template      컴파일된 템플릿
+     * @param sections      플레이스홀더 이름 → 섹션
      * @param outputDirPath 출력 디렉토리 상대 경로 (baseReleasePath 기준)
      */
-    protected void saveScript(String script, String outputDirPath) {
+    protected void saveScript(ScriptTemplate template, Map<String, ScriptSection> sections, String outputDirPath) {
         try {
-            // CRLF를 LF로 변환 (Linux 환경에서 실행 가능하도록)
-            script = script.replace("\r\n", "\n").replace("\r", "\n");
-
             // 스크립트 파일 저장 (baseReleasePath + 상대 경로)
             Path scriptPath = Paths.get(baseReleasePath, outputDirPath, getScriptFileName());
             Files.createDirectories(scriptPath.getParent());
-            Files.writeString(scriptPath, script);
+
+            // CRLF를 LF로 변환 (Linux 환경에서 실행 가능하도록)
+            try (Writer writer = new LineFeedWriter(Files.newBufferedWriter(scriptPath))) {
+                template.render(sections, writer);
+            }
 
             // 실행 권한 부여 (Linux/Mac에서만 작동)
             if (!System.getProperty("os.name").toLowerCase().contains("win")) {
@@ -85,6 +100,26 @@ public abstract class AbstractScriptGenerator implements ScriptGenerator {
         }
     }
 
+    /**
+     * 스크립트 렌더링 결과 측정 (파일을 생성하지 않음)
+     *
+     * <p>저장 시와 같은 줄바꿈 변환을 거친 결과의 줄 수와 UTF-8 크기를 계산합니다.
+     *
+     * @param template 컴파일된 템플릿
+     * @param sections 플레이스홀더 이름 → 섹션
+     * @return 스크립트 미리보기
+     */
+    protected ScriptPreview measureScript(ScriptTemplate template, Map<String, ScriptSection> sections) {
+        CountingWriter counter = new CountingWriter();
+        try (Writer writer = new LineFeedWriter(counter)) {
+            template.render(sections, writer);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "스크립트 미리보기 실패: " + e.getMessage());
+        }
+        return new ScriptPreview(getScriptFileName(), counter.lineCount(), counter.byteCount());
+    }
+
     /**
      * 데이터베이스 타입 반환 (로그용)
      *
@@ -100,14 +135,21 @@ public abstract class AbstractScriptGenerator implements ScriptGenerator {
      * "1.1.1:2025-11-10:jhlee:버그 수정"
      * </pre>
      */
-    protected String buildVersionMetadata(List<ReleaseVersion> versions) {
-        return versions.stream()
-                .map(v -> String.format("    \"%s:%s:%s:%s\"",
-                        v.getVersion(),
-                        v.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")),
-                        v.getCreatedByName(),
-                        v.getComment() != null ? v.getComment().replace("\"", "\\\"") : ""))
-                .collect(Collectors.joining("\n"));
+    protected ScriptSection buildVersionMetadata(List<ReleaseVersion> versions) {
+        return writer -> {
+            for (int i = 0; i < versions.size(); i++) {
+                ReleaseVersion v = versions.get(i);
+                if (i > 0) {
+                    writer.write('\n');
+                }
+                writer.append("    \"")
+                        .append(v.getVersion()).append(':')
+                        .append(v.getCreatedAt().format(METADATA_DATE_FORMATTER)).append(':')
+                        .append(String.valueOf(v.getCreatedByName())).append(':')
+                        .append(v.getComment() != null ? v.getComment().replace("\"", "\\\"") : "")
+                        .append('"');
+            }
+        };
     }
 
     /**
@@ -136,4 +178,106 @@ public abstract class AbstractScriptGenerator implements ScriptGenerator {
     protected String getCurrentDateTime() {
         return LocalDateTime.now().format(DATE_FORMATTER);
     }
+
+    /**
+     * 출력 없이 줄 수와 UTF-8 크기만 계산하는 Writer
+     */
+    private static final class CountingWriter extends Writer {
+
+        private long newlineCount;
+        private long byteCount;
+        private int lastChar = -1;
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                count(chars[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                count(str.charAt(i));
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void count(char c) {
+            if (c == '\n') {
+                newlineCount++;
+            }
+            // 서로게이트 쌍은 각각 2바이트로 계산 (합계 4바이트)
+            byteCount += c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+            lastChar = c;
+        }
+
+        long lineCount() {
+            return newlineCount + (lastChar != -1 && lastChar != '\n' ? 1 : 0);
+        }
+
+        long byteCount() {
+            return byteCount;
+        }
+    }
+
+    /**
+     * 줄바꿈을 LF로 변환하는 Writer (CRLF, CR → LF)
+     */
+    private static final class LineFeedWriter extends FilterWriter {
+
+        private boolean pendingCarriageReturn;
+
+        private LineFeedWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            if (pendingCarriageReturn) {
+                pendingCarriageReturn = false;
+                out.write('\n');
+                if (c == '\n') {
+                    return;
+                }
+            }
+            if (c == '\r') {
+                pendingCarriageReturn = true;
+            } else {
+                out.write(c);
+            }
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            write(new String(chars, offset, length), 0, length);
+        }
+
+        @Override
+        public void write(String str, int offset, int length) throws IOException {
+            if (!pendingCarriageReturn && str.indexOf('\r', offset) < 0) {
+                out.write(str, offset, length);
+                return;
+            }
+            for (int i = offset; i < offset + length; i++) {
+                write(str.charAt(i));
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (pendingCarriageReturn) {
+                pendingCarriageReturn = false;
+                out.write('\n');
+            }
+            super.close();
+        }
+    }
 }
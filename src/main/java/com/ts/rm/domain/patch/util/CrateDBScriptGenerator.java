@@ -2,7 +2,9 @@ package com.ts.rm.domain.patch.util;
 
 import com.ts.rm.domain.releasefile.entity.ReleaseFile;
 import com.ts.rm.domain.releaseversion.entity.ReleaseVersion;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -17,6 +19,13 @@ import org.springframework.stereotype.Component;
 @Component("crateDBScriptGenerator")
 public class CrateDBScriptGenerator extends AbstractScriptGenerator {
 
+    private final PatchSegmentCache segmentCache;
+
+    public CrateDBScriptGenerator(ScriptTemplateCache templateCache, PatchSegmentCache segmentCache) {
+        super(templateCache);
+        this.segmentCache = segmentCache;
+    }
+
     @Override
     protected String getTemplatePath() {
         return "templates/CRATEDB/cratedb_patch_template.sh";
@@ -54,19 +63,37 @@ public class CrateDBScriptGenerator extends AbstractScriptGenerator {
             String defaultPatchedBy) {
 
         // 템플릿 로드
-        String template = loadTemplate();
-
-        // 변수 치환
-        String script = template
-                .replace("{{GENERATED_DATE}}", getCurrentDateTime())
-                .replace("{{FROM_VERSION}}", fromVersion)
-                .replace("{{TO_VERSION}}", toVersion)
-                .replace("{{VERSION_COUNT}}", String.valueOf(versions.size()))
-                .replace("{{VERSION_METADATA}}", buildVersionMetadata(versions))
-                .replace("{{SQL_EXECUTION_COMMANDS}}", buildCrateDBSqlExecutionCommands(cratedbFiles, versions));
-
-        // 스크립트 저장
-        saveScript(script, outputDirPath);
+        ScriptTemplate template = loadTemplate();
+
+        // 변수 치환 및 스크립트 저장 (SQL 실행 명령은 버전 블록 단위로 출력 파일에 직접 기록)
+        saveScript(template, buildPatchScriptSections(fromVersion, toVersion, versions, cratedbFiles),
+                outputDirPath);
+    }
+
+    @Override
+    public ScriptPreview previewPatchScript(
+            String projectId,
+            String fromVersion,
+            String toVersion,
+            List<ReleaseVersion> versions,
+            List<ReleaseFile> cratedbFiles,
+            String defaultPatchedBy) {
+        return measureScript(loadTemplate(),
+                buildPatchScriptSections(fromVersion, toVersion, versions, cratedbFiles));
+    }
+
+    /**
+     * 패치 스크립트 섹션 생성 (플레이스홀더 이름 → 섹션)
+     */
+    private Map<String, ScriptSection> buildPatchScriptSections(String fromVersion, String toVersion,
+            List<ReleaseVersion> versions, List<ReleaseFile> cratedbFiles) {
+        return Map.of(
+                "GENERATED_DATE", ScriptSection.of(getCurrentDateTime()),
+                "FROM_VERSION", ScriptSection.of(fromVersion),
+                "TO_VERSION", ScriptSection.of(toVersion),
+                "VERSION_COUNT", ScriptSection.of(String.valueOf(versions.size())),
+                "VERSION_METADATA", buildVersionMetadata(versions),
+                "SQL_EXECUTION_COMMANDS", buildCrateDBSqlExecutionCommands(cratedbFiles, versions));
     }
 
     /**
@@ -96,23 +123,21 @@ public class CrateDBScriptGenerator extends AbstractScriptGenerator {
         }
 
         // 템플릿 로드
-        String template = loadTemplate();
+        ScriptTemplate template = loadTemplate();
 
         // 핫픽스 버전 정보
         String hotfixBaseVersion = hotfixVersion.getVersion();  // 예: 1.1.0
         String fullVersion = hotfixVersion.getFullVersion();     // 예: 1.1.0.1
 
-        // 변수 치환 (핫픽스용)
-        String script = template
-                .replace("{{GENERATED_DATE}}", getCurrentDateTime())
-                .replace("{{FROM_VERSION}}", hotfixBaseVersion)
-                .replace("{{TO_VERSION}}", fullVersion)
-                .replace("{{VERSION_COUNT}}", "1")
-                .replace("{{VERSION_METADATA}}", buildHotfixVersionMetadata(hotfixVersion))
-                .replace("{{SQL_EXECUTION_COMMANDS}}", buildHotfixSqlExecutionCommands(cratedbFiles, fullVersion));
-
-        // 스크립트 저장
-        saveScript(script, outputDirPath);
+        // 변수 치환 및 스크립트 저장 (핫픽스용)
+        saveScript(template, Map.of(
+                "GENERATED_DATE", ScriptSection.of(getCurrentDateTime()),
+                "FROM_VERSION", ScriptSection.of(hotfixBaseVersion),
+                "TO_VERSION", ScriptSection.of(fullVersion),
+                "VERSION_COUNT", ScriptSection.of("1"),
+                "VERSION_METADATA", ScriptSection.of(buildHotfixVersionMetadata(hotfixVersion)),
+                "SQL_EXECUTION_COMMANDS", ScriptSection.of(buildHotfixSqlExecutionCommands(cratedbFiles, fullVersion))),
+                outputDirPath);
 
         log.info("핫픽스 CrateDB 패치 스크립트 생성 완료: {} ({})", fullVersion, outputDirPath);
     }
@@ -121,11 +146,11 @@ public class CrateDBScriptGenerator extends AbstractScriptGenerator {
      * 핫픽스 버전 메타데이터 생성
      */
     private String buildHotfixVersionMetadata(ReleaseVersion hotfixVersion) {
-        return String.format("    \"%s:%s:%s:%s\"",
-                hotfixVersion.getFullVersion(),
-                hotfixVersion.getCreatedAt().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd")),
-                hotfixVersion.getCreatedByName(),
-                hotfixVersion.getComment() != null ? hotfixVersion.getComment().replace("\"", "\\\"") : "핫픽스");
+        return "    \"" + hotfixVersion.getFullVersion()
+                + ":" + hotfixVersion.getCreatedAt().format(METADATA_DATE_FORMATTER)
+                + ":" + hotfixVersion.getCreatedByName()
+                + ":" + (hotfixVersion.getComment() != null ? hotfixVersion.getComment().replace("\"", "\\\"") : "핫픽스")
+                + "\"";
     }
 
     /**
@@ -140,17 +165,9 @@ public class CrateDBScriptGenerator extends AbstractScriptGenerator {
     private String buildHotfixSqlExecutionCommands(List<ReleaseFile> files, String fullVersion) {
         StringBuilder commands = new StringBuilder();
 
-        commands.append(String.format("log_step \"핫픽스 %s 패치 적용 중...\"\n", fullVersion));
-
-        // 실행 순서대로 정렬된 파일 실행
-        files.stream()
-                .sorted((a, b) -> Integer.compare(a.getExecutionOrder(), b.getExecutionOrder()))
-                .forEach(file -> {
-                    commands.append(String.format("log_info \"실행: %s\"\n", file.getFileName()));
-                    commands.append(String.format("execute_sql \"%s\"\n", file.getFileName()));
-                });
-
-        commands.append(String.format("log_success \"핫픽스 %s 패치 완료!\"\n\n", fullVersion));
+        commands.append("log_step \"핫픽스 ").append(fullVersion).append(" 패치 적용 중...\"\n");
+        appendExecuteCommands(commands, files);
+        commands.append("log_success \"핫픽스 ").append(fullVersion).append(" 패치 완료!\"\n\n");
 
         return commands.toString();
     }
@@ -165,38 +182,54 @@ public class CrateDBScriptGenerator extends AbstractScriptGenerator {
      * @param versions 버전 리스트 (순서 보장)
      * @return SQL 실행 명령어
      */
-    private String buildCrateDBSqlExecutionCommands(List<ReleaseFile> files, List<ReleaseVersion> versions) {
+    private ScriptSection buildCrateDBSqlExecutionCommands(List<ReleaseFile> files, List<ReleaseVersion> versions) {
         // 버전별로 그룹화
         var filesByVersion = files.stream()
                 .collect(Collectors.groupingBy(f -> f.getReleaseVersion().getVersion()));
 
-        StringBuilder commands = new StringBuilder();
+        // 버전 리스트 순서대로 실행 명령 생성 (순서 보장, 승인된 버전은 캐시된 블록 재사용)
+        return writer -> {
+            for (ReleaseVersion version : versions) {
+                List<ReleaseFile> versionFiles = filesByVersion.get(version.getVersion());
 
-        // 버전 리스트 순서대로 실행 명령 생성 (순서 보장)
-        for (ReleaseVersion version : versions) {
-            String versionStr = version.getVersion();
-            List<ReleaseFile> versionFiles = filesByVersion.get(versionStr);
+                // 해당 버전에 CrateDB 파일이 없으면 스킵
+                if (versionFiles == null || versionFiles.isEmpty()) {
+                    continue;
+                }
 
-            // 해당 버전에 CrateDB 파일이 없으면 스킵
-            if (versionFiles == null || versionFiles.isEmpty()) {
-                continue;
+                writer.write(segmentCache.getOrRender(getDatabaseType(), version, versionFiles,
+                        () -> buildVersionBlock(version.getVersion(), versionFiles)));
             }
+        };
+    }
 
-            commands.append(String.format("log_step \"버전 %s 패치 적용 중...\"\n", versionStr));
-            commands.append(String.format("cd \"%s\"\n", versionStr));
-
-            // 실행 순서대로 정렬된 파일 실행
-            versionFiles.stream()
-                    .sorted((a, b) -> Integer.compare(a.getExecutionOrder(), b.getExecutionOrder()))
-                    .forEach(file -> {
-                        commands.append(String.format("log_info \"실행: %s\"\n", file.getFileName()));
-                        commands.append(String.format("execute_sql \"%s\"\n", file.getFileName()));
-                    });
+    /**
+     * 버전 실행 블록 생성
+     *
+     * @param versionStr   버전 (예: 1.1.0)
+     * @param versionFiles 버전의 CrateDB SQL 파일 리스트
+     * @return 버전 실행 블록 (log_step ~ log_success)
+     */
+    private String buildVersionBlock(String versionStr, List<ReleaseFile> versionFiles) {
+        StringBuilder commands = new StringBuilder();
 
-            commands.append("cd ..\n");
-            commands.append(String.format("log_success \"버전 %s 패치 완료!\"\n\n", versionStr));
-        }
+        commands.append("log_step \"버전 ").append(versionStr).append(" 패치 적용 중...\"\n");
+        commands.append("cd \"").append(versionStr).append("\"\n");
+        appendExecuteCommands(commands, versionFiles);
+        commands.append("cd ..\n");
+        commands.append("log_success \"버전 ").append(versionStr).append(" 패치 완료!\"\n\n");
 
         return commands.toString();
     }
+
+    /**
+     * 실행 순서대로 정렬된 SQL 파일 실행 명령 추가
+     */
+    private void appendExecuteCommands(StringBuilder commands, List<ReleaseFile> files) {
+        files.stream()
+                .sorted(Comparator.comparing(ReleaseFile::getExecutionOrder))
+                .forEach(file -> commands
+                        .append("log_info \"실행: ").append(file.getFileName()).append("\"\n")
+                        .append("execute_sql \"").append(file.getFileName()).append("\"\n"));
+    }
 }
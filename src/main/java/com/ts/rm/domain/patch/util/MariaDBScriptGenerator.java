@@ -2,8 +2,9 @@ package com.ts.rm.domain.patch.util;
 
 import com.ts.rm.domain.releasefile.entity.ReleaseFile;
 import com.ts.rm.domain.releaseversion.entity.ReleaseVersion;
-import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -24,6 +25,13 @@ public class MariaDBScriptGenerator extends AbstractScriptGenerator {
      */
     private static final List<String> VERSION_HISTORY_PROJECT_IDS = List.of("infraeye1", "infraeye2");
 
+    private final PatchSegmentCache segmentCache;
+
+    public MariaDBScriptGenerator(ScriptTemplateCache templateCache, PatchSegmentCache segmentCache) {
+        super(templateCache);
+        this.segmentCache = segmentCache;
+    }
+
     @Override
     protected String getTemplatePath() {
         return "templates/MARIADB/mariadb_patch_template.sh";
@@ -63,20 +71,43 @@ public class MariaDBScriptGenerator extends AbstractScriptGenerator {
             String outputDirPath,
             String defaultPatchedBy) {
 
+        // 템플릿 로드
+        ScriptTemplate template = loadTemplate();
+
+        // 변수 치환 및 스크립트 저장
+        saveScript(template, buildPatchScriptSections(projectId, fromVersion, toVersion, versions,
+                mariadbFiles, defaultPatchedBy), outputDirPath);
+    }
+
+    @Override
+    public ScriptPreview previewPatchScript(
+            String projectId,
+            String fromVersion,
+            String toVersion,
+            List<ReleaseVersion> versions,
+            List<ReleaseFile> mariadbFiles,
+            String defaultPatchedBy) {
+        return measureScript(loadTemplate(), buildPatchScriptSections(projectId, fromVersion, toVersion,
+                versions, mariadbFiles, defaultPatchedBy));
+    }
+
+    /**
+     * 패치 스크립트 섹션 생성 (플레이스홀더 이름 → 섹션)
+     */
+    private Map<String, ScriptSection> buildPatchScriptSections(String projectId, String fromVersion,
+            String toVersion, List<ReleaseVersion> versions, List<ReleaseFile> mariadbFiles,
+            String defaultPatchedBy) {
         // VERSION_HISTORY INSERT가 필요한 프로젝트인지 확인
         boolean includeVersionHistory = VERSION_HISTORY_PROJECT_IDS.contains(projectId);
 
-        // 템플릿 로드
-        String template = loadTemplate();
-
-        // SQL 실행 명령어 생성
-        String sqlCommands;
+        // SQL 실행 명령어 생성 (버전 블록 단위로 출력 파일에 직접 기록)
+        ScriptSection sqlCommands;
         if (mariadbFiles.isEmpty()) {
             if (includeVersionHistory) {
                 sqlCommands = buildVersionHistoryOnlyCommands(versions);
             } else {
                 // VERSION_HISTORY도 없고 SQL 파일도 없으면 빈 명령어
-                sqlCommands = "log_info \"이 패치에는 MariaDB SQL 파일이 없습니다.\"\n";
+                sqlCommands = ScriptSection.of("log_info \"이 패치에는 MariaDB SQL 파일이 없습니다.\"\n");
             }
         } else {
             sqlCommands = buildSqlExecutionCommands(mariadbFiles, versions, includeVersionHistory);
@@ -87,18 +118,14 @@ public class MariaDBScriptGenerator extends AbstractScriptGenerator {
                 ? defaultPatchedBy.trim()
                 : "";
 
-        // 변수 치환
-        String script = template
-                .replace("{{GENERATED_DATE}}", getCurrentDateTime())
-                .replace("{{FROM_VERSION}}", fromVersion)
-                .replace("{{TO_VERSION}}", toVersion)
-                .replace("{{VERSION_COUNT}}", String.valueOf(versions.size()))
-                .replace("{{VERSION_METADATA}}", buildVersionMetadata(versions))
-                .replace("{{SQL_EXECUTION_COMMANDS}}", sqlCommands)
-                .replace("{{DEFAULT_PATCHED_BY}}", patchedByDefault);
-
-        // 스크립트 저장
-        saveScript(script, outputDirPath);
+        return Map.of(
+                "GENERATED_DATE", ScriptSection.of(getCurrentDateTime()),
+                "FROM_VERSION", ScriptSection.of(fromVersion),
+                "TO_VERSION", ScriptSection.of(toVersion),
+                "VERSION_COUNT", ScriptSection.of(String.valueOf(versions.size())),
+                "VERSION_METADATA", buildVersionMetadata(versions),
+                "SQL_EXECUTION_COMMANDS", sqlCommands,
+                "DEFAULT_PATCHED_BY", ScriptSection.of(patchedByDefault));
     }
 
     /**
@@ -110,19 +137,27 @@ public class MariaDBScriptGenerator extends AbstractScriptGenerator {
      * @param versions 버전 리스트
      * @return VERSION_HISTORY INSERT 명령어
      */
-    private String buildVersionHistoryOnlyCommands(List<ReleaseVersion> versions) {
-        StringBuilder commands = new StringBuilder();
-
-        commands.append("log_info \"이 패치에는 MariaDB SQL 파일이 없습니다.\"\n");
-        commands.append("log_info \"VERSION_HISTORY에 버전 이력만 기록합니다.\"\n\n");
-
-        for (ReleaseVersion version : versions) {
-            commands.append(String.format("log_step \"버전 %s 이력 기록 중...\"\n", version.getVersion()));
-            commands.append(buildVersionHistoryInsertCommand(version));
-            commands.append(String.format("log_success \"버전 %s 이력 기록 완료!\"\n\n", version.getVersion()));
-        }
+    private ScriptSection buildVersionHistoryOnlyCommands(List<ReleaseVersion> versions) {
+        return writer -> {
+            writer.write("log_info \"이 패치에는 MariaDB SQL 파일이 없습니다.\"\n");
+            writer.write("log_info \"VERSION_HISTORY에 버전 이력만 기록합니다.\"\n\n");
+
+            for (ReleaseVersion version : versions) {
+                writer.write(segmentCache.getOrRender(getDatabaseType() + "+VERSION_HISTORY_ONLY", version,
+                        List.of(), () -> buildVersionHistoryOnlyBlock(version)));
+            }
+        };
+    }
 
-        return commands.toString();
+    /**
+     * 버전 이력 기록 블록 생성
+     */
+    private String buildVersionHistoryOnlyBlock(ReleaseVersion version) {
+        return new StringBuilder()
+                .append("log_step \"버전 ").append(version.getVersion()).append(" 이력 기록 중...\"\n")
+                .append(buildVersionHistoryInsertCommand(version))
+                .append("log_success \"버전 ").append(version.getVersion()).append(" 이력 기록 완료!\"\n\n")
+                .toString();
     }
 
     /**
@@ -137,50 +172,69 @@ public class MariaDBScriptGenerator extends AbstractScriptGenerator {
      * @param includeVersionHistory VERSION_HISTORY INSERT 포함 여부
      * @return SQL 실행 명령어
      */
-    private String buildSqlExecutionCommands(List<ReleaseFile> files, List<ReleaseVersion> versions,
+    private ScriptSection buildSqlExecutionCommands(List<ReleaseFile> files, List<ReleaseVersion> versions,
             boolean includeVersionHistory) {
         // 버전별로 그룹화
         var filesByVersion = files.stream()
                 .collect(Collectors.groupingBy(f -> f.getReleaseVersion().getVersion()));
 
-        StringBuilder commands = new StringBuilder();
-
-        // 모든 버전에 대해 처리 (SQL 파일 유무와 관계없이)
-        for (ReleaseVersion version : versions) {
-            String versionStr = version.getVersion();
-            List<ReleaseFile> versionFiles = filesByVersion.get(versionStr);
+        String segmentKind = includeVersionHistory ? getDatabaseType() + "+VERSION_HISTORY" : getDatabaseType();
 
-            commands.append(String.format("log_step \"버전 %s 패치 적용 중...\"\n", versionStr));
-
-            if (versionFiles != null && !versionFiles.isEmpty()) {
-                // SQL 파일이 있는 경우: 디렉토리 이동 후 SQL 실행
-                commands.append(String.format("cd \"%s\"\n", versionStr));
+        // 모든 버전에 대해 처리 (SQL 파일 유무와 관계없이, 승인된 버전은 캐시된 블록 재사용)
+        return writer -> {
+            for (ReleaseVersion version : versions) {
+                List<ReleaseFile> versionFiles = filesByVersion.getOrDefault(version.getVersion(), List.of());
+                writer.write(segmentCache.getOrRender(segmentKind, version, versionFiles,
+                        () -> buildVersionBlock(version, versionFiles, includeVersionHistory)));
+            }
+        };
+    }
 
-                // 실행 순서대로 정렬된 파일 실행
-                versionFiles.stream()
-                        .sorted((a, b) -> Integer.compare(a.getExecutionOrder(), b.getExecutionOrder()))
-                        .forEach(file -> {
-                            commands.append(String.format("log_info \"실행: %s\"\n", file.getFileName()));
-                            commands.append(String.format("execute_sql \"%s\"\n", file.getFileName()));
-                        });
+    /**
+     * 버전 실행 블록 생성
+     *
+     * @param version               릴리즈 버전
+     * @param versionFiles          버전의 MariaDB SQL 파일 리스트 (빈 리스트 가능)
+     * @param includeVersionHistory VERSION_HISTORY INSERT 포함 여부
+     * @return 버전 실행 블록 (log_step ~ log_success)
+     */
+    private String buildVersionBlock(ReleaseVersion version, List<ReleaseFile> versionFiles,
+            boolean includeVersionHistory) {
+        String versionStr = version.getVersion();
+        StringBuilder commands = new StringBuilder();
 
-                commands.append("cd ..\n");
-            } else {
-                // SQL 파일이 없는 경우
-                commands.append("log_info \"이 버전에는 MariaDB SQL 파일이 없습니다.\"\n");
-            }
+        commands.append("log_step \"버전 ").append(versionStr).append(" 패치 적용 중...\"\n");
 
-            // VERSION_HISTORY INSERT는 infraeye1, infraeye2 프로젝트에서만 실행
-            if (includeVersionHistory) {
-                commands.append(buildVersionHistoryInsertCommand(version));
-            }
+        if (!versionFiles.isEmpty()) {
+            // SQL 파일이 있는 경우: 디렉토리 이동 후 SQL 실행
+            commands.append("cd \"").append(versionStr).append("\"\n");
+            appendExecuteCommands(commands, versionFiles);
+            commands.append("cd ..\n");
+        } else {
+            // SQL 파일이 없는 경우
+            commands.append("log_info \"이 버전에는 MariaDB SQL 파일이 없습니다.\"\n");
+        }
 
-            commands.append(String.format("log_success \"버전 %s 패치 완료!\"\n\n", versionStr));
+        // VERSION_HISTORY INSERT는 infraeye1, infraeye2 프로젝트에서만 실행
+        if (includeVersionHistory) {
+            commands.append(buildVersionHistoryInsertCommand(version));
         }
 
+        commands.append("log_success \"버전 ").append(versionStr).append(" 패치 완료!\"\n\n");
         return commands.toString();
     }
 
+    /**
+     * 실행 순서대로 정렬된 SQL 파일 실행 명령 추가
+     */
+    private void appendExecuteCommands(StringBuilder commands, List<ReleaseFile> files) {
+        files.stream()
+                .sorted(Comparator.comparing(ReleaseFile::getExecutionOrder))
+                .forEach(file -> commands
+                        .append("log_info \"실행: ").append(file.getFileName()).append("\"\n")
+                        .append("execute_sql \"").append(file.getFileName()).append("\"\n"));
+    }
+
     /**
      * 핫픽스 패치 스크립트 생성
      *
@@ -206,7 +260,7 @@ public class MariaDBScriptGenerator extends AbstractScriptGenerator {
         boolean includeVersionHistory = VERSION_HISTORY_PROJECT_IDS.contains(projectId);
 
         // 템플릿 로드
-        String template = loadTemplate();
+        ScriptTemplate template = loadTemplate();
 
         // 핫픽스 버전 정보
         String hotfixBaseVersion = hotfixVersion.getVersion();  // 예: 1.1.0
@@ -230,18 +284,15 @@ public class MariaDBScriptGenerator extends AbstractScriptGenerator {
                 ? defaultPatchedBy.trim()
                 : "";
 
-        // 변수 치환 (핫픽스용)
-        String script = template
-                .replace("{{GENERATED_DATE}}", getCurrentDateTime())
-                .replace("{{FROM_VERSION}}", hotfixBaseVersion)
-                .replace("{{TO_VERSION}}", fullVersion)
-                .replace("{{VERSION_COUNT}}", "1")
-                .replace("{{VERSION_METADATA}}", buildHotfixVersionMetadata(hotfixVersion))
-                .replace("{{SQL_EXECUTION_COMMANDS}}", sqlCommands)
-                .replace("{{DEFAULT_PATCHED_BY}}", patchedByDefault);
-
-        // 스크립트 저장
-        saveScript(script, outputDirPath);
+        // 변수 치환 및 스크립트 저장 (핫픽스용)
+        saveScript(template, Map.of(
+                "GENERATED_DATE", ScriptSection.of(getCurrentDateTime()),
+                "FROM_VERSION", ScriptSection.of(hotfixBaseVersion),
+                "TO_VERSION", ScriptSection.of(fullVersion),
+                "VERSION_COUNT", ScriptSection.of("1"),
+                "VERSION_METADATA", ScriptSection.of(buildHotfixVersionMetadata(hotfixVersion)),
+                "SQL_EXECUTION_COMMANDS", ScriptSection.of(sqlCommands),
+                "DEFAULT_PATCHED_BY", ScriptSection.of(patchedByDefault)), outputDirPath);
 
         log.info("핫픽스 MariaDB 패치 스크립트 생성 완료: {} ({})", fullVersion, outputDirPath);
     }
@@ -250,11 +301,11 @@ public class MariaDBScriptGenerator extends AbstractScriptGenerator {
      * 핫픽스 버전 메타데이터 생성
      */
     private String buildHotfixVersionMetadata(ReleaseVersion hotfixVersion) {
-        return String.format("    \"%s:%s:%s:%s\"",
-                hotfixVersion.getFullVersion(),
-                hotfixVersion.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")),
-                hotfixVersion.getCreatedByName(),
-                hotfixVersion.getComment() != null ? hotfixVersion.getComment().replace("\"", "\\\"") : "핫픽스");
+        return "    \"" + hotfixVersion.getFullVersion()
+                + ":" + hotfixVersion.getCreatedAt().format(METADATA_DATE_FORMATTER)
+                + ":" + hotfixVersion.getCreatedByName()
+                + ":" + (hotfixVersion.getComment() != null ? hotfixVersion.getComment().replace("\"", "\\\"") : "핫픽스")
+                + "\"";
     }
 
     /**
@@ -266,9 +317,9 @@ public class MariaDBScriptGenerator extends AbstractScriptGenerator {
         commands.append("log_info \"이 핫픽스에는 MariaDB SQL 파일이 없습니다.\"\n");
         commands.append("log_info \"VERSION_HISTORY에 핫픽스 이력만 기록합니다.\"\n\n");
 
-        commands.append(String.format("log_step \"핫픽스 %s 이력 기록 중...\"\n", hotfixVersion.getFullVersion()));
+        commands.append("log_step \"핫픽스 ").append(hotfixVersion.getFullVersion()).append(" 이력 기록 중...\"\n");
         commands.append(buildHotfixVersionHistoryInsertCommand(hotfixVersion));
-        commands.append(String.format("log_success \"핫픽스 %s 이력 기록 완료!\"\n\n", hotfixVersion.getFullVersion()));
+        commands.append("log_success \"핫픽스 ").append(hotfixVersion.getFullVersion()).append(" 이력 기록 완료!\"\n\n");
 
         return commands.toString();
     }
@@ -287,22 +338,17 @@ public class MariaDBScriptGenerator extends AbstractScriptGenerator {
 
         String fullVersion = hotfixVersion.getFullVersion();
 
-        commands.append(String.format("log_step \"핫픽스 %s 패치 적용 중...\"\n", fullVersion));
+        commands.append("log_step \"핫픽스 ").append(fullVersion).append(" 패치 적용 중...\"\n");
 
         // SQL 파일 실행 (핫픽스는 단일 디렉토리에 있으므로 디렉토리 이동 없이 실행)
-        files.stream()
-                .sorted((a, b) -> Integer.compare(a.getExecutionOrder(), b.getExecutionOrder()))
-                .forEach(file -> {
-                    commands.append(String.format("log_info \"실행: %s\"\n", file.getFileName()));
-                    commands.append(String.format("execute_sql \"%s\"\n", file.getFileName()));
-                });
+        appendExecuteCommands(commands, files);
 
         // VERSION_HISTORY INSERT는 infraeye1, infraeye2 프로젝트에서만 실행
         if (includeVersionHistory) {
             commands.append(buildHotfixVersionHistoryInsertCommand(hotfixVersion));
         }
 
-        commands.append(String.format("log_success \"핫픽스 %s 패치 완료!\"\n\n", fullVersion));
+        commands.append("log_success \"핫픽스 ").append(fullVersion).append(" 패치 완료!\"\n\n");
 
         return commands.toString();
     }
@@ -330,7 +376,7 @@ public class MariaDBScriptGenerator extends AbstractScriptGenerator {
 
         // VERSION_CREATED_AT 포맷
         String createdAtValue = hotfixVersion.getCreatedAt() != null
-                ? "'" + hotfixVersion.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")) + "'"
+                ? "'" + hotfixVersion.getCreatedAt().format(DATE_FORMATTER) + "'"
                 : "NOW()";
 
         command.append("log_info \"VERSION_HISTORY에 핫픽스 정보 기록 중...\"\n");
@@ -379,7 +425,7 @@ public class MariaDBScriptGenerator extends AbstractScriptGenerator {
 
         // VERSION_CREATED_AT 포맷
         String createdAtValue = releaseVersion.getCreatedAt() != null
-                ? "'" + releaseVersion.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")) + "'"
+                ? "'" + releaseVersion.getCreatedAt().format(DATE_FORMATTER) + "'"
                 : "NOW()";
 
         command.append("log_info \"VERSION_HISTORY에 버전 정보 기록 중...\"\n");
@@ -0,0 +1,124 @@
+package com.ts.rm.domain.patch.util;
+
+import com.ts.rm.domain.releasefile.entity.ReleaseFile;
+import com.ts.rm.domain.releaseversion.entity.ReleaseVersion;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 패치 스크립트 세그먼트 캐시
+ *
+ * <p>누적 패치 스크립트는 버전별 실행 블록(log_step ~ log_success)을 이어 붙인 것이므로,
+ * 승인된 버전의 블록은 고객사/패치 범위가 달라도 그대로 재사용할 수 있습니다.
+ * 블록은 버전 ID와 지문으로 식별합니다. 지문은 호출 시 DB에서 조회한 버전 정보(버전, 커스텀 버전,
+ * 코멘트, 생성일시, 생성자)와 파일 정보(파일 ID, 파일명, 실행 순서, 체크섬)로 만들며,
+ * 조회할 때마다 비교해 달라졌으면 새로 렌더링해 교체합니다.
+ * <p>캐시는 노드별 메모리에 있으므로 다른 노드에서 변경된 내용은 이 지문 비교로 감지합니다.
+ * {@link #evict(Long)}는 정합성이 아니라 더 이상 쓰지 않을 블록의 메모리를 비우기 위한 것입니다.
+ * <p>미승인 버전은 내용이 계속 바뀔 수 있으므로 캐시하지 않습니다.
+ * <p>버전당 세그먼트 종류(DB 종류별)만큼만 보관하므로 크기는 승인된 버전 수에 비례합니다.
+ */
+@Slf4j
+@Component
+public class PatchSegmentCache {
+
+    /**
+     * 버전 ID → (세그먼트 종류 → 세그먼트)
+     */
+    private final Map<Long, Map<String, Segment>> segmentsByVersionId = new ConcurrentHashMap<>();
+
+    /**
+     * 버전 실행 블록 조회 (없거나 지문이 다르면 렌더링 후 저장)
+     *
+     * @param kind     세그먼트 종류 (예: MariaDB, MariaDB+VERSION_HISTORY, CrateDB)
+     * @param version  릴리즈 버전
+     * @param files    버전의 스크립트 대상 파일 목록
+     * @param renderer 실행 블록 렌더러
+     * @return 버전 실행 블록
+     */
+    public String getOrRender(String kind, ReleaseVersion version, List<ReleaseFile> files,
+            Supplier<String> renderer) {
+        Long versionId = version.getReleaseVersionId();
+        if (versionId == null || !Boolean.TRUE.equals(version.getIsApproved())) {
+            return renderer.get();
+        }
+
+        String fingerprint = fingerprint(version, files);
+        Map<String, Segment> segments = segmentsByVersionId.computeIfAbsent(versionId,
+                id -> new ConcurrentHashMap<>());
+        Segment cached = segments.get(kind);
+        if (cached != null && cached.fingerprint().equals(fingerprint)) {
+            return cached.block();
+        }
+
+        String block = renderer.get();
+        segments.put(kind, new Segment(fingerprint, block));
+        return block;
+    }
+
+    /**
+     * 버전 세그먼트 무효화
+     *
+     * <p>트랜잭션 안에서 호출되면 커밋 이후에 무효화하고, 롤백되면 무효화하지 않습니다.
+     * (커밋 전 다른 요청이 이전 데이터로 다시 캐시하는 것을 막고, 롤백 후 재시도 시 중복 실행되지 않도록)
+     *
+     * @param versionId 릴리즈 버전 ID
+     */
+    public void evict(Long versionId) {
+        if (versionId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(versionId);
+                }
+            });
+            return;
+        }
+        evictNow(versionId);
+    }
+
+    private void evictNow(Long versionId) {
+        if (segmentsByVersionId.remove(versionId) != null) {
+            log.debug("패치 스크립트 세그먼트 무효화 - versionId: {}", versionId);
+        }
+    }
+
+    /**
+     * 캐시된 버전 수
+     */
+    public int size() {
+        return segmentsByVersionId.size();
+    }
+
+    /**
+     * 지문 생성 (렌더링에 쓰이는 버전 정보 + 파일 정보, 파일은 실행 순서 → 파일 ID 순으로 정렬)
+     */
+    private static String fingerprint(ReleaseVersion version, List<ReleaseFile> files) {
+        String versionPart = String.join(":", String.valueOf(version.getVersion()),
+                String.valueOf(version.getCustomVersion()), String.valueOf(version.getComment()),
+                String.valueOf(version.getCreatedAt()), String.valueOf(version.getCreatedByName()));
+        String filePart = files.stream()
+                .sorted(Comparator.comparing(ReleaseFile::getExecutionOrder,
+                                Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(ReleaseFile::getReleaseFileId,
+                                Comparator.nullsFirst(Comparator.naturalOrder())))
+                .map(file -> file.getReleaseFileId() + ":" + file.getFileName() + ":"
+                        + file.getExecutionOrder() + ":" + file.getChecksum())
+                .collect(Collectors.joining("|"));
+        return versionPart + "|" + filePart;
+    }
+
+    private record Segment(String fingerprint, String block) {
+    }
+}
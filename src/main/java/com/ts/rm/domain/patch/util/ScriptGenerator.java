@@ -31,6 +31,25 @@ public interface ScriptGenerator {
             String outputDirPath,
             String defaultPatchedBy);
 
+    /**
+     * 패치 스크립트 미리보기 (파일을 생성하지 않고 렌더링 결과의 줄 수와 크기만 계산)
+     *
+     * @param projectId        프로젝트 ID
+     * @param fromVersion      From 버전
+     * @param toVersion        To 버전
+     * @param versions         버전 리스트
+     * @param files            SQL 파일 리스트
+     * @param defaultPatchedBy 패치 담당자 기본값 (nullable)
+     * @return 스크립트 미리보기
+     */
+    ScriptPreview previewPatchScript(
+            String projectId,
+            String fromVersion,
+            String toVersion,
+            List<ReleaseVersion> versions,
+            List<ReleaseFile> files,
+            String defaultPatchedBy);
+
     /**
      * 스크립트 파일명 반환
      *
@@ -0,0 +1,16 @@
+package com.ts.rm.domain.patch.util;
+
+/**
+ * 패치 스크립트 미리보기 (렌더링 결과 측정값)
+ *
+ * @param fileName  스크립트 파일명 (예: mariadb_patch.sh)
+ * @param lineCount 줄 수
+ * @param size      크기 (bytes, UTF-8)
+ */
+public record ScriptPreview(
+        String fileName,
+        long lineCount,
+        long size
+) {
+
+}
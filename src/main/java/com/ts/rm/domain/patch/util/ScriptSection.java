@@ -0,0 +1,23 @@
+package com.ts.rm.domain.patch.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 스크립트 템플릿 섹션
+ *
+ * <p>플레이스홀더 위치에 내용을 직접 씁니다. 버전 수에 비례하는 섹션(SQL 실행 명령 등)도
+ * 전체 문자열을 만들지 않고 버전 블록 단위로 출력할 수 있습니다.
+ */
+@FunctionalInterface
+public interface ScriptSection {
+
+    void writeTo(Writer writer) throws IOException;
+
+    /**
+     * 고정 문자열 섹션
+     */
+    static ScriptSection of(String value) {
+        return writer -> writer.write(value);
+    }
+}
@@ -0,0 +1,113 @@
+package com.ts.rm.domain.patch.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 컴파일된 패치 스크립트 템플릿
+ *
+ * <p>템플릿 원문을 리터럴 구간과 {@code {{PLACEHOLDER}}} 구간으로 한 번만 분해해 두고,
+ * 렌더링 시에는 각 구간을 순서대로 {@link Writer}에 바로 씁니다.
+ * 치환 값이 없는 플레이스홀더는 원문 그대로 출력합니다.
+ * <p>템플릿의 줄바꿈(CRLF, CR)은 컴파일 시 LF로 정규화합니다.
+ */
+public final class ScriptTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final List<Part> parts;
+
+    private ScriptTemplate(List<Part> parts) {
+        this.parts = parts;
+    }
+
+    /**
+     * 템플릿 컴파일
+     *
+     * @param source 템플릿 원문
+     * @return 컴파일된 템플릿
+     */
+    public static ScriptTemplate compile(String source) {
+        String normalized = source.replace("\r\n", "\n").replace("\r", "\n");
+        List<Part> parts = new ArrayList<>();
+
+        int position = 0;
+        while (position < normalized.length()) {
+            int open = normalized.indexOf(OPEN, position);
+            int close = open < 0 ? -1 : normalized.indexOf(CLOSE, open + OPEN.length());
+            if (open < 0 || close < 0) {
+                break;
+            }
+
+            String name = normalized.substring(open + OPEN.length(), close);
+            if (!isPlaceholderName(name)) {
+                // 플레이스홀더가 아닌 중괄호는 리터럴로 유지
+                parts.add(new Part(normalized.substring(position, open + OPEN.length()), null));
+                position = open + OPEN.length();
+                continue;
+            }
+
+            if (open > position) {
+                parts.add(new Part(normalized.substring(position, open), null));
+            }
+            parts.add(new Part(normalized.substring(open, close + CLOSE.length()), name));
+            position = close + CLOSE.length();
+        }
+        if (position < normalized.length()) {
+            parts.add(new Part(normalized.substring(position), null));
+        }
+
+        return new ScriptTemplate(List.copyOf(parts));
+    }
+
+    /**
+     * 템플릿 렌더링
+     *
+     * @param sections 플레이스홀더 이름 → 섹션 (예: FROM_VERSION)
+     * @param writer   출력 대상
+     */
+    public void render(Map<String, ScriptSection> sections, Writer writer) throws IOException {
+        for (Part part : parts) {
+            ScriptSection section = part.placeholder() != null ? sections.get(part.placeholder()) : null;
+            if (section != null) {
+                section.writeTo(writer);
+            } else {
+                writer.write(part.text());
+            }
+        }
+    }
+
+    /**
+     * 템플릿에 포함된 플레이스홀더 이름 목록 (등장 순서)
+     */
+    public List<String> placeholders() {
+        return parts.stream()
+                .map(Part::placeholder)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static boolean isPlaceholderName(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!(c >= 'A' && c <= 'Z') && !(c >= '0' && c <= '9') && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 템플릿 구간 (placeholder가 null이면 리터럴)
+     */
+    private record Part(String text, String placeholder) {
+    }
+}
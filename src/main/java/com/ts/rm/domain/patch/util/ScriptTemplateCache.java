@@ -0,0 +1,154 @@
+package com.ts.rm.domain.patch.util;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 패치 스크립트 템플릿 캐시
+ *
+ * <p>템플릿 파일을 처음 사용할 때 한 번 읽어 {@link ScriptTemplate}으로 컴파일해 두고,
+ * 템플릿 디렉토리를 {@link WatchService}로 감시하다가 파일이 변경/삭제되면 해당 템플릿을 무효화합니다.
+ * <p>디렉토리 감시를 등록할 수 없는 환경(일부 네트워크 파일 시스템 등)에서는
+ * 조회 시 파일 수정 시각을 비교해 변경 여부를 판단합니다.
+ */
+@Slf4j
+@Component
+public class ScriptTemplateCache {
+
+    private final Map<Path, CachedTemplate> templates = new ConcurrentHashMap<>();
+
+    /**
+     * 감시 중인 디렉토리 → 감시 등록 성공 여부
+     */
+    private final Map<Path, Boolean> watchedDirectories = new ConcurrentHashMap<>();
+
+    private volatile WatchService watchService;
+
+    /**
+     * 컴파일된 템플릿 조회
+     *
+     * @param templatePath 템플릿 파일 경로
+     * @return 컴파일된 템플릿
+     * @throws java.nio.file.NoSuchFileException 템플릿 파일이 없는 경우
+     */
+    public ScriptTemplate get(Path templatePath) throws IOException {
+        Path path = templatePath.toAbsolutePath().normalize();
+        boolean watched = watch(path.getParent());
+
+        CachedTemplate cached = templates.get(path);
+        if (cached != null && (watched || cached.lastModified().equals(Files.getLastModifiedTime(path)))) {
+            return cached.template();
+        }
+
+        FileTime lastModified = Files.getLastModifiedTime(path);
+        ScriptTemplate template = ScriptTemplate.compile(Files.readString(path));
+
+        // 읽는 도중 수정된 경우 캐시하지 않음 (다음 조회 시 다시 컴파일)
+        if (lastModified.equals(Files.getLastModifiedTime(path))) {
+            templates.put(path, new CachedTemplate(template, lastModified));
+            log.info("패치 스크립트 템플릿 컴파일 완료: {}", path);
+        }
+        return template;
+    }
+
+    /**
+     * 템플릿 무효화
+     *
+     * @param templatePath 템플릿 파일 경로
+     */
+    public void invalidate(Path templatePath) {
+        if (templates.remove(templatePath.toAbsolutePath().normalize()) != null) {
+            log.info("패치 스크립트 템플릿 무효화: {}", templatePath);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        WatchService service = watchService;
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                log.warn("템플릿 감시 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 템플릿 디렉토리 감시 등록
+     *
+     * @return 감시 중이면 true
+     */
+    private boolean watch(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return false;
+        }
+        return watchedDirectories.computeIfAbsent(directory, dir -> {
+            try {
+                dir.register(watchService(),
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE);
+                log.info("패치 스크립트 템플릿 디렉토리 감시 시작: {}", dir);
+                return true;
+            } catch (IOException | UnsupportedOperationException e) {
+                log.warn("템플릿 디렉토리 감시 등록 실패, 수정 시각 비교로 대체: {} ({})", dir, e.getMessage());
+                return false;
+            }
+        });
+    }
+
+    private synchronized WatchService watchService() throws IOException {
+        if (watchService == null) {
+            watchService = FileSystems.getDefault().newWatchService();
+            Thread watcher = new Thread(this::processEvents, "script-template-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+        }
+        return watchService;
+    }
+
+    private void processEvents() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Path directory = (Path) key.watchable();
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // 이벤트 유실 시 해당 디렉토리의 템플릿 전체 무효화
+                        templates.keySet().removeIf(path -> path.getParent().equals(directory));
+                        continue;
+                    }
+                    invalidate(directory.resolve((Path) event.context()));
+                }
+
+                if (!key.reset()) {
+                    // 디렉토리가 삭제된 경우 다음 조회 시 다시 등록
+                    watchedDirectories.remove(directory);
+                    templates.keySet().removeIf(path -> path.getParent().equals(directory));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("템플릿 감시 종료");
+        }
+    }
+
+    private record CachedTemplate(ScriptTemplate template, FileTime lastModified) {
+    }
+}
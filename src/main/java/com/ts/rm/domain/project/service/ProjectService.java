@@ -8,6 +8,7 @@ import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
 import com.ts.rm.global.file.FileContentUtil;
 import com.ts.rm.global.file.StreamingZipUtil;
+import com.ts.rm.global.file.ZipCompressionPolicy;
 import com.ts.rm.global.file.ZipExtractUtil;
 import java.io.IOException;
 import java.io.InputStream;
@@ -22,10 +23,12 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 import org.springframework.web.multipart.MultipartFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -43,10 +46,15 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final ProjectDtoMapper mapper;
+    @Qualifier("zipCompressPool")
+    private final ForkJoinPool zipCompressPool;
 
     @Value("${app.release.base-path:data/release-manager}")
     private String baseReleasePath;
 
+    @Value("${app.release.zip-compression.onboarding:AUTO}")
+    private ZipCompressionPolicy zipCompressionPolicy;
+
     /**
      * 프로젝트 생성
      *
@@ -420,7 +428,7 @@ public class ProjectService {
 
         List<ProjectDto.UploadedFileInfo> uploadedFiles = new ArrayList<>();
 
-        ZipExtractUtil.extractWithCallback(zipFile.getInputStream(), targetDir, (entry, filePath) -> {
+        ZipExtractUtil.extractWithCallback(zipFile, targetDir, (entry, filePath) -> {
             try {
                 String fileRelativePath = targetSubPath.isEmpty()
                         ? entry.getName()
@@ -535,7 +543,7 @@ public class ProjectService {
             }
 
             // ZIP 스트리밍
-            StreamingZipUtil.compressFilesToStream(outputStream, fileEntries);
+            StreamingZipUtil.compressFilesToStream(outputStream, fileEntries, zipCompressPool, zipCompressionPolicy);
             log.info("온보딩 전체 파일 다운로드 완료 - projectId: {}, fileCount: {}", projectId, fileEntries.size());
 
         } catch (IOException e) {
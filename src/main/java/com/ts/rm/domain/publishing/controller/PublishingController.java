@@ -3,13 +3,16 @@ package com.ts.rm.domain.publishing.controller;
 import com.ts.rm.domain.publishing.dto.PublishingDto;
 import com.ts.rm.domain.publishing.dto.PublishingFileDto;
 import com.ts.rm.domain.publishing.service.PublishingService;
+import com.ts.rm.global.file.FileTransferUtil;
 import com.ts.rm.global.file.HttpFileDownloadUtil;
+import com.ts.rm.global.file.StreamingZipUtil;
 import com.ts.rm.global.response.ApiResponse;
 import com.ts.rm.global.security.SecurityUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -166,6 +169,31 @@ public class PublishingController implements PublishingControllerDocs {
         return ApiResponse.success(response);
     }
 
+    /**
+     * 퍼블리싱 개별 파일 다운로드 (Range 요청 지원)
+     */
+    @Override
+    @GetMapping("/{id}/files/{fileId}/download")
+    public void downloadPublishingFile(
+            @PathVariable Long id,
+            @PathVariable Long fileId,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+
+        log.info("퍼블리싱 파일 다운로드 요청 - 퍼블리싱 ID: {}, 파일 ID: {}", id, fileId);
+
+        String fileName = publishingService.getFileName(id, fileId);
+        Path filePath = publishingService.getDownloadFile(id, fileId);
+
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                HttpFileDownloadUtil.buildContentDisposition(fileName));
+
+        FileTransferUtil.serveFile(request, response, filePath);
+
+        log.info("퍼블리싱 파일 다운로드 완료 - 퍼블리싱 ID: {}, 파일 ID: {}, fileName: {}", id, fileId, fileName);
+    }
+
     /**
      * 퍼블리싱 파일 서빙 (브라우저에서 직접 열기)
      *
@@ -241,16 +269,24 @@ public class PublishingController implements PublishingControllerDocs {
         log.info("퍼블리싱 다운로드 요청 - ID: {}", id);
 
         String fileName = publishingService.getDownloadFileName(id);
-        long uncompressedSize = publishingService.calculateUncompressedSize(id);
+        StreamingZipUtil.ZipManifest manifest = publishingService.prepareDownload(id);
 
         response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
         response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
                 HttpFileDownloadUtil.buildContentDisposition(fileName));
 
         // 압축 전 크기를 커스텀 헤더로 전달 (프론트엔드 진행률 표시용)
-        response.setHeader("X-Uncompressed-Size", String.valueOf(uncompressedSize));
+        response.setHeader("X-Uncompressed-Size", String.valueOf(manifest.uncompressedSize()));
+
+        // 요청마다 새로 압축하므로 바이트 위치가 고정되지 않아 이어받기 미지원 (파일별 다운로드는 지원)
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "none");
+
+        // 모든 엔트리가 STORED이면 ZIP 전체 길이를 미리 알 수 있음
+        if (manifest.hasKnownLength()) {
+            response.setContentLengthLong(manifest.contentLength());
+        }
 
-        publishingService.downloadPublishing(id, response.getOutputStream());
+        publishingService.downloadPublishing(manifest, response.getOutputStream());
 
         log.info("퍼블리싱 다운로드 완료 - ID: {}, fileName: {}", id, fileName);
     }
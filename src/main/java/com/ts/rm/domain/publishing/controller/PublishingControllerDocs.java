@@ -9,6 +9,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.io.IOException;
@@ -224,6 +225,24 @@ public interface PublishingControllerDocs {
             @PathVariable Long fileId
     );
 
+    @Operation(
+            summary = "퍼블리싱 파일 다운로드",
+            description = "퍼블리싱에 포함된 개별 파일을 다운로드합니다.\n\n"
+                    + "**이어받기**: `Range` 헤더로 일부 구간만 받을 수 있으며(206, 다중 구간은 multipart/byteranges), "
+                    + "`If-Range`에 이전 응답의 `ETag`를 보내면 파일이 변경된 경우 전체 파일을 응답합니다."
+    )
+    void downloadPublishingFile(
+            @Parameter(description = "퍼블리싱 ID", required = true, example = "1")
+            @PathVariable Long id,
+
+            @Parameter(description = "파일 ID", required = true, example = "1")
+            @PathVariable Long fileId,
+
+            @Parameter(hidden = true) HttpServletRequest request,
+
+            HttpServletResponse response
+    );
+
     @Operation(
             summary = "퍼블리싱 파일 구조 조회",
             description = "퍼블리싱에 업로드된 파일의 디렉토리/파일 구조를 조회합니다.\n\n"
@@ -275,7 +294,10 @@ public interface PublishingControllerDocs {
             description = "퍼블리싱에 업로드된 모든 파일을 ZIP으로 압축하여 다운로드합니다.\n\n"
                     + "**응답 헤더**:\n"
                     + "- `Content-Disposition`: 파일명 (한글 지원)\n"
-                    + "- `X-Uncompressed-Size`: 압축 전 총 크기 (바이트) - 진행률 표시용"
+                    + "- `X-Uncompressed-Size`: 압축 전 총 크기 (바이트) - 진행률 표시용\n"
+                    + "- `Content-Length`: 모든 파일이 무압축(STORED)으로 저장되는 경우에만 ZIP 전체 크기 (바이트)\n"
+                    + "- `Accept-Ranges`: none - ZIP을 요청마다 새로 생성하므로 `Range` 이어받기를 지원하지 않습니다. "
+                    + "이어받기가 필요하면 파일별 다운로드(`/api/publishing/{id}/files/{fileId}/download`)를 사용합니다."
     )
     void downloadPublishing(
             @Parameter(description = "퍼블리싱 ID", required = true, example = "1")
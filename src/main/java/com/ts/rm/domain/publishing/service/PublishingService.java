@@ -16,9 +16,9 @@ import com.ts.rm.global.exception.ErrorCode;
 import com.ts.rm.global.file.FileChecksumUtil;
 import com.ts.rm.global.file.FileContentUtil;
 import com.ts.rm.global.file.StreamingZipUtil;
+import com.ts.rm.global.file.ZipCompressionPolicy;
 import com.ts.rm.global.file.ZipExtractUtil;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -26,9 +26,11 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
@@ -52,10 +54,15 @@ public class PublishingService {
     private final CustomerRepository customerRepository;
     private final PublishingDtoMapper publishingDtoMapper;
     private final AccountLookupService accountLookupService;
+    @Qualifier("zipCompressPool")
+    private final ForkJoinPool zipCompressPool;
 
     @Value("${app.release.base-path:data/release-manager}")
     private String baseReleasePath;
 
+    @Value("${app.release.zip-compression.publishing:AUTO}")
+    private ZipCompressionPolicy zipCompressionPolicy;
+
     private static final String PUBLISHING_DIR = "resources/publishing";
 
     /**
@@ -243,9 +250,13 @@ public class PublishingService {
     }
 
     /**
-     * 퍼블리싱 파일 다운로드 (스트리밍)
+     * 퍼블리싱 파일 다운로드 경로 조회
+     *
+     * @param publishingId 퍼블리싱 ID
+     * @param fileId       파일 ID
+     * @return 파일 절대 경로
      */
-    public void downloadFile(Long publishingId, Long fileId, OutputStream outputStream) {
+    public Path getDownloadFile(Long publishingId, Long fileId) {
         PublishingFile file = publishingFileRepository.findById(fileId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND,
                         "파일을 찾을 수 없습니다: " + fileId));
@@ -255,21 +266,10 @@ public class PublishingService {
         }
 
         Path filePath = Paths.get(baseReleasePath, file.getFilePath());
-        if (!Files.exists(filePath)) {
+        if (!Files.isRegularFile(filePath)) {
             throw new BusinessException(ErrorCode.FILE_NOT_FOUND, "파일이 존재하지 않습니다: " + file.getFilePath());
         }
-
-        try (InputStream is = Files.newInputStream(filePath)) {
-            byte[] buffer = new byte[8192];
-            int bytesRead;
-            while ((bytesRead = is.read(buffer)) != -1) {
-                outputStream.write(buffer, 0, bytesRead);
-            }
-            outputStream.flush();
-        } catch (IOException e) {
-            log.error("파일 다운로드 실패: {}", e.getMessage(), e);
-            throw new BusinessException(ErrorCode.FILE_DOWNLOAD_FAILED, "파일 다운로드에 실패했습니다");
-        }
+        return filePath;
     }
 
     /**
@@ -302,21 +302,6 @@ public class PublishingService {
         return file.getFileName();
     }
 
-    /**
-     * 파일 크기 조회
-     */
-    public long getFileSize(Long publishingId, Long fileId) {
-        PublishingFile file = publishingFileRepository.findById(fileId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND,
-                        "파일을 찾을 수 없습니다: " + fileId));
-
-        if (!file.getPublishing().getPublishingId().equals(publishingId)) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "해당 퍼블리싱에 속한 파일이 아닙니다");
-        }
-
-        return file.getFileSize() != null ? file.getFileSize() : 0L;
-    }
-
     /**
      * 퍼블리싱 파일 서빙 (브라우저에서 직접 열기)
      *
@@ -427,12 +412,15 @@ public class PublishingService {
     }
 
     /**
-     * 퍼블리싱 전체 다운로드 (ZIP 스트리밍)
+     * 퍼블리싱 전체 다운로드 준비 (ZIP 매니페스트 생성)
+     *
+     * <p>파일 목록, 압축 전 총 크기, 엔트리별 압축 방식을 스트리밍 전에 확정합니다.
+     * 모든 엔트리가 STORED이면 ZIP 전체 길이도 함께 계산됩니다.
      *
      * @param publishingId 퍼블리싱 ID
-     * @param outputStream 출력 스트림
+     * @return ZIP 매니페스트
      */
-    public void downloadPublishing(Long publishingId, OutputStream outputStream) {
+    public StreamingZipUtil.ZipManifest prepareDownload(Long publishingId) {
         Publishing publishing = getPublishingEntity(publishingId);
 
         Path publishingDir = getPublishingDirectory(publishing);
@@ -442,79 +430,33 @@ public class PublishingService {
                     "퍼블리싱 디렉토리를 찾을 수 없습니다: " + publishing.getPublishingName());
         }
 
-        // 스트리밍 시작 전 파일 존재 여부 검증
-        validatePublishingDirectoryFiles(publishingDir);
+        StreamingZipUtil.ZipManifest manifest =
+                StreamingZipUtil.buildDirectoryManifest(publishingDir, zipCompressionPolicy);
 
-        StreamingZipUtil.compressDirectoryToStream(outputStream, publishingDir);
+        log.debug("퍼블리싱 다운로드 준비 완료 - publishingId: {}, 파일 개수: {}, 압축 전 크기: {} bytes",
+                publishingId, manifest.entries().size(), manifest.uncompressedSize());
+        return manifest;
     }
 
     /**
-     * 퍼블리싱 ZIP 파일명 생성
+     * 퍼블리싱 전체 다운로드 (ZIP 스트리밍)
      *
-     * @param publishingId 퍼블리싱 ID
-     * @return ZIP 파일명
+     * @param manifest     {@link #prepareDownload(Long)}로 생성한 매니페스트
+     * @param outputStream 출력 스트림
      */
-    public String getDownloadFileName(Long publishingId) {
-        Publishing publishing = getPublishingEntity(publishingId);
-        return publishing.getPublishingName() + ".zip";
+    public void downloadPublishing(StreamingZipUtil.ZipManifest manifest, OutputStream outputStream) {
+        StreamingZipUtil.compressManifestToStream(outputStream, manifest, zipCompressPool);
     }
 
     /**
-     * 퍼블리싱 디렉토리의 압축 전 총 크기 계산
+     * 퍼블리싱 ZIP 파일명 생성
      *
      * @param publishingId 퍼블리싱 ID
-     * @return 압축 전 총 크기 (바이트)
+     * @return ZIP 파일명
      */
-    public long calculateUncompressedSize(Long publishingId) {
+    public String getDownloadFileName(Long publishingId) {
         Publishing publishing = getPublishingEntity(publishingId);
-
-        Path publishingDir = getPublishingDirectory(publishing);
-
-        if (!Files.exists(publishingDir)) {
-            throw new BusinessException(ErrorCode.FILE_NOT_FOUND,
-                    "퍼블리싱 디렉토리를 찾을 수 없습니다: " + publishing.getPublishingName());
-        }
-
-        try {
-            return Files.walk(publishingDir)
-                    .filter(Files::isRegularFile)
-                    .mapToLong(path -> {
-                        try {
-                            return Files.size(path);
-                        } catch (IOException e) {
-                            log.warn("파일 크기 계산 실패 - {}: {}", path, e.getMessage());
-                            return 0L;
-                        }
-                    })
-                    .sum();
-        } catch (IOException e) {
-            log.error("디렉토리 크기 계산 실패 - publishingId: {}", publishingId, e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "디렉토리 크기 계산 실패: " + e.getMessage());
-        }
-    }
-
-    /**
-     * 퍼블리싱 디렉토리 내 파일 존재 여부 검증
-     */
-    private void validatePublishingDirectoryFiles(Path directory) {
-        try {
-            long fileCount = Files.walk(directory)
-                    .filter(Files::isRegularFile)
-                    .count();
-
-            if (fileCount == 0) {
-                throw new BusinessException(ErrorCode.FILE_NOT_FOUND,
-                        "퍼블리싱 디렉토리에 압축할 파일이 없습니다: " + directory);
-            }
-
-            log.debug("퍼블리싱 파일 검증 완료 - 파일 개수: {}", fileCount);
-
-        } catch (IOException e) {
-            log.error("퍼블리싱 디렉토리 검증 실패: {}", directory, e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "퍼블리싱 디렉토리 검증 중 오류가 발생했습니다: " + e.getMessage());
-        }
+        return publishing.getPublishingName() + ".zip";
     }
 
     // ==================== Private Methods ====================
@@ -544,7 +486,7 @@ public class PublishingService {
         try {
             Files.createDirectories(publishingDir);
 
-            ZipExtractUtil.extractWithCallback(zipFile.getInputStream(), publishingDir, (entry, filePath) -> {
+            ZipExtractUtil.extractWithCallback(zipFile, publishingDir, (entry, filePath) -> {
                 try {
                     // 파일 메타데이터 생성
                     String fileName = filePath.getFileName().toString();
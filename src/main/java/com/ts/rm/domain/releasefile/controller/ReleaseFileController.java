@@ -1,9 +1,13 @@
 package com.ts.rm.domain.releasefile.controller;
 
 import com.ts.rm.domain.releasefile.service.ReleaseFileService;
+import com.ts.rm.global.file.FileTransferUtil;
 import com.ts.rm.global.file.HttpFileDownloadUtil;
+import com.ts.rm.global.file.StreamingZipUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.nio.file.Path;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -34,7 +38,7 @@ public class ReleaseFileController implements ReleaseFileControllerDocs {
         log.info("버전별 파일 스트리밍 다운로드 API 호출 - versionId: {}", id);
 
         String fileName = releaseFileService.getVersionZipFileName(id);
-        long uncompressedSize = releaseFileService.calculateUncompressedSize(id);
+        StreamingZipUtil.ZipManifest manifest = releaseFileService.prepareVersionFilesZip(id);
 
         // HTTP 응답 헤더 설정
         response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
@@ -42,12 +46,41 @@ public class ReleaseFileController implements ReleaseFileControllerDocs {
                 HttpFileDownloadUtil.buildContentDisposition(fileName));
 
         // 압축 전 크기를 커스텀 헤더로 전달 (프론트엔드 진행률 표시용)
-        response.setHeader("X-Uncompressed-Size", String.valueOf(uncompressedSize));
+        response.setHeader("X-Uncompressed-Size", String.valueOf(manifest.uncompressedSize()));
+
+        // 요청마다 새로 압축하므로 바이트 위치가 고정되지 않아 이어받기 미지원 (파일별 다운로드는 지원)
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "none");
+
+        // 모든 엔트리가 STORED이면 ZIP 전체 길이를 미리 알 수 있음
+        if (manifest.hasKnownLength()) {
+            response.setContentLengthLong(manifest.contentLength());
+        }
 
         // 스트리밍 방식으로 ZIP 생성 및 전송
-        releaseFileService.streamVersionFilesAsZip(id, response.getOutputStream());
+        releaseFileService.streamVersionFilesAsZip(manifest, response.getOutputStream());
 
         log.info("버전별 파일 스트리밍 다운로드 완료 - versionId: {}, fileName: {}, uncompressedSize: {} bytes",
-                id, fileName, uncompressedSize);
+                id, fileName, manifest.uncompressedSize());
+    }
+
+    @Override
+    @GetMapping("/files/{id}/download")
+    public void downloadReleaseFile(@PathVariable Long id,
+                                    HttpServletRequest request,
+                                    HttpServletResponse response) {
+
+        log.info("릴리즈 파일 다운로드 API 호출 - releaseFileId: {}", id);
+
+        String fileName = releaseFileService.getFileName(id);
+        Path filePath = releaseFileService.getDownloadFile(id);
+
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                HttpFileDownloadUtil.buildContentDisposition(fileName));
+
+        // Range 요청 시 부분 전송 (이어받기)
+        FileTransferUtil.serveFile(request, response, filePath);
+
+        log.info("릴리즈 파일 다운로드 완료 - releaseFileId: {}, fileName: {}", id, fileName);
     }
 }
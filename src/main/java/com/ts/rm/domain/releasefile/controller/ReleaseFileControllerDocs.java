@@ -4,6 +4,7 @@ import com.ts.rm.global.response.SwaggerResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -20,11 +21,30 @@ public interface ReleaseFileControllerDocs {
             description = "특정 버전의 모든 파일을 ZIP 형식으로 스트리밍 다운로드합니다.\n\n"
                     + "각 폴더 내에는 실행 순서대로 정렬된 파일들이 포함됩니다.\n\n"
                     + "**응답 헤더**:\n"
-                    + "- `X-Uncompressed-Size`: 압축 전 총 파일 크기 (바이트) - 진행률 표시용"
+                    + "- `X-Uncompressed-Size`: 압축 전 총 파일 크기 (바이트) - 진행률 표시용\n"
+                    + "- `Content-Length`: 모든 파일이 무압축(STORED)으로 저장되는 경우에만 ZIP 전체 크기 (바이트)\n"
+                    + "- `Accept-Ranges`: none - ZIP을 요청마다 새로 생성하므로 `Range` 이어받기를 지원하지 않습니다. "
+                    + "이어받기가 필요하면 파일별 다운로드(`/api/releases/files/{id}/download`)를 사용합니다."
     )
     void downloadVersionFiles(
             @Parameter(description = "릴리즈 버전 ID", required = true)
             @PathVariable("versionId") Long versionId,
             HttpServletResponse response
     ) throws IOException;
+
+    @Operation(
+            summary = "릴리즈 파일 다운로드",
+            description = "릴리즈 파일 하나를 다운로드합니다.\n\n"
+                    + "**이어받기**: `Range` 헤더로 일부 구간만 받을 수 있으며(206, 다중 구간은 multipart/byteranges), "
+                    + "`If-Range`에 이전 응답의 `ETag`를 보내면 파일이 변경된 경우 전체 파일을 응답합니다.\n\n"
+                    + "**응답 헤더**:\n"
+                    + "- `Accept-Ranges`: bytes\n"
+                    + "- `ETag`: 파일 크기/수정 시각 기반 (`If-None-Match` 일치 시 304 응답)"
+    )
+    void downloadReleaseFile(
+            @Parameter(description = "릴리즈 파일 ID", required = true)
+            @PathVariable("id") Long id,
+            @Parameter(hidden = true) HttpServletRequest request,
+            HttpServletResponse response
+    );
 }
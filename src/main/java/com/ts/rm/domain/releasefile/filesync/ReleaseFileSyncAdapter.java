@@ -5,6 +5,7 @@ import static com.ts.rm.global.util.MapExtractUtil.extractInteger;
 import static com.ts.rm.global.util.MapExtractUtil.extractLong;
 import static com.ts.rm.global.util.MapExtractUtil.extractString;
 
+import com.ts.rm.domain.patch.util.PatchSegmentCache;
 import com.ts.rm.domain.releasefile.entity.ReleaseFile;
 import com.ts.rm.domain.releasefile.enums.FileCategory;
 import com.ts.rm.domain.releasefile.repository.ReleaseFileRepository;
@@ -14,9 +15,11 @@ import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
 import com.ts.rm.domain.filesync.adapter.FileSyncAdapter;
 import com.ts.rm.domain.filesync.dto.FileSyncMetadata;
+import com.ts.rm.domain.filesync.dto.RegisteredFileRow;
 import com.ts.rm.domain.filesync.enums.FileSyncTarget;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.Nullable;
@@ -35,6 +38,7 @@ public class ReleaseFileSyncAdapter implements FileSyncAdapter {
 
     private final ReleaseFileRepository releaseFileRepository;
     private final ReleaseVersionRepository releaseVersionRepository;
+    private final PatchSegmentCache patchSegmentCache;
 
     @Override
     public FileSyncTarget getTarget() {
@@ -49,20 +53,18 @@ public class ReleaseFileSyncAdapter implements FileSyncAdapter {
     @Override
     @Transactional(readOnly = true)
     public List<FileSyncMetadata> getRegisteredFiles(@Nullable String subPath) {
-        List<ReleaseFile> files;
-
-        if (subPath != null && !subPath.isEmpty()) {
-            // filePath가 subPath로 시작하는 파일들 조회
-            files = releaseFileRepository.findAll().stream()
-                    .filter(f -> f.getFilePath() != null && f.getFilePath().startsWith(subPath))
-                    .toList();
-        } else {
-            files = releaseFileRepository.findAll();
+        try (Stream<FileSyncMetadata> files = streamRegisteredFiles(subPath)) {
+            return files.toList();
         }
+    }
 
-        return files.stream()
-                .map(this::toMetadata)
-                .toList();
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<FileSyncMetadata> streamRegisteredFiles(@Nullable String subPath) {
+        // DB 콜레이션은 대소문자를 구분하지 않으므로 경로 접두어를 한 번 더 확인
+        return releaseFileRepository.streamSyncRows(subPath)
+                .filter(row -> subPath == null || row.filePath().startsWith(subPath))
+                .map(this::toMetadata);
     }
 
     @Override
@@ -106,6 +108,7 @@ public class ReleaseFileSyncAdapter implements FileSyncAdapter {
                 .build();
 
         ReleaseFile saved = releaseFileRepository.save(releaseFile);
+        patchSegmentCache.evict(releaseVersionId);
         log.info("릴리즈 파일 동기화 등록: {} (ID: {})", metadata.getFilePath(), saved.getReleaseFileId());
 
         return saved.getReleaseFileId();
@@ -122,18 +125,19 @@ public class ReleaseFileSyncAdapter implements FileSyncAdapter {
         releaseFile.setChecksum(newMetadata.getChecksum());
 
         releaseFileRepository.save(releaseFile);
+        patchSegmentCache.evict(releaseFile.getReleaseVersion().getReleaseVersionId());
         log.info("릴리즈 파일 메타데이터 갱신: {} (ID: {})", newMetadata.getFilePath(), id);
     }
 
     @Override
     @Transactional
     public void deleteMetadata(Long id) {
-        if (!releaseFileRepository.existsById(id)) {
-            throw new BusinessException(ErrorCode.FILE_NOT_FOUND,
-                    "릴리즈 파일을 찾을 수 없습니다: " + id);
-        }
+        ReleaseFile releaseFile = releaseFileRepository.findById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.FILE_NOT_FOUND,
+                        "릴리즈 파일을 찾을 수 없습니다: " + id));
 
         releaseFileRepository.deleteById(id);
+        patchSegmentCache.evict(releaseFile.getReleaseVersion().getReleaseVersionId());
         log.info("릴리즈 파일 메타데이터 삭제: ID {}", id);
     }
 
@@ -214,14 +218,14 @@ public class ReleaseFileSyncAdapter implements FileSyncAdapter {
     /**
      * ReleaseFile 엔티티를 FileSyncMetadata로 변환
      */
-    private FileSyncMetadata toMetadata(ReleaseFile file) {
+    private FileSyncMetadata toMetadata(RegisteredFileRow row) {
         return FileSyncMetadata.builder()
-                .id(file.getReleaseFileId())
-                .filePath(file.getFilePath())
-                .fileName(file.getFileName())
-                .fileSize(file.getFileSize())
-                .checksum(file.getChecksum())
-                .registeredAt(file.getCreatedAt())
+                .id(row.id())
+                .filePath(row.filePath())
+                .fileName(row.fileName())
+                .fileSize(row.fileSize())
+                .checksum(row.checksum())
+                .registeredAt(row.registeredAt())
                 .target(FileSyncTarget.RELEASE_FILE)
                 .build();
     }
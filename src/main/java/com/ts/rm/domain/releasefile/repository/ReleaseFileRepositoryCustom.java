@@ -1,8 +1,13 @@
 package com.ts.rm.domain.releasefile.repository;
 
+import com.ts.rm.domain.filesync.dto.RegisteredFileRow;
 import com.ts.rm.domain.releasefile.entity.ReleaseFile;
 import com.ts.rm.domain.releasefile.enums.FileCategory;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.springframework.lang.Nullable;
 
 /**
  * ReleaseFile Repository Custom Interface
@@ -32,6 +37,16 @@ public interface ReleaseFileRepositoryCustom {
      */
     List<ReleaseFile> findReleaseFilesBetweenVersionsBySubCategory(String projectId, String fromVersion, String toVersion, String subCategory);
 
+    /**
+     * 패치 파일 매니페스트 조회 (패치 대상 버전들의 전체 파일)
+     *
+     * <p>릴리즈 버전을 fetch join하여 한 번의 쿼리로 조회합니다.
+     *
+     * @param releaseVersionIds 릴리즈 버전 ID 목록
+     * @return 릴리즈 파일 목록 (버전 ID, 실행 순서 정렬)
+     */
+    List<ReleaseFile> findPatchManifest(List<Long> releaseVersionIds);
+
     /**
      * 버전 범위 내 빌드 산출물 파일 목록 조회
      * (fileCategory가 WEB 또는 ENGINE인 파일)
@@ -50,4 +65,35 @@ public interface ReleaseFileRepositoryCustom {
      * @return 파일 카테고리 목록
      */
     List<FileCategory> findCategoriesByVersionId(Long releaseVersionId);
+
+    /**
+     * 여러 릴리즈 버전의 파일 카테고리 목록 일괄 조회 (버전별 중복 제거)
+     *
+     * <p>버전 트리처럼 버전마다 카테고리가 필요한 경우 {@link #findCategoriesByVersionId(Long)}를 반복 호출하지 않고
+     * 쿼리 1회로 조회합니다. 파일이 없는 버전은 결과에 포함되지 않습니다.
+     *
+     * @param releaseVersionIds 릴리즈 버전 ID 목록
+     * @return 릴리즈 버전 ID별 파일 카테고리 목록 (카테고리 순 정렬)
+     */
+    Map<Long, List<FileCategory>> findCategoriesByVersionIds(Collection<Long> releaseVersionIds);
+
+    /**
+     * 주어진 체크섬 중 릴리즈 파일이 참조 중인 체크섬 조회 (중복 제거)
+     *
+     * <p>블롭 저장소 정리 시 참조 중인 블롭 판별에 사용합니다. 전체 체크섬을 불러오지 않도록 호출자가 일정 건수씩 나눠 조회합니다.
+     *
+     * @param checksums SHA-256 체크섬 목록
+     * @return 참조 중인 SHA-256 체크섬 목록
+     */
+    List<String> findReferencedChecksums(Collection<String> checksums);
+
+    /**
+     * 파일 동기화 분석용 등록 파일 스트리밍 조회 (경로 접두어 필터는 DB에서 처리)
+     *
+     * <p>엔티티 대신 필요한 컬럼만 조회하며, 호출자의 트랜잭션 안에서 소비하고 닫아야 합니다.
+     *
+     * @param pathPrefix 경로 접두어 (null이면 전체)
+     * @return 등록 파일 스트림
+     */
+    Stream<RegisteredFileRow> streamSyncRows(@Nullable String pathPrefix);
 }
@@ -1,11 +1,22 @@
 package com.ts.rm.domain.releasefile.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ts.rm.domain.filesync.dto.RegisteredFileRow;
 import com.ts.rm.domain.releasefile.entity.QReleaseFile;
 import com.ts.rm.domain.releasefile.entity.ReleaseFile;
 import com.ts.rm.domain.releasefile.enums.FileCategory;
+import com.ts.rm.domain.releaseversion.entity.QReleaseVersion;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -58,6 +69,26 @@ public class ReleaseFileRepositoryImpl implements ReleaseFileRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public List<ReleaseFile> findPatchManifest(List<Long> releaseVersionIds) {
+        if (releaseVersionIds.isEmpty()) {
+            return List.of();
+        }
+
+        QReleaseFile rf = QReleaseFile.releaseFile;
+        QReleaseVersion rv = QReleaseVersion.releaseVersion;
+
+        return queryFactory
+                .selectFrom(rf)
+                .join(rf.releaseVersion, rv).fetchJoin()
+                .where(rv.releaseVersionId.in(releaseVersionIds))
+                .orderBy(
+                        rv.releaseVersionId.asc(),
+                        rf.executionOrder.asc()
+                )
+                .fetch();
+    }
+
     @Override
     public List<ReleaseFile> findBuildArtifactsBetweenVersions(String projectId, String fromVersion, String toVersion) {
         QReleaseFile rf = QReleaseFile.releaseFile;
@@ -92,4 +123,66 @@ public class ReleaseFileRepositoryImpl implements ReleaseFileRepositoryCustom {
                 .orderBy(rf.fileCategory.asc())
                 .fetch();
     }
+
+    @Override
+    public Map<Long, List<FileCategory>> findCategoriesByVersionIds(Collection<Long> releaseVersionIds) {
+        if (releaseVersionIds.isEmpty()) {
+            return Map.of();
+        }
+
+        QReleaseFile rf = QReleaseFile.releaseFile;
+
+        List<Tuple> results = queryFactory
+                .selectDistinct(rf.releaseVersion.releaseVersionId, rf.fileCategory)
+                .from(rf)
+                .where(
+                        rf.releaseVersion.releaseVersionId.in(releaseVersionIds),
+                        rf.fileCategory.isNotNull()
+                )
+                .orderBy(
+                        rf.releaseVersion.releaseVersionId.asc(),
+                        rf.fileCategory.asc()
+                )
+                .fetch();
+
+        Map<Long, List<FileCategory>> categoriesByVersionId = new HashMap<>();
+        for (Tuple tuple : results) {
+            categoriesByVersionId
+                    .computeIfAbsent(tuple.get(rf.releaseVersion.releaseVersionId), k -> new ArrayList<>())
+                    .add(tuple.get(rf.fileCategory));
+        }
+        return categoriesByVersionId;
+    }
+
+    @Override
+    public List<String> findReferencedChecksums(Collection<String> checksums) {
+        if (checksums.isEmpty()) {
+            return List.of();
+        }
+        QReleaseFile rf = QReleaseFile.releaseFile;
+
+        return queryFactory
+                .selectDistinct(rf.checksum)
+                .from(rf)
+                .where(rf.checksum.in(checksums))
+                .fetch();
+    }
+
+    @Override
+    public Stream<RegisteredFileRow> streamSyncRows(@Nullable String pathPrefix) {
+        QReleaseFile rf = QReleaseFile.releaseFile;
+
+        return queryFactory
+                .select(Projections.constructor(RegisteredFileRow.class,
+                        rf.releaseFileId,
+                        rf.filePath,
+                        rf.fileName,
+                        rf.fileSize,
+                        rf.checksum,
+                        rf.createdAt))
+                .from(rf)
+                .where(pathPrefix != null && !pathPrefix.isEmpty() ? rf.filePath.startsWith(pathPrefix) : null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, RegisteredFileRow.FETCH_SIZE)
+                .stream();
+    }
 }
@@ -1,6 +1,7 @@
 package com.ts.rm.domain.releasefile.service;
 
 import com.ts.rm.domain.common.service.FileStorageService;
+import com.ts.rm.domain.patch.util.PatchSegmentCache;
 import com.ts.rm.domain.releasefile.dto.ReleaseFileDto;
 import com.ts.rm.domain.releasefile.entity.ReleaseFile;
 import com.ts.rm.domain.releasefile.enums.FileCategory;
@@ -13,15 +14,17 @@ import com.ts.rm.global.exception.ErrorCode;
 import com.ts.rm.global.file.FileContentUtil;
 import com.ts.rm.global.file.StreamingZipUtil;
 import com.ts.rm.global.file.StreamingZipUtil.ZipFileEntry;
-import java.io.IOException;
+import com.ts.rm.global.file.ZipCompressionPolicy;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -42,6 +45,12 @@ public class ReleaseFileService {
     private final ReleaseFileDtoMapper mapper;
     private final FileStorageService fileStorageService;
     private final ReleaseFileUploadService uploadService;
+    @Qualifier("zipCompressPool")
+    private final ForkJoinPool zipCompressPool;
+    private final PatchSegmentCache patchSegmentCache;
+
+    @Value("${app.release.zip-compression.version:AUTO}")
+    private ZipCompressionPolicy zipCompressionPolicy;
 
     /**
      * 릴리즈 파일 메타데이터 생성 (물리적 파일 없이)
@@ -77,6 +86,7 @@ public class ReleaseFileService {
                 .build();
 
         ReleaseFile savedReleaseFile = releaseFileRepository.save(releaseFile);
+        patchSegmentCache.evict(releaseVersion.getReleaseVersionId());
 
         log.info("Release file created successfully with id: {}",
                 savedReleaseFile.getReleaseFileId());
@@ -140,6 +150,7 @@ public class ReleaseFileService {
         }
         if (request.executionOrder() != null) {
             releaseFile.setExecutionOrder(request.executionOrder());
+            patchSegmentCache.evict(releaseFile.getReleaseVersion().getReleaseVersionId());
         }
 
         log.info("Release file updated successfully with releaseFileId: {}", releaseFileId);
@@ -152,6 +163,7 @@ public class ReleaseFileService {
 
         ReleaseFile releaseFile = findReleaseFileById(releaseFileId);
         releaseFileRepository.delete(releaseFile);
+        patchSegmentCache.evict(releaseFile.getReleaseVersion().getReleaseVersionId());
 
         log.info("Release file deleted successfully with releaseFileId: {}", releaseFileId);
     }
@@ -167,18 +179,34 @@ public class ReleaseFileService {
     @Transactional
     public List<ReleaseFileDto.DetailResponse> uploadReleaseFiles(Long versionId,
             List<MultipartFile> files, ReleaseFileDto.UploadRequest request) {
-        return uploadService.uploadReleaseFiles(versionId, files, request);
+        List<ReleaseFileDto.DetailResponse> uploaded = uploadService.uploadReleaseFiles(versionId, files, request);
+        patchSegmentCache.evict(versionId);
+        return uploaded;
     }
 
-    public Resource downloadReleaseFile(Long releaseFileId) {
-        log.info("Downloading release file with releaseFileId: {}", releaseFileId);
-
+    /**
+     * 릴리즈 파일 다운로드 경로 조회
+     *
+     * @param releaseFileId 릴리즈 파일 ID
+     * @return 파일 절대 경로
+     * @throws BusinessException 파일을 찾을 수 없는 경우
+     */
+    public Path getDownloadFile(Long releaseFileId) {
         ReleaseFile releaseFile = findReleaseFileById(releaseFileId);
 
-        Resource resource = fileStorageService.loadFile(releaseFile.getFilePath());
+        Path filePath = fileStorageService.getAbsolutePath(releaseFile.getFilePath());
+        if (!Files.isRegularFile(filePath)) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND,
+                    "파일을 찾을 수 없습니다: " + releaseFile.getFileName());
+        }
+        return filePath;
+    }
 
-        log.info("Release file downloaded successfully: {}", releaseFile.getFileName());
-        return resource;
+    /**
+     * 릴리즈 파일명 조회
+     */
+    public String getFileName(Long releaseFileId) {
+        return findReleaseFileById(releaseFileId).getFileName();
     }
 
     /**
@@ -221,18 +249,16 @@ public class ReleaseFileService {
     }
 
     /**
-     * 버전별 파일을 스트리밍 방식으로 ZIP 압축
+     * 버전별 파일 ZIP 다운로드 준비 (ZIP 매니페스트 생성)
      *
-     * <p>메모리에 전체 ZIP을 생성하지 않고 OutputStream에 직접 스트리밍합니다.
-     * 메모리 사용량이 O(1)로 대용량 파일도 안전하게 처리 가능합니다.
+     * <p>파일 목록, 압축 전 총 크기, 엔트리별 압축 방식을 스트리밍 전에 확정합니다.
+     * 모든 엔트리가 STORED이면 ZIP 전체 길이도 함께 계산되어 Content-Length로 사용할 수 있습니다.
      *
-     * @param versionId    릴리즈 버전 ID
-     * @param outputStream 출력 스트림 (HttpServletResponse.getOutputStream())
-     * @throws BusinessException 파일이 없거나 압축 실패 시
+     * @param versionId 릴리즈 버전 ID
+     * @return ZIP 매니페스트
+     * @throws BusinessException 파일이 없거나 누락된 경우
      */
-    public void streamVersionFilesAsZip(Long versionId, OutputStream outputStream) {
-        log.info("버전별 파일 스트리밍 다운로드 요청 - versionId: {}", versionId);
-
+    public StreamingZipUtil.ZipManifest prepareVersionFilesZip(Long versionId) {
         ReleaseVersion releaseVersion = findReleaseVersionById(versionId);
 
         List<ReleaseFile> releaseFiles = releaseFileRepository
@@ -248,14 +274,28 @@ public class ReleaseFileService {
         // 스트리밍 시작 전 파일 존재 여부 검증 (응답 헤더 설정 후 예외 발생 방지)
         validateFilesExist(zipEntries);
 
-        log.info("스트리밍 ZIP 압축 시작 - 버전: {}, 파일 개수: {}",
-                releaseVersion.getVersion(), zipEntries.size());
+        StreamingZipUtil.ZipManifest manifest = StreamingZipUtil.buildManifest(zipEntries, zipCompressionPolicy);
 
-        // 스트리밍 방식으로 압축 (메모리 효율적)
-        StreamingZipUtil.compressFilesToStream(outputStream, zipEntries);
+        log.info("버전별 ZIP 다운로드 준비 완료 - 버전: {}, 파일 개수: {}, 압축 전 크기: {} bytes, ZIP 크기: {}",
+                releaseVersion.getVersion(), manifest.entries().size(), manifest.uncompressedSize(),
+                manifest.hasKnownLength() ? manifest.contentLength() + " bytes" : "미정");
 
-        log.info("버전 {} 스트리밍 압축 완료 - {} 개 파일",
-                releaseVersion.getVersion(), releaseFiles.size());
+        return manifest;
+    }
+
+    /**
+     * 버전별 파일을 스트리밍 방식으로 ZIP 압축
+     *
+     * <p>메모리에 전체 ZIP을 생성하지 않고 OutputStream에 직접 스트리밍합니다.
+     * 메모리 사용량이 O(1)로 대용량 파일도 안전하게 처리 가능합니다.
+     *
+     * @param manifest     {@link #prepareVersionFilesZip(Long)}로 생성한 매니페스트
+     * @param outputStream 출력 스트림 (HttpServletResponse.getOutputStream())
+     * @throws BusinessException 압축 실패 시
+     */
+    public void streamVersionFilesAsZip(StreamingZipUtil.ZipManifest manifest, OutputStream outputStream) {
+        // 스트리밍 방식으로 압축 (메모리 효율적)
+        StreamingZipUtil.compressManifestToStream(outputStream, manifest, zipCompressPool);
     }
 
     /**
@@ -320,53 +360,6 @@ public class ReleaseFileService {
         }
     }
 
-    /**
-     * 버전별 파일의 압축 전 총 크기 계산
-     *
-     * <p>프론트엔드에서 진행률 표시를 위해 사용합니다.
-     * 실제 압축된 크기는 압축률에 따라 다르지만, 대략적인 진행률 표시에 충분합니다.
-     *
-     * @param versionId 릴리즈 버전 ID
-     * @return 압축 전 총 크기 (바이트)
-     * @throws BusinessException 파일이 없거나 크기 계산 실패 시
-     */
-    public long calculateUncompressedSize(Long versionId) {
-        log.debug("압축 전 크기 계산 시작 - versionId: {}", versionId);
-
-        ReleaseVersion releaseVersion = findReleaseVersionById(versionId);
-
-        List<ReleaseFile> releaseFiles = releaseFileRepository
-                .findAllByReleaseVersion_ReleaseVersionIdOrderByExecutionOrderAsc(versionId);
-
-        if (releaseFiles.isEmpty()) {
-            throw new BusinessException(ErrorCode.DATA_NOT_FOUND,
-                    "버전 " + releaseVersion.getVersion() + "에 파일이 없습니다");
-        }
-
-        long totalSize = 0L;
-        for (ReleaseFile file : releaseFiles) {
-            Path sourcePath = fileStorageService.getAbsolutePath(file.getFilePath());
-            try {
-                if (Files.exists(sourcePath) && Files.isRegularFile(sourcePath)) {
-                    long fileSize = Files.size(sourcePath);
-                    totalSize += fileSize;
-                    log.debug("파일 크기 추가 - {}: {} bytes", file.getFileName(), fileSize);
-                } else {
-                    log.warn("파일을 찾을 수 없음 - {}: {}", file.getFileName(), sourcePath);
-                }
-            } catch (IOException e) {
-                log.error("파일 크기 계산 실패 - {}: {}", file.getFileName(), e.getMessage());
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                        "파일 크기 계산 실패: " + file.getFileName());
-            }
-        }
-
-        log.info("압축 전 총 크기 계산 완료 - versionId: {}, totalSize: {} bytes ({} MB)",
-                versionId, totalSize, totalSize / (1024.0 * 1024.0));
-
-        return totalSize;
-    }
-
     /**
      * 버전별 ZIP 파일명 생성
      *
@@ -11,9 +11,6 @@ import com.ts.rm.domain.releaseversion.entity.ReleaseVersion;
 import com.ts.rm.domain.releaseversion.repository.ReleaseVersionRepository;
 import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
-import java.io.IOException;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -65,57 +62,49 @@ public class ReleaseFileUploadService {
         int executionOrder = maxOrder + 1;
 
         for (MultipartFile file : files) {
-            try {
-                validateFile(file);
-
-                byte[] content = file.getBytes();
-                String checksum = calculateChecksum(content);
-
-                FileCategory fileCategory = request.fileCategory() != null
-                        ? FileCategory.fromCode(request.fileCategory())
-                        : determineFileCategory(file.getOriginalFilename(), request.subCategory());
-
-                String subCategory = request.subCategory() != null
-                        ? request.subCategory()
-                        : determineSubCategory(fileCategory, null);
-
-                String projectId = releaseVersion.getProject() != null ? releaseVersion.getProject().getProjectId() : "infraeye2";
-                String categoryPath = subCategory != null ? subCategory : fileCategory.getCode();
-                String relativePath = String.format("versions/%s/%s/%s/%s/%s/%s",
-                        projectId,
-                        releaseVersion.getReleaseType().toLowerCase(),
-                        releaseVersion.getMajorMinor(),
-                        releaseVersion.getVersion(),
-                        categoryPath.toLowerCase(),
-                        file.getOriginalFilename());
-
-                fileStorageService.saveFile(file, relativePath);
-
-                String fileType = determineFileType(file.getOriginalFilename());
-
-                ReleaseFile releaseFile = ReleaseFile.builder()
-                        .releaseVersion(releaseVersion)
-                        .fileType(fileType)
-                        .fileCategory(fileCategory)
-                        .subCategory(subCategory)
-                        .fileName(file.getOriginalFilename())
-                        .filePath(relativePath)
-                        .fileSize(file.getSize())
-                        .checksum(checksum)
-                        .executionOrder(executionOrder++)
-                        .description(request.uploadedBy() + "가 업로드한 파일")
-                        .build();
-
-                ReleaseFile savedReleaseFile = releaseFileRepository.save(releaseFile);
-                responses.add(mapper.toDetailResponse(savedReleaseFile));
-
-                log.info("Release file uploaded: {} -> {}", file.getOriginalFilename(), relativePath);
-
-            } catch (IOException e) {
-                log.error("Failed to upload release file: {}", file.getOriginalFilename(), e);
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                        "파일 업로드 실패: " + e.getMessage());
-            }
+            validateFile(file);
+
+            FileCategory fileCategory = request.fileCategory() != null
+                    ? FileCategory.fromCode(request.fileCategory())
+                    : determineFileCategory(file.getOriginalFilename(), request.subCategory());
+
+            String subCategory = request.subCategory() != null
+                    ? request.subCategory()
+                    : determineSubCategory(fileCategory, null);
+
+            String projectId = releaseVersion.getProject() != null ? releaseVersion.getProject().getProjectId() : "infraeye2";
+            String categoryPath = subCategory != null ? subCategory : fileCategory.getCode();
+            String relativePath = String.format("versions/%s/%s/%s/%s/%s/%s",
+                    projectId,
+                    releaseVersion.getReleaseType().toLowerCase(),
+                    releaseVersion.getMajorMinor(),
+                    releaseVersion.getVersion(),
+                    categoryPath.toLowerCase(),
+                    file.getOriginalFilename());
+
+            // 저장과 동시에 체크섬/크기 계산 (파일 전체를 메모리에 적재하지 않음)
+            FileStorageService.StoredFile storedFile =
+                    fileStorageService.saveFileWithChecksum(file, relativePath);
+
+            String fileType = determineFileType(file.getOriginalFilename());
+
+            ReleaseFile releaseFile = ReleaseFile.builder()
+                    .releaseVersion(releaseVersion)
+                    .fileType(fileType)
+                    .fileCategory(fileCategory)
+                    .subCategory(subCategory)
+                    .fileName(file.getOriginalFilename())
+                    .filePath(relativePath)
+                    .fileSize(storedFile.fileSize())
+                    .checksum(storedFile.checksum())
+                    .executionOrder(executionOrder++)
+                    .description(request.uploadedBy() + "가 업로드한 파일")
+                    .build();
+
+            ReleaseFile savedReleaseFile = releaseFileRepository.save(releaseFile);
+            responses.add(mapper.toDetailResponse(savedReleaseFile));
+
+            log.info("Release file uploaded: {} -> {}", file.getOriginalFilename(), relativePath);
         }
 
         log.info("Successfully uploaded {} release files", responses.size());
@@ -146,29 +135,6 @@ public class ReleaseFileUploadService {
         }
     }
 
-    /**
-     * 파일 체크섬(SHA-256) 계산
-     *
-     * @param content 파일 내용
-     * @return SHA-256 해시값 (64자리 16진수)
-     */
-    public String calculateChecksum(byte[] content) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] hashBytes = md.digest(content);
-
-            StringBuilder sb = new StringBuilder();
-            for (byte b : hashBytes) {
-                sb.append(String.format("%02x", b));
-            }
-            return sb.toString();
-
-        } catch (NoSuchAlgorithmException e) {
-            log.error("SHA-256 algorithm not found", e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
-    }
-
     /**
      * 파일 확장자로 파일 타입 결정
      *
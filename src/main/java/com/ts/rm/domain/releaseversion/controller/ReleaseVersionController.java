@@ -4,6 +4,7 @@ import com.ts.rm.domain.releaseversion.dto.ReleaseVersionDto;
 import com.ts.rm.domain.releaseversion.service.ReleaseVersionService;
 import com.ts.rm.domain.releaseversion.service.ReleaseVersionTreeService;
 import com.ts.rm.domain.releaseversion.service.ReleaseVersionUploadService;
+import com.ts.rm.domain.upload.service.ChunkedUploadService;
 import com.ts.rm.global.response.ApiResponse;
 import com.ts.rm.global.security.SecurityUtil;
 import jakarta.validation.Valid;
@@ -38,6 +39,7 @@ public class ReleaseVersionController implements ReleaseVersionControllerDocs {
     private final ReleaseVersionService releaseVersionService;
     private final ReleaseVersionUploadService uploadService;
     private final ReleaseVersionTreeService treeService;
+    private final ChunkedUploadService chunkedUploadService;
 
     /**
      * 표준 릴리즈 버전 생성 (ZIP 파일 업로드)
@@ -109,6 +111,71 @@ public class ReleaseVersionController implements ReleaseVersionControllerDocs {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 표준 릴리즈 버전 생성 (분할 업로드 완료 파일)
+     *
+     * @param uploadId 업로드 ID
+     * @param request  버전 생성 요청 (version, comment)
+     * @return 생성된 버전 정보
+     */
+    @Override
+    @PostMapping("/versions/standard/uploads/{uploadId}")
+    public ResponseEntity<ApiResponse<ReleaseVersionDto.CreateVersionResponse>> createStandardVersionFromUpload(
+            @PathVariable String uploadId,
+            @Valid @RequestBody ReleaseVersionDto.CreateStandardVersionRequest request) {
+
+        String createdBy = SecurityUtil.getTokenInfo().email();
+        MultipartFile patchFiles = chunkedUploadService.getCompletedFile(uploadId, createdBy);
+
+        log.info("표준 릴리즈 버전 생성 요청 (분할 업로드) - projectId: {}, version: {}, uploadId: {}, fileSize: {}",
+                request.projectId(), request.version(), uploadId, patchFiles.getSize());
+
+        ReleaseVersionDto.CreateVersionResponse response = uploadService.createStandardVersionWithZip(
+                request.projectId(),
+                request.version(),
+                request.comment(),
+                patchFiles,
+                createdBy,
+                request.isApproved()
+        );
+
+        // 버전 생성 성공 시에만 업로드 세션 삭제 (실패 시 같은 uploadId로 재시도 가능)
+        chunkedUploadService.completeUpload(uploadId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 커스텀 릴리즈 버전 생성 (분할 업로드 완료 파일)
+     *
+     * @param uploadId 업로드 ID
+     * @param request  버전 생성 요청 (customerId, customBaseVersionId, customVersion, comment)
+     * @return 생성된 버전 정보
+     */
+    @Override
+    @PostMapping("/versions/custom/uploads/{uploadId}")
+    public ResponseEntity<ApiResponse<ReleaseVersionDto.CreateCustomVersionResponse>> createCustomVersionFromUpload(
+            @PathVariable String uploadId,
+            @Valid @RequestBody ReleaseVersionDto.CreateCustomVersionRequest request) {
+
+        String createdBy = SecurityUtil.getTokenInfo().email();
+        MultipartFile patchFiles = chunkedUploadService.getCompletedFile(uploadId, createdBy);
+
+        log.info("커스텀 릴리즈 버전 생성 요청 (분할 업로드) - projectId: {}, customerId: {}, customVersion: {}, uploadId: {}, fileSize: {}",
+                request.projectId(), request.customerId(), request.customVersion(), uploadId, patchFiles.getSize());
+
+        ReleaseVersionDto.CreateCustomVersionResponse response = uploadService.createCustomVersionWithZip(
+                request,
+                patchFiles,
+                createdBy
+        );
+
+        // 버전 생성 성공 시에만 업로드 세션 삭제 (실패 시 같은 uploadId로 재시도 가능)
+        chunkedUploadService.completeUpload(uploadId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 릴리즈 버전 조회 (ID)
      *
@@ -13,6 +13,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.multipart.MultipartFile;
@@ -125,6 +126,50 @@ public interface ReleaseVersionControllerDocs {
             @RequestHeader("Authorization") String authorization
     );
 
+    @Operation(
+            summary = "표준 릴리즈 버전 생성 (분할 업로드)",
+            description = "분할 업로드(`/api/uploads`)로 전송 완료된 ZIP 파일로 표준 릴리즈 버전을 생성합니다.\n\n"
+                    + "ZIP 구조 규칙과 처리 과정은 `POST /api/releases/versions/standard`와 동일합니다. "
+                    + "버전 생성에 성공하면 업로드 세션이 삭제되고, 실패하면 세션이 유지되어 같은 uploadId로 다시 시도할 수 있습니다.",
+            responses = @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CreateVersionApiResponse.class)
+                    )
+            )
+    )
+    ResponseEntity<ApiResponse<ReleaseVersionDto.CreateVersionResponse>> createStandardVersionFromUpload(
+            @Parameter(description = "업로드 ID", required = true)
+            @PathVariable String uploadId,
+
+            @Parameter(description = "버전 정보 (projectId, version, comment, isApproved)", required = true)
+            @Valid @RequestBody ReleaseVersionDto.CreateStandardVersionRequest request
+    );
+
+    @Operation(
+            summary = "커스텀 릴리즈 버전 생성 (분할 업로드)",
+            description = "분할 업로드(`/api/uploads`)로 전송 완료된 ZIP 파일로 커스텀 릴리즈 버전을 생성합니다.\n\n"
+                    + "ZIP 구조 규칙과 처리 과정은 `POST /api/releases/versions/custom`과 동일합니다. "
+                    + "버전 생성에 성공하면 업로드 세션이 삭제되고, 실패하면 세션이 유지되어 같은 uploadId로 다시 시도할 수 있습니다.",
+            responses = @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CreateCustomVersionApiResponse.class)
+                    )
+            )
+    )
+    ResponseEntity<ApiResponse<ReleaseVersionDto.CreateCustomVersionResponse>> createCustomVersionFromUpload(
+            @Parameter(description = "업로드 ID", required = true)
+            @PathVariable String uploadId,
+
+            @Parameter(description = "커스텀 버전 정보 (projectId, customerId, customBaseVersionId, customVersion, comment)", required = true)
+            @Valid @RequestBody ReleaseVersionDto.CreateCustomVersionRequest request
+    );
+
     @Operation(
             summary = "릴리즈 버전 조회 (ID)",
             description = "ID로 릴리즈 버전 정보를 조회합니다",
@@ -56,6 +56,8 @@ public class ReleaseVersionHierarchyRepositoryImpl implements
                 .from(h)
                 .innerJoin(h.descendant, rv)
                 .leftJoin(rv.project).fetchJoin()
+                .leftJoin(rv.customer).fetchJoin()  // 전체 커스텀 트리의 고객사 정보
+                .leftJoin(rv.customBaseVersion).fetchJoin()  // 전체 커스텀 트리의 기준 표준본
                 .leftJoin(rv.creator).fetchJoin()
                 .leftJoin(rv.approver).fetchJoin()
                 .where(
@@ -38,6 +38,7 @@ public class ReleaseVersionRepositoryImpl implements ReleaseVersionRepositoryCus
 
         return queryFactory
                 .selectFrom(rv)
+                .leftJoin(rv.creator).fetchJoin()  // 패치 스크립트 버전 메타데이터용 생성자 정보
                 .where(rv.project.projectId.eq(projectId)  // 프로젝트 ID 필터링 추가
                         .and(rv.releaseType.eq(releaseType))
                         .and(rv.hotfixVersion.eq(0))  // 핫픽스 제외 (패치 생성에서 핫픽스 미포함)
@@ -172,6 +173,7 @@ public class ReleaseVersionRepositoryImpl implements ReleaseVersionRepositoryCus
 
         return queryFactory
                 .selectFrom(rv)
+                .leftJoin(rv.creator).fetchJoin()  // 패치 스크립트 버전 메타데이터용 생성자 정보
                 .where(rv.releaseType.eq("CUSTOM")
                         .and(rv.customer.customerId.eq(customerId))
                         .and(rv.hotfixVersion.eq(0))  // 핫픽스 제외 (패치 생성에서 핫픽스 미포함)
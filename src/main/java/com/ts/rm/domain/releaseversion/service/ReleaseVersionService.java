@@ -3,6 +3,7 @@ package com.ts.rm.domain.releaseversion.service;
 import com.ts.rm.domain.account.entity.Account;
 import com.ts.rm.domain.customer.entity.Customer;
 import com.ts.rm.domain.customer.repository.CustomerRepository;
+import com.ts.rm.domain.patch.util.PatchSegmentCache;
 import com.ts.rm.domain.project.entity.Project;
 import com.ts.rm.domain.project.repository.ProjectRepository;
 import com.ts.rm.domain.releasefile.entity.ReleaseFile;
@@ -48,6 +49,9 @@ public class ReleaseVersionService {
     private final ReleaseVersionFileSystemService fileSystemService;
     private final ReleaseVersionTreeService treeService;
 
+    // 패치 스크립트 세그먼트 캐시 (승인/수정/삭제 시 무효화)
+    private final PatchSegmentCache patchSegmentCache;
+
     /**
      * 표준 릴리즈 버전 생성
      *
@@ -149,6 +153,7 @@ public class ReleaseVersionService {
         // Setter를 통한 수정 (JPA Dirty Checking)
         if (request.comment() != null) {
             releaseVersion.setComment(request.comment());
+            patchSegmentCache.evict(versionId);
         }
 
         // 트랜잭션 커밋 시 자동으로 UPDATE 쿼리 실행 (Dirty Checking)
@@ -184,6 +189,7 @@ public class ReleaseVersionService {
 
             // 4. release_version 삭제
             releaseVersionRepository.delete(version);
+            patchSegmentCache.evict(versionId);
             log.info("release_version 삭제 완료");
 
             // 5. 파일 시스템 삭제 (핫픽스인 경우 hotfix 디렉토리만 삭제)
@@ -362,6 +368,7 @@ public class ReleaseVersionService {
         releaseVersion.setApprover(approver);
         releaseVersion.setApprovedByEmail(approvedByEmail);
         releaseVersion.setApprovedAt(LocalDateTime.now());
+        patchSegmentCache.evict(versionId);
 
         // 트랜잭션 커밋 시 자동으로 UPDATE 쿼리 실행 (Dirty Checking)
         log.info("릴리즈 버전 승인 완료 - versionId: {}, approvedByEmail: {}, approvedAt: {}",
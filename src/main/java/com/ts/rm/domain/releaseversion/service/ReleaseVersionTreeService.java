@@ -78,6 +78,9 @@ public class ReleaseVersionTreeService {
                 return new ReleaseVersionDto.CustomTreeResponse("CUSTOM", List.of());
             }
 
+            // 전체 버전의 파일 카테고리 일괄 조회
+            Map<Long, List<String>> fileCategoriesByVersionId = findFileCategories(allCustomVersions);
+
             // 고객사별로 그룹화
             Map<Long, List<ReleaseVersion>> groupedByCustomer = new java.util.LinkedHashMap<>();
             for (ReleaseVersion version : allCustomVersions) {
@@ -110,7 +113,7 @@ public class ReleaseVersionTreeService {
 
                 // 커스텀 버전의 majorMinor로 그룹화 (customMajorMinor 사용)
                 List<ReleaseVersionDto.CustomMajorMinorNode> majorMinorGroups =
-                        buildCustomMajorMinorGroups(customerVersions);
+                        buildCustomMajorMinorGroups(customerVersions, fileCategoriesByVersionId);
 
                 customerNodes.add(new ReleaseVersionDto.CustomerNode(
                         customerId,
@@ -134,11 +137,12 @@ public class ReleaseVersionTreeService {
     /**
      * 커스텀 버전 목록을 Major.Minor로 그룹핑 (핫픽스 포함)
      *
-     * @param versions 커스텀 릴리즈 버전 목록
+     * @param versions                  커스텀 릴리즈 버전 목록
+     * @param fileCategoriesByVersionId 버전 ID별 파일 카테고리 코드
      * @return 커스텀 Major.Minor 그룹 목록
      */
     private List<ReleaseVersionDto.CustomMajorMinorNode> buildCustomMajorMinorGroups(
-            List<ReleaseVersion> versions) {
+            List<ReleaseVersion> versions, Map<Long, List<String>> fileCategoriesByVersionId) {
 
         // 원본 버전과 핫픽스 버전 분리
         List<ReleaseVersion> mainVersions = new ArrayList<>();
@@ -188,7 +192,7 @@ public class ReleaseVersionTreeService {
 
             // 각 버전에 대한 CustomVersionNode 생성 (핫픽스 포함)
             List<ReleaseVersionDto.CustomVersionNode> versionNodes = versionsInGroup.stream()
-                    .map(v -> buildCustomVersionNodeWithHotfixes(v, hotfixesByParentId))
+                    .map(v -> buildCustomVersionNodeWithHotfixes(v, hotfixesByParentId, fileCategoriesByVersionId))
                     .toList();
 
             majorMinorNodes.add(new ReleaseVersionDto.CustomMajorMinorNode(majorMinor, versionNodes));
@@ -200,24 +204,23 @@ public class ReleaseVersionTreeService {
     /**
      * ReleaseVersion 엔티티로부터 CustomVersionNode 생성 (핫픽스 포함)
      *
-     * @param version            릴리즈 버전 엔티티
-     * @param hotfixesByParentId 부모 버전 ID별 핫픽스 Map
+     * @param version                   릴리즈 버전 엔티티
+     * @param hotfixesByParentId        부모 버전 ID별 핫픽스 Map
+     * @param fileCategoriesByVersionId 버전 ID별 파일 카테고리 코드
      * @return CustomVersionNode (핫픽스 포함)
      */
     private ReleaseVersionDto.CustomVersionNode buildCustomVersionNodeWithHotfixes(
-            ReleaseVersion version, Map<Long, List<ReleaseVersion>> hotfixesByParentId) {
+            ReleaseVersion version, Map<Long, List<ReleaseVersion>> hotfixesByParentId,
+            Map<Long, List<String>> fileCategoriesByVersionId) {
 
         // createdAt을 "YYYY-MM-DD" 형식으로 포맷
         String createdAt = version.getCreatedAt() != null
                 ? version.getCreatedAt().toLocalDate().toString()
                 : null;
 
-        // fileCategories 조회
-        List<FileCategory> fileCategoryEnums = releaseFileRepository
-                .findCategoriesByVersionId(version.getReleaseVersionId());
-        List<String> fileCategories = fileCategoryEnums.stream()
-                .map(FileCategory::getCode)
-                .toList();
+        // fileCategories (일괄 조회 결과에서 꺼냄)
+        List<String> fileCategories = fileCategoriesByVersionId
+                .getOrDefault(version.getReleaseVersionId(), List.of());
 
         // approvedAt 포매팅
         String approvedAt = version.getApprovedAt() != null
@@ -235,7 +238,7 @@ public class ReleaseVersionTreeService {
             // 핫픽스 버전 순으로 정렬
             hotfixes.sort((h1, h2) -> Integer.compare(h1.getHotfixVersion(), h2.getHotfixVersion()));
             hotfixNodes = hotfixes.stream()
-                    .map(this::buildHotfixNode)
+                    .map(hotfix -> buildHotfixNode(hotfix, fileCategoriesByVersionId))
                     .toList();
         }
 
@@ -305,6 +308,7 @@ public class ReleaseVersionTreeService {
      * DB에서 조회한 버전들을 Major.Minor로 그룹핑 (DB 기반)
      *
      * <p>핫픽스 버전은 원본 버전의 하위 계층으로 표시됩니다.
+     * <p>파일 카테고리는 전체 버전에 대해 한 번에 조회하므로 버전 수와 관계없이 추가 쿼리는 1회입니다.
      *
      * @param versions 릴리즈 버전 목록
      * @return Major.Minor 그룹 목록
@@ -312,6 +316,9 @@ public class ReleaseVersionTreeService {
     public List<ReleaseVersionDto.MajorMinorNode> buildMajorMinorGroupsFromDb(
             List<ReleaseVersion> versions) {
 
+        // 전체 버전의 파일 카테고리 일괄 조회
+        Map<Long, List<String>> fileCategoriesByVersionId = findFileCategories(versions);
+
         // 원본 버전과 핫픽스 버전 분리
         List<ReleaseVersion> mainVersions = new ArrayList<>();
         Map<Long, List<ReleaseVersion>> hotfixesByParentId = new java.util.HashMap<>();
@@ -352,7 +359,7 @@ public class ReleaseVersionTreeService {
 
             // 각 버전에 대한 VersionNode 생성 (핫픽스 포함)
             List<ReleaseVersionDto.VersionNode> versionNodes = versionsInGroup.stream()
-                    .map(v -> buildVersionNodeWithHotfixes(v, hotfixesByParentId))
+                    .map(v -> buildVersionNodeWithHotfixes(v, hotfixesByParentId, fileCategoriesByVersionId))
                     .toList();
 
             majorMinorNodes.add(new ReleaseVersionDto.MajorMinorNode(majorMinor, versionNodes));
@@ -364,24 +371,23 @@ public class ReleaseVersionTreeService {
     /**
      * ReleaseVersion 엔티티로부터 VersionNode 생성 (핫픽스 포함)
      *
-     * @param version             릴리즈 버전 엔티티
-     * @param hotfixesByParentId  부모 버전 ID별 핫픽스 Map
+     * @param version                   릴리즈 버전 엔티티
+     * @param hotfixesByParentId        부모 버전 ID별 핫픽스 Map
+     * @param fileCategoriesByVersionId 버전 ID별 파일 카테고리 코드
      * @return VersionNode (핫픽스 포함)
      */
     private ReleaseVersionDto.VersionNode buildVersionNodeWithHotfixes(
-            ReleaseVersion version, Map<Long, List<ReleaseVersion>> hotfixesByParentId) {
+            ReleaseVersion version, Map<Long, List<ReleaseVersion>> hotfixesByParentId,
+            Map<Long, List<String>> fileCategoriesByVersionId) {
 
         // createdAt을 "YYYY-MM-DD" 형식으로 포맷
         String createdAt = version.getCreatedAt() != null
                 ? version.getCreatedAt().toLocalDate().toString()
                 : null;
 
-        // fileCategories 조회
-        List<FileCategory> fileCategoryEnums = releaseFileRepository
-                .findCategoriesByVersionId(version.getReleaseVersionId());
-        List<String> fileCategories = fileCategoryEnums.stream()
-                .map(FileCategory::getCode)
-                .toList();
+        // fileCategories (일괄 조회 결과에서 꺼냄)
+        List<String> fileCategories = fileCategoriesByVersionId
+                .getOrDefault(version.getReleaseVersionId(), List.of());
 
         // approvedAt 포매팅
         String approvedAt = version.getApprovedAt() != null
@@ -399,7 +405,7 @@ public class ReleaseVersionTreeService {
             // 핫픽스 버전 순으로 정렬
             hotfixes.sort((h1, h2) -> Integer.compare(h1.getHotfixVersion(), h2.getHotfixVersion()));
             hotfixNodes = hotfixes.stream()
-                    .map(this::buildHotfixNode)
+                    .map(hotfix -> buildHotfixNode(hotfix, fileCategoriesByVersionId))
                     .toList();
         }
 
@@ -430,21 +436,20 @@ public class ReleaseVersionTreeService {
      *
      * <p>핫픽스는 자식을 가질 수 없으므로 별도의 간단한 DTO를 사용합니다.
      *
-     * @param version 릴리즈 버전 엔티티 (핫픽스)
+     * @param version                   릴리즈 버전 엔티티 (핫픽스)
+     * @param fileCategoriesByVersionId 버전 ID별 파일 카테고리 코드
      * @return HotfixNode
      */
-    private ReleaseVersionDto.HotfixNode buildHotfixNode(ReleaseVersion version) {
+    private ReleaseVersionDto.HotfixNode buildHotfixNode(ReleaseVersion version,
+            Map<Long, List<String>> fileCategoriesByVersionId) {
         // createdAt을 "YYYY-MM-DD" 형식으로 포맷
         String createdAt = version.getCreatedAt() != null
                 ? version.getCreatedAt().toLocalDate().toString()
                 : null;
 
-        // fileCategories 조회
-        List<FileCategory> fileCategoryEnums = releaseFileRepository
-                .findCategoriesByVersionId(version.getReleaseVersionId());
-        List<String> fileCategories = fileCategoryEnums.stream()
-                .map(FileCategory::getCode)
-                .toList();
+        // fileCategories (일괄 조회 결과에서 꺼냄)
+        List<String> fileCategories = fileCategoriesByVersionId
+                .getOrDefault(version.getReleaseVersionId(), List.of());
 
         // approvedAt 포매팅
         String approvedAt = version.getApprovedAt() != null
@@ -477,6 +482,25 @@ public class ReleaseVersionTreeService {
         );
     }
 
+    /**
+     * 트리에 포함된 버전(핫픽스 포함)의 파일 카테고리 코드 일괄 조회
+     *
+     * @param versions 릴리즈 버전 목록
+     * @return 버전 ID별 파일 카테고리 코드 (파일이 없는 버전은 포함되지 않음)
+     */
+    private Map<Long, List<String>> findFileCategories(List<ReleaseVersion> versions) {
+        List<Long> versionIds = versions.stream()
+                .map(ReleaseVersion::getReleaseVersionId)
+                .toList();
+
+        Map<Long, List<String>> fileCategoriesByVersionId = new java.util.HashMap<>();
+        releaseFileRepository.findCategoriesByVersionIds(versionIds).forEach((versionId, categories) ->
+                fileCategoriesByVersionId.put(versionId, categories.stream()
+                        .map(FileCategory::getCode)
+                        .toList()));
+        return fileCategoriesByVersionId;
+    }
+
     /**
      * 새 버전에 대한 계층 구조 데이터 생성 (클로저 테이블)
      *
@@ -22,15 +22,20 @@ import com.ts.rm.domain.account.entity.Account;
 import com.ts.rm.global.account.AccountLookupService;
 import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
+import com.ts.rm.global.file.FileChecksumUtil;
+import com.ts.rm.global.file.ZipExtractUtil;
+import com.ts.rm.global.file.ZipExtractUtil.ExtractedEntry;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -58,6 +63,8 @@ public class ReleaseVersionUploadService {
     private final ReleaseVersionDtoMapper mapper;
     private final ScriptGenerator mariaDBScriptGenerator;
     private final ScriptGenerator crateDBScriptGenerator;
+    @Qualifier("zipExtractPool")
+    private final ForkJoinPool zipExtractPool;
 
     @Value("${app.release.base-path:data/release-manager}")
     private String baseReleasePath;
@@ -177,7 +184,8 @@ public class ReleaseVersionUploadService {
 
         try {
             // 3. 임시 디렉토리에 ZIP 압축 해제
-            tempDir = extractZipToTempDirectory(zipFile);
+            ExtractedZip extractedZip = extractZipToTempDirectory(zipFile);
+            tempDir = extractedZip.directory();
 
             // 4. ZIP 구조 검증 (패치본만 허용: database/, web/, engine/)
             validateZipStructure(tempDir);
@@ -186,7 +194,8 @@ public class ReleaseVersionUploadService {
             versionPath = fileSystemService.createVersionDirectory(versionInfo, projectId);
 
             // 6. 파일 복사 및 DB 저장
-            ReleaseVersion savedVersion = copyFilesAndSaveToDb(project, tempDir, versionPath, versionInfo, createdByEmail, comment, isApproved);
+            ReleaseVersion savedVersion = copyFilesAndSaveToDb(project, tempDir, versionPath, versionInfo, createdByEmail, comment, isApproved,
+                    extractedZip.checksums());
 
             log.info("ZIP 파일로 표준 릴리즈 버전 생성 완료 - projectId: {}, version: {}, ID: {}, isApproved: {}",
                     projectId, version, savedVersion.getReleaseVersionId(), savedVersion.getIsApproved());
@@ -317,7 +326,8 @@ public class ReleaseVersionUploadService {
 
         try {
             // 7. 임시 디렉토리에 ZIP 압축 해제
-            tempDir = extractZipToTempDirectory(zipFile);
+            ExtractedZip extractedZip = extractZipToTempDirectory(zipFile);
+            tempDir = extractedZip.directory();
 
             // 8. ZIP 구조 검증 (패치본만 허용: database/, web/, engine/)
             validateZipStructure(tempDir);
@@ -330,7 +340,7 @@ public class ReleaseVersionUploadService {
             ReleaseVersion savedVersion = copyFilesAndSaveToDbForCustomVersion(
                     project, customer, customBaseVersion, tempDir, versionPath,
                     customMajorVersion, customMinorVersion, customPatchVersion,
-                    request.comment(), createdByEmail, request.isApproved());
+                    request.comment(), createdByEmail, request.isApproved(), extractedZip.checksums());
 
             log.info("ZIP 파일로 커스텀 릴리즈 버전 생성 완료 - projectId: {}, customerId: {}, version: {}, ID: {}, isApproved: {}",
                     request.projectId(), request.customerId(), fullVersion, savedVersion.getReleaseVersionId(), savedVersion.getIsApproved());
@@ -398,7 +408,7 @@ public class ReleaseVersionUploadService {
             Path tempDir, Path versionPath,
             int customMajorVersion, int customMinorVersion, int customPatchVersion,
             String comment, String createdByEmail,
-            Boolean isApproved) throws IOException {
+            Boolean isApproved, Map<Path, String> knownChecksums) throws IOException {
 
         String customVersionStr = customMajorVersion + "." + customMinorVersion + "." + customPatchVersion;
 
@@ -467,7 +477,7 @@ public class ReleaseVersionUploadService {
                         log.info("카테고리 폴더 처리 시작: {} -> {}", categoryName, fileCategory.getDescription());
 
                         // 카테고리별 파일 복사 (재귀적)
-                        processCategoryFiles(categoryDir, targetCategoryDir, savedVersion, fileCategory);
+                        processCategoryFiles(categoryDir, targetCategoryDir, savedVersion, fileCategory, knownChecksums);
 
                     } catch (IllegalArgumentException e) {
                         log.warn("알 수 없는 카테고리 폴더 무시: {}", categoryName);
@@ -502,48 +512,39 @@ public class ReleaseVersionUploadService {
         int executionOrder = maxOrder + 1;
 
         for (MultipartFile file : files) {
-            try {
-                // 파일 검증
-                validateFile(file);
+            // 파일 검증
+            validateFile(file);
 
-                byte[] content = file.getBytes();
-                String checksum = calculateChecksum(content);
+            // 파일 경로 생성: versions/{projectId}/{type}/{majorMinor}/{version}/{subCategory}/{fileName}
+            String projectId = releaseVersion.getProject() != null ? releaseVersion.getProject().getProjectId() : "infraeye2";
+            String relativePath = String.format("versions/%s/%s/%s/%s/%s/%s",
+                    projectId,
+                    releaseVersion.getReleaseType().toLowerCase(),
+                    releaseVersion.getMajorMinor(),
+                    releaseVersion.getVersion(),
+                    subCategory.toLowerCase(),
+                    file.getOriginalFilename());
 
-                // 파일 경로 생성: versions/{projectId}/{type}/{majorMinor}/{version}/{subCategory}/{fileName}
-                String projectId = releaseVersion.getProject() != null ? releaseVersion.getProject().getProjectId() : "infraeye2";
-                String relativePath = String.format("versions/%s/%s/%s/%s/%s/%s",
-                        projectId,
-                        releaseVersion.getReleaseType().toLowerCase(),
-                        releaseVersion.getMajorMinor(),
-                        releaseVersion.getVersion(),
-                        subCategory.toLowerCase(),
-                        file.getOriginalFilename());
-
-                // 실제 파일 저장
-                fileStorageService.saveFile(file, relativePath);
-
-                // DB에 메타데이터 저장
-                ReleaseFile releaseFile = ReleaseFile.builder()
-                        .releaseVersion(releaseVersion)
-                        .fileCategory(com.ts.rm.domain.releasefile.enums.FileCategory.DATABASE)
-                        .subCategory(subCategory)
-                        .fileName(file.getOriginalFilename())
-                        .filePath(relativePath)
-                        .fileSize(file.getSize())
-                        .checksum(checksum)
-                        .executionOrder(executionOrder++)
-                        .description("일괄 생성으로 업로드된 파일")
-                        .build();
-
-                releaseFileRepository.save(releaseFile);
-
-                log.info("Release file uploaded: {} -> {}", file.getOriginalFilename(), relativePath);
+            // 실제 파일 저장 (저장과 동시에 체크섬/크기 계산)
+            FileStorageService.StoredFile storedFile =
+                    fileStorageService.saveFileWithChecksum(file, relativePath);
 
-            } catch (IOException e) {
-                log.error("Failed to upload release file: {}", file.getOriginalFilename(), e);
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                        "파일 업로드 실패: " + e.getMessage());
-            }
+            // DB에 메타데이터 저장
+            ReleaseFile releaseFile = ReleaseFile.builder()
+                    .releaseVersion(releaseVersion)
+                    .fileCategory(com.ts.rm.domain.releasefile.enums.FileCategory.DATABASE)
+                    .subCategory(subCategory)
+                    .fileName(file.getOriginalFilename())
+                    .filePath(relativePath)
+                    .fileSize(storedFile.fileSize())
+                    .checksum(storedFile.checksum())
+                    .executionOrder(executionOrder++)
+                    .description("일괄 생성으로 업로드된 파일")
+                    .build();
+
+            releaseFileRepository.save(releaseFile);
+
+            log.info("Release file uploaded: {} -> {}", file.getOriginalFilename(), relativePath);
         }
     }
 
@@ -595,82 +596,41 @@ public class ReleaseVersionUploadService {
     /**
      * ZIP 파일을 임시 디렉토리에 압축 해제
      *
-     * <p>한글 파일명 인코딩 문제 해결을 위해 UTF-8 → MS949 순서로 시도합니다.
-     */
-    public Path extractZipToTempDirectory(MultipartFile zipFile) throws IOException {
-        // UTF-8로 먼저 시도
-        try {
-            return extractZipWithCharset(zipFile, java.nio.charset.StandardCharsets.UTF_8);
-        } catch (BusinessException e) {
-            // UTF-8 실패 시 MS949(한글 Windows 기본 인코딩)로 재시도
-            if (e.getMessage() != null && e.getMessage().contains("malformed input")) {
-                log.info("UTF-8 인코딩 실패, MS949로 재시도합니다.");
-                return extractZipWithCharset(zipFile, java.nio.charset.Charset.forName("MS949"));
-            }
-            throw e;
-        } catch (IllegalArgumentException e) {
-            // ZipInputStream.getNextEntry()가 인코딩 오류 시 IllegalArgumentException을 던짐
-            if (e.getMessage() != null && e.getMessage().contains("malformed input")) {
-                log.info("UTF-8 인코딩 실패 (IllegalArgumentException), MS949로 재시도합니다.");
-                return extractZipWithCharset(zipFile, java.nio.charset.Charset.forName("MS949"));
-            }
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "ZIP 파일 압축 해제 실패: " + e.getMessage());
-        }
-    }
-
-    /**
-     * 지정된 문자셋으로 ZIP 파일을 임시 디렉토리에 압축 해제
+     * <p>업로드 파일을 디스크에 스풀링한 뒤 {@link ZipExtractUtil#extractParallel}로 엔트리별 압축 해제와
+     * SHA-256 계산을 zipExtractPool에서 병렬 수행합니다. 계산된 체크섬은 블롭 저장 시 재사용되어
+     * 압축 해제된 파일을 다시 읽지 않습니다. 한글 파일명은 엔트리별로 UTF-8/MS949를 판별합니다.
      *
-     * @param zipFile ZIP 파일
-     * @param charset 파일명 인코딩
-     * @return 압축 해제된 임시 디렉토리 경로
+     * @return 압축 해제된 임시 디렉토리와 파일별 체크섬
      */
-    private Path extractZipWithCharset(MultipartFile zipFile, java.nio.charset.Charset charset) throws IOException {
-        Path tempDir = Files.createTempDirectory("release_upload_");
+    public ExtractedZip extractZipToTempDirectory(MultipartFile zipFile) throws IOException {
+        Path tempDir = fileStorageService.createTempDirectory("release_upload_");
+        Path spooledZip = tempDir.resolveSibling(tempDir.getFileName() + ".zip");
 
-        try (java.util.zip.ZipInputStream zis =
-                     new java.util.zip.ZipInputStream(zipFile.getInputStream(), charset)) {
+        try {
+            zipFile.transferTo(spooledZip.toFile());
 
-            java.util.zip.ZipEntry entry;
-            long totalSize = 0;
             long maxTotalSize = parseFileSize(maxFileSizeConfig); // application.yml 설정값 사용
+            List<ExtractedEntry> entries = ZipExtractUtil.extractParallel(
+                    spooledZip, tempDir, maxTotalSize, zipExtractPool);
 
-            while ((entry = zis.getNextEntry()) != null) {
-                // 경로 탐색 공격 방지
-                Path targetPath = tempDir.resolve(entry.getName()).normalize();
-                if (!targetPath.startsWith(tempDir)) {
-                    throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
-                            "유효하지 않은 ZIP 파일 경로입니다: " + entry.getName());
-                }
-
-                if (entry.isDirectory()) {
-                    Files.createDirectories(targetPath);
-                } else {
-                    // 파일 크기 누적 확인 (ZIP 폭탄 방지)
-                    totalSize += entry.getSize();
-                    if (totalSize > maxTotalSize) {
-                        throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
-                                "압축 해제 후 파일 크기가 너무 큽니다 (최대 " + maxFileSizeConfig + ")");
-                    }
-
-                    Files.createDirectories(targetPath.getParent());
-                    Files.copy(zis, targetPath, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-                }
-                zis.closeEntry();
+            Map<Path, String> checksums = new HashMap<>();
+            for (ExtractedEntry entry : entries) {
+                checksums.put(entry.absolutePath(), entry.checksum());
             }
+
+            log.info("ZIP 압축 해제 완료 - {}개 파일, 병렬도: {}", entries.size(), zipExtractPool.getParallelism());
+            return new ExtractedZip(tempDir, checksums);
+
+        } catch (BusinessException e) {
+            fileSystemService.deleteDirectory(tempDir);
+            throw e;
         } catch (IOException e) {
             fileSystemService.deleteDirectory(tempDir);
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
                     "ZIP 파일 압축 해제 실패: " + e.getMessage());
-        } catch (IllegalArgumentException e) {
-            // ZipInputStream.getNextEntry()가 인코딩 오류 시 IllegalArgumentException을 던짐
-            fileSystemService.deleteDirectory(tempDir);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "ZIP 파일 압축 해제 실패 (인코딩 오류): " + e.getMessage());
+        } finally {
+            Files.deleteIfExists(spooledZip);
         }
-
-        return tempDir;
     }
 
     /**
@@ -719,7 +679,8 @@ public class ReleaseVersionUploadService {
      */
     public ReleaseVersion copyFilesAndSaveToDb(Project project, Path tempDir, Path versionPath,
                                                 VersionInfo versionInfo,
-                                                String createdByEmail, String comment, Boolean isApproved) throws IOException {
+                                                String createdByEmail, String comment, Boolean isApproved,
+                                                Map<Path, String> knownChecksums) throws IOException {
         String version = versionInfo.getMajorVersion() + "." + versionInfo.getMinorVersion() + "." + versionInfo.getPatchVersion();
 
         // isApproved가 null이면 false로 처리
@@ -773,7 +734,7 @@ public class ReleaseVersionUploadService {
                         log.info("카테고리 폴더 처리 시작: {} -> {}", categoryName, fileCategory.getDescription());
 
                         // 카테고리별 파일 복사 (재귀적)
-                        processCategoryFiles(categoryDir, targetCategoryDir, savedVersion, fileCategory);
+                        processCategoryFiles(categoryDir, targetCategoryDir, savedVersion, fileCategory, knownChecksums);
 
                     } catch (IllegalArgumentException e) {
                         log.warn("알 수 없는 카테고리 폴더 무시: {}", categoryName);
@@ -794,9 +755,11 @@ public class ReleaseVersionUploadService {
      * @param categoryTargetDir 카테고리 타겟 디렉토리 (예: versionPath/database)
      * @param releaseVersion    릴리즈 버전 엔티티
      * @param fileCategory      파일 카테고리 (DATABASE, WEB, ENGINE)
+     * @param knownChecksums    압축 해제 시 계산된 체크섬 (임시 파일 경로 → SHA-256)
      */
     public void processCategoryFiles(Path categorySourceDir, Path categoryTargetDir,
-                                      ReleaseVersion releaseVersion, FileCategory fileCategory) throws IOException {
+                                      ReleaseVersion releaseVersion, FileCategory fileCategory,
+                                      Map<Path, String> knownChecksums) throws IOException {
 
         // 하위 폴더 순회 (예: database/MARIADB, database/CRATEDB, web/build 등)
         Files.list(categorySourceDir)
@@ -834,7 +797,8 @@ public class ReleaseVersionUploadService {
                         log.debug("하위 폴더 처리: {}/{}", fileCategory.getCode(), subCategory);
 
                         // 하위 폴더의 파일 복사
-                        copyFilesRecursively(subDir, targetSubDir, releaseVersion, fileCategory, subCategory);
+                        copyFilesRecursively(subDir, targetSubDir, releaseVersion, fileCategory, subCategory,
+                                knownChecksums);
 
                     } catch (IOException e) {
                         log.error("하위 폴더 파일 복사 실패: {}/{}", fileCategory.getCode(), subCategory, e);
@@ -844,23 +808,25 @@ public class ReleaseVersionUploadService {
                 });
 
         // 카테고리 최상위에 직접 있는 파일도 처리 (sub_category = null)
-        Files.list(categorySourceDir)
+        // 파일이 블롭으로 이동될 수 있으므로 목록을 먼저 확정
+        List<Path> topLevelFiles = Files.list(categorySourceDir)
                 .filter(Files::isRegularFile)
-                .forEach(file -> {
-                    try {
-                        Path targetFile = categoryTargetDir.resolve(file.getFileName());
-                        Files.copy(file, targetFile, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+                .toList();
+        for (Path file : topLevelFiles) {
+            try {
+                Path targetFile = categoryTargetDir.resolve(file.getFileName());
+                String checksum = storeFile(file, targetFile, knownChecksums);
 
-                        // ReleaseFile DB 저장 (sub_category = null)
-                        saveReleaseFile(file, targetFile, releaseVersion, fileCategory, null,
-                                categorySourceDir, 1);
+                // ReleaseFile DB 저장 (sub_category = null)
+                saveReleaseFile(file, targetFile, checksum, releaseVersion, fileCategory, null,
+                        categorySourceDir, 1);
 
-                    } catch (IOException e) {
-                        log.error("파일 복사 실패: {}", file.getFileName(), e);
-                        throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
-                                "파일 복사 실패: " + e.getMessage());
-                    }
-                });
+            } catch (IOException e) {
+                log.error("파일 복사 실패: {}", file.getFileName(), e);
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                        "파일 복사 실패: " + e.getMessage());
+            }
+        }
     }
 
     /**
@@ -871,10 +837,11 @@ public class ReleaseVersionUploadService {
      * @param releaseVersion 릴리즈 버전
      * @param fileCategory   파일 카테고리
      * @param subCategory    하위 카테고리 (예: mariadb, cratedb, build)
+     * @param knownChecksums 압축 해제 시 계산된 체크섬 (임시 파일 경로 → SHA-256)
      */
     public void copyFilesRecursively(Path sourceDir, Path targetDir,
                                       ReleaseVersion releaseVersion, FileCategory fileCategory,
-                                      String subCategory) throws IOException {
+                                      String subCategory, Map<Path, String> knownChecksums) throws IOException {
 
         // 모든 파일을 재귀적으로 탐색하여 복사 (확장자 제한 없음)
         List<Path> files = Files.walk(sourceDir)
@@ -888,29 +855,39 @@ public class ReleaseVersionUploadService {
             Path relativePath = sourceDir.relativize(file);
             Path targetFile = targetDir.resolve(relativePath);
 
-            // 타겟 디렉토리 생성
-            Files.createDirectories(targetFile.getParent());
-
-            // 파일 복사
-            Files.copy(file, targetFile, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+            // 타겟 경로에 저장하고 블롭 저장소 등록 (동일 내용 파일은 reflink로 데이터 블록 공유)
+            String checksum = storeFile(file, targetFile, knownChecksums);
 
             // ReleaseFile DB 저장
-            saveReleaseFile(file, targetFile, releaseVersion, fileCategory, subCategory,
+            saveReleaseFile(file, targetFile, checksum, releaseVersion, fileCategory, subCategory,
                     sourceDir, executionOrder++);
         }
     }
 
+    /**
+     * 압축 해제된 파일을 블롭 저장소에 등록
+     *
+     * <p>압축 해제 시 계산된 체크섬이 있으면 파일을 다시 읽지 않고 대상 경로로 이동합니다.
+     */
+    private String storeFile(Path file, Path targetFile, Map<Path, String> knownChecksums) {
+        String knownChecksum = knownChecksums.get(file);
+        if (knownChecksum != null) {
+            return fileStorageService.moveToBlob(file, targetFile, knownChecksum);
+        }
+        return fileStorageService.storeAsBlob(file, targetFile);
+    }
+
     /**
      * ReleaseFile 엔티티 생성 및 저장
+     *
+     * @param checksum 블롭 저장 시 계산된 SHA-256 체크섬
      */
-    private void saveReleaseFile(Path sourceFile, Path targetFile, ReleaseVersion releaseVersion,
-                                  FileCategory fileCategory, String subCategory,
-                                  Path sourceBaseDir, int executionOrder) throws IOException {
+    private void saveReleaseFile(Path sourceFile, Path targetFile, String checksum,
+                                  ReleaseVersion releaseVersion, FileCategory fileCategory,
+                                  String subCategory, Path sourceBaseDir, int executionOrder)
+            throws IOException {
 
-        // 파일 크기 및 체크섬 계산
-        byte[] fileContent = Files.readAllBytes(sourceFile);
-        long fileSize = fileContent.length;
-        String checksum = calculateChecksum(fileContent);
+        long fileSize = Files.size(targetFile);
 
         // 물리 경로 계산 (baseReleasePath 기준)
         Path basePath = Paths.get(baseReleasePath);
@@ -946,29 +923,6 @@ public class ReleaseVersionUploadService {
                 sourceFile.getFileName(), zipInternalPath, fileCategory.getCode(), fileSize, checksum);
     }
 
-    /**
-     * 체크섬 계산 (SHA-256)
-     *
-     * @param content 파일 바이트 배열
-     * @return 64자리 SHA-256 해시값
-     */
-    public String calculateChecksum(byte[] content) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] hashBytes = md.digest(content);
-
-            StringBuilder sb = new StringBuilder();
-            for (byte b : hashBytes) {
-                sb.append(String.format("%02x", b));
-            }
-            return sb.toString();
-
-        } catch (NoSuchAlgorithmException e) {
-            log.error("SHA-256 algorithm not found", e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
-    }
-
     /**
      * 파일 크기 문자열을 바이트 단위로 변환
      *
@@ -1131,7 +1085,8 @@ public class ReleaseVersionUploadService {
 
         try {
             // 4. 임시 디렉토리에 ZIP 압축 해제
-            tempDir = extractZipToTempDirectory(zipFile);
+            ExtractedZip extractedZip = extractZipToTempDirectory(zipFile);
+            tempDir = extractedZip.directory();
 
             // 5. ZIP 구조 검증 (패치본만 허용: database/, web/, engine/)
             validateZipStructure(tempDir);
@@ -1149,7 +1104,7 @@ public class ReleaseVersionUploadService {
             hotfixPath = createHotfixDirectory(hotfixVersion, baseVersion);
 
             // 9. 파일 복사 처리
-            copyHotfixFiles(tempDir, hotfixPath, hotfixVersion);
+            copyHotfixFiles(tempDir, hotfixPath, hotfixVersion, extractedZip.checksums());
 
             // 10. 핫픽스 패치 스크립트 생성
             generateHotfixPatchScripts(hotfixVersion, hotfixPath, assigneeId);
@@ -1300,8 +1255,10 @@ public class ReleaseVersionUploadService {
      * @param tempDir       임시 디렉토리 (ZIP 압축 해제 경로)
      * @param hotfixPath    핫픽스 디렉토리 경로
      * @param hotfixVersion 핫픽스 버전 엔티티
+     * @param knownChecksums 압축 해제 시 계산된 체크섬 (임시 파일 경로 → SHA-256)
      */
-    private void copyHotfixFiles(Path tempDir, Path hotfixPath, ReleaseVersion hotfixVersion) throws IOException {
+    private void copyHotfixFiles(Path tempDir, Path hotfixPath, ReleaseVersion hotfixVersion,
+                                 Map<Path, String> knownChecksums) throws IOException {
         // 모든 카테고리 폴더 순회 및 파일 복사
         Files.list(tempDir)
                 .filter(Files::isDirectory)
@@ -1319,7 +1276,7 @@ public class ReleaseVersionUploadService {
                         log.info("핫픽스 카테고리 폴더 처리 시작: {} -> {}", categoryName, fileCategory.getDescription());
 
                         // 카테고리별 파일 복사 (재귀적)
-                        processCategoryFiles(categoryDir, targetCategoryDir, hotfixVersion, fileCategory);
+                        processCategoryFiles(categoryDir, targetCategoryDir, hotfixVersion, fileCategory, knownChecksums);
 
                     } catch (IllegalArgumentException e) {
                         log.warn("알 수 없는 카테고리 폴더 무시: {}", categoryName);
@@ -1474,10 +1431,9 @@ public class ReleaseVersionUploadService {
                 return;
             }
 
-            // 파일 크기 및 체크섬 계산
-            byte[] fileContent = Files.readAllBytes(scriptPath);
-            long fileSize = fileContent.length;
-            String checksum = calculateChecksum(fileContent);
+            // 파일 크기 및 체크섬 계산 (스트리밍)
+            long fileSize = Files.size(scriptPath);
+            String checksum = FileChecksumUtil.calculateChecksum(scriptPath);
 
             // 물리 경로 (baseReleasePath 기준 상대 경로)
             String physicalPath = outputDirPath + "/" + scriptFileName;
@@ -1511,4 +1467,13 @@ public class ReleaseVersionUploadService {
             // 스크립트 DB 등록 실패는 핫픽스 생성 자체를 실패시키지 않음
         }
     }
+
+    /**
+     * ZIP 압축 해제 결과
+     *
+     * @param directory 압축 해제된 임시 디렉토리
+     * @param checksums 압축 해제된 파일 경로 → SHA-256 체크섬
+     */
+    public record ExtractedZip(Path directory, Map<Path, String> checksums) {
+    }
 }
@@ -5,6 +5,7 @@ import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
 import com.ts.rm.global.file.FileContentUtil;
 import com.ts.rm.global.file.StreamingZipUtil;
+import com.ts.rm.global.file.ZipCompressionPolicy;
 import com.ts.rm.global.file.ZipExtractUtil;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -18,9 +19,11 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -35,9 +38,15 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class ResourceFileService {
 
+    @Qualifier("zipCompressPool")
+    private final ForkJoinPool zipCompressPool;
+
     @Value("${app.release.base-path:data/release-manager}")
     private String baseReleasePath;
 
+    @Value("${app.release.zip-compression.resource:AUTO}")
+    private ZipCompressionPolicy zipCompressionPolicy;
+
     private static final String RESOURCES_DIR = "resources/file";
 
     /**
@@ -400,7 +409,7 @@ public class ResourceFileService {
                 throw new BusinessException(ErrorCode.FILE_NOT_FOUND, "다운로드할 파일이 없습니다");
             }
 
-            StreamingZipUtil.compressFilesToStream(outputStream, fileEntries);
+            StreamingZipUtil.compressFilesToStream(outputStream, fileEntries, zipCompressPool, zipCompressionPolicy);
             log.info("전체 파일 다운로드 완료 - category: {}, fileCount: {}", category, fileEntries.size());
 
         } catch (IOException e) {
@@ -533,7 +542,7 @@ public class ResourceFileService {
 
         List<ResourceFileDto.UploadedFileInfo> uploadedFiles = new ArrayList<>();
 
-        ZipExtractUtil.extractWithCallback(zipFile.getInputStream(), targetDir, (entry, filePath) -> {
+        ZipExtractUtil.extractWithCallback(zipFile, targetDir, (entry, filePath) -> {
             try {
                 String fileRelativePath = targetSubPath.isEmpty()
                         ? entry.getName()
@@ -0,0 +1,90 @@
+package com.ts.rm.domain.upload.controller;
+
+import com.ts.rm.domain.upload.dto.UploadDto;
+import com.ts.rm.domain.upload.service.ChunkedUploadService;
+import com.ts.rm.global.response.ApiResponse;
+import com.ts.rm.global.security.SecurityUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Upload Controller
+ *
+ * <p>재개 가능한 분할 업로드 API. 업로드 완료 후 버전 생성 등은 각 도메인 API에서 uploadId로 처리합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/uploads")
+@RequiredArgsConstructor
+public class UploadController implements UploadControllerDocs {
+
+    /**
+     * 청크 체크섬 헤더 (SHA-256 hex)
+     */
+    public static final String CHUNK_CHECKSUM_HEADER = "X-Chunk-Checksum";
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    /**
+     * 업로드 세션 생성
+     */
+    @Override
+    @PostMapping
+    public ResponseEntity<ApiResponse<UploadDto.SessionResponse>> createSession(
+            @Valid @RequestBody UploadDto.CreateRequest request) {
+        String createdBy = SecurityUtil.getTokenInfo().email();
+        UploadDto.SessionResponse response = chunkedUploadService.createSession(request, createdBy);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 업로드 상태 조회
+     */
+    @Override
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<UploadDto.SessionResponse>> getSession(@PathVariable String uploadId) {
+        String requester = SecurityUtil.getTokenInfo().email();
+        return ResponseEntity.ok(ApiResponse.success(chunkedUploadService.getSession(uploadId, requester)));
+    }
+
+    /**
+     * 청크 업로드 (요청 본문을 파일에 직접 기록)
+     */
+    @Override
+    @PutMapping(value = "/{uploadId}/chunks/{chunkIndex}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ApiResponse<UploadDto.ChunkResponse>> uploadChunk(
+            @PathVariable String uploadId,
+            @PathVariable int chunkIndex,
+            @RequestHeader(CHUNK_CHECKSUM_HEADER) String checksum,
+            HttpServletRequest request) throws IOException {
+        String requester = SecurityUtil.getTokenInfo().email();
+        UploadDto.ChunkResponse response = chunkedUploadService.writeChunk(
+                uploadId, chunkIndex, checksum, request.getInputStream(), requester);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 업로드 취소
+     */
+    @Override
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<ApiResponse<Void>> cancelUpload(@PathVariable String uploadId) {
+        String requester = SecurityUtil.getTokenInfo().email();
+        chunkedUploadService.cancelUpload(uploadId, requester);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+}
@@ -0,0 +1,51 @@
+package com.ts.rm.domain.upload.controller;
+
+import com.ts.rm.domain.upload.dto.UploadDto;
+import com.ts.rm.global.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Upload Controller Swagger Documentation
+ */
+@Tag(name = "분할 업로드", description = "재개 가능한 분할 업로드 API")
+public interface UploadControllerDocs {
+
+    @Operation(
+            summary = "업로드 세션 생성",
+            description = "전체 파일 크기로 업로드 세션을 생성합니다.\n\n"
+                    + "응답의 `chunkSize`로 파일을 나누어 `totalChunks`개의 청크를 업로드합니다. "
+                    + "마지막 청크는 남은 크기입니다.\n\n"
+                    + "마지막 청크 수신 후 설정된 만료 시간(기본 24시간)이 지나면 세션이 자동 삭제됩니다."
+    )
+    ResponseEntity<ApiResponse<UploadDto.SessionResponse>> createSession(UploadDto.CreateRequest request);
+
+    @Operation(
+            summary = "업로드 상태 조회",
+            description = "수신 완료된 청크 구간(`receivedRanges`)을 조회합니다. "
+                    + "연결이 끊긴 경우 누락된 청크만 다시 업로드합니다."
+    )
+    ResponseEntity<ApiResponse<UploadDto.SessionResponse>> getSession(
+            @Parameter(description = "업로드 ID") String uploadId);
+
+    @Operation(
+            summary = "청크 업로드",
+            description = "청크 데이터를 요청 본문(`application/octet-stream`)으로 전송합니다.\n\n"
+                    + "- `X-Chunk-Checksum` 헤더: 청크 SHA-256 (hex, 필수)\n"
+                    + "- 청크 순서는 무관하며 동시에 여러 청크를 업로드할 수 있습니다.\n"
+                    + "- 체크섬이 일치하지 않으면 400 응답이며, 같은 청크를 다시 전송하면 됩니다."
+    )
+    ResponseEntity<ApiResponse<UploadDto.ChunkResponse>> uploadChunk(
+            @Parameter(description = "업로드 ID") String uploadId,
+            @Parameter(description = "청크 인덱스 (0부터 시작)") int chunkIndex,
+            @Parameter(description = "청크 SHA-256 체크섬 (hex)") String checksum,
+            @Parameter(hidden = true) HttpServletRequest request) throws IOException;
+
+    @Operation(summary = "업로드 취소", description = "업로드 세션과 수신된 파일을 삭제합니다.")
+    ResponseEntity<ApiResponse<Void>> cancelUpload(
+            @Parameter(description = "업로드 ID") String uploadId);
+}
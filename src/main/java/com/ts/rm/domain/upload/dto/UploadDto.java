@@ -0,0 +1,124 @@
+package com.ts.rm.domain.upload.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * 분할 업로드 DTO
+ */
+public final class UploadDto {
+
+    private UploadDto() {
+    }
+
+    // ========================================
+    // Request DTOs
+    // ========================================
+
+    /**
+     * 업로드 세션 생성 요청
+     */
+    @Builder
+    @Schema(description = "업로드 세션 생성 요청")
+    public record CreateRequest(
+            @Schema(description = "파일명", example = "release_1.1.0.zip")
+            @NotBlank(message = "파일명은 필수입니다")
+            @Size(max = 255, message = "파일명은 255자 이하여야 합니다")
+            String fileName,
+
+            @Schema(description = "전체 파일 크기 (bytes)", example = "5368709120")
+            @NotNull(message = "파일 크기는 필수입니다")
+            @Positive(message = "파일 크기는 0보다 커야 합니다")
+            Long totalSize
+    ) {
+
+    }
+
+    // ========================================
+    // Response DTOs
+    // ========================================
+
+    /**
+     * 업로드 세션 상태 응답
+     */
+    @Schema(description = "업로드 세션 상태 응답")
+    public record SessionResponse(
+            @Schema(description = "업로드 ID", example = "3f2b8c1e-6a0d-4a7e-9d55-0c1f2e3a4b5c")
+            String uploadId,
+
+            @Schema(description = "파일명", example = "release_1.1.0.zip")
+            String fileName,
+
+            @Schema(description = "전체 파일 크기 (bytes)", example = "5368709120")
+            long totalSize,
+
+            @Schema(description = "청크 크기 (bytes, 마지막 청크는 남은 크기)", example = "16777216")
+            int chunkSize,
+
+            @Schema(description = "전체 청크 수", example = "320")
+            int totalChunks,
+
+            @Schema(description = "수신 완료된 청크 수", example = "120")
+            int receivedChunks,
+
+            @Schema(description = "수신 완료된 크기 (bytes)", example = "2013265920")
+            long receivedBytes,
+
+            @Schema(description = "수신 완료된 청크 구간 목록")
+            List<ChunkRange> receivedRanges,
+
+            @Schema(description = "모든 청크 수신 완료 여부", example = "false")
+            boolean isComplete,
+
+            @Schema(description = "세션 만료 시각 (청크 수신 시 연장)")
+            LocalDateTime expiresAt
+    ) {
+
+    }
+
+    /**
+     * 청크 구간 (양 끝 포함)
+     */
+    @Schema(description = "청크 구간 (양 끝 포함)")
+    public record ChunkRange(
+            @Schema(description = "시작 청크 인덱스", example = "0")
+            int start,
+
+            @Schema(description = "끝 청크 인덱스", example = "119")
+            int end
+    ) {
+
+    }
+
+    /**
+     * 청크 업로드 응답
+     */
+    @Schema(description = "청크 업로드 응답")
+    public record ChunkResponse(
+            @Schema(description = "업로드 ID", example = "3f2b8c1e-6a0d-4a7e-9d55-0c1f2e3a4b5c")
+            String uploadId,
+
+            @Schema(description = "청크 인덱스 (0부터 시작)", example = "0")
+            int chunkIndex,
+
+            @Schema(description = "청크 크기 (bytes)", example = "16777216")
+            int size,
+
+            @Schema(description = "청크 SHA-256 체크섬", example = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855")
+            String checksum,
+
+            @Schema(description = "수신 완료된 청크 수", example = "121")
+            int receivedChunks,
+
+            @Schema(description = "전체 청크 수", example = "320")
+            int totalChunks
+    ) {
+
+    }
+}
@@ -0,0 +1,81 @@
+package com.ts.rm.domain.upload.entity;
+
+import com.ts.rm.domain.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * UploadSession Entity
+ *
+ * <p>재개 가능한 분할 업로드 세션 테이블. 업로드 파일은 세션 생성 시 전체 크기로 미리 할당되고,
+ * 청크는 {@code chunkIndex * chunkSize} 위치에 기록됩니다.
+ */
+@Entity
+@Table(name = "upload_session", indexes = {
+        @Index(name = "idx_us_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_us_created_by_email", columnList = "created_by_email")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSession extends BaseEntity {
+
+    @Id
+    @Column(name = "upload_id", length = 36)
+    private String uploadId;
+
+    @Column(name = "file_name", nullable = false, length = 255)
+    private String fileName;
+
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+
+    @Column(name = "total_chunks", nullable = false)
+    private Integer totalChunks;
+
+    @Column(name = "created_by_email", nullable = false, length = 100)
+    private String createdByEmail;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * 청크의 파일 내 시작 위치
+     */
+    public long getChunkOffset(int chunkIndex) {
+        return (long) chunkIndex * chunkSize;
+    }
+
+    /**
+     * 청크 크기 (마지막 청크는 남은 크기)
+     */
+    public int getChunkLength(int chunkIndex) {
+        return (int) Math.min(chunkSize, totalSize - getChunkOffset(chunkIndex));
+    }
+
+    /**
+     * 만료 시각 연장 (청크 수신 시)
+     */
+    public void extendExpiration(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 만료 여부 확인
+     */
+    public boolean isExpired() {
+        return expiresAt.isBefore(LocalDateTime.now());
+    }
+}
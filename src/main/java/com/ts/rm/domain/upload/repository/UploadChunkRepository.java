@@ -0,0 +1,36 @@
+package com.ts.rm.domain.upload.repository;
+
+import com.ts.rm.domain.upload.entity.UploadChunk;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * UploadChunk Repository
+ */
+@Repository
+public interface UploadChunkRepository extends JpaRepository<UploadChunk, Long> {
+
+    /**
+     * 청크 수신 여부 확인
+     */
+    boolean existsByUploadSession_UploadIdAndChunkIndex(String uploadId, Integer chunkIndex);
+
+    /**
+     * 수신 완료된 청크 인덱스 목록 (오름차순)
+     */
+    @Query("SELECT c.chunkIndex FROM UploadChunk c WHERE c.uploadSession.uploadId = :uploadId ORDER BY c.chunkIndex")
+    List<Integer> findChunkIndexesByUploadId(@Param("uploadId") String uploadId);
+
+    /**
+     * 수신 완료된 청크 수
+     */
+    long countByUploadSession_UploadId(String uploadId);
+
+    /**
+     * 업로드 세션의 청크 기록 삭제
+     */
+    void deleteAllByUploadSession_UploadId(String uploadId);
+}
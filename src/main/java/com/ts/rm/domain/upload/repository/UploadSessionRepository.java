@@ -0,0 +1,19 @@
+package com.ts.rm.domain.upload.repository;
+
+import com.ts.rm.domain.upload.entity.UploadSession;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * UploadSession Repository
+ */
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    /**
+     * 만료된 업로드 세션 목록 조회
+     */
+    List<UploadSession> findAllByExpiresAtBefore(LocalDateTime now);
+}
@@ -0,0 +1,466 @@
+package com.ts.rm.domain.upload.service;
+
+import com.ts.rm.domain.upload.dto.UploadDto;
+import com.ts.rm.domain.upload.entity.UploadChunk;
+import com.ts.rm.domain.upload.entity.UploadSession;
+import com.ts.rm.domain.upload.repository.UploadChunkRepository;
+import com.ts.rm.domain.upload.repository.UploadSessionRepository;
+import com.ts.rm.global.exception.BusinessException;
+import com.ts.rm.global.exception.ErrorCode;
+import com.ts.rm.global.file.PathMultipartFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 재개 가능한 분할 업로드 서비스 (tus 방식)
+ *
+ * <p>대용량 파일을 하나의 multipart 요청 대신 여러 청크로 나누어 업로드합니다.
+ * <ol>
+ *   <li>세션 생성: 전체 크기만큼 파일을 미리 할당하고 청크 크기/개수를 응답
+ *   <li>청크 업로드: 청크를 임시 파일로 받아 SHA-256 체크섬을 검증한 뒤 {@code chunkIndex * chunkSize} 위치에 기록
+ *       (청크 순서 무관, 동시 업로드 가능, 실패한 청크만 재전송)
+ *   <li>상태 조회: 수신 완료된 청크 구간으로 이어 올릴 위치 확인
+ *   <li>완료: 조립된 파일을 기존 처리 흐름(버전 생성 등)에 전달한 뒤 세션 삭제
+ * </ol>
+ *
+ * <p>완료되지 않은 세션은 마지막 청크 수신 후 만료 시간이 지나면 파일과 함께 자동 삭제됩니다.
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    /**
+     * 업로드 파일 디렉토리명 (base-path 하위, 버전 생성 시 임시 디렉토리로 하드 링크 가능하도록 같은 파일 시스템 사용)
+     */
+    public static final String UPLOAD_DIRECTORY = ".uploads";
+
+    private static final String CHUNK_SUFFIX = ".chunk";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern SHA256_PATTERN = Pattern.compile("^[0-9a-f]{64}$");
+
+    private final UploadSessionRepository sessionRepository;
+    private final UploadChunkRepository chunkRepository;
+    private final Path uploadLocation;
+    private final int chunkSize;
+    private final long maxFileSize;
+    private final Duration expiration;
+
+    public ChunkedUploadService(
+            UploadSessionRepository sessionRepository,
+            UploadChunkRepository chunkRepository,
+            @Value("${app.release.base-path:data/release-manager}") String basePath,
+            @Value("${app.release.upload.chunk-size:16MB}") DataSize chunkSize,
+            @Value("${app.release.upload.max-file-size:10GB}") DataSize maxFileSize,
+            @Value("${app.release.upload.expiration:24h}") Duration expiration) {
+        this.sessionRepository = sessionRepository;
+        this.chunkRepository = chunkRepository;
+        this.uploadLocation = Paths.get(basePath).toAbsolutePath().normalize().resolve(UPLOAD_DIRECTORY);
+        this.chunkSize = (int) Math.min(chunkSize.toBytes(), Integer.MAX_VALUE);
+        this.maxFileSize = maxFileSize.toBytes();
+        this.expiration = expiration;
+    }
+
+    /**
+     * 업로드 세션 생성
+     *
+     * <p>업로드 파일을 전체 크기로 미리 할당하여, 청크가 어떤 순서로 도착하더라도 해당 위치에 바로 기록할 수 있도록 합니다.
+     *
+     * @param request        세션 생성 요청 (파일명, 전체 크기)
+     * @param createdByEmail 업로드 사용자 이메일
+     * @return 세션 상태 (업로드 ID, 청크 크기/개수)
+     */
+    @Transactional
+    public UploadDto.SessionResponse createSession(UploadDto.CreateRequest request, String createdByEmail) {
+        if (request.totalSize() > maxFileSize) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    String.format("파일 크기가 너무 큽니다 (최대 %d bytes): %d bytes", maxFileSize, request.totalSize()));
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        int totalChunks = (int) ((request.totalSize() + chunkSize - 1) / chunkSize);
+        Path uploadFile = getUploadFile(uploadId);
+
+        try {
+            Files.createDirectories(uploadLocation);
+            try (RandomAccessFile file = new RandomAccessFile(uploadFile.toFile(), "rw")) {
+                file.setLength(request.totalSize());
+            }
+        } catch (IOException e) {
+            log.error("업로드 파일 할당 실패 - uploadId: {}, size: {}", uploadId, request.totalSize(), e);
+            deleteUploadFile(uploadFile);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED,
+                    "업로드 파일 할당에 실패했습니다: " + e.getMessage());
+        }
+
+        UploadSession session = sessionRepository.save(UploadSession.builder()
+                .uploadId(uploadId)
+                .fileName(Paths.get(request.fileName()).getFileName().toString())
+                .totalSize(request.totalSize())
+                .chunkSize(chunkSize)
+                .totalChunks(totalChunks)
+                .createdByEmail(createdByEmail)
+                .expiresAt(LocalDateTime.now().plus(expiration))
+                .build());
+
+        log.info("업로드 세션 생성 - uploadId: {}, fileName: {}, totalSize: {}, chunkSize: {}, totalChunks: {}",
+                uploadId, session.getFileName(), session.getTotalSize(), chunkSize, totalChunks);
+
+        return toSessionResponse(session, List.of());
+    }
+
+    /**
+     * 업로드 세션 상태 조회 (수신 완료된 청크 구간)
+     *
+     * @param uploadId       업로드 ID
+     * @param requesterEmail 요청 사용자 이메일
+     * @return 세션 상태
+     */
+    @Transactional(readOnly = true)
+    public UploadDto.SessionResponse getSession(String uploadId, String requesterEmail) {
+        UploadSession session = getOwnedSession(uploadId, requesterEmail);
+        return toSessionResponse(session, chunkRepository.findChunkIndexesByUploadId(uploadId));
+    }
+
+    /**
+     * 청크 업로드
+     *
+     * <p>요청 본문을 메모리에 모으지 않고 청크별 임시 파일에 기록하면서 SHA-256을 계산합니다.
+     * 체크섬이 일치하는 경우에만 업로드 파일의 청크 위치로 옮기고 수신 완료로 기록하므로,
+     * 손상된 재전송이 이미 검증된 청크를 덮어쓰지 않습니다. 같은 청크를 정상적으로 다시 보내면 덮어씁니다.
+     *
+     * @param uploadId         업로드 ID
+     * @param chunkIndex       청크 인덱스 (0부터 시작)
+     * @param expectedChecksum 청크 SHA-256 체크섬 (hex)
+     * @param body             청크 데이터
+     * @param requesterEmail   요청 사용자 이메일
+     * @return 청크 수신 결과
+     */
+    public UploadDto.ChunkResponse writeChunk(String uploadId, int chunkIndex, String expectedChecksum,
+            InputStream body, String requesterEmail) {
+        UploadSession session = getOwnedSession(uploadId, requesterEmail);
+
+        if (chunkIndex < 0 || chunkIndex >= session.getTotalChunks()) {
+            throw new BusinessException(ErrorCode.UPLOAD_CHUNK_INVALID,
+                    String.format("청크 인덱스가 범위를 벗어났습니다 (0 ~ %d): %d", session.getTotalChunks() - 1, chunkIndex));
+        }
+        String normalizedChecksum = expectedChecksum == null ? "" : expectedChecksum.trim().toLowerCase(Locale.ROOT);
+        if (!SHA256_PATTERN.matcher(normalizedChecksum).matches()) {
+            throw new BusinessException(ErrorCode.UPLOAD_CHUNK_INVALID,
+                    "청크 체크섬은 SHA-256 hex 문자열이어야 합니다");
+        }
+
+        int length = session.getChunkLength(chunkIndex);
+        Path chunkFile = getChunkFile(uploadId, chunkIndex);
+        String checksum;
+        try {
+            checksum = receiveChunk(chunkFile, length, body);
+
+            if (!checksum.equals(normalizedChecksum)) {
+                log.warn("청크 체크섬 불일치 - uploadId: {}, chunkIndex: {}, expected: {}, actual: {}",
+                        uploadId, chunkIndex, normalizedChecksum, checksum);
+                throw new BusinessException(ErrorCode.UPLOAD_CHECKSUM_MISMATCH,
+                        String.format("청크 %d의 체크섬이 일치하지 않습니다. 다시 전송해 주세요", chunkIndex));
+            }
+
+            copyAt(chunkFile, getUploadFile(uploadId), session.getChunkOffset(chunkIndex));
+        } finally {
+            deleteUploadFile(chunkFile);
+        }
+
+        recordChunk(session, chunkIndex, length, checksum);
+        session.extendExpiration(LocalDateTime.now().plus(expiration));
+        sessionRepository.save(session);
+
+        int receivedChunks = (int) chunkRepository.countByUploadSession_UploadId(uploadId);
+        log.debug("청크 수신 - uploadId: {}, chunkIndex: {}, size: {}, 진행: {}/{}",
+                uploadId, chunkIndex, length, receivedChunks, session.getTotalChunks());
+
+        return new UploadDto.ChunkResponse(uploadId, chunkIndex, length, checksum,
+                receivedChunks, session.getTotalChunks());
+    }
+
+    /**
+     * 완료된 업로드 파일 조회
+     *
+     * <p>모든 청크가 수신된 경우 디스크에 동기화한 뒤 MultipartFile로 반환합니다.
+     * 후속 처리가 성공하면 {@link #completeUpload(String)}로 세션을 삭제해야 하며,
+     * 실패한 경우 세션이 유지되므로 같은 업로드로 다시 시도할 수 있습니다.
+     *
+     * @param uploadId       업로드 ID
+     * @param requesterEmail 요청 사용자 이메일
+     * @return 조립된 업로드 파일
+     * @throws BusinessException 수신되지 않은 청크가 있는 경우
+     */
+    @Transactional(readOnly = true)
+    public MultipartFile getCompletedFile(String uploadId, String requesterEmail) {
+        UploadSession session = getOwnedSession(uploadId, requesterEmail);
+
+        long receivedChunks = chunkRepository.countByUploadSession_UploadId(uploadId);
+        if (receivedChunks < session.getTotalChunks()) {
+            throw new BusinessException(ErrorCode.UPLOAD_INCOMPLETE,
+                    String.format("업로드가 완료되지 않았습니다 (%d/%d 청크 수신)", receivedChunks, session.getTotalChunks()));
+        }
+
+        Path uploadFile = getUploadFile(uploadId);
+        try (FileChannel channel = FileChannel.open(uploadFile, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.error("업로드 파일 동기화 실패 - uploadId: {}", uploadId, e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED,
+                    "업로드 파일을 읽을 수 없습니다: " + e.getMessage());
+        }
+
+        return new PathMultipartFile(uploadFile, session.getFileName(), MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+
+    /**
+     * 업로드 완료 처리 (후속 처리 성공 후 세션 및 파일 삭제)
+     *
+     * @param uploadId 업로드 ID
+     */
+    @Transactional
+    public void completeUpload(String uploadId) {
+        sessionRepository.findById(uploadId).ifPresent(session -> {
+            removeSession(session);
+            log.info("업로드 완료 처리 - uploadId: {}, fileName: {}", uploadId, session.getFileName());
+        });
+    }
+
+    /**
+     * 업로드 취소 (세션 및 파일 삭제)
+     *
+     * @param uploadId       업로드 ID
+     * @param requesterEmail 요청 사용자 이메일
+     */
+    @Transactional
+    public void cancelUpload(String uploadId, String requesterEmail) {
+        UploadSession session = getOwnedSession(uploadId, requesterEmail);
+        removeSession(session);
+        log.info("업로드 취소 - uploadId: {}", uploadId);
+    }
+
+    /**
+     * 만료된 업로드 세션 정리 (매 10분마다 실행)
+     */
+    @Scheduled(fixedDelay = 600000) // 10분
+    @Transactional
+    public void cleanupExpiredSessions() {
+        List<UploadSession> expiredSessions = sessionRepository.findAllByExpiresAtBefore(LocalDateTime.now());
+        for (UploadSession session : expiredSessions) {
+            log.info("만료된 업로드 세션 정리 - uploadId: {}, fileName: {}",
+                    session.getUploadId(), session.getFileName());
+            removeSession(session);
+        }
+    }
+
+    /**
+     * 수신 완료된 청크 인덱스 목록을 연속 구간으로 변환
+     */
+    static List<UploadDto.ChunkRange> toRanges(List<Integer> chunkIndexes) {
+        List<UploadDto.ChunkRange> ranges = new ArrayList<>();
+        int start = -1;
+        int end = -1;
+        for (int index : chunkIndexes) {
+            if (start >= 0 && index == end + 1) {
+                end = index;
+                continue;
+            }
+            if (start >= 0) {
+                ranges.add(new UploadDto.ChunkRange(start, end));
+            }
+            start = index;
+            end = index;
+        }
+        if (start >= 0) {
+            ranges.add(new UploadDto.ChunkRange(start, end));
+        }
+        return ranges;
+    }
+
+    // ========================================
+    // Private Methods
+    // ========================================
+
+    private UploadSession getOwnedSession(String uploadId, String requesterEmail) {
+        UploadSession session = sessionRepository.findById(uploadId)
+                .filter(s -> !s.isExpired())
+                .orElseThrow(() -> new BusinessException(ErrorCode.UPLOAD_SESSION_NOT_FOUND,
+                        "업로드 세션을 찾을 수 없거나 만료되었습니다: " + uploadId));
+
+        if (!session.getCreatedByEmail().equals(requesterEmail)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN,
+                    "다른 사용자의 업로드 세션입니다: " + uploadId);
+        }
+        return session;
+    }
+
+    /**
+     * 청크 데이터를 청크 임시 파일에 기록하면서 SHA-256 계산
+     *
+     * @return 기록한 데이터의 SHA-256 (hex)
+     * @throws BusinessException 청크 크기가 예상과 다른 경우
+     */
+    private String receiveChunk(Path chunkFile, int length, InputStream body) {
+        MessageDigest digest = newSha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long written = 0;
+
+        try (FileChannel channel = FileChannel.open(chunkFile,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            while (true) {
+                // 예상 크기보다 1바이트 더 읽어 초과 전송을 감지
+                int bytesRead = body.read(buffer, 0, (int) Math.min(buffer.length, length - written + 1));
+                if (bytesRead == -1) {
+                    break;
+                }
+                if (written + bytesRead > length) {
+                    throw new BusinessException(ErrorCode.UPLOAD_CHUNK_INVALID,
+                            String.format("청크 크기가 예상보다 큽니다 (예상: %d bytes)", length));
+                }
+                digest.update(buffer, 0, bytesRead);
+                ByteBuffer data = ByteBuffer.wrap(buffer, 0, bytesRead);
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                written += bytesRead;
+            }
+        } catch (IOException e) {
+            log.error("청크 기록 실패 - file: {}", chunkFile, e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED,
+                    "청크 기록에 실패했습니다: " + e.getMessage());
+        }
+
+        if (written != length) {
+            throw new BusinessException(ErrorCode.UPLOAD_CHUNK_INVALID,
+                    String.format("청크 크기가 일치하지 않습니다 (예상: %d bytes, 수신: %d bytes)", length, written));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 검증된 청크 임시 파일을 업로드 파일의 지정 위치로 복사
+     */
+    private void copyAt(Path chunkFile, Path uploadFile, long position) {
+        try (FileChannel source = FileChannel.open(chunkFile, StandardOpenOption.READ);
+                FileChannel target = FileChannel.open(uploadFile, StandardOpenOption.WRITE)) {
+            long size = source.size();
+            long transferred = 0;
+            while (transferred < size) {
+                transferred += source.transferTo(transferred, size - transferred,
+                        target.position(position + transferred));
+            }
+        } catch (IOException e) {
+            log.error("청크 기록 실패 - file: {}, position: {}", uploadFile, position, e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED,
+                    "청크 기록에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 청크 수신 기록 (같은 청크가 동시에 기록되어 유니크 제약에 걸리면 이미 수신된 것으로 처리)
+     */
+    private void recordChunk(UploadSession session, int chunkIndex, int length, String checksum) {
+        if (chunkRepository.existsByUploadSession_UploadIdAndChunkIndex(session.getUploadId(), chunkIndex)) {
+            return;
+        }
+        try {
+            chunkRepository.save(UploadChunk.builder()
+                    .uploadSession(session)
+                    .chunkIndex(chunkIndex)
+                    .chunkSize(length)
+                    .checksum(checksum)
+                    .receivedAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("이미 수신 기록된 청크 - uploadId: {}, chunkIndex: {}", session.getUploadId(), chunkIndex);
+        }
+    }
+
+    private void removeSession(UploadSession session) {
+        chunkRepository.deleteAllByUploadSession_UploadId(session.getUploadId());
+        sessionRepository.delete(session);
+        deleteUploadFile(getUploadFile(session.getUploadId()));
+
+        // 서버 중단 등으로 남은 청크 임시 파일 삭제
+        if (Files.isDirectory(uploadLocation)) {
+            try (DirectoryStream<Path> chunkFiles = Files.newDirectoryStream(uploadLocation,
+                    session.getUploadId() + ".*" + CHUNK_SUFFIX)) {
+                chunkFiles.forEach(this::deleteUploadFile);
+            } catch (IOException e) {
+                log.warn("청크 임시 파일 정리 실패 - uploadId: {} - {}", session.getUploadId(), e.getMessage());
+            }
+        }
+    }
+
+    private Path getUploadFile(String uploadId) {
+        return uploadLocation.resolve(uploadId + ".part");
+    }
+
+    /**
+     * 청크 임시 파일 경로 (같은 청크의 동시 전송이 서로 덮어쓰지 않도록 요청마다 고유)
+     */
+    private Path getChunkFile(String uploadId, int chunkIndex) {
+        return uploadLocation.resolve(uploadId + "." + chunkIndex + "." + UUID.randomUUID() + CHUNK_SUFFIX);
+    }
+
+    private void deleteUploadFile(Path uploadFile) {
+        try {
+            Files.deleteIfExists(uploadFile);
+        } catch (IOException e) {
+            log.warn("업로드 파일 삭제 실패: {} - {}", uploadFile, e.getMessage());
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private UploadDto.SessionResponse toSessionResponse(UploadSession session, List<Integer> chunkIndexes) {
+        long receivedBytes = 0;
+        for (int index : chunkIndexes) {
+            receivedBytes += session.getChunkLength(index);
+        }
+        return new UploadDto.SessionResponse(
+                session.getUploadId(),
+                session.getFileName(),
+                session.getTotalSize(),
+                session.getChunkSize(),
+                session.getTotalChunks(),
+                chunkIndexes.size(),
+                receivedBytes,
+                toRanges(chunkIndexes),
+                chunkIndexes.size() == session.getTotalChunks(),
+                session.getExpiresAt());
+    }
+}
@@ -1,6 +1,13 @@
 package com.ts.rm.global.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -8,6 +15,9 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * 비동기 처리 설정
+ *
+ * <p>같은 타입의 풀 빈이 여러 개이므로 주입받는 필드에는 빈 이름으로 {@code @Qualifier}를 지정합니다
+ * ({@code lombok.config}에서 {@code @RequiredArgsConstructor} 생성자 파라미터로 복사).
  */
 @Configuration
 @EnableAsync
@@ -28,4 +38,85 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 패치 생성 작업용 Executor
+     *
+     * <p>동시 실행 수를 제한하여 여러 패치가 한꺼번에 요청되어도 DB 커넥션 풀과 디스크 I/O를 나눠 쓰도록 합니다.
+     * 초과 요청은 큐에서 대기하며, 큐까지 가득 차면 {@link java.util.concurrent.RejectedExecutionException}으로 거부합니다.
+     * TaskExecutor가 아니므로 {@code @Async} 기본 Executor 선택에는 영향을 주지 않습니다.
+     */
+    @Bean(name = "patchJobExecutor", destroyMethod = "shutdown")
+    public ExecutorService patchJobExecutor(
+            @Value("${app.release.patch-job.parallelism:2}") int parallelism) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(50),
+                runnable -> new Thread(runnable, "patch-job-" + threadIndex.getAndIncrement()));
+    }
+
+    /**
+     * 일괄 패치 생성 시 고객사별 패치 구성용 Executor
+     *
+     * <p>일괄 패치 작업({@code patchJobExecutor})이 고객사별 작업을 나누어 제출하므로 별도 풀로 분리하여
+     * 작업 스레드끼리 서로를 기다리며 멈추지 않도록 합니다. 제출 주체가 동시 실행 수가 제한된 패치 작업뿐이므로
+     * 큐는 제한하지 않고 스레드 수로만 병렬도를 제한합니다.
+     */
+    @Bean(name = "patchBatchExecutor", destroyMethod = "shutdown")
+    public ExecutorService patchBatchExecutor(
+            @Value("${app.release.patch-batch.parallelism:4}") int parallelism) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> new Thread(runnable, "patch-batch-" + threadIndex.getAndIncrement()));
+    }
+
+    /**
+     * ZIP 병렬 압축 해제/해시 계산용 ForkJoinPool
+     *
+     * <p>모든 업로드 요청이 공유하므로 동시에 여러 ZIP이 업로드되어도 병렬도는 설정값으로 제한됩니다.
+     * TaskExecutor가 아니므로 {@code @Async} 기본 Executor 선택에는 영향을 주지 않습니다.
+     */
+    @Bean(name = "zipExtractPool", destroyMethod = "shutdown")
+    public ForkJoinPool zipExtractPool(
+            @Value("${app.release.zip-extract.parallelism:0}") int parallelism) {
+        int poolSize = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(poolSize, pool -> {
+            var worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            worker.setName("zip-extract-" + worker.getPoolIndex());
+            return worker;
+        }, null, false);
+    }
+
+    /**
+     * ZIP 병렬 압축(블록 단위 Deflate)용 ForkJoinPool
+     *
+     * <p>패치/설치본/버전 ZIP 다운로드가 공유하며, 압축 해제 풀과 분리하여 업로드와 다운로드가 서로 CPU를 점유하지 않도록 합니다.
+     */
+    @Bean(name = "zipCompressPool", destroyMethod = "shutdown")
+    public ForkJoinPool zipCompressPool(
+            @Value("${app.release.zip-compress.parallelism:0}") int parallelism) {
+        int poolSize = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(poolSize, pool -> {
+            var worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            worker.setName("zip-compress-" + worker.getPoolIndex());
+            return worker;
+        }, null, false);
+    }
+
+    /**
+     * 파일 동기화 분석 시 파일시스템 스캔(디렉토리 순회/체크섬 계산)용 ForkJoinPool
+     *
+     * <p>분석 요청이 동시에 들어와도 NAS에 가해지는 I/O 병렬도는 설정값으로 제한됩니다.
+     */
+    @Bean(name = "fileSyncScanPool", destroyMethod = "shutdown")
+    public ForkJoinPool fileSyncScanPool(
+            @Value("${app.release.file-sync.scan-parallelism:0}") int parallelism) {
+        int poolSize = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(poolSize, pool -> {
+            var worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            worker.setName("file-sync-scan-" + worker.getPoolIndex());
+            return worker;
+        }, null, false);
+    }
 }
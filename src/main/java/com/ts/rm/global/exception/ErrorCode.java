@@ -76,6 +76,8 @@ public enum ErrorCode {
   // Patch - 누적 패치
   PATCH_NOT_FOUND(HttpStatus.NOT_FOUND, "PA001", "error.patch.not_found"),
   INVALID_PATCH_FOLDER_NAME(HttpStatus.BAD_REQUEST, "PA002", "error.patch.invalid_folder_name"),
+  PATCH_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "PA003", "error.patch.job_not_found"),
+  PATCH_JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "PA004", "error.patch.job_queue_full"),
 
   // Resource - 리소스 파일
   RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "RF001", "error.resource.not_found"),
@@ -98,6 +100,12 @@ public enum ErrorCode {
   TERMINAL_NOT_CONNECTED(HttpStatus.BAD_REQUEST, "T002", "error.terminal.not_connected"),
   TERMINAL_EXECUTION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "T003", "error.terminal.execution_failed"),
 
+  // Upload - 분할 업로드
+  UPLOAD_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "error.upload.session_not_found"),
+  UPLOAD_CHUNK_INVALID(HttpStatus.BAD_REQUEST, "U002", "error.upload.chunk_invalid"),
+  UPLOAD_CHECKSUM_MISMATCH(HttpStatus.BAD_REQUEST, "U003", "error.upload.checksum_mismatch"),
+  UPLOAD_INCOMPLETE(HttpStatus.CONFLICT, "U004", "error.upload.incomplete"),
+
   // ========================================
   // ERROR - 서버 에러 (5xx)
   // ========================================
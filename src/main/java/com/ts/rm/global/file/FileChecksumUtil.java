@@ -2,10 +2,18 @@ package com.ts.rm.global.file;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.CRC32C;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -13,12 +21,36 @@ import lombok.NoArgsConstructor;
  * 파일 체크섬 유틸리티
  *
  * <p>파일의 SHA-256 체크섬을 계산합니다.
+ * <p>{@link #copyWithChecksum(InputStream, Path)}는 파일을 저장하면서 체크섬과 크기를 함께 계산하여
+ * 파일을 한 번만 읽고 메모리에 전체를 적재하지 않습니다.
+ * <p>파일 경로로 계산할 때는 {@link FileChannel}로 읽으며, 읽기 버퍼는 파일 크기에 맞춰 최대 64KB까지만 할당합니다.
+ * <p>변경 감지처럼 충돌 내성이 필요 없는 비교에는 {@link HashAlgorithm#CRC32C}를 사용할 수 있습니다.
+ * DB에 저장하는 체크섬과 무결성 검증은 항상 SHA-256을 사용합니다.
+ * {@link #calculateHashes(Path, HashAlgorithm...)}는 파일을 한 번 읽어 여러 해시를 함께 계산합니다.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class FileChecksumUtil {
 
     private static final String ALGORITHM = "SHA-256";
-    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * 읽기 버퍼 크기 (호출마다 1MB 직접 버퍼를 할당하면 1MB 안팎 파일에서 할당 비용이 읽기보다 커짐)
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    /**
+     * 해시 알고리즘
+     */
+    public enum HashAlgorithm {
+
+        /** SHA-256 (저장 체크섬, 무결성 검증용) */
+        SHA_256,
+
+        /** CRC32C (변경 감지용 비암호화 해시, CPU 명령어로 가속됨) - 저장 체크섬을 대신할 수 없음 */
+        CRC32C
+    }
 
     /**
      * 파일의 SHA-256 체크섬 계산
@@ -28,9 +60,48 @@ public final class FileChecksumUtil {
      * @throws IOException 파일 읽기 실패 시
      */
     public static String calculateChecksum(Path filePath) throws IOException {
-        try (InputStream is = Files.newInputStream(filePath)) {
-            return calculateChecksum(is);
+        return calculateHash(filePath, HashAlgorithm.SHA_256);
+    }
+
+    /**
+     * 파일 해시 계산
+     *
+     * @param filePath  파일 경로
+     * @param algorithm 해시 알고리즘
+     * @return 해시 (hex string, SHA-256은 64자리, CRC32C는 8자리)
+     * @throws IOException 파일 읽기 실패 시
+     */
+    public static String calculateHash(Path filePath, HashAlgorithm algorithm) throws IOException {
+        return calculateHashes(filePath, algorithm).get(0);
+    }
+
+    /**
+     * 파일을 한 번 읽어 여러 해시를 함께 계산
+     *
+     * @param filePath   파일 경로
+     * @param algorithms 해시 알고리즘 목록
+     * @return 해시 목록 (hex string, {@code algorithms} 순서)
+     * @throws IOException 파일 읽기 실패 시
+     */
+    public static List<String> calculateHashes(Path filePath, HashAlgorithm... algorithms) throws IOException {
+        List<HashEngine> engines = Arrays.stream(algorithms)
+                .map(FileChecksumUtil::newEngine)
+                .toList();
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.max(1, Math.min(channel.size(), BUFFER_SIZE)));
+
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                for (HashEngine engine : engines) {
+                    buffer.rewind();
+                    engine.update(buffer);
+                }
+                buffer.clear();
+            }
         }
+        return engines.stream()
+                .map(HashEngine::finish)
+                .toList();
     }
 
     /**
@@ -41,29 +112,148 @@ public final class FileChecksumUtil {
      * @throws IOException 스트림 읽기 실패 시
      */
     public static String calculateChecksum(InputStream inputStream) throws IOException {
-        try {
-            MessageDigest digest = MessageDigest.getInstance(ALGORITHM);
-            byte[] buffer = new byte[BUFFER_SIZE];
-            int bytesRead;
+        HashEngine engine = newEngine(HashAlgorithm.SHA_256);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int bytesRead;
 
-            while ((bytesRead = inputStream.read(buffer)) != -1) {
-                digest.update(buffer, 0, bytesRead);
-            }
+        while ((bytesRead = inputStream.read(buffer)) != -1) {
+            engine.update(buffer, 0, bytesRead);
+        }
+
+        return engine.finish();
+    }
+
+    /**
+     * 바이트 배열의 SHA-256 체크섬 계산
+     *
+     * @param content 내용
+     * @return SHA-256 체크섬 (hex string)
+     */
+    public static String calculateChecksum(byte[] content) {
+        HashEngine engine = newEngine(HashAlgorithm.SHA_256);
+        engine.update(content, 0, content.length);
+        return engine.finish();
+    }
+
+    /**
+     * InputStream을 대상 파일로 저장하면서 SHA-256 체크섬과 크기 계산
+     *
+     * <p>대상 파일이 존재하면 덮어씁니다. 입력 스트림은 닫지 않습니다.
+     *
+     * @param inputStream 입력 스트림
+     * @param targetPath  저장할 파일 경로
+     * @return 체크섬 및 파일 크기
+     * @throws IOException 읽기/쓰기 실패 시
+     */
+    public static ChecksumResult copyWithChecksum(InputStream inputStream, Path targetPath)
+            throws IOException {
+        try (OutputStream os = Files.newOutputStream(targetPath)) {
+            return copyWithChecksum(inputStream, os);
+        }
+    }
+
+    /**
+     * InputStream을 OutputStream으로 복사하면서 SHA-256 체크섬과 크기 계산
+     *
+     * <p>입출력 스트림은 닫지 않습니다.
+     *
+     * @param inputStream  입력 스트림
+     * @param outputStream 출력 스트림
+     * @return 체크섬 및 복사된 바이트 수
+     * @throws IOException 읽기/쓰기 실패 시
+     */
+    public static ChecksumResult copyWithChecksum(InputStream inputStream, OutputStream outputStream)
+            throws IOException {
+        HashEngine engine = newEngine(HashAlgorithm.SHA_256);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long size = 0;
+        int bytesRead;
 
-            return bytesToHex(digest.digest());
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not available", e);
+        while ((bytesRead = inputStream.read(buffer)) != -1) {
+            engine.update(buffer, 0, bytesRead);
+            outputStream.write(buffer, 0, bytesRead);
+            size += bytesRead;
         }
+
+        return new ChecksumResult(engine.finish(), size);
+    }
+
+    private static HashEngine newEngine(HashAlgorithm algorithm) {
+        return switch (algorithm) {
+            case SHA_256 -> new DigestEngine();
+            case CRC32C -> new Crc32cEngine();
+        };
+    }
+
+    /**
+     * 체크섬 계산 결과
+     *
+     * @param checksum SHA-256 체크섬 (hex string)
+     * @param size     처리된 바이트 수
+     */
+    public record ChecksumResult(String checksum, long size) {
     }
 
     /**
-     * 바이트 배열을 16진수 문자열로 변환
+     * 해시 계산 엔진 (알고리즘별 구현)
      */
-    private static String bytesToHex(byte[] bytes) {
-        StringBuilder sb = new StringBuilder();
-        for (byte b : bytes) {
-            sb.append(String.format("%02x", b));
+    private interface HashEngine {
+
+        void update(ByteBuffer buffer);
+
+        void update(byte[] bytes, int offset, int length);
+
+        /**
+         * @return 해시 (hex string)
+         */
+        String finish();
+    }
+
+    private static final class DigestEngine implements HashEngine {
+
+        private final MessageDigest digest;
+
+        private DigestEngine() {
+            try {
+                digest = MessageDigest.getInstance(ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException("SHA-256 algorithm not available", e);
+            }
+        }
+
+        @Override
+        public void update(ByteBuffer buffer) {
+            digest.update(buffer);
+        }
+
+        @Override
+        public void update(byte[] bytes, int offset, int length) {
+            digest.update(bytes, offset, length);
+        }
+
+        @Override
+        public String finish() {
+            return HEX.formatHex(digest.digest());
+        }
+    }
+
+    private static final class Crc32cEngine implements HashEngine {
+
+        private final CRC32C crc = new CRC32C();
+
+        @Override
+        public void update(ByteBuffer buffer) {
+            crc.update(buffer);
+        }
+
+        @Override
+        public void update(byte[] bytes, int offset, int length) {
+            crc.update(bytes, offset, length);
+        }
+
+        @Override
+        public String finish() {
+            return HEX.toHexDigits((int) crc.getValue());
         }
-        return sb.toString();
     }
 }
@@ -7,10 +7,8 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.io.IOException;
-import java.io.OutputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import lombok.RequiredArgsConstructor;
@@ -113,9 +111,10 @@ public class FileController {
     /**
      * 파일 다운로드
      *
-     * <p>상대 경로를 받아 파일을 다운로드합니다.
+     * <p>상대 경로를 받아 파일을 다운로드합니다. Range 요청 시 요청한 구간만 전송합니다.
      *
      * @param filePath 파일 경로 (baseReleasePath 기준 상대 경로)
+     * @param request  HTTP 요청
      * @param response HTTP 응답
      */
     @Operation(
@@ -128,6 +127,9 @@ public class FileController {
                     - `resources/file/script/MARIADB/backup.sh`
                     - `onboardings/infraeye1/mariadb/init.sql`
                     - `resources/publishing/{publishingName}/docs/guide.pdf`
+
+                    **이어받기**: `Range` 헤더로 일부 구간만 받을 수 있으며(206),
+                    `If-Range`에 이전 응답의 `ETag`를 보내면 파일이 변경된 경우 전체 파일을 응답합니다.
                     """
     )
     @ApiResponses({
@@ -135,6 +137,10 @@ public class FileController {
                     responseCode = "200",
                     description = "성공 - 파일 다운로드"
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "206",
+                    description = "성공 - 요청한 구간 다운로드"
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "400",
                     description = "잘못된 파일 경로"
@@ -149,7 +155,8 @@ public class FileController {
             @Parameter(description = "파일 경로 (baseReleasePath 기준 상대 경로)", required = true,
                     example = "versions/infraeye2/standard/1.0.x/1.0.0/mariadb/1.patch.sql")
             @RequestParam String filePath,
-            HttpServletResponse response) throws IOException {
+            @Parameter(hidden = true) HttpServletRequest request,
+            HttpServletResponse response) {
 
         log.info("파일 다운로드 API 호출 - filePath: {}", filePath);
 
@@ -159,21 +166,16 @@ public class FileController {
 
         // 파일명 추출
         String fileName = resolvedPath.getFileName().toString();
-        long fileSize = Files.size(resolvedPath);
 
         // HTTP 응답 헤더 설정
         response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
         response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
                 HttpFileDownloadUtil.buildContentDisposition(fileName));
-        response.setContentLengthLong(fileSize);
 
-        // 파일 스트리밍
-        try (OutputStream out = response.getOutputStream()) {
-            Files.copy(resolvedPath, out);
-            out.flush();
-        }
+        // 파일 전송 (Range 요청 시 부분 전송)
+        FileTransferUtil.serveFile(request, response, resolvedPath);
 
-        log.info("파일 다운로드 완료 - filePath: {}, size: {} bytes", filePath, fileSize);
+        log.info("파일 다운로드 완료 - filePath: {}, status: {}", filePath, response.getStatus());
     }
 
     /**
@@ -0,0 +1,213 @@
+package com.ts.rm.global.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파일 구체화(materialize) 유틸리티
+ *
+ * <p>원본 파일과 같은 내용의 파일을 대상 경로에 가능한 한 적은 I/O로 생성합니다.
+ * <ol>
+ *   <li>하드 링크: 데이터 복사 없이 디렉토리 엔트리만 추가 (원본과 inode 공유)
+ *   <li>reflink: Copy-on-Write 파일시스템(btrfs, XFS, APFS 등)에서 데이터 블록을 공유하는 복제본 생성
+ *       (이후 어느 쪽을 수정해도 다른 쪽에 영향 없음)
+ *   <li>복사: 위 방식이 모두 불가능한 경우
+ * </ol>
+ *
+ * <p>하드 링크는 원본과 inode를 공유하므로 원본을 제자리에서 수정하면 링크된 파일도 함께 바뀝니다.
+ * 따라서 호출자는 변경되지 않음이 보장된(읽기 전용으로 봉인된) 원본에 대해서만 하드 링크를 허용해야 합니다.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FileMaterializer {
+
+    /**
+     * 구체화 방식
+     */
+    public enum Method {
+        HARD_LINK,
+        REFLINK,
+        COPY
+    }
+
+    private static final boolean REFLINK_CAPABLE_OS =
+            System.getProperty("os.name", "").toLowerCase(Locale.ROOT).contains("linux");
+
+    private static final long REFLINK_TIMEOUT_SECONDS = 60;
+
+    /**
+     * reflink 출력 최대 읽기 크기 (오류 메시지 판별용)
+     */
+    private static final int REFLINK_OUTPUT_LIMIT = 4096;
+
+    /**
+     * reflink 미지원으로 확인된 원본/대상 파일시스템 조합 (파일마다 프로세스를 실행하지 않도록 기억)
+     */
+    private static final Map<StorePair, Boolean> REFLINK_UNSUPPORTED = new ConcurrentHashMap<>();
+
+    private record StorePair(FileStore source, FileStore target) {
+    }
+
+    /**
+     * 원본 파일을 대상 경로에 구체화 (하드 링크 → reflink → 복사)
+     *
+     * <p>대상 파일이 이미 있으면 먼저 삭제하므로, 대상이 다른 파일의 하드 링크여도 그 파일은 변경되지 않습니다.
+     * reflink/복사로 생성된 파일은 원본의 읽기 전용 속성과 관계없이 쓰기 가능합니다.
+     *
+     * @param source        원본 파일
+     * @param target        대상 파일 (상위 디렉토리는 존재해야 함)
+     * @param allowHardLink 하드 링크 허용 여부 (원본이 변경되지 않음이 보장된 경우에만 true)
+     * @return 사용된 구체화 방식
+     * @throws IOException 복사까지 실패한 경우
+     */
+    public static Method materialize(Path source, Path target, boolean allowHardLink) throws IOException {
+        Files.deleteIfExists(target);
+
+        if (allowHardLink) {
+            try {
+                Files.createLink(target, source);
+                return Method.HARD_LINK;
+            } catch (UnsupportedOperationException | IOException e) {
+                // 다른 파일시스템, 링크 수 초과 등
+                log.debug("하드 링크 생성 불가: {} ({})", target, e.getMessage());
+            }
+        }
+
+        if (reflink(source, target)) {
+            target.toFile().setWritable(true, true);
+            return Method.REFLINK;
+        }
+
+        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        target.toFile().setWritable(true, true);
+        return Method.COPY;
+    }
+
+    /**
+     * reflink(Copy-on-Write 복제) 시도
+     *
+     * <p>JDK에 reflink API가 없으므로 Linux에서 {@code cp --reflink=always}를 사용합니다.
+     * 오류 출력이 파일시스템 미지원(EOPNOTSUPP) 또는 다른 파일시스템 간 복제(EXDEV)인 경우에만
+     * 원본/대상 파일시스템 조합을 기억해 이후 시도를 생략합니다.
+     * 시간 초과, 권한 오류 등 일시적이거나 파일별 실패는 기억하지 않습니다.
+     *
+     * @param source 원본 파일
+     * @param target 대상 파일 (존재하지 않아야 함)
+     * @return 복제에 성공하면 true
+     */
+    public static boolean reflink(Path source, Path target) {
+        if (!REFLINK_CAPABLE_OS) {
+            return false;
+        }
+
+        StorePair stores;
+        try {
+            stores = new StorePair(Files.getFileStore(source), Files.getFileStore(target.getParent()));
+        } catch (IOException e) {
+            return false;
+        }
+        if (REFLINK_UNSUPPORTED.containsKey(stores)) {
+            return false;
+        }
+
+        String output = null;
+        try {
+            ProcessBuilder builder = new ProcessBuilder("cp", "--reflink=always", "--",
+                    source.toString(), target.toString())
+                    .redirectErrorStream(true);
+            // 오류 메시지 판별을 위해 로케일 고정
+            builder.environment().put("LC_ALL", "C");
+            Process process = builder.start();
+            if (!process.waitFor(REFLINK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                log.debug("reflink 시간 초과: {}", target);
+            } else if (process.exitValue() == 0) {
+                return true;
+            } else {
+                output = readOutput(process);
+            }
+        } catch (IOException e) {
+            log.debug("reflink 실행 실패: {} ({})", target, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (isUnsupported(output)) {
+            if (REFLINK_UNSUPPORTED.putIfAbsent(stores, Boolean.TRUE) == null) {
+                log.info("reflink 미지원 파일시스템, 복사로 대체합니다: {} ({}) → {} ({})",
+                        stores.source().name(), stores.source().type(),
+                        stores.target().name(), stores.target().type());
+            }
+        } else if (output != null) {
+            log.debug("reflink 실패: {} ({})", target, output.strip());
+        }
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException e) {
+            log.warn("reflink 실패 후 대상 파일 정리 실패: {} - {}", target, e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * cp 오류 출력이 reflink 미지원(EOPNOTSUPP/EXDEV)을 나타내는지 확인
+     *
+     * @param output cp 출력 (LC_ALL=C)
+     * @return 파일시스템 조합 자체가 reflink를 지원하지 않으면 true
+     */
+    static boolean isUnsupported(String output) {
+        if (output == null) {
+            return false;
+        }
+        return output.contains("Operation not supported")
+                || output.contains("Invalid cross-device link");
+    }
+
+    private static String readOutput(Process process) throws IOException {
+        try (InputStream in = process.getInputStream()) {
+            return new String(in.readNBytes(REFLINK_OUTPUT_LIMIT), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 파일이 읽기 전용으로 봉인되어 있는지 확인
+     *
+     * <p>POSIX 파일시스템에서는 권한 비트로 판별합니다 (root 권한으로 실행 중이어도 정확히 판별).
+     *
+     * @param file 파일
+     * @return 소유자/그룹/기타 쓰기 권한이 모두 없으면 true
+     */
+    public static boolean isSealed(Path file) throws IOException {
+        if (Files.getFileAttributeView(file, PosixFileAttributeView.class) != null) {
+            Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(file);
+            return !permissions.contains(PosixFilePermission.OWNER_WRITE)
+                    && !permissions.contains(PosixFilePermission.GROUP_WRITE)
+                    && !permissions.contains(PosixFilePermission.OTHERS_WRITE);
+        }
+        return !Files.isWritable(file);
+    }
+
+    /**
+     * 파일을 읽기 전용으로 봉인
+     *
+     * @param file 파일
+     */
+    public static void seal(Path file) {
+        file.toFile().setWritable(false, false);
+    }
+}
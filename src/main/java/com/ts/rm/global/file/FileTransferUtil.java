@@ -0,0 +1,347 @@
+package com.ts.rm.global.file;
+
+import com.ts.rm.global.exception.BusinessException;
+import com.ts.rm.global.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.catalina.connector.ClientAbortException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 파일 전송 유틸리티 (zero-copy, HTTP Range 지원)
+ *
+ * <p>디스크에 있는 파일을 응답 본문으로 전송합니다. Tomcat이 sendfile을 지원하면
+ * 요청 속성으로 전송을 위임하여 커널에서 직접 소켓으로 복사하고(응답 완료 후 Tomcat이 처리),
+ * 지원하지 않으면(HTTPS 등) {@link FileChannel#transferTo}로 응답 스트림에 복사합니다.
+ *
+ * <p>{@link #serveFile}은 조건부 요청(If-None-Match, If-Modified-Since, If-Match)과
+ * Range/If-Range를 처리하여 이어받기 및 분할 병렬 다운로드를 지원합니다.
+ * <ul>
+ *   <li>단일 구간: 206 Partial Content + Content-Range
+ *   <li>다중 구간: 206 multipart/byteranges
+ *   <li>만족할 수 없는 구간: 416 Range Not Satisfiable
+ *   <li>If-Range 불일치 또는 잘못된 Range 헤더: 200 전체 전송
+ * </ul>
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FileTransferUtil {
+
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private static final String BYTES_UNIT = "bytes";
+    private static final String CRLF = "\r\n";
+
+    /**
+     * 파일 다운로드 응답 (파일 크기/수정 시각 기반 ETag 사용)
+     *
+     * @see #serveFile(HttpServletRequest, HttpServletResponse, Path, String)
+     */
+    public static void serveFile(HttpServletRequest request, HttpServletResponse response, Path file) {
+        serveFile(request, response, file, null);
+    }
+
+    /**
+     * 파일 다운로드 응답 (조건부 요청 및 Range 처리)
+     *
+     * <p>Content-Type, Content-Disposition 등 본문 외 헤더는 호출 전에 설정해야 합니다.
+     * Content-Length, ETag, Last-Modified, Accept-Ranges, Content-Range는 이 메서드에서 설정합니다.
+     *
+     * @param request  HTTP 요청
+     * @param response HTTP 응답
+     * @param file     전송할 파일
+     * @param etag     강한 ETag (따옴표 포함, null이면 파일 크기/수정 시각으로 생성)
+     * @throws BusinessException 파일이 없거나 전송 실패 시
+     */
+    public static void serveFile(HttpServletRequest request, HttpServletResponse response,
+            Path file, @Nullable String etag) {
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND,
+                    "파일이 존재하지 않습니다: " + file.getFileName());
+        }
+        if (!attrs.isRegularFile()) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND,
+                    "파일이 존재하지 않습니다: " + file.getFileName());
+        }
+
+        long fileSize = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        String resolvedEtag = etag != null ? etag : buildEtag(fileSize, lastModified);
+
+        // If-None-Match / If-Modified-Since (304), If-Match / If-Unmodified-Since (412)
+        if (new ServletWebRequest(request, response).checkNotModified(resolvedEtag, lastModified)) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, BYTES_UNIT);
+
+        List<ByteRange> ranges = resolveRanges(request, resolvedEtag, lastModified, fileSize);
+        if (ranges == null) {
+            transferRange(request, response, file, 0, fileSize);
+            return;
+        }
+
+        if (ranges.isEmpty()) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, BYTES_UNIT + " */" + fileSize);
+            response.setContentLengthLong(0);
+            return;
+        }
+
+        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+        if (ranges.size() == 1) {
+            ByteRange range = ranges.get(0);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, range.contentRange(fileSize));
+            transferRange(request, response, file, range.start(), range.end() + 1);
+        } else {
+            transferMultipart(response, file, ranges, fileSize);
+        }
+        log.debug("부분 전송: {} {}", file.getFileName(), ranges);
+    }
+
+    /**
+     * 파일의 지정 구간을 응답 본문으로 전송 (상태 코드와 Range 관련 헤더는 호출자가 설정)
+     *
+     * @param request  HTTP 요청
+     * @param response HTTP 응답
+     * @param file     전송할 파일
+     * @param start    시작 위치 (포함)
+     * @param end      끝 위치 (미포함)
+     */
+    public static void transferRange(HttpServletRequest request, HttpServletResponse response,
+            Path file, long start, long end) {
+        response.setContentLengthLong(end - start);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end);
+            log.debug("sendfile 전송 위임: {} [{}-{})", file.getFileName(), start, end);
+            return;
+        }
+
+        try {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            transferTo(file, start, end, target);
+            response.flushBuffer();
+        } catch (IOException e) {
+            handleTransferFailure(file, e);
+        }
+    }
+
+    /**
+     * 파일 구간을 채널로 복사 (FileChannel.transferTo 반복 호출)
+     *
+     * @param file   원본 파일
+     * @param start  시작 위치 (포함)
+     * @param end    끝 위치 (미포함)
+     * @param target 대상 채널
+     * @throws IOException 읽기/쓰기 실패 시
+     */
+    public static void transferTo(Path file, long start, long end, WritableByteChannel target)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = start;
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    if (position >= channel.size()) {
+                        throw new IOException("파일 크기가 전송 중 변경되었습니다: " + file);
+                    }
+                    continue;
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    /**
+     * 파일 크기와 수정 시각으로 ETag 생성
+     *
+     * @param fileSize     파일 크기 (bytes)
+     * @param lastModified 수정 시각 (epoch millis)
+     * @return 따옴표를 포함한 ETag
+     */
+    public static String buildEtag(long fileSize, long lastModified) {
+        return "\"" + Long.toHexString(fileSize) + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+    /**
+     * 요청의 Range 헤더를 파일 크기에 맞춰 해석
+     *
+     * @return null이면 전체 전송, 빈 목록이면 만족할 수 없는 구간(416), 그 외 전송할 구간 목록
+     */
+    private static List<ByteRange> resolveRanges(HttpServletRequest request, String etag,
+            long lastModified, long fileSize) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !rangeHeader.startsWith(BYTES_UNIT + "=") || fileSize == 0) {
+            return null;
+        }
+
+        if (!isIfRangeSatisfied(request, etag, lastModified)) {
+            log.debug("If-Range 불일치로 전체 전송: {}", request.getHeader(HttpHeaders.IF_RANGE));
+            return null;
+        }
+
+        List<HttpRange> httpRanges;
+        try {
+            httpRanges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 Range 헤더 무시: {} ({})", rangeHeader, e.getMessage());
+            return null;
+        }
+
+        List<ByteRange> ranges = new ArrayList<>();
+        long totalLength = 0;
+        for (HttpRange httpRange : httpRanges) {
+            long start = httpRange.getRangeStart(fileSize);
+            long end = httpRange.getRangeEnd(fileSize);
+            if (start >= fileSize || start > end) {
+                continue;
+            }
+            ranges.add(new ByteRange(start, end));
+            totalLength += end - start + 1;
+        }
+
+        // 겹치는 다중 구간으로 파일보다 큰 응답을 만드는 요청은 전체 전송으로 대체
+        if (ranges.size() > 1 && totalLength > fileSize) {
+            return null;
+        }
+        return ranges;
+    }
+
+    /**
+     * If-Range 조건 확인 (강한 ETag 일치 또는 Last-Modified 이전 날짜)
+     */
+    private static boolean isIfRangeSatisfied(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+
+        String trimmed = ifRange.trim();
+        if (trimmed.startsWith("W/")) {
+            return false;
+        }
+        if (trimmed.startsWith("\"")) {
+            return trimmed.equals(etag);
+        }
+
+        try {
+            long ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return ifRangeDate != -1 && lastModified / 1000 <= ifRangeDate / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 다중 구간 응답 (multipart/byteranges)
+     */
+    private static void transferMultipart(HttpServletResponse response, Path file,
+            List<ByteRange> ranges, long fileSize) {
+        String boundary = "RM_BYTERANGES_" + UUID.randomUUID().toString().replace("-", "");
+        String partContentType = response.getContentType() != null
+                ? response.getContentType()
+                : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (int i = 0; i < ranges.size(); i++) {
+            ByteRange range = ranges.get(i);
+            String partHeader = (i == 0 ? "" : CRLF) + "--" + boundary + CRLF
+                    + HttpHeaders.CONTENT_TYPE + ": " + partContentType + CRLF
+                    + HttpHeaders.CONTENT_RANGE + ": " + range.contentRange(fileSize) + CRLF
+                    + CRLF;
+            byte[] headerBytes = partHeader.getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(headerBytes);
+            contentLength += headerBytes.length + range.length();
+        }
+        byte[] closing = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+
+        try {
+            OutputStream out = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            for (int i = 0; i < ranges.size(); i++) {
+                ByteRange range = ranges.get(i);
+                out.write(partHeaders.get(i));
+                transferTo(file, range.start(), range.end() + 1, target);
+            }
+            out.write(closing);
+            response.flushBuffer();
+        } catch (IOException e) {
+            handleTransferFailure(file, e);
+        }
+    }
+
+    private static void handleTransferFailure(Path file, IOException e) {
+        if (isClientAbort(e)) {
+            log.info("클라이언트가 다운로드를 취소했습니다: {}", file.getFileName());
+            return;
+        }
+        log.error("파일 전송 실패: {}", file, e);
+        throw new BusinessException(ErrorCode.FILE_DOWNLOAD_FAILED,
+                "파일 전송 실패: " + e.getMessage());
+    }
+
+    private static boolean isClientAbort(Throwable e) {
+        Throwable current = e;
+        while (current != null) {
+            if (current instanceof ClientAbortException) {
+                return true;
+            }
+            String message = current.getMessage();
+            if (message != null && (message.contains("Connection reset by peer")
+                    || message.contains("Broken pipe"))) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * 전송 구간 (start, end 모두 포함)
+     */
+    private record ByteRange(long start, long end) {
+
+        long length() {
+            return end - start + 1;
+        }
+
+        String contentRange(long fileSize) {
+            return BYTES_UNIT + " " + start + "-" + end + "/" + fileSize;
+        }
+    }
+}
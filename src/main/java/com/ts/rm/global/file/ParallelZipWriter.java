@@ -0,0 +1,598 @@
+package com.ts.rm.global.file;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipException;
+
+/**
+ * 멀티코어 병렬 Deflate ZIP 작성기 (pigz 방식)
+ *
+ * <p>각 파일을 {@value #BLOCK_SIZE} 바이트 블록으로 나누어 Executor에서 동시에 압축하고,
+ * 압축 결과는 입력 순서대로 출력 스트림에 기록합니다.
+ * <ul>
+ *   <li>블록마다 직전 블록의 마지막 32KB를 사전(dictionary)으로 설정하여 압축률 손실을 최소화
+ *   <li>마지막 블록이 아닌 블록은 SYNC_FLUSH로 바이트 경계에서 끝내므로 블록을 이어 붙이면
+ *       하나의 유효한 raw deflate 스트림이 됨
+ *   <li>CRC-32는 읽기 스레드에서 순차 계산 (블록 압축보다 훨씬 빠름)
+ * </ul>
+ *
+ * <p>출력 형식은 {@link java.util.zip.ZipOutputStream}과 동일합니다
+ * (UTF-8 파일명, 데이터 디스크립터, 4GB/65535개 초과 시 ZIP64 레코드).
+ * STORED 엔트리는 로컬 헤더에 CRC와 크기를 기록해야 하므로 CRC를 먼저 계산한 뒤 원본 그대로 기록합니다.
+ * 동시에 압축 중인 블록 수를 제한하므로 메모리 사용량은 파일 크기와 무관합니다.
+ */
+final class ParallelZipWriter implements Closeable {
+
+    static final int BLOCK_SIZE = 128 * 1024;
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+
+    private static final int LOC_SIGNATURE = 0x04034b50;
+    private static final int EXT_SIGNATURE = 0x08074b50;
+    private static final int CEN_SIGNATURE = 0x02014b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+    private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+
+    private static final int VERSION_STORED = 10;
+    private static final int VERSION_DEFLATE = 20;
+    private static final int VERSION_ZIP64 = 45;
+    private static final int FLAG_DATA_DESCRIPTOR = 0x0008;
+    private static final int FLAG_UTF8 = 0x0800;
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+
+    private final OutputStream out;
+    private final Executor executor;
+    private final int maxInFlightBlocks;
+    private final int level;
+
+    private final Deque<Segment> pending = new ArrayDeque<>();
+    private final List<EntryRecord> entries = new ArrayList<>();
+    private final Set<String> entryNames = new HashSet<>();
+    private final byte[] header = new byte[64];
+
+    private long written;
+    private long currentCompressedSize;
+    private int inFlightBlocks;
+    private boolean finished;
+
+    /**
+     * @param out               ZIP을 기록할 출력 스트림
+     * @param executor          블록 압축 Executor
+     * @param maxInFlightBlocks 동시에 압축/대기할 수 있는 최대 블록 수
+     */
+    ParallelZipWriter(OutputStream out, Executor executor, int maxInFlightBlocks) {
+        this(out, executor, maxInFlightBlocks, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    ParallelZipWriter(OutputStream out, Executor executor, int maxInFlightBlocks, int level) {
+        this.out = out;
+        this.executor = executor;
+        this.maxInFlightBlocks = Math.max(1, maxInFlightBlocks);
+        this.level = level;
+    }
+
+    /**
+     * 파일을 DEFLATED ZIP 엔트리로 추가
+     *
+     * @see #addFile(String, Path, long, boolean)
+     */
+    void addFile(String entryName, Path source, long lastModified) throws IOException {
+        addFile(entryName, source, lastModified, false);
+    }
+
+    /**
+     * 파일을 ZIP 엔트리로 추가
+     *
+     * <p>파일을 블록 단위로 읽어 압축 작업을 제출합니다. 압축이 끝난 앞쪽 블록은 이 메서드 안에서
+     * 바로 출력되며, 나머지는 다음 엔트리 추가 또는 {@link #finish()} 시 출력됩니다.
+     *
+     * @param entryName    ZIP 내부 경로 ('/' 구분)
+     * @param source       원본 파일
+     * @param lastModified 수정 시각 (epoch millis)
+     * @param stored       true면 압축 없이 STORED로 저장
+     * @throws ZipException 중복된 엔트리명인 경우
+     * @throws IOException  파일 읽기 또는 출력 실패 시, STORED 파일이 기록 중 변경된 경우
+     */
+    void addFile(String entryName, Path source, long lastModified, boolean stored) throws IOException {
+        if (finished) {
+            throw new IOException("ZIP 작성이 이미 완료되었습니다");
+        }
+        if (!entryNames.add(entryName)) {
+            throw new ZipException("duplicate entry: " + entryName);
+        }
+
+        EntryRecord entry = new EntryRecord(entryName.getBytes(StandardCharsets.UTF_8),
+                toDosTime(lastModified), stored);
+        entries.add(entry);
+
+        if (stored) {
+            addStoredData(entry, source);
+            return;
+        }
+        pending.add(Segment.header(entry));
+
+        long expectedSize = Files.size(source);
+        CRC32 crc = new CRC32();
+        long totalRead = 0;
+        byte[] previous = null;
+        int previousLength = 0;
+
+        try (InputStream is = Files.newInputStream(source)) {
+            while (true) {
+                byte[] block = new byte[BLOCK_SIZE];
+                int length = is.readNBytes(block, 0, BLOCK_SIZE);
+                crc.update(block, 0, length);
+                totalRead += length;
+                boolean last = length < BLOCK_SIZE || totalRead >= expectedSize;
+
+                submitBlock(block, length, previous, previousLength, last);
+                if (last) {
+                    break;
+                }
+                previous = block;
+                previousLength = length;
+            }
+        }
+
+        entry.crc = crc.getValue();
+        entry.size = totalRead;
+        pending.add(Segment.end(entry));
+    }
+
+    /**
+     * STORED 엔트리 기록 (CRC 사전 계산 → 헤더 → 원본 블록)
+     *
+     * <p>두 번째 읽기에서 CRC와 크기를 다시 확인하여, 그 사이 파일이 변경되면 손상된 ZIP 대신 예외를 발생시킵니다.
+     */
+    private void addStoredData(EntryRecord entry, Path source) throws IOException {
+        CRC32 crc = new CRC32();
+        long size = 0;
+        byte[] buffer = new byte[BLOCK_SIZE];
+        try (InputStream is = Files.newInputStream(source)) {
+            int length;
+            while ((length = is.read(buffer)) != -1) {
+                crc.update(buffer, 0, length);
+                size += length;
+            }
+        }
+        entry.crc = crc.getValue();
+        entry.size = size;
+        entry.compressedSize = size;
+        pending.add(Segment.header(entry));
+
+        CRC32 verifyCrc = new CRC32();
+        long remaining = size;
+        try (InputStream is = Files.newInputStream(source)) {
+            while (remaining > 0) {
+                byte[] block = is.readNBytes((int) Math.min(BLOCK_SIZE, remaining));
+                if (block.length == 0) {
+                    break;
+                }
+                verifyCrc.update(block);
+                remaining -= block.length;
+                pending.add(Segment.block(CompletableFuture.completedFuture(block)));
+                inFlightBlocks++;
+                drain(maxInFlightBlocks);
+            }
+        }
+        if (remaining != 0 || verifyCrc.getValue() != entry.crc) {
+            throw new ZipException("파일이 압축 중 변경되었습니다: " + source);
+        }
+        pending.add(Segment.end(entry));
+    }
+
+    /**
+     * 남은 블록과 중앙 디렉토리를 기록 (출력 스트림은 닫지 않음)
+     */
+    void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        drain(0);
+
+        long centralDirectoryOffset = written;
+        for (EntryRecord entry : entries) {
+            writeCentralDirectoryHeader(entry);
+        }
+        writeEndOfCentralDirectory(centralDirectoryOffset, written - centralDirectoryOffset);
+        out.flush();
+        finished = true;
+    }
+
+    /**
+     * ZIP 작성 완료 후 출력 스트림 닫기 (실패 시 대기 중인 압축 작업 취소)
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!finished) {
+                cancelPending();
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    private void submitBlock(byte[] block, int length, byte[] previous, int previousLength, boolean last)
+            throws IOException {
+        CompletableFuture<byte[]> future = CompletableFuture.supplyAsync(
+                () -> deflateBlock(block, length, previous, previousLength, last, level), executor);
+        pending.add(Segment.block(future));
+        inFlightBlocks++;
+        drain(maxInFlightBlocks);
+    }
+
+    /**
+     * 대기 중인 블록이 limit 이하가 될 때까지 앞에서부터 순서대로 출력
+     */
+    private void drain(int limit) throws IOException {
+        while (!pending.isEmpty()) {
+            Segment segment = pending.peek();
+            if (segment.future != null && inFlightBlocks <= limit) {
+                return;
+            }
+            pending.poll();
+
+            if (segment.future != null) {
+                byte[] compressed = await(segment.future);
+                inFlightBlocks--;
+                out.write(compressed);
+                written += compressed.length;
+                currentCompressedSize += compressed.length;
+            } else if (segment.isHeader) {
+                segment.entry.offset = written;
+                currentCompressedSize = 0;
+                writeLocalHeader(segment.entry);
+            } else if (!segment.entry.stored) {
+                segment.entry.compressedSize = currentCompressedSize;
+                writeDataDescriptor(segment.entry);
+            }
+        }
+    }
+
+    private byte[] await(CompletableFuture<byte[]> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException("블록 압축 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    private void cancelPending() {
+        for (Segment segment : pending) {
+            if (segment.future != null) {
+                segment.future.cancel(false);
+            }
+        }
+        pending.clear();
+        inFlightBlocks = 0;
+    }
+
+    /**
+     * 블록 하나를 raw deflate로 압축
+     *
+     * <p>마지막 블록은 FINISH(BFINAL=1)로, 그 외 블록은 SYNC_FLUSH로 끝냅니다.
+     */
+    static byte[] deflateBlock(byte[] data, int length, byte[] dictionary, int dictionaryLength,
+            boolean last, int level) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            if (dictionary != null && dictionaryLength > 0) {
+                int dictionaryStart = Math.max(0, dictionaryLength - DICTIONARY_SIZE);
+                deflater.setDictionary(dictionary, dictionaryStart, dictionaryLength - dictionaryStart);
+            }
+            deflater.setInput(data, 0, length);
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+            byte[] buffer = new byte[Math.max(512, Math.min(length, 64 * 1024))];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    int n = deflater.deflate(buffer);
+                    compressed.write(buffer, 0, n);
+                }
+            } else {
+                int n;
+                do {
+                    n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    compressed.write(buffer, 0, n);
+                } while (n == buffer.length);
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void writeLocalHeader(EntryRecord entry) throws IOException {
+        if (entry.stored) {
+            writeStoredLocalHeader(entry);
+            return;
+        }
+        int pos = 0;
+        pos = putInt(header, pos, LOC_SIGNATURE);
+        pos = putShort(header, pos, VERSION_DEFLATE);
+        pos = putShort(header, pos, FLAG_DATA_DESCRIPTOR | FLAG_UTF8);
+        pos = putShort(header, pos, METHOD_DEFLATED);
+        pos = putInt(header, pos, entry.dosTime);
+        pos = putInt(header, pos, 0);
+        pos = putInt(header, pos, 0);
+        pos = putInt(header, pos, 0);
+        pos = putShort(header, pos, entry.name.length);
+        pos = putShort(header, pos, 0);
+        writeBytes(header, pos);
+        writeBytes(entry.name, entry.name.length);
+    }
+
+    /**
+     * STORED 로컬 헤더 (CRC/크기 포함, 4GB 이상이면 ZIP64 extra에 크기 기록)
+     */
+    private void writeStoredLocalHeader(EntryRecord entry) throws IOException {
+        boolean zip64 = entry.size >= ZIP64_MAGIC;
+        int pos = 0;
+        pos = putInt(header, pos, LOC_SIGNATURE);
+        pos = putShort(header, pos, zip64 ? VERSION_ZIP64 : VERSION_STORED);
+        pos = putShort(header, pos, FLAG_UTF8);
+        pos = putShort(header, pos, METHOD_STORED);
+        pos = putInt(header, pos, entry.dosTime);
+        pos = putInt(header, pos, entry.crc);
+        pos = putInt(header, pos, zip64 ? ZIP64_MAGIC : entry.size);
+        pos = putInt(header, pos, zip64 ? ZIP64_MAGIC : entry.size);
+        pos = putShort(header, pos, entry.name.length);
+        pos = putShort(header, pos, zip64 ? 20 : 0);
+        writeBytes(header, pos);
+        writeBytes(entry.name, entry.name.length);
+
+        if (zip64) {
+            pos = 0;
+            pos = putShort(header, pos, ZIP64_EXTRA_ID);
+            pos = putShort(header, pos, 16);
+            pos = putLong(header, pos, entry.size);
+            pos = putLong(header, pos, entry.size);
+            writeBytes(header, pos);
+        }
+    }
+
+    private void writeDataDescriptor(EntryRecord entry) throws IOException {
+        int pos = 0;
+        pos = putInt(header, pos, EXT_SIGNATURE);
+        pos = putInt(header, pos, entry.crc);
+        if (entry.compressedSize >= ZIP64_MAGIC || entry.size >= ZIP64_MAGIC) {
+            pos = putLong(header, pos, entry.compressedSize);
+            pos = putLong(header, pos, entry.size);
+        } else {
+            pos = putInt(header, pos, entry.compressedSize);
+            pos = putInt(header, pos, entry.size);
+        }
+        writeBytes(header, pos);
+    }
+
+    private void writeCentralDirectoryHeader(EntryRecord entry) throws IOException {
+        boolean zip64Size = entry.size >= ZIP64_MAGIC;
+        boolean zip64CompressedSize = entry.compressedSize >= ZIP64_MAGIC;
+        boolean zip64Offset = entry.offset >= ZIP64_MAGIC;
+        int extraLength = (zip64Size ? 8 : 0) + (zip64CompressedSize ? 8 : 0) + (zip64Offset ? 8 : 0);
+        int version = extraLength > 0 ? VERSION_ZIP64 : entry.stored ? VERSION_STORED : VERSION_DEFLATE;
+
+        int pos = 0;
+        pos = putInt(header, pos, CEN_SIGNATURE);
+        pos = putShort(header, pos, version);
+        pos = putShort(header, pos, version);
+        pos = putShort(header, pos, entry.stored ? FLAG_UTF8 : FLAG_DATA_DESCRIPTOR | FLAG_UTF8);
+        pos = putShort(header, pos, entry.stored ? METHOD_STORED : METHOD_DEFLATED);
+        pos = putInt(header, pos, entry.dosTime);
+        pos = putInt(header, pos, entry.crc);
+        pos = putInt(header, pos, zip64CompressedSize ? ZIP64_MAGIC : entry.compressedSize);
+        pos = putInt(header, pos, zip64Size ? ZIP64_MAGIC : entry.size);
+        pos = putShort(header, pos, entry.name.length);
+        pos = putShort(header, pos, extraLength > 0 ? extraLength + 4 : 0);
+        pos = putShort(header, pos, 0);
+        pos = putShort(header, pos, 0);
+        pos = putShort(header, pos, 0);
+        pos = putInt(header, pos, 0);
+        pos = putInt(header, pos, zip64Offset ? ZIP64_MAGIC : entry.offset);
+        writeBytes(header, pos);
+        writeBytes(entry.name, entry.name.length);
+
+        if (extraLength > 0) {
+            pos = 0;
+            pos = putShort(header, pos, ZIP64_EXTRA_ID);
+            pos = putShort(header, pos, extraLength);
+            if (zip64Size) {
+                pos = putLong(header, pos, entry.size);
+            }
+            if (zip64CompressedSize) {
+                pos = putLong(header, pos, entry.compressedSize);
+            }
+            if (zip64Offset) {
+                pos = putLong(header, pos, entry.offset);
+            }
+            writeBytes(header, pos);
+        }
+    }
+
+    private void writeEndOfCentralDirectory(long offset, long size) throws IOException {
+        int count = entries.size();
+        boolean zip64 = count >= ZIP64_MAGIC_COUNT || offset >= ZIP64_MAGIC || size >= ZIP64_MAGIC;
+
+        int pos;
+        if (zip64) {
+            long zip64EndOffset = written;
+            pos = 0;
+            pos = putInt(header, pos, ZIP64_END_SIGNATURE);
+            pos = putLong(header, pos, 44);
+            pos = putShort(header, pos, VERSION_ZIP64);
+            pos = putShort(header, pos, VERSION_ZIP64);
+            pos = putInt(header, pos, 0);
+            pos = putInt(header, pos, 0);
+            pos = putLong(header, pos, count);
+            pos = putLong(header, pos, count);
+            pos = putLong(header, pos, size);
+            pos = putLong(header, pos, offset);
+            writeBytes(header, pos);
+
+            pos = 0;
+            pos = putInt(header, pos, ZIP64_LOCATOR_SIGNATURE);
+            pos = putInt(header, pos, 0);
+            pos = putLong(header, pos, zip64EndOffset);
+            pos = putInt(header, pos, 1);
+            writeBytes(header, pos);
+        }
+
+        pos = 0;
+        pos = putInt(header, pos, END_SIGNATURE);
+        pos = putShort(header, pos, 0);
+        pos = putShort(header, pos, 0);
+        pos = putShort(header, pos, Math.min(count, ZIP64_MAGIC_COUNT));
+        pos = putShort(header, pos, Math.min(count, ZIP64_MAGIC_COUNT));
+        pos = putInt(header, pos, Math.min(size, ZIP64_MAGIC));
+        pos = putInt(header, pos, Math.min(offset, ZIP64_MAGIC));
+        pos = putShort(header, pos, 0);
+        writeBytes(header, pos);
+    }
+
+    /**
+     * STORED 엔트리로만 구성된 ZIP의 전체 길이를 기록 전에 계산
+     *
+     * <p>STORED 엔트리는 데이터 디스크립터 없이 로컬 헤더에 크기를 기록하므로, 엔트리명과 파일 크기만으로
+     * 이 작성기가 출력할 바이트 수(로컬 헤더, ZIP64 extra, 중앙 디렉토리, ZIP64 EOCD 포함)를 정확히 알 수 있습니다.
+     *
+     * @param nameLengths 엔트리명 길이 (UTF-8 바이트, 추가 순서)
+     * @param sizes       파일 크기 (추가 순서)
+     * @return ZIP 전체 길이 (bytes)
+     */
+    static long storedArchiveLength(int[] nameLengths, long[] sizes) {
+        long offset = 0;
+        long centralDirectorySize = 0;
+        for (int i = 0; i < nameLengths.length; i++) {
+            boolean zip64Size = sizes[i] >= ZIP64_MAGIC;
+            int extraLength = (zip64Size ? 16 : 0) + (offset >= ZIP64_MAGIC ? 8 : 0);
+            centralDirectorySize += 46 + nameLengths[i] + (extraLength > 0 ? extraLength + 4 : 0);
+            offset += 30 + nameLengths[i] + (zip64Size ? 20 : 0) + sizes[i];
+        }
+
+        boolean zip64 = nameLengths.length >= ZIP64_MAGIC_COUNT
+                || offset >= ZIP64_MAGIC || centralDirectorySize >= ZIP64_MAGIC;
+        return offset + centralDirectorySize + (zip64 ? 56 + 20 : 0) + 22;
+    }
+
+    private void writeBytes(byte[] bytes, int length) throws IOException {
+        out.write(bytes, 0, length);
+        written += length;
+    }
+
+    private static int putShort(byte[] buf, int pos, int value) {
+        buf[pos] = (byte) value;
+        buf[pos + 1] = (byte) (value >>> 8);
+        return pos + 2;
+    }
+
+    private static int putInt(byte[] buf, int pos, long value) {
+        buf[pos] = (byte) value;
+        buf[pos + 1] = (byte) (value >>> 8);
+        buf[pos + 2] = (byte) (value >>> 16);
+        buf[pos + 3] = (byte) (value >>> 24);
+        return pos + 4;
+    }
+
+    private static int putLong(byte[] buf, int pos, long value) {
+        putInt(buf, pos, value);
+        putInt(buf, pos + 4, value >>> 32);
+        return pos + 8;
+    }
+
+    /**
+     * epoch millis → MS-DOS 날짜/시간 (ZipEntry.setTime과 동일한 변환, 1980년 이전은 1980-01-01)
+     */
+    static long toDosTime(long epochMillis) {
+        LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+        int year = dateTime.getYear() - 1980;
+        if (year < 0) {
+            return (1 << 21) | (1 << 16);
+        }
+        if (year > 127) {
+            year = 127;
+        }
+        return ((long) year << 25
+                | dateTime.getMonthValue() << 21
+                | dateTime.getDayOfMonth() << 16
+                | dateTime.getHour() << 11
+                | dateTime.getMinute() << 5
+                | dateTime.getSecond() >> 1) & 0xFFFFFFFFL;
+    }
+
+    private static final class EntryRecord {
+
+        final byte[] name;
+        final long dosTime;
+        final boolean stored;
+        long crc;
+        long size;
+        long compressedSize;
+        long offset;
+
+        EntryRecord(byte[] name, long dosTime, boolean stored) {
+            this.name = name;
+            this.dosTime = dosTime;
+            this.stored = stored;
+        }
+    }
+
+    /**
+     * 출력 순서를 유지하기 위한 대기열 항목 (로컬 헤더 / 압축 블록 / 데이터 디스크립터)
+     */
+    private static final class Segment {
+
+        final EntryRecord entry;
+        final CompletableFuture<byte[]> future;
+        final boolean isHeader;
+
+        private Segment(EntryRecord entry, CompletableFuture<byte[]> future, boolean isHeader) {
+            this.entry = entry;
+            this.future = future;
+            this.isHeader = isHeader;
+        }
+
+        static Segment header(EntryRecord entry) {
+            return new Segment(entry, null, true);
+        }
+
+        static Segment block(CompletableFuture<byte[]> future) {
+            return new Segment(null, future, false);
+        }
+
+        static Segment end(EntryRecord entry) {
+            return new Segment(entry, null, false);
+        }
+    }
+}
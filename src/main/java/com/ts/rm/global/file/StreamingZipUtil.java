@@ -3,15 +3,25 @@ package com.ts.rm.global.file;
 import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
 import java.io.BufferedInputStream;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
 import java.util.zip.ZipOutputStream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.catalina.connector.ClientAbortException;
+import org.springframework.lang.Nullable;
 
 /**
  * 스트리밍 방식 ZIP 압축 유틸리티
@@ -19,12 +29,25 @@ import org.apache.catalina.connector.ClientAbortException;
  * <p>메모리 사용량을 최소화하면서 HTTP 응답 스트림에 직접 ZIP 파일을 생성합니다.
  * ByteArrayOutputStream 대신 응답 OutputStream을 직접 사용하여 메모리 효율성을 극대화합니다.
  *
+ * <p>Executor를 전달하면 {@link ParallelZipWriter}로 파일을 블록 단위로 나누어 여러 코어에서 병렬 압축합니다.
+ * 출력은 표준 ZIP(필요 시 ZIP64) 형식이며, Executor가 null이면 기존처럼 ZipOutputStream으로 순차 압축합니다.
+ *
+ * <p>{@link ZipCompressionPolicy}로 엔트리별 압축 방식을 정할 수 있으며, 이미 압축된 파일(JAR, PNG 등)은
+ * STORED로 저장하여 압축 효과 없이 CPU를 소모하지 않도록 합니다.
+ *
+ * <p>{@link #buildManifest}로 엔트리 목록과 압축 방식을 스트리밍 전에 확정하면, 모든 엔트리가 STORED인 경우
+ * ZIP 전체 길이를 미리 계산하여 Content-Length를 설정할 수 있습니다.
  */
 @Slf4j
 public class StreamingZipUtil {
 
     private static final int BUFFER_SIZE = 8192; // 8KB 버퍼
 
+    /**
+     * 병렬 압축 시 스레드당 동시에 압축/대기할 블록 수 (메모리 상한: 병렬도 x 4 x 128KB)
+     */
+    private static final int IN_FLIGHT_BLOCKS_PER_THREAD = 4;
+
     private StreamingZipUtil() {
         // Utility class - 인스턴스 생성 방지
     }
@@ -65,6 +88,180 @@ public class StreamingZipUtil {
     public record ZipFileEntry(Path sourcePath, String zipEntryPath) {
     }
 
+    /**
+     * ZIP 매니페스트 엔트리 (스트리밍 전에 확정된 크기와 압축 방식)
+     *
+     * @param sourcePath   실제 파일 경로
+     * @param entryName    ZIP 내부 경로 ('/' 구분)
+     * @param size         파일 크기 (bytes)
+     * @param lastModified 수정 시각 (epoch millis)
+     * @param stored       STORED(무압축) 저장 여부
+     */
+    public record ManifestEntry(Path sourcePath, String entryName, long size, long lastModified,
+                                boolean stored) {
+    }
+
+    /**
+     * ZIP 매니페스트 (엔트리 목록, 압축 전 총 크기, ZIP 전체 길이)
+     *
+     * @param entries          ZIP 엔트리 목록 (기록 순서)
+     * @param uncompressedSize 압축 전 총 크기 (bytes)
+     * @param contentLength    ZIP 전체 길이 (모든 엔트리가 STORED일 때만 계산, 그 외 -1)
+     */
+    public record ZipManifest(List<ManifestEntry> entries, long uncompressedSize, long contentLength) {
+
+        /**
+         * ZIP 전체 길이를 미리 알 수 있는지 여부 (Content-Length 설정 가능 여부)
+         */
+        public boolean hasKnownLength() {
+            return contentLength >= 0;
+        }
+    }
+
+    /**
+     * 파일 목록으로 ZIP 매니페스트 생성
+     *
+     * <p>파일 크기와 압축 방식을 미리 확정합니다. 존재하지 않는 파일과 디렉토리는 제외하며,
+     * 모든 엔트리가 STORED이면 ZIP 전체 길이를 계산합니다 (DEFLATED 엔트리는 압축 후 크기를 알 수 없음).
+     *
+     * @param files  압축할 파일 목록
+     * @param policy 엔트리 압축 방식 정책 (null이면 모두 DEFLATED)
+     * @return ZIP 매니페스트
+     * @throws BusinessException 압축할 파일이 없거나 파일 정보 조회 실패 시
+     */
+    public static ZipManifest buildManifest(List<ZipFileEntry> files, @Nullable ZipCompressionPolicy policy) {
+        if (files == null || files.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "압축할 파일이 없습니다");
+        }
+        ZipCompressionPolicy resolvedPolicy = policy != null ? policy : ZipCompressionPolicy.DEFLATE_ALL;
+
+        List<ManifestEntry> entries = new ArrayList<>();
+        try {
+            for (ZipFileEntry fileEntry : files) {
+                Path sourcePath = fileEntry.sourcePath();
+                if (!Files.exists(sourcePath)) {
+                    log.warn("파일이 존재하지 않습니다: {} (ZIP 경로: {})",
+                            sourcePath, fileEntry.zipEntryPath());
+                    continue;
+                }
+                if (Files.isDirectory(sourcePath)) {
+                    continue;
+                }
+                entries.add(toManifestEntry(sourcePath, fileEntry.zipEntryPath(), resolvedPolicy));
+            }
+        } catch (IOException e) {
+            log.error("ZIP 매니페스트 생성 실패", e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "파일 정보 조회 실패: " + e.getMessage());
+        }
+
+        if (entries.isEmpty()) {
+            throw new BusinessException(ErrorCode.DATA_NOT_FOUND,
+                    "압축할 파일이 실제로 존재하지 않습니다. 누락된 파일 수: " + files.size());
+        }
+        return toManifest(entries);
+    }
+
+    /**
+     * 디렉토리 전체로 ZIP 매니페스트 생성
+     *
+     * @param sourceDir 압축할 디렉토리 경로
+     * @param policy    엔트리 압축 방식 정책 (null이면 모두 DEFLATED)
+     * @return ZIP 매니페스트
+     * @throws BusinessException 디렉토리가 없거나 파일 정보 조회 실패 시
+     * @see #buildManifest(List, ZipCompressionPolicy)
+     */
+    public static ZipManifest buildDirectoryManifest(Path sourceDir, @Nullable ZipCompressionPolicy policy) {
+        if (!Files.isDirectory(sourceDir)) {
+            throw new BusinessException(ErrorCode.DATA_NOT_FOUND,
+                    "압축할 디렉토리를 찾을 수 없습니다: " + sourceDir);
+        }
+        ZipCompressionPolicy resolvedPolicy = policy != null ? policy : ZipCompressionPolicy.DEFLATE_ALL;
+
+        List<ManifestEntry> entries = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(sourceDir)) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                entries.add(toManifestEntry(path, sourceDir.relativize(path).toString(), resolvedPolicy));
+            }
+        } catch (IOException e) {
+            log.error("ZIP 매니페스트 생성 실패: {}", sourceDir, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "파일 정보 조회 실패: " + e.getMessage());
+        }
+
+        if (entries.isEmpty()) {
+            throw new BusinessException(ErrorCode.FILE_NOT_FOUND,
+                    "디렉토리에 압축할 파일이 없습니다: " + sourceDir);
+        }
+        return toManifest(entries);
+    }
+
+    private static ManifestEntry toManifestEntry(Path sourcePath, String zipEntryPath,
+            ZipCompressionPolicy policy) throws IOException {
+        long size = Files.size(sourcePath);
+        return new ManifestEntry(sourcePath, zipEntryPath.replace("\\", "/"), size,
+                Files.getLastModifiedTime(sourcePath).toMillis(), policy.shouldStore(sourcePath, size));
+    }
+
+    private static ZipManifest toManifest(List<ManifestEntry> entries) {
+        int[] nameLengths = new int[entries.size()];
+        long[] sizes = new long[entries.size()];
+        long uncompressedSize = 0;
+        boolean allStored = true;
+        for (int i = 0; i < entries.size(); i++) {
+            ManifestEntry entry = entries.get(i);
+            nameLengths[i] = entry.entryName().getBytes(StandardCharsets.UTF_8).length;
+            sizes[i] = entry.size();
+            uncompressedSize += entry.size();
+            allStored &= entry.stored();
+        }
+        long contentLength = allStored ? ParallelZipWriter.storedArchiveLength(nameLengths, sizes) : -1;
+        return new ZipManifest(List.copyOf(entries), uncompressedSize, contentLength);
+    }
+
+    /**
+     * 매니페스트대로 ZIP을 스트리밍 작성
+     *
+     * <p>압축 방식은 매니페스트에서 확정된 값을 그대로 사용하므로, {@link ZipManifest#contentLength()}와
+     * 실제 출력 길이가 일치합니다. 매니페스트 생성 후 파일 크기가 바뀐 경우 잘못된 길이로 응답하지 않도록 중단합니다.
+     *
+     * @param outputStream 압축된 데이터를 쓸 출력 스트림
+     * @param manifest     {@link #buildManifest} 또는 {@link #buildDirectoryManifest}로 생성한 매니페스트
+     * @param executor     블록 병렬 압축 Executor (null이면 호출 스레드에서 압축)
+     * @throws BusinessException 압축 실패 또는 파일 변경 시
+     */
+    public static void compressManifestToStream(OutputStream outputStream, ZipManifest manifest,
+            @Nullable Executor executor) {
+        int parallelism = executor instanceof ForkJoinPool pool ? pool.getParallelism() : 1;
+        Executor resolvedExecutor = executor != null ? executor : Runnable::run;
+
+        try (ParallelZipWriter writer = new ParallelZipWriter(
+                outputStream, resolvedExecutor, parallelism * IN_FLIGHT_BLOCKS_PER_THREAD)) {
+            for (ManifestEntry entry : manifest.entries()) {
+                if (Files.size(entry.sourcePath()) != entry.size()) {
+                    throw new ZipException("파일이 압축 준비 후 변경되었습니다: " + entry.sourcePath());
+                }
+                writer.addFile(entry.entryName(), entry.sourcePath(), entry.lastModified(), entry.stored());
+            }
+            writer.finish();
+
+            log.info("매니페스트 ZIP 스트리밍 완료: {}개 파일, 압축 전 {} bytes, ZIP 길이: {}",
+                    manifest.entries().size(), manifest.uncompressedSize(),
+                    manifest.hasKnownLength() ? manifest.contentLength() + " bytes" : "미정");
+
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊은 경우 (다운로드 취소)
+            if (isClientAbortException(e)) {
+                log.info("클라이언트가 다운로드를 취소했습니다 (매니페스트 압축)");
+                return; // 정상 종료 처리
+            }
+            log.error("매니페스트 ZIP 스트리밍 실패", e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "파일 압축 실패: " + e.getMessage());
+        }
+    }
+
     /**
      * 여러 파일을 스트리밍 방식으로 ZIP 압축하여 OutputStream에 직접 작성
      *
@@ -76,6 +273,33 @@ public class StreamingZipUtil {
      * @throws BusinessException 압축 실패 시
      */
     public static void compressFilesToStream(OutputStream outputStream, List<ZipFileEntry> files) {
+        compressFilesToStream(outputStream, files, null);
+    }
+
+    /**
+     * 여러 파일을 스트리밍 방식으로 ZIP 압축 (병렬 압축 지원)
+     *
+     * @param outputStream 압축된 데이터를 쓸 출력 스트림
+     * @param files        압축할 파일 목록 (ZipFileEntry 리스트)
+     * @param executor     블록 병렬 압축 Executor (null이면 순차 압축)
+     * @throws BusinessException 압축 실패 시
+     */
+    public static void compressFilesToStream(OutputStream outputStream, List<ZipFileEntry> files,
+            @Nullable Executor executor) {
+        compressFilesToStream(outputStream, files, executor, ZipCompressionPolicy.DEFLATE_ALL);
+    }
+
+    /**
+     * 여러 파일을 스트리밍 방식으로 ZIP 압축 (병렬 압축, 엔트리별 압축 방식 지원)
+     *
+     * @param outputStream 압축된 데이터를 쓸 출력 스트림
+     * @param files        압축할 파일 목록 (ZipFileEntry 리스트)
+     * @param executor     블록 병렬 압축 Executor (null이면 순차 압축)
+     * @param policy       엔트리 압축 방식 정책 (null이면 모두 DEFLATED)
+     * @throws BusinessException 압축 실패 시
+     */
+    public static void compressFilesToStream(OutputStream outputStream, List<ZipFileEntry> files,
+            @Nullable Executor executor, @Nullable ZipCompressionPolicy policy) {
         if (files == null || files.isEmpty()) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
                     "압축할 파일이 없습니다");
@@ -83,11 +307,9 @@ public class StreamingZipUtil {
 
         int addedFileCount = 0;
         int missingFileCount = 0;
+        int storedFileCount = 0;
 
-        try (ZipOutputStream zos = new ZipOutputStream(outputStream)) {
-            // ZIP 압축 레벨 설정 (기본값 사용: 6)
-            // zos.setLevel(Deflater.DEFAULT_COMPRESSION);
-
+        try (ZipEntryWriter zipWriter = openWriter(outputStream, executor, policy)) {
             for (ZipFileEntry fileEntry : files) {
                 Path sourcePath = fileEntry.sourcePath();
 
@@ -107,18 +329,9 @@ public class StreamingZipUtil {
 
                 // ZIP 엔트리 생성 (경로 구분자를 슬래시로 통일)
                 String entryName = fileEntry.zipEntryPath().replace("\\", "/");
-                ZipEntry zipEntry = new ZipEntry(entryName);
-
-                // 파일 메타데이터 설정 (선택사항)
-                zipEntry.setTime(Files.getLastModifiedTime(sourcePath).toMillis());
-                zipEntry.setSize(Files.size(sourcePath));
-
-                zos.putNextEntry(zipEntry);
-
-                // 파일을 스트리밍 방식으로 복사 (버퍼 사용)
-                streamFileTo(sourcePath, zos);
-
-                zos.closeEntry();
+                if (zipWriter.addFile(entryName, sourcePath)) {
+                    storedFileCount++;
+                }
                 addedFileCount++;
 
                 log.debug("파일 추가: {} -> {} ({} bytes)",
@@ -137,11 +350,11 @@ public class StreamingZipUtil {
                         addedFileCount, files.size());
             }
 
-            // ZipOutputStream finish 호출 (필수)
-            zos.finish();
+            // 중앙 디렉토리 기록 (필수)
+            zipWriter.finish();
 
-            log.info("스트리밍 ZIP 압축 완료: {}개 파일 추가 (요청: {}개, 누락: {}개)",
-                    addedFileCount, files.size(), missingFileCount);
+            log.info("스트리밍 ZIP 압축 완료: {}개 파일 추가 (요청: {}개, 누락: {}개, 무압축 저장: {}개)",
+                    addedFileCount, files.size(), missingFileCount, storedFileCount);
 
         } catch (IOException e) {
             // 클라이언트가 연결을 끊은 경우 (다운로드 취소)
@@ -186,6 +399,33 @@ public class StreamingZipUtil {
      * @throws BusinessException 압축 실패 시
      */
     public static void compressDirectoryToStream(OutputStream outputStream, Path sourceDir) {
+        compressDirectoryToStream(outputStream, sourceDir, null);
+    }
+
+    /**
+     * 디렉토리 전체를 스트리밍 방식으로 압축 (병렬 압축 지원)
+     *
+     * @param outputStream 압축된 데이터를 쓸 출력 스트림
+     * @param sourceDir    압축할 디렉토리 경로
+     * @param executor     블록 병렬 압축 Executor (null이면 순차 압축)
+     * @throws BusinessException 압축 실패 시
+     */
+    public static void compressDirectoryToStream(OutputStream outputStream, Path sourceDir,
+            @Nullable Executor executor) {
+        compressDirectoryToStream(outputStream, sourceDir, executor, ZipCompressionPolicy.DEFLATE_ALL);
+    }
+
+    /**
+     * 디렉토리 전체를 스트리밍 방식으로 압축 (병렬 압축, 엔트리별 압축 방식 지원)
+     *
+     * @param outputStream 압축된 데이터를 쓸 출력 스트림
+     * @param sourceDir    압축할 디렉토리 경로
+     * @param executor     블록 병렬 압축 Executor (null이면 순차 압축)
+     * @param policy       엔트리 압축 방식 정책 (null이면 모두 DEFLATED)
+     * @throws BusinessException 압축 실패 시
+     */
+    public static void compressDirectoryToStream(OutputStream outputStream, Path sourceDir,
+            @Nullable Executor executor, @Nullable ZipCompressionPolicy policy) {
         if (!Files.exists(sourceDir)) {
             throw new BusinessException(ErrorCode.DATA_NOT_FOUND,
                     "압축할 디렉토리를 찾을 수 없습니다: " + sourceDir);
@@ -196,7 +436,7 @@ public class StreamingZipUtil {
                     "디렉토리가 아닙니다: " + sourceDir);
         }
 
-        try (ZipOutputStream zos = new ZipOutputStream(outputStream)) {
+        try (ZipEntryWriter zipWriter = openWriter(outputStream, executor, policy)) {
 
             Files.walk(sourceDir)
                     .filter(path -> !Files.isDirectory(path))
@@ -206,13 +446,7 @@ public class StreamingZipUtil {
                                     .toString()
                                     .replace("\\", "/");
 
-                            ZipEntry zipEntry = new ZipEntry(entryName);
-                            zipEntry.setTime(Files.getLastModifiedTime(path).toMillis());
-                            zipEntry.setSize(Files.size(path));
-
-                            zos.putNextEntry(zipEntry);
-                            streamFileTo(path, zos);
-                            zos.closeEntry();
+                            zipWriter.addFile(entryName, path);
 
                             log.debug("디렉토리 파일 추가: {} -> {}", path.getFileName(), entryName);
 
@@ -225,7 +459,7 @@ public class StreamingZipUtil {
                         }
                     });
 
-            zos.finish();
+            zipWriter.finish();
             log.info("디렉토리 스트리밍 압축 완료: {}", sourceDir);
 
         } catch (ClientAbortRuntimeException e) {
@@ -252,6 +486,115 @@ public class StreamingZipUtil {
         }
     }
 
+    /**
+     * Executor 유무에 따라 순차/병렬 ZIP 작성기 생성
+     */
+    private static ZipEntryWriter openWriter(OutputStream outputStream, @Nullable Executor executor,
+            @Nullable ZipCompressionPolicy policy) {
+        ZipCompressionPolicy resolvedPolicy = policy != null ? policy : ZipCompressionPolicy.DEFLATE_ALL;
+        if (executor == null) {
+            return new SequentialZipEntryWriter(new ZipOutputStream(outputStream), resolvedPolicy);
+        }
+        int parallelism = executor instanceof ForkJoinPool pool
+                ? pool.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        return new ParallelZipEntryWriter(new ParallelZipWriter(
+                outputStream, executor, parallelism * IN_FLIGHT_BLOCKS_PER_THREAD), resolvedPolicy);
+    }
+
+    /**
+     * 파일 CRC-32 계산 (STORED 엔트리는 로컬 헤더에 CRC가 필요)
+     */
+    private static long crc32(Path sourcePath) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream is = Files.newInputStream(sourcePath)) {
+            byte[] buffer = new byte[BUFFER_SIZE * 8];
+            int bytesRead;
+            while ((bytesRead = is.read(buffer)) != -1) {
+                crc.update(buffer, 0, bytesRead);
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * ZIP 엔트리 작성기 (순차/병렬 공통)
+     */
+    private interface ZipEntryWriter extends Closeable {
+
+        /**
+         * @return STORED로 저장했으면 true
+         */
+        boolean addFile(String entryName, Path sourcePath) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * ZipOutputStream 기반 순차 압축
+     */
+    private record SequentialZipEntryWriter(ZipOutputStream zos, ZipCompressionPolicy policy)
+            implements ZipEntryWriter {
+
+        @Override
+        public boolean addFile(String entryName, Path sourcePath) throws IOException {
+            ZipEntry zipEntry = new ZipEntry(entryName);
+            long fileSize = Files.size(sourcePath);
+            boolean stored = policy.shouldStore(sourcePath, fileSize);
+
+            // 파일 메타데이터 설정 (선택사항)
+            zipEntry.setTime(Files.getLastModifiedTime(sourcePath).toMillis());
+            zipEntry.setSize(fileSize);
+            if (stored) {
+                zipEntry.setMethod(ZipEntry.STORED);
+                zipEntry.setCompressedSize(fileSize);
+                zipEntry.setCrc(crc32(sourcePath));
+            }
+
+            zos.putNextEntry(zipEntry);
+
+            // 파일을 스트리밍 방식으로 복사 (버퍼 사용)
+            streamFileTo(sourcePath, zos);
+
+            zos.closeEntry();
+            return stored;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            zos.finish();
+        }
+
+        @Override
+        public void close() throws IOException {
+            zos.close();
+        }
+    }
+
+    /**
+     * ParallelZipWriter 기반 블록 병렬 압축
+     */
+    private record ParallelZipEntryWriter(ParallelZipWriter writer, ZipCompressionPolicy policy)
+            implements ZipEntryWriter {
+
+        @Override
+        public boolean addFile(String entryName, Path sourcePath) throws IOException {
+            boolean stored = policy.shouldStore(sourcePath, Files.size(sourcePath));
+            writer.addFile(entryName, sourcePath, Files.getLastModifiedTime(sourcePath).toMillis(), stored);
+            return stored;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.finish();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
     /**
      * 클라이언트 연결 끊김을 표시하는 내부 RuntimeException
      *
@@ -0,0 +1,138 @@
+package com.ts.rm.global.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+
+/**
+ * ZIP 엔트리 압축 방식 결정 정책
+ *
+ * <p>JAR, WAR, ZIP, GZ, PNG, WOFF2 등 이미 압축된 파일은 다시 Deflate해도 크기가 거의 줄지 않고
+ * CPU만 소모하므로 STORED(무압축)로 저장합니다.
+ * <ul>
+ *   <li>{@link #DEFLATE_ALL}: 모든 엔트리 DEFLATED (기존 동작)
+ *   <li>{@link #AUTO}: 확장자로 먼저 판별하고, 판별되지 않으면 첫 블록 샘플로 판별
+ *       (바이트 엔트로피가 높은 경우에만 빠른 압축(level 1)을 시험하여 압축률 확인)
+ *   <li>{@link #STORE_ALL}: 모든 엔트리 STORED
+ * </ul>
+ */
+public enum ZipCompressionPolicy {
+
+    DEFLATE_ALL,
+    AUTO,
+    STORE_ALL;
+
+    /**
+     * 이미 압축된 형식으로 간주하는 확장자
+     */
+    private static final Set<String> COMPRESSED_EXTENSIONS = Set.of(
+            // 아카이브
+            "zip", "jar", "war", "ear", "gz", "tgz", "bz2", "xz", "7z", "rar", "zst", "lz4",
+            // 이미지/폰트/미디어
+            "png", "jpg", "jpeg", "gif", "webp", "ico", "woff", "woff2", "mp3", "mp4", "avi", "mov",
+            // ZIP 기반 문서
+            "docx", "xlsx", "pptx", "hwpx", "apk");
+
+    /**
+     * 엔트로피 샘플 크기 (첫 블록)
+     */
+    private static final int SAMPLE_SIZE = ParallelZipWriter.BLOCK_SIZE;
+
+    /**
+     * 샘플 판별을 시도할 최소 파일 크기 (작은 파일은 샘플이 부정확하고 압축 비용도 작음)
+     */
+    private static final long MIN_SAMPLE_FILE_SIZE = 4 * 1024;
+
+    /**
+     * 시험 압축을 수행할 바이트 엔트로피 기준 (bits/byte, 최대 8)
+     *
+     * <p>엔트로피가 낮으면 확실히 압축되므로 시험 압축을 생략합니다. 엔트로피가 높아도 반복 패턴은
+     * 잘 압축되므로 엔트로피만으로 STORED를 결정하지 않습니다.
+     */
+    private static final double HIGH_ENTROPY = 7.5;
+
+    /**
+     * STORED로 판단할 시험 압축 비율 (압축 후 크기 / 원본 크기)
+     */
+    private static final double INCOMPRESSIBLE_RATIO = 0.9;
+
+    /**
+     * 파일을 STORED로 저장할지 판별
+     *
+     * @param file     원본 파일
+     * @param fileSize 파일 크기 (bytes)
+     * @return STORED로 저장해야 하면 true
+     * @throws IOException 샘플 읽기 실패 시
+     */
+    public boolean shouldStore(Path file, long fileSize) throws IOException {
+        return switch (this) {
+            case DEFLATE_ALL -> false;
+            case STORE_ALL -> true;
+            case AUTO -> hasCompressedExtension(file)
+                    || (fileSize >= MIN_SAMPLE_FILE_SIZE && isIncompressibleSample(file));
+        };
+    }
+
+    static boolean hasCompressedExtension(Path file) {
+        String fileName = file.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        return dot >= 0 && COMPRESSED_EXTENSIONS.contains(fileName.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 첫 블록 샘플이 압축되지 않는지 확인 (엔트로피 → 시험 압축)
+     */
+    static boolean isIncompressibleSample(Path file) throws IOException {
+        byte[] sample;
+        try (InputStream is = Files.newInputStream(file)) {
+            sample = is.readNBytes(SAMPLE_SIZE);
+        }
+        if (entropy(sample) < HIGH_ENTROPY) {
+            return false;
+        }
+        return deflatedSize(sample) >= sample.length * INCOMPRESSIBLE_RATIO;
+    }
+
+    /**
+     * 가장 빠른 압축 레벨로 압축했을 때의 크기
+     */
+    static long deflatedSize(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            byte[] buffer = new byte[16 * 1024];
+            while (!deflater.finished()) {
+                deflater.deflate(buffer);
+            }
+            return deflater.getBytesWritten();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 바이트 분포 Shannon 엔트로피 (bits/byte)
+     */
+    static double entropy(byte[] data) {
+        if (data.length == 0) {
+            return 0;
+        }
+        int[] counts = new int[256];
+        for (byte b : data) {
+            counts[b & 0xFF]++;
+        }
+        double entropy = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                double p = (double) count / data.length;
+                entropy -= p * (Math.log(p) / Math.log(2));
+            }
+        }
+        return entropy;
+    }
+}
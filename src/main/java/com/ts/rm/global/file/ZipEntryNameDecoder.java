@@ -0,0 +1,213 @@
+package com.ts.rm.global.file;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * ZIP 엔트리명 문자셋 판별 유틸리티
+ *
+ * <p>ZIP 중앙 디렉토리(Central Directory)를 직접 읽어 엔트리별 원본 파일명 바이트와
+ * UTF-8 플래그(general purpose bit 11)를 확인하고, 엔트리마다 문자셋을 판별합니다.
+ *
+ * <ul>
+ *   <li>UTF-8 플래그가 설정된 엔트리: UTF-8
+ *   <li>플래그가 없고 UTF-8로 올바르게 디코딩되는 엔트리: UTF-8 (macOS/Linux에서 생성된 ZIP)
+ *   <li>그 외: MS949 (Windows 탐색기에서 생성된 한글 파일명 ZIP)
+ * </ul>
+ *
+ * <p>{@link java.util.zip.ZipFile}을 {@link #ZIP_FILE_CHARSET}(ISO-8859-1)로 열면 플래그가 없는 엔트리명은
+ * 원본 바이트가 1:1로 보존되므로, {@link #decodeEntryNames(Path)}가 반환하는 맵의 키와 일치합니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ZipEntryNameDecoder {
+
+    /**
+     * 엔트리명 매칭을 위해 ZipFile을 열 때 사용할 문자셋 (바이트 손실 없음)
+     */
+    public static final Charset ZIP_FILE_CHARSET = StandardCharsets.ISO_8859_1;
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_EOCD_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_EOCD_SIGNATURE = 0x06064b50;
+    private static final int CEN_SIGNATURE = 0x02014b50;
+
+    private static final int EOCD_MIN_SIZE = 22;
+    private static final int ZIP64_EOCD_LOCATOR_SIZE = 20;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int CEN_HEADER_SIZE = 46;
+    private static final int UTF8_FLAG = 0x0800;
+
+    /**
+     * ZIP 파일의 엔트리명을 엔트리별 문자셋으로 디코딩
+     *
+     * @param zipPath ZIP 파일 경로
+     * @return {@link #ZIP_FILE_CHARSET}로 연 ZipFile의 엔트리명 → 디코딩된 엔트리명
+     * @throws IOException 읽기 실패 또는 올바르지 않은 ZIP 형식
+     */
+    public static Map<String, String> decodeEntryNames(Path zipPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(zipPath, StandardOpenOption.READ)) {
+            CentralDirectory cen = locateCentralDirectory(channel);
+
+            Map<String, String> names = new HashMap<>();
+            channel.position(cen.offset());
+            DataInputStream in = new DataInputStream(new BufferedInputStream(
+                    Channels.newInputStream(channel), 64 * 1024));
+
+            byte[] header = new byte[CEN_HEADER_SIZE];
+            ByteBuffer headerBuffer = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+            for (long i = 0; i < cen.entryCount(); i++) {
+                in.readFully(header);
+                if (headerBuffer.getInt(0) != CEN_SIGNATURE) {
+                    throw new ZipException("올바르지 않은 중앙 디렉토리 헤더입니다");
+                }
+                int flags = Short.toUnsignedInt(headerBuffer.getShort(8));
+                int nameLength = Short.toUnsignedInt(headerBuffer.getShort(28));
+                int extraLength = Short.toUnsignedInt(headerBuffer.getShort(30));
+                int commentLength = Short.toUnsignedInt(headerBuffer.getShort(32));
+
+                byte[] rawName = new byte[nameLength];
+                in.readFully(rawName);
+                skipFully(in, extraLength + commentLength);
+
+                boolean utf8Flag = (flags & UTF8_FLAG) != 0;
+                String key = utf8Flag
+                        ? new String(rawName, StandardCharsets.UTF_8)
+                        : new String(rawName, ZIP_FILE_CHARSET);
+                names.put(key, utf8Flag ? key : decodeName(rawName));
+            }
+            return names;
+        }
+    }
+
+    /**
+     * UTF-8 플래그가 없는 엔트리명 디코딩 (UTF-8 → MS949)
+     *
+     * @param rawName 원본 엔트리명 바이트
+     * @return 디코딩된 엔트리명
+     */
+    public static String decodeName(byte[] rawName) {
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(rawName))
+                    .toString();
+        } catch (CharacterCodingException e) {
+            return new String(rawName, MS949);
+        }
+    }
+
+    /**
+     * EOCD(End of Central Directory) 레코드를 찾아 중앙 디렉토리 위치 계산
+     *
+     * <p>ZIP 앞에 다른 데이터가 붙은 경우(자동 압축 해제 파일 등)를 고려해
+     * 기록된 오프셋 대신 EOCD 위치 - 중앙 디렉토리 크기로 계산합니다.
+     */
+    private static CentralDirectory locateCentralDirectory(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < EOCD_MIN_SIZE) {
+            throw new ZipException("ZIP 파일이 너무 작습니다");
+        }
+
+        int tailSize = (int) Math.min(fileSize, EOCD_MIN_SIZE + MAX_COMMENT_SIZE);
+        long tailStart = fileSize - tailSize;
+        ByteBuffer tail = readAt(channel, tailStart, tailSize);
+
+        for (int pos = tailSize - EOCD_MIN_SIZE; pos >= 0; pos--) {
+            if (tail.getInt(pos) != EOCD_SIGNATURE) {
+                continue;
+            }
+            int commentLength = Short.toUnsignedInt(tail.getShort(pos + 20));
+            if (pos + EOCD_MIN_SIZE + commentLength != tailSize) {
+                continue;
+            }
+
+            long eocdPosition = tailStart + pos;
+            long entryCount = Short.toUnsignedInt(tail.getShort(pos + 10));
+            long cenSize = Integer.toUnsignedLong(tail.getInt(pos + 12));
+            long cenOffset = Integer.toUnsignedLong(tail.getInt(pos + 16));
+
+            if (entryCount == 0xFFFF || cenSize == 0xFFFFFFFFL || cenOffset == 0xFFFFFFFFL) {
+                CentralDirectory zip64 = readZip64CentralDirectory(channel, eocdPosition);
+                if (zip64 != null) {
+                    return zip64;
+                }
+            }
+            return new CentralDirectory(eocdPosition - cenSize, entryCount);
+        }
+
+        throw new ZipException("ZIP 파일의 중앙 디렉토리를 찾을 수 없습니다");
+    }
+
+    /**
+     * ZIP64 EOCD 레코드에서 중앙 디렉토리 위치 계산
+     */
+    private static CentralDirectory readZip64CentralDirectory(FileChannel channel, long eocdPosition)
+            throws IOException {
+        long locatorPosition = eocdPosition - ZIP64_EOCD_LOCATOR_SIZE;
+        if (locatorPosition < 0) {
+            return null;
+        }
+        ByteBuffer locator = readAt(channel, locatorPosition, ZIP64_EOCD_LOCATOR_SIZE);
+        if (locator.getInt(0) != ZIP64_EOCD_LOCATOR_SIGNATURE) {
+            return null;
+        }
+
+        long zip64EocdPosition = locator.getLong(8);
+        ByteBuffer zip64Eocd = readAt(channel, zip64EocdPosition, 56);
+        if (zip64Eocd.getInt(0) != ZIP64_EOCD_SIGNATURE) {
+            throw new ZipException("올바르지 않은 ZIP64 EOCD 레코드입니다");
+        }
+
+        long entryCount = zip64Eocd.getLong(32);
+        long cenSize = zip64Eocd.getLong(40);
+        return new CentralDirectory(zip64EocdPosition - cenSize, entryCount);
+    }
+
+    private static ByteBuffer readAt(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("ZIP 파일을 끝까지 읽을 수 없습니다");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void skipFully(InputStream in, long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                if (in.read() < 0) {
+                    throw new EOFException("ZIP 중앙 디렉토리를 끝까지 읽을 수 없습니다");
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+    private record CentralDirectory(long offset, long entryCount) {
+    }
+}
@@ -2,26 +2,45 @@ package com.ts.rm.global.file;
 
 import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
+import com.ts.rm.global.file.FileChecksumUtil.ChecksumResult;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.multipart.MultipartFile;
 
 /**
  * ZIP 파일 압축 해제 유틸리티
  *
- * <p>한글 파일명 인코딩 문제를 해결하기 위해 UTF-8 → MS949 fallback 전략 적용
+ * <p>업로드된 ZIP을 임시 파일로 한 번만 저장(Tomcat multipart 임시 파일은 이동)한 뒤
+ * 랜덤 액세스 {@link ZipFile}로 압축 해제합니다. 아카이브 크기와 무관하게 메모리 사용량이 일정합니다.
+ *
+ * <p>한글 파일명 인코딩 문제는 엔트리별로 문자셋을 판별하여 해결합니다 ({@link ZipEntryNameDecoder}).
+ *
+ * <p>대용량 릴리즈 ZIP은 {@link #extractParallel(Path, Path, long, Executor)}로 엔트리 압축 해제와
+ * SHA-256 계산을 병렬로 수행할 수 있습니다.
  *
  * <ul>
  *   <li>UTF-8: macOS/Linux에서 생성된 ZIP 파일
@@ -31,10 +50,10 @@ import lombok.extern.slf4j.Slf4j;
  * <p>사용 예시:
  * <pre>{@code
  * // 기본 압축 해제
- * List<ExtractedFileInfo> files = ZipExtractUtil.extract(zipFile.getInputStream(), targetDir);
+ * List<ExtractedFileInfo> files = ZipExtractUtil.extract(zipFile, targetDir);
  *
  * // 커스텀 처리가 필요한 경우
- * ZipExtractUtil.extractWithCallback(zipFile.getInputStream(), targetDir, (entry, filePath) -> {
+ * ZipExtractUtil.extractWithCallback(zipFile, targetDir, (entry, filePath) -> {
  *     // 파일별 추가 처리
  * });
  * }</pre>
@@ -43,7 +62,22 @@ import lombok.extern.slf4j.Slf4j;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ZipExtractUtil {
 
-    private static final Charset MS949 = Charset.forName("MS949");
+    private static final String SPOOL_DIRECTORY_PREFIX = "zip-extract-";
+    private static final String SPOOL_FILE_NAME = "upload.zip";
+
+    /**
+     * 업로드된 ZIP 파일을 지정된 디렉토리에 압축 해제
+     *
+     * @param zipFile   업로드된 ZIP 파일
+     * @param targetDir 압축 해제할 대상 디렉토리
+     * @return 압축 해제된 파일 정보 목록
+     * @throws BusinessException 압축 해제 실패 시
+     */
+    public static List<ExtractedFileInfo> extract(MultipartFile zipFile, Path targetDir) {
+        List<ExtractedFileInfo> result = new ArrayList<>();
+        extractWithCallback(zipFile, targetDir, collectTo(result));
+        return result;
+    }
 
     /**
      * ZIP 파일을 지정된 디렉토리에 압축 해제
@@ -55,31 +89,44 @@ public final class ZipExtractUtil {
      */
     public static List<ExtractedFileInfo> extract(InputStream inputStream, Path targetDir) {
         List<ExtractedFileInfo> result = new ArrayList<>();
-        extractWithCallback(inputStream, targetDir, (entry, filePath) -> {
+        extractWithCallback(inputStream, targetDir, collectTo(result));
+        return result;
+    }
+
+    /**
+     * 업로드된 ZIP 파일을 압축 해제하면서 각 파일에 대해 콜백 실행
+     *
+     * <p>multipart 임시 파일을 스풀 위치로 이동(불가 시 복사)하여 사용합니다.
+     *
+     * @param zipFile      업로드된 ZIP 파일
+     * @param targetDir    압축 해제할 대상 디렉토리
+     * @param fileCallback 각 파일 압축 해제 후 실행할 콜백 (ZipEntry, Path)
+     * @throws BusinessException 압축 해제 실패 시
+     */
+    public static void extractWithCallback(
+            MultipartFile zipFile, Path targetDir, BiConsumer<ZipEntry, Path> fileCallback) {
+
+        Path spoolDir = createSpoolDirectory();
+        try {
+            Path spooledZip = spoolDir.resolve(SPOOL_FILE_NAME);
             try {
-                long fileSize = Files.size(filePath);
-                result.add(new ExtractedFileInfo(
-                        filePath.getFileName().toString(),
-                        entry.getName(),
-                        filePath,
-                        fileSize
-                ));
+                // File 기반 transferTo는 Tomcat multipart 임시 파일을 복사 없이 이동(rename)
+                zipFile.transferTo(spooledZip.toFile());
             } catch (IOException e) {
-                log.warn("파일 크기 조회 실패: {}", filePath, e);
-                result.add(new ExtractedFileInfo(
-                        filePath.getFileName().toString(),
-                        entry.getName(),
-                        filePath,
-                        0L
-                ));
+                throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED,
+                        "ZIP 파일 읽기 실패: " + e.getMessage());
             }
-        });
-        return result;
+            extractWithCallback(spooledZip, targetDir, fileCallback);
+        } finally {
+            deleteSpoolDirectory(spoolDir);
+        }
     }
 
     /**
      * ZIP 파일을 압축 해제하면서 각 파일에 대해 콜백 실행
      *
+     * <p>입력 스트림은 임시 파일로 한 번만 스풀링됩니다.
+     *
      * @param inputStream  ZIP 파일 입력 스트림
      * @param targetDir    압축 해제할 대상 디렉토리
      * @param fileCallback 각 파일 압축 해제 후 실행할 콜백 (ZipEntry, Path)
@@ -88,75 +135,130 @@ public final class ZipExtractUtil {
     public static void extractWithCallback(
             InputStream inputStream, Path targetDir, BiConsumer<ZipEntry, Path> fileCallback) {
 
-        // 입력 스트림을 재사용하기 위해 바이트 배열로 복사
-        byte[] zipBytes;
+        Path spoolDir = createSpoolDirectory();
         try {
-            zipBytes = inputStream.readAllBytes();
-        } catch (IOException e) {
-            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED,
-                    "ZIP 파일 읽기 실패: " + e.getMessage());
-        }
-
-        // UTF-8로 먼저 시도
-        try {
-            extractWithCharset(zipBytes, targetDir, StandardCharsets.UTF_8, fileCallback);
-            return;
-        } catch (BusinessException e) {
-            if (isMalformedInputError(e)) {
-                log.info("UTF-8 인코딩 실패, MS949로 재시도합니다.");
-            } else {
-                throw e;
-            }
-        } catch (IllegalArgumentException e) {
-            if (isMalformedInputError(e)) {
-                log.info("UTF-8 인코딩 실패 (IllegalArgumentException), MS949로 재시도합니다.");
-            } else {
+            Path spooledZip = spoolDir.resolve(SPOOL_FILE_NAME);
+            try {
+                Files.copy(inputStream, spooledZip, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
                 throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED,
-                        "ZIP 파일 압축 해제 실패: " + e.getMessage());
+                        "ZIP 파일 읽기 실패: " + e.getMessage());
             }
+            extractWithCallback(spooledZip, targetDir, fileCallback);
+        } finally {
+            deleteSpoolDirectory(spoolDir);
         }
+    }
+
+    /**
+     * 디스크의 ZIP 파일을 압축 해제하면서 각 파일에 대해 콜백 실행
+     *
+     * <p>콜백에 전달되는 ZipEntry의 이름은 엔트리별로 판별된 문자셋으로 디코딩된 값입니다.
+     *
+     * @param zipPath      ZIP 파일 경로
+     * @param targetDir    압축 해제할 대상 디렉토리
+     * @param fileCallback 각 파일 압축 해제 후 실행할 콜백 (ZipEntry, Path)
+     * @throws BusinessException 압축 해제 실패 시
+     */
+    public static void extractWithCallback(
+            Path zipPath, Path targetDir, BiConsumer<ZipEntry, Path> fileCallback) {
 
-        // MS949로 재시도
         try {
-            extractWithCharset(zipBytes, targetDir, MS949, fileCallback);
-        } catch (IllegalArgumentException e) {
+            Map<String, String> decodedNames = ZipEntryNameDecoder.decodeEntryNames(zipPath);
+
+            try (ZipFile zip = new ZipFile(zipPath.toFile(), ZipEntryNameDecoder.ZIP_FILE_CHARSET)) {
+                Enumeration<? extends ZipEntry> entries = zip.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry rawEntry = entries.nextElement();
+                    String entryName = decodedNames.getOrDefault(rawEntry.getName(), rawEntry.getName());
+
+                    // 경로 탐색 공격 방지 (Zip Slip)
+                    Path targetPath = resolveEntryPath(targetDir, entryName);
+
+                    if (rawEntry.isDirectory()) {
+                        Files.createDirectories(targetPath);
+                        continue;
+                    }
+
+                    Files.createDirectories(targetPath.getParent());
+                    try (InputStream is = zip.getInputStream(rawEntry)) {
+                        Files.copy(is, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                    }
+
+                    if (fileCallback != null) {
+                        fileCallback.accept(renameEntry(rawEntry, entryName), targetPath);
+                    }
+                }
+            }
+        } catch (IOException e) {
             throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED,
-                    "ZIP 파일 압축 해제 실패 (인코딩 오류): " + e.getMessage());
+                    "ZIP 파일 압축 해제 실패: " + e.getMessage());
         }
     }
 
     /**
-     * 지정된 문자셋으로 ZIP 파일 압축 해제
+     * ZIP 파일 병렬 압축 해제 (압축 해제와 동시에 체크섬 계산)
+     *
+     * <p>중앙 디렉토리를 먼저 읽어 경로 검증(Zip Slip)과 선언 크기 기반 ZIP 폭탄 검사를 마친 뒤,
+     * 각 엔트리의 압축 해제와 SHA-256 계산을 executor에서 병렬로 수행합니다.
+     * 실제 압축 해제 바이트도 누적 집계하여 선언 크기를 속인 ZIP도 차단합니다.
+     *
+     * @param zipPath      ZIP 파일 경로
+     * @param targetDir    압축 해제할 대상 디렉토리
+     * @param maxTotalSize 압축 해제 후 허용 최대 총 크기 (bytes)
+     * @param executor     압축 해제 작업을 실행할 Executor (병렬도 제한된 풀)
+     * @return 압축 해제된 파일 목록 (중앙 디렉토리 순서)
+     * @throws BusinessException 압축 해제 실패, 경로 검증 실패, 크기 초과 시
      */
-    private static void extractWithCharset(
-            byte[] zipBytes, Path targetDir, Charset charset, BiConsumer<ZipEntry, Path> fileCallback) {
+    public static List<ExtractedEntry> extractParallel(
+            Path zipPath, Path targetDir, long maxTotalSize, Executor executor) {
 
-        try (ZipInputStream zis = new ZipInputStream(
-                new java.io.ByteArrayInputStream(zipBytes), charset)) {
+        try (ZipFile zip = new ZipFile(zipPath.toFile(), ZipEntryNameDecoder.ZIP_FILE_CHARSET)) {
+            Map<String, String> decodedNames = ZipEntryNameDecoder.decodeEntryNames(zipPath);
 
-            ZipEntry entry;
-            while ((entry = zis.getNextEntry()) != null) {
-                String entryName = entry.getName();
+            // 1. 중앙 디렉토리 순회: 경로 검증, 선언 크기 집계, 디렉토리 생성 (같은 경로는 마지막 엔트리 사용)
+            Map<Path, PendingEntry> pendingEntries = new LinkedHashMap<>();
+            long declaredTotalSize = 0;
 
-                // 경로 탐색 공격 방지 (Zip Slip)
-                Path targetPath = targetDir.resolve(entryName).normalize();
-                if (!targetPath.startsWith(targetDir)) {
-                    throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
-                            "유효하지 않은 ZIP 파일 경로입니다: " + entryName);
-                }
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry rawEntry = entries.nextElement();
+                String entryName = decodedNames.getOrDefault(rawEntry.getName(), rawEntry.getName());
+                Path targetPath = resolveEntryPath(targetDir, entryName);
 
-                if (entry.isDirectory()) {
+                if (rawEntry.isDirectory()) {
                     Files.createDirectories(targetPath);
-                } else {
-                    Files.createDirectories(targetPath.getParent());
-                    Files.copy(zis, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                    continue;
+                }
 
-                    if (fileCallback != null) {
-                        fileCallback.accept(entry, targetPath);
-                    }
+                // 파일 크기 누적 확인 (ZIP 폭탄 방지)
+                declaredTotalSize += Math.max(rawEntry.getSize(), 0);
+                if (declaredTotalSize > maxTotalSize) {
+                    throw exceedsMaxTotalSize(maxTotalSize);
                 }
-                zis.closeEntry();
+
+                Files.createDirectories(targetPath.getParent());
+                pendingEntries.put(targetPath, new PendingEntry(rawEntry, entryName, targetPath));
             }
+
+            // 2. 엔트리별 압축 해제 + 체크섬 계산 병렬 실행
+            AtomicLong inflatedTotalSize = new AtomicLong();
+            AtomicBoolean aborted = new AtomicBoolean(false);
+
+            List<CompletableFuture<ExtractedEntry>> futures = pendingEntries.values().stream()
+                    .map(pending -> CompletableFuture.supplyAsync(
+                            () -> inflateEntry(zip, pending, inflatedTotalSize, maxTotalSize, aborted),
+                            executor))
+                    .toList();
+
+            try {
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            } catch (CompletionException e) {
+                throw resolveFailure(futures, e);
+            }
+
+            return futures.stream().map(CompletableFuture::join).toList();
+
         } catch (IOException e) {
             throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED,
                     "ZIP 파일 압축 해제 실패: " + e.getMessage());
@@ -164,11 +266,209 @@ public final class ZipExtractUtil {
     }
 
     /**
-     * 인코딩 오류인지 확인
+     * 단일 엔트리 압축 해제 및 체크섬 계산 (워커 스레드에서 실행)
      */
-    private static boolean isMalformedInputError(Exception e) {
-        String message = e.getMessage();
-        return message != null && message.contains("malformed input");
+    private static ExtractedEntry inflateEntry(ZipFile zip, PendingEntry pending,
+            AtomicLong inflatedTotalSize, long maxTotalSize, AtomicBoolean aborted) {
+        if (aborted.get()) {
+            throw new CancellationException("다른 엔트리 처리 실패로 중단되었습니다");
+        }
+
+        try (InputStream is = new SizeLimitedInputStream(
+                zip.getInputStream(pending.entry()), inflatedTotalSize, maxTotalSize, aborted)) {
+            ChecksumResult result = FileChecksumUtil.copyWithChecksum(is, pending.targetPath());
+            return new ExtractedEntry(pending.entryName(), pending.targetPath(),
+                    result.size(), result.checksum());
+
+        } catch (IOException e) {
+            aborted.set(true);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            aborted.set(true);
+            throw e;
+        }
+    }
+
+    /**
+     * 병렬 작업 실패 원인 확인 (중단으로 인한 CancellationException보다 실제 원인 우선)
+     */
+    private static RuntimeException resolveFailure(
+            List<CompletableFuture<ExtractedEntry>> futures, CompletionException fallback) {
+        Throwable cause = null;
+        for (CompletableFuture<ExtractedEntry> future : futures) {
+            if (!future.isCompletedExceptionally()) {
+                continue;
+            }
+            try {
+                future.join();
+            } catch (CompletionException | CancellationException e) {
+                Throwable candidate = e instanceof CompletionException && e.getCause() != null
+                        ? e.getCause() : e;
+                if (!(candidate instanceof CancellationException)) {
+                    cause = candidate;
+                    break;
+                }
+            }
+        }
+        if (cause == null) {
+            cause = fallback.getCause() != null ? fallback.getCause() : fallback;
+        }
+
+        if (cause instanceof BusinessException businessException) {
+            return businessException;
+        }
+        return new BusinessException(ErrorCode.FILE_UPLOAD_FAILED,
+                "ZIP 파일 압축 해제 실패: " + cause.getMessage());
+    }
+
+    private static BusinessException exceedsMaxTotalSize(long maxTotalSize) {
+        return new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "압축 해제 후 파일 크기가 너무 큽니다 (최대 " + FileSizeUtil.formatBytes(maxTotalSize) + ")");
+    }
+
+    /**
+     * 엔트리 대상 경로 계산 및 Zip Slip 검증
+     *
+     * @param targetDir 압축 해제 대상 디렉토리
+     * @param entryName 디코딩된 엔트리명
+     * @return 정규화된 대상 경로
+     * @throws BusinessException 대상 디렉토리를 벗어나는 경로인 경우
+     */
+    public static Path resolveEntryPath(Path targetDir, String entryName) {
+        Path normalizedTargetDir = targetDir.normalize();
+        Path targetPath = normalizedTargetDir.resolve(entryName).normalize();
+        if (!targetPath.startsWith(normalizedTargetDir)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "유효하지 않은 ZIP 파일 경로입니다: " + entryName);
+        }
+        return targetPath;
+    }
+
+    /**
+     * 디코딩된 이름으로 ZipEntry 복사본 생성
+     */
+    private static ZipEntry renameEntry(ZipEntry source, String name) {
+        if (source.getName().equals(name)) {
+            return source;
+        }
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(source.getMethod());
+        entry.setTime(source.getTime());
+        if (source.getSize() >= 0) {
+            entry.setSize(source.getSize());
+        }
+        if (source.getCompressedSize() >= 0) {
+            entry.setCompressedSize(source.getCompressedSize());
+        }
+        if (source.getCrc() >= 0) {
+            entry.setCrc(source.getCrc());
+        }
+        return entry;
+    }
+
+    private static BiConsumer<ZipEntry, Path> collectTo(List<ExtractedFileInfo> result) {
+        return (entry, filePath) -> {
+            long fileSize;
+            try {
+                fileSize = Files.size(filePath);
+            } catch (IOException e) {
+                log.warn("파일 크기 조회 실패: {}", filePath, e);
+                fileSize = 0L;
+            }
+            result.add(new ExtractedFileInfo(
+                    filePath.getFileName().toString(),
+                    entry.getName(),
+                    filePath,
+                    fileSize
+            ));
+        };
+    }
+
+    private static Path createSpoolDirectory() {
+        try {
+            return Files.createTempDirectory(SPOOL_DIRECTORY_PREFIX);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED,
+                    "ZIP 임시 디렉토리 생성 실패: " + e.getMessage());
+        }
+    }
+
+    private static void deleteSpoolDirectory(Path spoolDir) {
+        try (Stream<Path> paths = Files.walk(spoolDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("ZIP 임시 파일 삭제 실패: {}", path, e);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("ZIP 임시 디렉토리 정리 실패: {}", spoolDir, e);
+        }
+    }
+
+    /**
+     * 전체 압축 해제 바이트를 집계하여 최대 크기 초과 시 중단하는 스트림
+     */
+    private static final class SizeLimitedInputStream extends FilterInputStream {
+
+        private final AtomicLong totalSize;
+        private final long maxTotalSize;
+        private final AtomicBoolean aborted;
+
+        private SizeLimitedInputStream(InputStream in, AtomicLong totalSize, long maxTotalSize,
+                AtomicBoolean aborted) {
+            super(in);
+            this.totalSize = totalSize;
+            this.maxTotalSize = maxTotalSize;
+            this.aborted = aborted;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                account(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count > 0) {
+                account(count);
+            }
+            return count;
+        }
+
+        private void account(int count) {
+            if (aborted.get()) {
+                throw new CancellationException("다른 엔트리 처리 실패로 중단되었습니다");
+            }
+            if (totalSize.addAndGet(count) > maxTotalSize) {
+                throw exceedsMaxTotalSize(maxTotalSize);
+            }
+        }
+    }
+
+    private record PendingEntry(ZipEntry entry, String entryName, Path targetPath) {
+    }
+
+    /**
+     * 병렬 압축 해제된 파일 정보
+     *
+     * @param entryName    ZIP 내부 상대 경로 (디코딩된 엔트리명)
+     * @param absolutePath 압축 해제된 절대 경로
+     * @param fileSize     파일 크기 (bytes)
+     * @param checksum     SHA-256 체크섬
+     */
+    public record ExtractedEntry(
+            String entryName,
+            Path absolutePath,
+            long fileSize,
+            String checksum
+    ) {
     }
 
     /**
@@ -155,6 +155,12 @@ public class ApiLoggingFilter extends OncePerRequestFilter {
       return true;
     }
 
+    // 분할 업로드 청크 전송 제외 (대용량 요청 - OOM 방지)
+    // PUT /api/uploads/{uploadId}/chunks/{chunkIndex}
+    if (path.contains("/chunks/")) {
+      return true;
+    }
+
     return false;
   }
 }
@@ -133,6 +133,11 @@ public class ApiLogPersistenceFilter extends OncePerRequestFilter {
             return true;
         }
 
+        // 분할 업로드 청크 전송 (대용량 요청 본문)
+        if (uri.contains("/chunks/")) {
+            return true;
+        }
+
         // suffix 매칭 (대용량 파일 다운로드 API)
         return EXCLUDE_PATH_SUFFIXES.stream().anyMatch(uri::endsWith);
     }
@@ -0,0 +1,41 @@
+-- =========================================================
+-- V5: 재개 가능한 분할 업로드 세션
+-- =========================================================
+-- 1. upload_session: 업로드 세션 (미리 할당된 업로드 파일 정보, 만료 시각)
+-- 2. upload_chunk: 체크섬 검증 후 수신 완료된 청크
+-- =========================================================
+
+-- ---------------------------------------------------------
+-- 업로드 세션
+-- ---------------------------------------------------------
+CREATE TABLE IF NOT EXISTS upload_session (
+    upload_id VARCHAR(36) PRIMARY KEY COMMENT '업로드 ID (UUID)',
+    file_name VARCHAR(255) NOT NULL COMMENT '원본 파일명',
+    total_size BIGINT NOT NULL COMMENT '전체 파일 크기 (bytes)',
+    chunk_size INT NOT NULL COMMENT '청크 크기 (bytes, 마지막 청크 제외)',
+    total_chunks INT NOT NULL COMMENT '전체 청크 수',
+    created_by_email VARCHAR(100) NOT NULL COMMENT '업로드 사용자 이메일',
+    expires_at DATETIME NOT NULL COMMENT '만료 시각 (청크 수신 시 연장)',
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+
+    INDEX idx_us_expires_at (expires_at),
+    INDEX idx_us_created_by_email (created_by_email)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='분할 업로드 세션';
+
+-- ---------------------------------------------------------
+-- 업로드 청크
+-- ---------------------------------------------------------
+CREATE TABLE IF NOT EXISTS upload_chunk (
+    upload_chunk_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '청크 ID',
+    upload_id VARCHAR(36) NOT NULL COMMENT '업로드 ID',
+    chunk_index INT NOT NULL COMMENT '청크 인덱스 (0부터 시작)',
+    chunk_size INT NOT NULL COMMENT '청크 크기 (bytes)',
+    checksum VARCHAR(64) NOT NULL COMMENT '청크 SHA-256 체크섬',
+    received_at DATETIME NOT NULL COMMENT '수신 시각',
+
+    UNIQUE INDEX uk_uc_upload_chunk (upload_id, chunk_index),
+
+    CONSTRAINT fk_upload_chunk_session FOREIGN KEY (upload_id)
+        REFERENCES upload_session(upload_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='분할 업로드 수신 청크';
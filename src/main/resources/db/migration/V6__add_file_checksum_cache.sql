@@ -0,0 +1,18 @@
+-- =========================================================
+-- V6: 파일 동기화 체크섬 캐시
+-- =========================================================
+-- 1. file_checksum_cache: 파일 경로별 마지막 체크섬 계산 결과
+--    (크기, 수정 시각, 파일 키(inode)가 모두 같으면 다시 계산하지 않음)
+-- =========================================================
+
+CREATE TABLE IF NOT EXISTS file_checksum_cache (
+    cache_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '캐시 ID',
+    file_path VARCHAR(500) COLLATE utf8mb4_bin NOT NULL COMMENT '파일 경로 (base-path 기준 상대 경로, 대소문자 구분)',
+    file_size BIGINT NOT NULL COMMENT '파일 크기 (bytes)',
+    modified_nanos BIGINT NOT NULL COMMENT '파일 수정 시각 (epoch nanoseconds)',
+    file_key VARCHAR(100) COMMENT '파일 키 (inode 등, 지원하지 않는 파일시스템은 NULL)',
+    checksum VARCHAR(64) NOT NULL COMMENT 'SHA-256 체크섬',
+    checked_at DATETIME NOT NULL COMMENT '체크섬 계산 시각',
+
+    UNIQUE INDEX uk_fcc_file_path (file_path)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='파일 동기화 체크섬 캐시';
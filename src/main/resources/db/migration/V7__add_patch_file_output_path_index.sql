@@ -0,0 +1,9 @@
+-- =========================================================
+-- V7: 파일 동기화 경로 접두어 조회용 인덱스
+-- =========================================================
+-- 1. patch_file.output_path 인덱스 추가
+--    (파일 동기화 분석 시 하위 경로 패치를 LIKE 'prefix%'로 조회)
+--    release_file.file_path(idx_file_path), backup_file.file_path(uk_bf_file_path)는 기존 인덱스 사용
+-- =========================================================
+
+CREATE INDEX idx_pf_output_path ON patch_file (output_path);
@@ -0,0 +1,10 @@
+-- =========================================================
+-- V8: 파일 동기화 체크섬 캐시 CRC32C
+-- =========================================================
+-- 1. file_checksum_cache.crc32c 추가
+--    (크기는 같고 수정 시각/파일 키만 바뀐 파일은 CRC32C가 같으면 SHA-256을 다시 계산하지 않음)
+--    기존 항목은 NULL이며, 다음 체크섬 계산 시 채워짐
+-- =========================================================
+
+ALTER TABLE file_checksum_cache
+    ADD COLUMN crc32c VARCHAR(8) COMMENT 'CRC32C (내용 변경 여부 사전 검사용)' AFTER checksum;
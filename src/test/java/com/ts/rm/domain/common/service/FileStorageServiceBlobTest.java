@@ -0,0 +1,249 @@
+package com.ts.rm.domain.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ts.rm.global.file.FileChecksumUtil;
+import com.ts.rm.global.file.FileMaterializer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * FileStorageService 블롭 저장소 테스트 (버전/패치 파일 독립성, 블롭 변경 검증, 블롭 정리)
+ *
+ * <p>reflink 지원 여부와 관계없이 같은 결과를 검증하도록, 블롭이 필요한 테스트는 봉인된 블롭을 직접 배치합니다.
+ */
+@DisplayName("FileStorageService 블롭 저장소 테스트")
+class FileStorageServiceBlobTest {
+
+    private static final String CONTENT = "ALTER TABLE release_file ADD COLUMN note VARCHAR(100);";
+    private static final String MODIFIED_CONTENT = CONTENT.replace("100", "200");
+
+    @TempDir
+    Path tempDir;
+
+    private FileStorageService fileStorageService;
+    private Path sourcePath;
+    private String checksum;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fileStorageService = new FileStorageService(tempDir.toString(), true);
+        sourcePath = tempDir.resolve("versions/infraeye2/standard/1.0.x/1.0.0/database/MARIADB/1.patch.sql");
+        Files.createDirectories(sourcePath.getParent());
+        Files.writeString(sourcePath, CONTENT);
+        checksum = FileChecksumUtil.calculateChecksum(sourcePath);
+    }
+
+    @Test
+    @DisplayName("패치 파일은 블롭/버전 파일과 inode를 공유하지 않아, 패치 생성 후 버전 파일을 수정해도 패치 내용은 유지")
+    void materializeBlob_PatchUnaffectedByVersionFileEdit() throws IOException {
+        // given
+        Path versionFile = tempDir.resolve("versions/infraeye2/standard/1.0.x/1.0.0/database/mariadb/1.patch.sql");
+        fileStorageService.storeAsBlob(sourcePath, versionFile);
+        putBlob(CONTENT);
+        Path patchFile = tempDir.resolve("patches/infraeye2/1.0.0_1.1.0/database/mariadb/1.0.0/1.patch.sql");
+        Optional<FileMaterializer.Method> method = fileStorageService.materializeBlob(
+                checksum, (long) CONTENT.length(), patchFile);
+
+        // when - 버전 파일을 제자리에서 수정 (같은 inode에 덮어쓰기)
+        versionFile.toFile().setWritable(true, true);
+        Files.writeString(versionFile, MODIFIED_CONTENT);
+
+        // then
+        assertThat(method).containsAnyOf(FileMaterializer.Method.REFLINK, FileMaterializer.Method.COPY);
+        assertThat(Files.isSameFile(versionFile, patchFile)).isFalse();
+        assertThat(Files.readString(patchFile)).isEqualTo(CONTENT);
+        assertThat(FileChecksumUtil.calculateChecksum(patchFile)).isEqualTo(checksum);
+    }
+
+    @Test
+    @DisplayName("같은 내용의 버전 파일은 블롭 및 서로와 독립된 파일로 저장되어, 하나를 수정해도 블롭과 다른 파일은 유지")
+    void storeAsBlob_VersionFilesIndependent() throws IOException {
+        // given
+        Path blob = putBlob(CONTENT);
+        Path first = tempDir.resolve("versions/infraeye2/standard/1.0.x/1.0.1/database/mariadb/1.patch.sql");
+        Path second = tempDir.resolve("versions/infraeye2/standard/1.0.x/1.0.2/database/mariadb/1.patch.sql");
+        fileStorageService.storeAsBlob(sourcePath, first);
+        fileStorageService.storeAsBlob(sourcePath, second);
+
+        // when
+        Files.writeString(first, MODIFIED_CONTENT);
+
+        // then
+        assertThat(Files.isSameFile(first, blob)).isFalse();
+        assertThat(Files.isSameFile(second, blob)).isFalse();
+        assertThat(Files.readString(second)).isEqualTo(CONTENT);
+        assertThat(FileChecksumUtil.calculateChecksum(blob)).isEqualTo(checksum);
+        assertThat(fileStorageService.materializeBlob(checksum, (long) CONTENT.length(),
+                tempDir.resolve("patches/independent/1.patch.sql"))).isPresent();
+    }
+
+    @Test
+    @DisplayName("블롭이 변경되어 있으면 블롭 대신 업로드 내용으로 저장 (moveToBlob)")
+    void moveToBlob_TamperedBlobFallsBackToSource() throws IOException {
+        // given
+        Path blob = putBlob(CONTENT);
+        blob.toFile().setWritable(true, true);
+        Files.writeString(blob, MODIFIED_CONTENT);
+        Path tempFile = fileStorageService.createTempDirectory("release_upload_").resolve("1.patch.sql");
+        Files.writeString(tempFile, CONTENT);
+        Path versionFile = tempDir.resolve("versions/infraeye2/standard/1.0.x/1.0.3/database/mariadb/1.patch.sql");
+
+        // when
+        String storedChecksum = fileStorageService.moveToBlob(tempFile, versionFile, checksum);
+
+        // then
+        assertThat(storedChecksum).isEqualTo(checksum);
+        assertThat(Files.readString(versionFile)).isEqualTo(CONTENT);
+        assertThat(tempFile).doesNotExist();
+        if (fileStorageService.hasBlob(checksum)) {
+            // reflink 지원 파일시스템: 업로드 내용으로 블롭 재등록
+            assertThat(FileChecksumUtil.calculateChecksum(blob)).isEqualTo(checksum);
+        }
+    }
+
+    @Test
+    @DisplayName("봉인이 풀리고 내용이 변경된 블롭은 사용하지 않고 제거")
+    void materializeBlob_TamperedBlobRejected() throws IOException {
+        // given
+        Path blob = putBlob(CONTENT);
+        blob.toFile().setWritable(true, true);
+        Files.writeString(blob, MODIFIED_CONTENT);
+        Path patchFile = tempDir.resolve("patches/tampered/1.patch.sql");
+
+        // when
+        Optional<FileMaterializer.Method> method = fileStorageService.materializeBlob(
+                checksum, (long) CONTENT.length(), patchFile);
+
+        // then
+        assertThat(method).isEmpty();
+        assertThat(fileStorageService.hasBlob(checksum)).isFalse();
+        assertThat(patchFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("크기가 다른 블롭은 사용하지 않음")
+    void materializeBlob_SizeMismatchRejected() throws IOException {
+        // given
+        putBlob(CONTENT);
+
+        // when
+        Optional<FileMaterializer.Method> method = fileStorageService.materializeBlob(
+                checksum, CONTENT.length() + 1L, tempDir.resolve("patches/size/1.patch.sql"));
+
+        // then
+        assertThat(method).isEmpty();
+    }
+
+    @Test
+    @DisplayName("봉인만 풀리고 내용이 같은 블롭은 재봉인 후 사용")
+    void materializeBlob_UnsealedButIntactBlobResealed() throws IOException {
+        // given
+        Path blob = putBlob(CONTENT);
+        blob.toFile().setWritable(true, true);
+
+        // when
+        Optional<FileMaterializer.Method> method = fileStorageService.materializeBlob(
+                checksum, null, tempDir.resolve("patches/reseal/1.patch.sql"));
+
+        // then
+        assertThat(method).isPresent();
+        assertThat(FileMaterializer.isSealed(blob)).isTrue();
+    }
+
+    @Test
+    @DisplayName("블롭 정리 - 참조되지 않고 보관 시간이 지난 블롭만 삭제하며, 버전 파일은 영향 없음")
+    void cleanupUnreferencedBlobs_SkipsReferencedAndRecent() throws IOException {
+        // given
+        Path versionFile = tempDir.resolve("versions/infraeye2/standard/1.0.x/1.0.4/database/mariadb/1.patch.sql");
+        fileStorageService.storeAsBlob(sourcePath, versionFile);
+        Path referenced = ageBlob(putBlob(CONTENT));
+        Path unreferencedOld = ageBlob(putBlob("SELECT 1;"));
+        Path unreferencedRecent = putBlob("SELECT 2;");
+
+        // when
+        FileStorageService.BlobCleanupResult result = fileStorageService.cleanupUnreferencedBlobs(
+                checksums -> checksums.stream().filter(Set.of(checksum)::contains).toList(), Duration.ofHours(1));
+
+        // then
+        assertThat(result.deletedCount()).isEqualTo(1);
+        assertThat(result.deletedSizeBytes()).isEqualTo("SELECT 1;".length());
+        assertThat(unreferencedOld).doesNotExist();
+        assertThat(referenced).exists();
+        assertThat(unreferencedRecent).exists();
+        assertThat(Files.readString(versionFile)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("블롭 정리 - 보관 시간이 지난 임시 파일/디렉토리만 삭제")
+    void cleanupUnreferencedBlobs_RemovesStaleTempFiles() throws IOException {
+        // given
+        Path tempLocation = tempDir.resolve(FileStorageService.BLOB_DIRECTORY).resolve("tmp");
+        Path staleFile = ageBlob(Files.writeString(tempLocation.resolve("blob-stale.tmp"), "SELECT 1;"));
+        Path staleDir = Files.createDirectories(tempLocation.resolve("upload-stale"));
+        ageBlob(Files.writeString(staleDir.resolve("1.patch.sql"), "SELECT 2;"));
+        ageBlob(staleDir);
+        Path activeDir = Files.createDirectories(tempLocation.resolve("upload-active"));
+        Files.writeString(activeDir.resolve("1.patch.sql"), "SELECT 3;");
+        ageBlob(activeDir);
+
+        // when
+        FileStorageService.BlobCleanupResult result = fileStorageService.cleanupUnreferencedBlobs(
+                checksums -> checksums, Duration.ofHours(1));
+
+        // then
+        assertThat(result.deletedCount()).isEqualTo(2);
+        assertThat(result.deletedSizeBytes()).isEqualTo("SELECT 1;".length() + "SELECT 2;".length());
+        assertThat(staleFile).doesNotExist();
+        assertThat(staleDir).doesNotExist();
+        assertThat(activeDir.resolve("1.patch.sql")).exists();
+    }
+
+    @Test
+    @DisplayName("블롭 저장소 비활성화 시 원본과 독립된 파일 생성 (원본 수정이 영향을 주지 않음)")
+    void storeAsBlob_BlobStoreDisabled_IndependentCopy() throws IOException {
+        // given
+        FileStorageService plainStorageService = new FileStorageService(tempDir.toString(), false);
+        Path patchFile = tempDir.resolve("patches/plain/1.patch.sql");
+
+        // when
+        String storedChecksum = plainStorageService.storeAsBlob(sourcePath, patchFile);
+        Files.writeString(sourcePath, "changed");
+
+        // then
+        assertThat(storedChecksum).isEqualTo(checksum);
+        assertThat(Files.readString(patchFile)).isEqualTo(CONTENT);
+    }
+
+    /**
+     * 봉인된 블롭 배치 (reflink 미지원 파일시스템에서도 블롭이 있는 상태를 재현, 이미 있으면 그대로 사용)
+     */
+    private Path putBlob(String content) throws IOException {
+        String blobChecksum = FileChecksumUtil.calculateChecksum(content.getBytes(StandardCharsets.UTF_8));
+        Path blob = tempDir.resolve(FileStorageService.BLOB_DIRECTORY)
+                .resolve(blobChecksum.substring(0, 2))
+                .resolve(blobChecksum);
+        if (!Files.exists(blob)) {
+            Files.createDirectories(blob.getParent());
+            Files.writeString(blob, content);
+            FileMaterializer.seal(blob);
+        }
+        return blob;
+    }
+
+    private Path ageBlob(Path blob) throws IOException {
+        Files.setLastModifiedTime(blob, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+        return blob;
+    }
+}
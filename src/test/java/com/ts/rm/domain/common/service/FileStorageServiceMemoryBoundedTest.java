@@ -0,0 +1,61 @@
+package com.ts.rm.domain.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.ts.rm.global.file.FileChecksumUtil;
+import com.ts.rm.global.file.SyntheticMultipartFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * FileStorageService 메모리 사용량 제한 테스트
+ *
+ * <p>힙보다 큰 파일을 업로드하여 파일 전체를 메모리에 적재하지 않고 저장/체크섬 계산이 되는지 검증합니다.
+ * <p>힙을 제한한 별도 태스크에서 실행: {@code ./gradlew memoryBoundedTest}
+ */
+@Tag("memory-bounded")
+@DisplayName("FileStorageService 메모리 제한 테스트")
+class FileStorageServiceMemoryBoundedTest {
+
+    private static final long MAX_HEAP_FOR_TEST = 256L * 1024 * 1024;
+    private static final long EXTRA_BYTES = 16L * 1024 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("힙보다 큰 파일 업로드 - 스트리밍 저장 및 체크섬 계산 성공")
+    void saveFileWithChecksum_LargerThanHeap() throws IOException {
+        // Given
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        assumeTrue(maxHeap <= MAX_HEAP_FOR_TEST,
+                "힙이 제한된 memoryBoundedTest 태스크에서만 실행합니다 (현재 힙: " + maxHeap + ")");
+
+        long payloadSize = maxHeap + EXTRA_BYTES;
+        FileStorageService fileStorageService = new FileStorageService(tempDir.toString(), true);
+        MultipartFile largeFile = new SyntheticMultipartFile("engine.bin", payloadSize);
+
+        String expectedChecksum;
+        try (InputStream is = new SyntheticMultipartFile.SyntheticInputStream(payloadSize, 0)) {
+            expectedChecksum = FileChecksumUtil.calculateChecksum(is);
+        }
+
+        // When
+        FileStorageService.StoredFile storedFile = fileStorageService.saveFileWithChecksum(
+                largeFile, "versions/test/standard/1.0.x/1.0.0/engine/engine.bin");
+
+        // Then
+        assertThat(storedFile.fileSize()).isEqualTo(payloadSize);
+        assertThat(storedFile.checksum()).isEqualTo(expectedChecksum);
+        assertThat(Files.size(fileStorageService.getAbsolutePath(storedFile.relativePath())))
+                .isEqualTo(payloadSize);
+    }
+}
@@ -0,0 +1,311 @@
+package com.ts.rm.domain.filesync.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ts.rm.domain.filesync.entity.FileChecksumCache;
+import com.ts.rm.domain.filesync.repository.FileChecksumCacheRepository;
+import com.ts.rm.global.file.FileChecksumUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * FileChecksumCacheService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FileChecksumCacheService 테스트")
+class FileChecksumCacheServiceTest {
+
+    private static final FileTime OLD_TIME = FileTime.from(Instant.parse("2025-01-01T00:00:00Z"));
+
+    @Mock
+    private FileChecksumCacheRepository fileChecksumCacheRepository;
+
+    @InjectMocks
+    private FileChecksumCacheService fileChecksumCacheService;
+
+    @Captor
+    private ArgumentCaptor<List<FileChecksumCache>> createdCaptor;
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = tempDir.resolve("versions/1.0.0/1.patch.sql");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "SELECT 1;");
+        Files.setLastModifiedTime(file, OLD_TIME);
+    }
+
+    @Test
+    @DisplayName("단일 파일 - 크기/수정 시각/파일 키가 같으면 파일을 읽지 않고 캐시된 체크섬 반환")
+    void checksumOf_CacheHit() throws IOException {
+        // given
+        given(fileChecksumCacheRepository.findByFilePath("versions/1.0.0/1.patch.sql"))
+                .willReturn(Optional.of(cacheOf(file, "cached-checksum")));
+
+        // when
+        String checksum = fileChecksumCacheService.checksumOf(tempDir, file);
+
+        // then
+        assertThat(checksum).isEqualTo("cached-checksum");
+        then(fileChecksumCacheRepository).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("단일 파일 - 수정 시각이 바뀌면 다시 계산하여 캐시 갱신")
+    void checksumOf_FileChanged() throws IOException {
+        // given
+        FileChecksumCache cache = cacheOf(file, "cached-checksum");
+        given(fileChecksumCacheRepository.findByFilePath("versions/1.0.0/1.patch.sql"))
+                .willReturn(Optional.of(cache));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2025-02-01T00:00:00Z")));
+
+        // when
+        String checksum = fileChecksumCacheService.checksumOf(tempDir, file);
+
+        // then
+        assertThat(checksum).isEqualTo(FileChecksumUtil.calculateChecksum(file));
+        assertThat(cache.getChecksum()).isEqualTo(checksum);
+    }
+
+    @Test
+    @DisplayName("단일 파일 - 수정 시각만 바뀌고 CRC32C가 같아도 SHA-256을 다시 계산하여 캐시 갱신")
+    void checksumOf_TouchedFileRecomputesChecksum() throws IOException {
+        // given
+        FileChecksumCache cache = cacheOf(file, "cached-checksum", crc32cOf(file));
+        given(fileChecksumCacheRepository.findByFilePath("versions/1.0.0/1.patch.sql"))
+                .willReturn(Optional.of(cache));
+        FileTime touched = FileTime.from(Instant.parse("2025-02-01T00:00:00Z"));
+        Files.setLastModifiedTime(file, touched);
+
+        // when
+        String checksum = fileChecksumCacheService.checksumOf(tempDir, file);
+
+        // then
+        assertThat(checksum).isEqualTo(FileChecksumUtil.calculateChecksum(file));
+        assertThat(cache.getChecksum()).isEqualTo(checksum);
+        assertThat(cache.getModifiedNanos()).isEqualTo(touched.to(TimeUnit.NANOSECONDS));
+        assertThat(cache.getCrc32c()).isEqualTo(crc32cOf(file));
+    }
+
+    @Test
+    @DisplayName("단일 파일 - 크기가 같아도 CRC32C가 다르면 SHA-256과 CRC32C를 다시 계산하여 캐시 갱신")
+    void checksumOf_SameSizeContentChanged() throws IOException {
+        // given
+        FileChecksumCache cache = cacheOf(file, "cached-checksum", crc32cOf(file));
+        given(fileChecksumCacheRepository.findByFilePath("versions/1.0.0/1.patch.sql"))
+                .willReturn(Optional.of(cache));
+        Files.writeString(file, "SELECT 2;");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2025-02-01T00:00:00Z")));
+
+        // when
+        String checksum = fileChecksumCacheService.checksumOf(tempDir, file);
+
+        // then
+        assertThat(checksum).isEqualTo(FileChecksumUtil.calculateChecksum(file));
+        assertThat(cache.getChecksum()).isEqualTo(checksum);
+        assertThat(cache.getCrc32c()).isEqualTo(crc32cOf(file));
+    }
+
+    @Test
+    @DisplayName("전체 재계산 결과 반영 - 속성이 같은데 체크섬이 다르면 불일치로 집계하고 갱신")
+    void store_DetectsMismatch() throws IOException {
+        // given
+        FileChecksumCache cache = cacheOf(file, "stale-checksum");
+        given(fileChecksumCacheRepository.findAllByFilePathStartingWith("versions/")).willReturn(List.of(cache));
+        String actual = FileChecksumUtil.calculateChecksum(file);
+
+        // when
+        int mismatches = fileChecksumCacheService.store(tempDir, tempDir.resolve("versions"),
+                List.of(scanned(file, actual)));
+
+        // then
+        assertThat(mismatches).isEqualTo(1);
+        assertThat(cache.getChecksum()).isEqualTo(actual);
+    }
+
+    @Test
+    @DisplayName("스캔 결과 반영 - 방금 수정된 파일은 캐시하지 않고, 사라진 파일의 캐시는 삭제")
+    void store_SkipsRecentAndRemovesMissing() throws IOException {
+        // given
+        Path recent = tempDir.resolve("versions/1.0.1/2.patch.sql");
+        Files.createDirectories(recent.getParent());
+        Files.writeString(recent, "SELECT 2;");
+        FileChecksumCache missing = FileChecksumCache.builder()
+                .filePath("versions/0.9.0/deleted.sql")
+                .fileSize(1L)
+                .modifiedNanos(0L)
+                .checksum("gone")
+                .checkedAt(LocalDateTime.now())
+                .build();
+        given(fileChecksumCacheRepository.findAllByFilePathStartingWith("versions/")).willReturn(List.of(missing));
+
+        // when
+        fileChecksumCacheService.store(tempDir, tempDir.resolve("versions"), List.of(
+                scanned(file, FileChecksumUtil.calculateChecksum(file)),
+                scanned(recent, FileChecksumUtil.calculateChecksum(recent))));
+
+        // then
+        then(fileChecksumCacheRepository).should().saveAll(createdCaptor.capture());
+        assertThat(createdCaptor.getValue())
+                .extracting(FileChecksumCache::getFilePath)
+                .containsExactly("versions/1.0.0/1.patch.sql");
+        then(fileChecksumCacheRepository).should().deleteAllInBatch(List.of(missing));
+    }
+
+    @Test
+    @DisplayName("지정 파일 결과 반영 - 신규 파일만 저장하고 결과에 없는 파일의 캐시는 삭제하지 않음")
+    void merge_SavesWithoutRemoving() throws IOException {
+        // given
+        Path other = tempDir.resolve("versions/1.0.1/2.patch.sql");
+        Files.createDirectories(other.getParent());
+        Files.writeString(other, "SELECT 2;");
+        Files.setLastModifiedTime(other, OLD_TIME);
+        FileChecksumCache existing = cacheOf(file, FileChecksumUtil.calculateChecksum(file));
+        given(fileChecksumCacheRepository.findAllByFilePathIn(
+                List.of("versions/1.0.0/1.patch.sql", "versions/1.0.1/2.patch.sql")))
+                .willReturn(List.of(existing));
+
+        // when
+        fileChecksumCacheService.merge(tempDir, List.of(
+                scanned(file, existing.getChecksum()),
+                scanned(other, FileChecksumUtil.calculateChecksum(other))));
+
+        // then
+        then(fileChecksumCacheRepository).should().saveAll(createdCaptor.capture());
+        assertThat(createdCaptor.getValue())
+                .extracting(FileChecksumCache::getFilePath)
+                .containsExactly("versions/1.0.1/2.patch.sql");
+        then(fileChecksumCacheRepository).should(never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - 속성이 같은 파일만 캐시 사용으로 집계")
+    void load_SnapshotLookup() throws IOException {
+        // given
+        given(fileChecksumCacheRepository.findAllByFilePathStartingWith("versions/"))
+                .willReturn(List.of(cacheOf(file, "cached-checksum")));
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        String fileKey = attrs.fileKey() != null ? attrs.fileKey().toString() : null;
+
+        // when
+        FileChecksumCacheService.Snapshot snapshot = fileChecksumCacheService.load(tempDir, tempDir.resolve("versions"));
+
+        // then
+        assertThat(snapshot.find(file, attrs.size(), attrs.lastModifiedTime(), fileKey)).isEqualTo("cached-checksum");
+        assertThat(snapshot.find(file, attrs.size() + 1, attrs.lastModifiedTime(), fileKey)).isNull();
+        assertThat(snapshot.hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("분석 스냅샷 조회 - 속성만 바뀐 파일은 CRC32C가 같으면 캐시 사용, 재사용한 체크섬은 새 속성으로 반영하지 않음")
+    void load_SnapshotReusesTouchedFile() throws IOException {
+        // given
+        String crc32c = crc32cOf(file);
+        FileChecksumCache cache = cacheOf(file, "cached-checksum", crc32c);
+        given(fileChecksumCacheRepository.findAllByFilePathStartingWith("versions/")).willReturn(List.of(cache));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2025-02-01T00:00:00Z")));
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        String fileKey = attrs.fileKey() != null ? attrs.fileKey().toString() : null;
+        FileChecksumCacheService.Snapshot snapshot = fileChecksumCacheService.load(tempDir, tempDir.resolve("versions"));
+
+        // when
+        String checksum = snapshot.find(file, attrs.size(), attrs.lastModifiedTime(), fileKey);
+        fileChecksumCacheService.store(tempDir, tempDir.resolve("versions"), List.of(scanned(file, checksum)));
+
+        // then
+        assertThat(checksum).isEqualTo("cached-checksum");
+        assertThat(snapshot.hits()).isEqualTo(1);
+        assertThat(cache.matches(attrs.size(), attrs.lastModifiedTime().to(TimeUnit.NANOSECONDS), fileKey)).isFalse();
+        assertThat(cache.getCrc32c()).isEqualTo(crc32c);
+    }
+
+    @Test
+    @DisplayName("지정 파일 스냅샷 조회 - 속성만 바뀐 파일은 CRC32C가 같아도 캐시를 사용하지 않고 SHA-256 재계산")
+    void load_PathsSnapshotRecomputesTouchedFile() throws IOException {
+        // given
+        FileChecksumCache cache = cacheOf(file, "cached-checksum", crc32cOf(file));
+        given(fileChecksumCacheRepository.findAllByFilePathIn(List.of("versions/1.0.0/1.patch.sql")))
+                .willReturn(List.of(cache));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2025-02-01T00:00:00Z")));
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        String fileKey = attrs.fileKey() != null ? attrs.fileKey().toString() : null;
+
+        // when
+        FileChecksumCacheService.Snapshot snapshot = fileChecksumCacheService.load(tempDir, List.of(file));
+
+        // then
+        assertThat(snapshot.find(file, attrs.size(), attrs.lastModifiedTime(), fileKey)).isNull();
+        assertThat(snapshot.hits()).isZero();
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - CRC32C가 없는 기존 캐시는 속성이 바뀌면 사용하지 않음")
+    void load_SnapshotWithoutCrc32c() throws IOException {
+        // given
+        given(fileChecksumCacheRepository.findAllByFilePathStartingWith("versions/"))
+                .willReturn(List.of(cacheOf(file, "cached-checksum")));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2025-02-01T00:00:00Z")));
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        String fileKey = attrs.fileKey() != null ? attrs.fileKey().toString() : null;
+
+        // when
+        FileChecksumCacheService.Snapshot snapshot = fileChecksumCacheService.load(tempDir, tempDir.resolve("versions"));
+
+        // then
+        assertThat(snapshot.find(file, attrs.size(), attrs.lastModifiedTime(), fileKey)).isNull();
+        assertThat(snapshot.hits()).isZero();
+    }
+
+    private FileChecksumCache cacheOf(Path path, String checksum) throws IOException {
+        return cacheOf(path, checksum, null);
+    }
+
+    private FileChecksumCache cacheOf(Path path, String checksum, String crc32c) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        return FileChecksumCache.builder()
+                .filePath(tempDir.relativize(path).toString().replace("\\", "/"))
+                .fileSize(attrs.size())
+                .modifiedNanos(attrs.lastModifiedTime().to(TimeUnit.NANOSECONDS))
+                .fileKey(attrs.fileKey() != null ? attrs.fileKey().toString() : null)
+                .checksum(checksum)
+                .crc32c(crc32c)
+                .checkedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private FileSystemScanner.ScannedPath scanned(Path path, String checksum) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        return new FileSystemScanner.ScannedPath(path, attrs.size(), attrs.lastModifiedTime(),
+                attrs.fileKey() != null ? attrs.fileKey().toString() : null, checksum, null);
+    }
+
+    private static String crc32cOf(Path path) throws IOException {
+        return FileChecksumUtil.calculateHash(path, FileChecksumUtil.HashAlgorithm.CRC32C);
+    }
+}
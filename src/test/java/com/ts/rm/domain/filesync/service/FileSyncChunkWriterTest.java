@@ -0,0 +1,119 @@
+package com.ts.rm.domain.filesync.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ts.rm.domain.filesync.entity.FileSyncIgnore;
+import com.ts.rm.domain.filesync.enums.FileSyncStatus;
+import com.ts.rm.domain.filesync.enums.FileSyncTarget;
+import com.ts.rm.domain.filesync.repository.FileSyncIgnoreRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * FileSyncChunkWriter 트랜잭션 테스트
+ *
+ * <p>청크마다 새 트랜잭션으로 커밋/롤백되는지 실제 트랜잭션으로 검증합니다 (테스트 메서드 트랜잭션 미사용).
+ */
+@DataJpaTest
+@Import({FileSyncChunkWriter.class, FileSyncChunkWriterTest.TestConfig.class})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("FileSyncChunkWriter 트랜잭션 테스트")
+class FileSyncChunkWriterTest {
+
+    @Autowired
+    private FileSyncChunkWriter fileSyncChunkWriter;
+
+    @Autowired
+    private FileSyncIgnoreRepository fileSyncIgnoreRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        fileSyncIgnoreRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("실패한 청크는 이미 저장한 항목까지 롤백되고, 이전 청크는 커밋 유지")
+    void write_FailingChunkRollsBackOnlyItself() {
+        // given
+        fileSyncChunkWriter.write(List.of("versions/1.sql", "versions/2.sql"), this::ignore);
+
+        // when - 두 번째 항목이 ignoredBy 누락으로 NOT NULL 제약 위반
+        assertThatThrownBy(() -> fileSyncChunkWriter.write(List.of("versions/3.sql", "versions/4.sql"),
+                path -> path.endsWith("4.sql") ? ignoreWithoutUser(path) : ignore(path)))
+                .isInstanceOf(RuntimeException.class);
+
+        // then
+        assertThat(fileSyncIgnoreRepository.findAll())
+                .extracting(FileSyncIgnore::getFilePath)
+                .containsExactlyInAnyOrder("versions/1.sql", "versions/2.sql");
+    }
+
+    @Test
+    @DisplayName("호출한 쪽 트랜잭션과 독립 - 청크 실패가 호출 트랜잭션을 롤백하지 않고, 호출 트랜잭션 롤백이 커밋된 청크를 되돌리지 않음")
+    void write_IndependentOfCallerTransaction() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // when
+        transaction.executeWithoutResult(status -> {
+            ignore("versions/caller.sql");
+            assertThatThrownBy(() -> fileSyncChunkWriter.write(List.of("versions/failed.sql"), path -> {
+                ignore(path);
+                throw new IllegalStateException("청크 실패");
+            })).isInstanceOf(IllegalStateException.class);
+        });
+        transaction.executeWithoutResult(status -> {
+            fileSyncChunkWriter.write(List.of("versions/chunk.sql"), this::ignore);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(fileSyncIgnoreRepository.findAll())
+                .extracting(FileSyncIgnore::getFilePath)
+                .containsExactlyInAnyOrder("versions/caller.sql", "versions/chunk.sql");
+    }
+
+    private Long ignore(String filePath) {
+        return fileSyncIgnoreRepository.save(FileSyncIgnore.builder()
+                .filePath(filePath)
+                .targetType(FileSyncTarget.RELEASE_FILE)
+                .status(FileSyncStatus.UNREGISTERED)
+                .ignoredBy("admin@tscientific")
+                .build()).getIgnoreId();
+    }
+
+    private Long ignoreWithoutUser(String filePath) {
+        return fileSyncIgnoreRepository.save(FileSyncIgnore.builder()
+                .filePath(filePath)
+                .targetType(FileSyncTarget.RELEASE_FILE)
+                .status(FileSyncStatus.UNREGISTERED)
+                .build()).getIgnoreId();
+    }
+
+    /**
+     * QueryDSL 테스트용 설정
+     */
+    @org.springframework.boot.test.context.TestConfiguration
+    static class TestConfig {
+        @org.springframework.context.annotation.Bean
+        public com.querydsl.jpa.impl.JPAQueryFactory jpaQueryFactory(EntityManager entityManager) {
+            return new com.querydsl.jpa.impl.JPAQueryFactory(entityManager);
+        }
+    }
+}
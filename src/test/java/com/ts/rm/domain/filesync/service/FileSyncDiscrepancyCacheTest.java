@@ -0,0 +1,136 @@
+package com.ts.rm.domain.filesync.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ts.rm.domain.filesync.dto.FileSyncDiscrepancy;
+import com.ts.rm.domain.filesync.enums.FileSyncStatus;
+import com.ts.rm.domain.filesync.enums.FileSyncTarget;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * FileSyncDiscrepancyCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FileSyncDiscrepancyCache 테스트")
+class FileSyncDiscrepancyCacheTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private FileSyncDiscrepancyCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new FileSyncDiscrepancyCache(redisTemplate, objectMapper);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(cache, "redisEnabled", false);
+    }
+
+    @Test
+    @DisplayName("같은 대상을 다시 분석하면 이전 분석 항목은 조회되지 않고, 다른 대상 항목은 유지")
+    void put_ReanalysisInvalidatesPrevious() {
+        // given
+        FileSyncDiscrepancy oldRelease = discrepancy(FileSyncTarget.RELEASE_FILE);
+        FileSyncDiscrepancy backup = discrepancy(FileSyncTarget.BACKUP_FILE);
+        cache.put("analysis-1", List.of(FileSyncTarget.RELEASE_FILE, FileSyncTarget.BACKUP_FILE),
+                List.of(oldRelease, backup));
+
+        // when
+        FileSyncDiscrepancy newRelease = discrepancy(FileSyncTarget.RELEASE_FILE);
+        cache.put("analysis-2", List.of(FileSyncTarget.RELEASE_FILE), List.of(newRelease));
+
+        // then
+        assertThat(cache.get(oldRelease.getId())).isNull();
+        assertThat(cache.get(backup.getId())).isSameAs(backup);
+        assertThat(cache.get(newRelease.getId())).isSameAs(newRelease);
+    }
+
+    @Test
+    @DisplayName("최대 건수 초과 시 오래된 분석부터 제거하고, 만료된 분석은 조회되지 않음")
+    void get_EvictsBySizeAndAge() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(cache, "maxEntries", 3);
+        FileSyncDiscrepancy first = discrepancy(FileSyncTarget.RELEASE_FILE);
+        FileSyncDiscrepancy second = discrepancy(FileSyncTarget.BACKUP_FILE);
+        cache.put("analysis-1", List.of(FileSyncTarget.RELEASE_FILE),
+                List.of(first, discrepancy(FileSyncTarget.RELEASE_FILE)));
+
+        // when
+        cache.put("analysis-2", List.of(FileSyncTarget.BACKUP_FILE),
+                List.of(second, discrepancy(FileSyncTarget.BACKUP_FILE)));
+
+        // then
+        assertThat(cache.get(first.getId())).isNull();
+        assertThat(cache.get(second.getId())).isSameAs(second);
+
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMillis(1));
+        Thread.sleep(10);
+        assertThat(cache.get(second.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("Redis 사용 시 - 다른 인스턴스에서 분석한 항목을 Redis에서 조회 (최근 분석인 경우만)")
+    void get_FromRedis() throws Exception {
+        // given
+        ReflectionTestUtils.setField(cache, "redisEnabled", true);
+        FileSyncDiscrepancy remote = discrepancy(FileSyncTarget.PATCH_FILE);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("file-sync:discrepancy:" + remote.getId())).willReturn(objectMapper.writeValueAsString(
+                new FileSyncDiscrepancyCache.CachedDiscrepancy("remote-analysis", remote)));
+        given(valueOperations.get("file-sync:latest-analysis:PATCH_FILE"))
+                .willReturn("remote-analysis", "newer-analysis");
+
+        // when
+        FileSyncDiscrepancy found = cache.get(remote.getId());
+        FileSyncDiscrepancy superseded = cache.get(remote.getId());
+
+        // then
+        assertThat(found).isNotNull();
+        assertThat(found.getFilePath()).isEqualTo(remote.getFilePath());
+        assertThat(found.getStatus()).isEqualTo(FileSyncStatus.UNREGISTERED);
+        assertThat(superseded).isNull();
+    }
+
+    @Test
+    @DisplayName("Redis 미사용 시 - 로컬에 없는 항목은 Redis를 조회하지 않음")
+    void get_LocalOnly() {
+        // when
+        FileSyncDiscrepancy found = cache.get("unknown");
+
+        // then
+        assertThat(found).isNull();
+        then(redisTemplate).should(never()).opsForValue();
+    }
+
+    private FileSyncDiscrepancy discrepancy(FileSyncTarget target) {
+        String id = UUID.randomUUID().toString();
+        return FileSyncDiscrepancy.builder()
+                .id(id)
+                .target(target)
+                .filePath("versions/infraeye2/1.0.0/" + id + ".sql")
+                .fileName(id + ".sql")
+                .status(FileSyncStatus.UNREGISTERED)
+                .build();
+    }
+}
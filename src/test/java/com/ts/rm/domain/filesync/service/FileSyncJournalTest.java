@@ -0,0 +1,127 @@
+package com.ts.rm.domain.filesync.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.ts.rm.domain.common.service.FileStorageService;
+import com.ts.rm.domain.filesync.adapter.FileSyncAdapter;
+import com.ts.rm.domain.filesync.dto.FileSyncDto;
+import com.ts.rm.domain.filesync.enums.FileSyncTarget;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 파일 동기화 변경 저널 테스트 (WatchService 기반 변경 기록)
+ */
+@DisplayName("FileSyncJournal 테스트")
+class FileSyncJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path versions;
+    private FileSyncJournal journal;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        versions = tempDir.resolve("versions");
+        Files.createDirectories(versions.resolve("infraeye2/1.0.0"));
+
+        FileSyncAdapter adapter = mock(FileSyncAdapter.class);
+        given(adapter.getTarget()).willReturn(FileSyncTarget.RELEASE_FILE);
+        given(adapter.getBaseScanPath()).willReturn("versions");
+        given(adapter.getExcludedDirectories()).willReturn(List.of(".blobs"));
+
+        journal = new FileSyncJournal(new FileStorageService(tempDir.toString(), false), List.of(adapter));
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "capacity", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("비활성 - 상태 없음, 항상 전체 스캔")
+    void disabled_AlwaysFullScan() {
+        // given
+        ReflectionTestUtils.setField(journal, "enabled", false);
+
+        // when
+        journal.start();
+
+        // then
+        assertThat(journal.markScanned(FileSyncTarget.RELEASE_FILE)).isFalse();
+        assertThat(journal.drain(FileSyncTarget.RELEASE_FILE)).isNull();
+        assertThat(journal.getStatus()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경 기록 - 전체 스캔 이후 생성된 파일과 디렉토리만 기록, 제외 디렉토리는 무시")
+    void drain_RecordsChangesSinceFullScan() throws Exception {
+        // given
+        journal.start();
+        awaitStatus(FileSyncDto.JournalStatus::isWatching);
+        assertThat(journal.drain(FileSyncTarget.RELEASE_FILE)).isNull();
+        assertThat(journal.markScanned(FileSyncTarget.RELEASE_FILE)).isTrue();
+
+        // when
+        Path patch = Files.writeString(versions.resolve("infraeye2/1.0.0/1.patch.sql"), "SELECT 1;");
+        Path newVersion = Files.createDirectories(versions.resolve("infraeye2/1.0.1"));
+        Files.createDirectories(versions.resolve(".blobs/ab"));
+        awaitStatus(status -> status.getPendingChanges() >= 2);
+
+        // then
+        Set<Path> changes = journal.drain(FileSyncTarget.RELEASE_FILE);
+        assertThat(changes).contains(patch, newVersion);
+        assertThat(changes).noneMatch(path -> path.toString().contains(".blobs"));
+        assertThat(journal.drain(FileSyncTarget.RELEASE_FILE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("용량 초과 - 기록을 버리고 다음 전체 스캔까지 증분 분석 불가")
+    void drain_OverflowFallsBackToFullScan() throws Exception {
+        // given
+        ReflectionTestUtils.setField(journal, "capacity", 1);
+        journal.start();
+        awaitStatus(FileSyncDto.JournalStatus::isWatching);
+        journal.markScanned(FileSyncTarget.RELEASE_FILE);
+
+        // when
+        Files.writeString(versions.resolve("infraeye2/1.0.0/1.patch.sql"), "SELECT 1;");
+        Files.writeString(versions.resolve("infraeye2/1.0.0/2.patch.sql"), "SELECT 2;");
+        awaitStatus(FileSyncDto.JournalStatus::isOverflowed);
+
+        // then
+        assertThat(journal.drain(FileSyncTarget.RELEASE_FILE)).isNull();
+        assertThat(journal.markScanned(FileSyncTarget.RELEASE_FILE)).isTrue();
+        assertThat(journal.drain(FileSyncTarget.RELEASE_FILE)).isNotNull();
+    }
+
+    /**
+     * 디렉토리 감시 등록/이벤트는 비동기로 처리되므로 일정 시간 대기
+     */
+    private void awaitStatus(Predicate<FileSyncDto.JournalStatus> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (System.currentTimeMillis() < deadline) {
+            List<FileSyncDto.JournalStatus> statuses = journal.getStatus();
+            if (!statuses.isEmpty() && condition.test(statuses.get(0))) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("저널 상태 대기 시간 초과: " + journal.getStatus());
+    }
+}
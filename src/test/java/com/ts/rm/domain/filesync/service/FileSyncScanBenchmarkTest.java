@@ -0,0 +1,126 @@
+package com.ts.rm.domain.filesync.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ts.rm.global.file.FileChecksumUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 파일 동기화 파일시스템 스캔 성능 비교 벤치마크
+ *
+ * <p>기존 방식(Files.walk 후 파일마다 속성 재조회 + 순차 체크섬 계산)과 {@link FileSystemScanner} 방식을
+ * 10만 개 파일 트리에서 비교합니다. 기본 test 태스크에서는 제외되며
+ * {@code ./gradlew benchmark -Dbenchmark.scan.files=100000 -Dbenchmark.scan.file-kb=4}로 실행합니다.
+ */
+@Tag("benchmark")
+class FileSyncScanBenchmarkTest {
+
+    private static final int FILE_COUNT = Integer.getInteger("benchmark.scan.files", 100_000);
+    private static final int FILE_SIZE_KB = Integer.getInteger("benchmark.scan.file-kb", 4);
+    private static final int FILES_PER_DIRECTORY = Integer.getInteger("benchmark.scan.files-per-dir", 50);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.scan.iterations", 3);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("순차 스캔(속성 재조회 + 순차 체크섬) vs 병렬 스캔(순회 속성 재사용 + 병렬 체크섬)")
+    void compareSequentialAndParallelScan() throws Exception {
+        Path root = createBenchmarkTree();
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        FileSystemScanner scanner = new FileSystemScanner(pool);
+
+        try {
+            Map<Path, String> sequentialChecksums = null;
+            Map<Path, String> parallelChecksums = null;
+            long sequentialNanos = Long.MAX_VALUE;
+            long parallelNanos = Long.MAX_VALUE;
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                sequentialChecksums = scanSequential(root);
+                sequentialNanos = Math.min(sequentialNanos, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                parallelChecksums = toChecksumMap(scanner.scanFiles(root, name -> name.endsWith(".sql"),
+                        List.of(".blobs"), null, null));
+                parallelNanos = Math.min(parallelNanos, System.nanoTime() - start);
+            }
+
+            System.out.printf("[benchmark] files=%d, fileSize=%dKB, filesPerDir=%d, threads=%d%n",
+                    FILE_COUNT, FILE_SIZE_KB, FILES_PER_DIRECTORY, pool.getParallelism());
+            System.out.printf("[benchmark] sequential walk: %d ms, parallel scan: %d ms (x%.2f)%n",
+                    sequentialNanos / 1_000_000, parallelNanos / 1_000_000,
+                    (double) sequentialNanos / parallelNanos);
+
+            assertThat(parallelChecksums).hasSize(FILE_COUNT).isEqualTo(sequentialChecksums);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 기존 분석 방식: Files.walk → 파일마다 속성 조회 → 10MB 미만이면 순차 체크섬 계산
+     */
+    private Map<Path, String> scanSequential(Path root) throws IOException {
+        Map<Path, String> checksums = new HashMap<>();
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                boolean excluded = false;
+                for (Path part : path) {
+                    excluded |= part.toString().equals(".blobs");
+                }
+                if (excluded || !path.getFileName().toString().endsWith(".sql")) {
+                    continue;
+                }
+                BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                checksums.put(path, attrs.size() < FileSystemScanner.CHECKSUM_SIZE_LIMIT
+                        ? FileChecksumUtil.calculateChecksum(path) : null);
+            }
+        }
+        return checksums;
+    }
+
+    private Map<Path, String> toChecksumMap(List<FileSystemScanner.ScannedPath> files) {
+        Map<Path, String> checksums = new HashMap<>();
+        for (FileSystemScanner.ScannedPath file : files) {
+            checksums.put(file.path(), file.checksum());
+        }
+        return checksums;
+    }
+
+    /**
+     * versions/{project}/{major}/{version}/{category} 형태의 트리 생성 (제외 디렉토리 .blobs 포함)
+     */
+    private Path createBenchmarkTree() throws IOException {
+        Path root = tempDir.resolve("versions");
+        Random random = new Random(42);
+        byte[] buffer = new byte[FILE_SIZE_KB * 1024];
+
+        for (int i = 0; i < FILE_COUNT; i++) {
+            int directory = i / FILES_PER_DIRECTORY;
+            Path dir = root.resolve("infraeye2/" + (directory / 100) + ".x.x/" + directory + "/database");
+            if (i % FILES_PER_DIRECTORY == 0) {
+                Files.createDirectories(dir);
+                Files.createDirectories(root.resolve(".blobs/" + directory));
+                Files.write(root.resolve(".blobs/" + directory + "/blob.sql"), buffer);
+            }
+            random.nextBytes(buffer);
+            Files.write(dir.resolve(i + ".sql"), buffer);
+        }
+        return root;
+    }
+}
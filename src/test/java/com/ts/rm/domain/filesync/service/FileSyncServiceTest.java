@@ -2,10 +2,12 @@ package com.ts.rm.domain.filesync.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.mock;
+import static org.mockito.BDDMockito.willAnswer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ts.rm.domain.common.service.CodeService;
 import com.ts.rm.domain.common.service.FileStorageService;
 import com.ts.rm.domain.filesync.adapter.FileSyncAdapter;
 import com.ts.rm.domain.filesync.dto.FileSyncDiscrepancy;
@@ -14,12 +16,21 @@ import com.ts.rm.domain.filesync.dto.FileSyncMetadata;
 import com.ts.rm.domain.filesync.enums.FileSyncAction;
 import com.ts.rm.domain.filesync.enums.FileSyncStatus;
 import com.ts.rm.domain.filesync.enums.FileSyncTarget;
+import com.ts.rm.domain.filesync.repository.FileChecksumCacheRepository;
 import com.ts.rm.domain.filesync.repository.FileSyncIgnoreRepository;
+import com.ts.rm.global.file.FileChecksumUtil;
+import com.ts.rm.global.websocket.messaging.WebSocketMessageSender;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +38,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * FileSyncService 단위 테스트
@@ -41,6 +55,15 @@ class FileSyncServiceTest {
     @Mock
     private FileSyncIgnoreRepository fileSyncIgnoreRepository;
 
+    @Mock
+    private FileChecksumCacheRepository fileChecksumCacheRepository;
+
+    @Mock
+    private CodeService codeService;
+
+    @Mock
+    private WebSocketMessageSender webSocketMessageSender;
+
     @Mock
     private FileSyncAdapter releaseAdapter;
 
@@ -48,94 +71,82 @@ class FileSyncServiceTest {
     private FileSyncAdapter resourceAdapter;
 
     private FileSyncService fileSyncService;
+    private FileSyncDiscrepancyCache discrepancyCache;
+    private RecordingChunkWriter chunkWriter;
+    private ForkJoinPool scanPool;
 
     @TempDir
     Path tempDir;
 
     @BeforeEach
     void setUp() {
-        // 어댑터 목록으로 서비스 생성
+        // 어댑터 목록으로 서비스 생성 (스캐너/체크섬 캐시/분석 캐시는 실제 구현, 저널 비활성)
         List<FileSyncAdapter> adapters = List.of(releaseAdapter, resourceAdapter);
-        fileSyncService = new FileSyncService(fileStorageService, fileSyncIgnoreRepository, adapters);
+        scanPool = new ForkJoinPool(2);
+        discrepancyCache = new FileSyncDiscrepancyCache(null, new ObjectMapper());
+        ReflectionTestUtils.setField(discrepancyCache, "maxEntries", 1000);
+        ReflectionTestUtils.setField(discrepancyCache, "ttl", Duration.ofHours(1));
+        chunkWriter = new RecordingChunkWriter();
+
+        fileSyncService = new FileSyncService(fileStorageService, fileSyncIgnoreRepository, codeService, adapters,
+                new FileSystemScanner(scanPool), new FileChecksumCacheService(fileChecksumCacheRepository),
+                new FileSyncJournal(fileStorageService, adapters), webSocketMessageSender, discrepancyCache,
+                chunkWriter);
+        ReflectionTestUtils.setField(fileSyncService, "applyChunkSize", 2);
 
         // 기본 어댑터 설정
         given(releaseAdapter.getTarget()).willReturn(FileSyncTarget.RELEASE_FILE);
-        given(releaseAdapter.getBaseScanPath()).willReturn("versions");
         given(resourceAdapter.getTarget()).willReturn(FileSyncTarget.RESOURCE_FILE);
-        given(resourceAdapter.getBaseScanPath()).willReturn("resource");
+    }
+
+    @AfterEach
+    void tearDown() {
+        scanPool.shutdown();
+        SecurityContextHolder.clearContext();
     }
 
     @Test
     @DisplayName("분석 - 불일치 없음 (DB와 파일시스템 동기화됨)")
     void analyze_NoDiscrepancies() throws IOException {
         // given
-        Path versionsDir = tempDir.resolve("versions");
-        Files.createDirectories(versionsDir);
-        Path testFile = versionsDir.resolve("test.sql");
-        Files.writeString(testFile, "SELECT 1;");
+        Path versionsDir = givenReleaseDirectory();
+        Files.writeString(versionsDir.resolve("test.sql"), "SELECT 1;");
+        String checksum = FileChecksumUtil.calculateChecksum(versionsDir.resolve("test.sql"));
 
-        given(fileStorageService.getAbsolutePath("versions")).willReturn(versionsDir);
-        given(fileStorageService.getAbsolutePath("")).willReturn(tempDir);
-        given(releaseAdapter.getRegisteredFiles(any())).willReturn(List.of(
+        given(releaseAdapter.streamRegisteredFiles(any())).willAnswer(invocation -> Stream.of(
                 FileSyncMetadata.builder()
                         .id(1L)
                         .filePath("versions/test.sql")
                         .fileName("test.sql")
                         .fileSize(9L)
-                        .checksum("a1b2c3") // 체크섬은 동일하다고 가정 (단위 테스트에서는 생략)
+                        .checksum(checksum)
                         .registeredAt(LocalDateTime.now())
                         .target(FileSyncTarget.RELEASE_FILE)
                         .build()
         ));
 
-        // 빈 디렉토리로 설정 (resourceAdapter)
-        Path resourceDir = tempDir.resolve("resource");
-        Files.createDirectories(resourceDir);
-        given(fileStorageService.getAbsolutePath("resource")).willReturn(resourceDir);
-        given(resourceAdapter.getRegisteredFiles(any())).willReturn(List.of());
-
-        FileSyncDto.AnalyzeRequest request = FileSyncDto.AnalyzeRequest.builder()
-                .targets(List.of(FileSyncTarget.RELEASE_FILE))
-                .build();
-
         // when
-        FileSyncDto.AnalyzeResponse response = fileSyncService.analyze(request);
+        FileSyncDto.AnalyzeResponse response = fileSyncService.analyze(releaseAnalyzeRequest());
 
         // then
-        assertThat(response).isNotNull();
         assertThat(response.getAnalyzedAt()).isNotNull();
-        // 체크섬 불일치로 1건 발생할 수 있음 (파일시스템의 실제 체크섬과 DB 체크섬이 다름)
+        assertThat(response.getDiscrepancies()).isEmpty();
+        assertThat(response.getSummary().getSynced()).isEqualTo(1);
     }
 
     @Test
     @DisplayName("분석 - 미등록 파일 발견 (UNREGISTERED)")
     void analyze_UnregisteredFileFound() throws IOException {
         // given
-        Path versionsDir = tempDir.resolve("versions");
-        Files.createDirectories(versionsDir);
-        Path unregisteredFile = versionsDir.resolve("unregistered.sql");
-        Files.writeString(unregisteredFile, "SELECT 1;");
-
-        given(fileStorageService.getAbsolutePath("versions")).willReturn(versionsDir);
-        given(fileStorageService.getAbsolutePath("")).willReturn(tempDir);
-        given(releaseAdapter.getRegisteredFiles(any())).willReturn(List.of()); // DB에는 없음
-
-        // resourceAdapter 설정
-        Path resourceDir = tempDir.resolve("resource");
-        Files.createDirectories(resourceDir);
-        given(fileStorageService.getAbsolutePath("resource")).willReturn(resourceDir);
-        given(resourceAdapter.getRegisteredFiles(any())).willReturn(List.of());
-
-        FileSyncDto.AnalyzeRequest request = FileSyncDto.AnalyzeRequest.builder()
-                .targets(List.of(FileSyncTarget.RELEASE_FILE))
-                .build();
+        Path versionsDir = givenReleaseDirectory();
+        Files.writeString(versionsDir.resolve("unregistered.sql"), "SELECT 1;");
+        given(releaseAdapter.streamRegisteredFiles(any())).willAnswer(invocation -> Stream.empty()); // DB에는 없음
 
         // when
-        FileSyncDto.AnalyzeResponse response = fileSyncService.analyze(request);
+        FileSyncDto.AnalyzeResponse response = fileSyncService.analyze(releaseAnalyzeRequest());
 
         // then
-        assertThat(response).isNotNull();
-        assertThat(response.getDiscrepancies()).isNotEmpty();
+        assertThat(response.getDiscrepancies()).hasSize(1);
 
         FileSyncDiscrepancy discrepancy = response.getDiscrepancies().get(0);
         assertThat(discrepancy.getStatus()).isEqualTo(FileSyncStatus.UNREGISTERED);
@@ -147,14 +158,9 @@ class FileSyncServiceTest {
     @Test
     @DisplayName("분석 - 파일 없음 발견 (FILE_MISSING)")
     void analyze_FileMissingFound() throws IOException {
-        // given
-        Path versionsDir = tempDir.resolve("versions");
-        Files.createDirectories(versionsDir);
-        // 파일시스템에는 파일 없음
-
-        given(fileStorageService.getAbsolutePath("versions")).willReturn(versionsDir);
-        given(fileStorageService.getAbsolutePath("")).willReturn(tempDir);
-        given(releaseAdapter.getRegisteredFiles(any())).willReturn(List.of(
+        // given - 파일시스템에는 파일 없음
+        givenReleaseDirectory();
+        given(releaseAdapter.streamRegisteredFiles(any())).willAnswer(invocation -> Stream.of(
                 FileSyncMetadata.builder()
                         .id(1L)
                         .filePath("versions/missing.sql")
@@ -166,22 +172,11 @@ class FileSyncServiceTest {
                         .build()
         ));
 
-        // resourceAdapter 설정
-        Path resourceDir = tempDir.resolve("resource");
-        Files.createDirectories(resourceDir);
-        given(fileStorageService.getAbsolutePath("resource")).willReturn(resourceDir);
-        given(resourceAdapter.getRegisteredFiles(any())).willReturn(List.of());
-
-        FileSyncDto.AnalyzeRequest request = FileSyncDto.AnalyzeRequest.builder()
-                .targets(List.of(FileSyncTarget.RELEASE_FILE))
-                .build();
-
         // when
-        FileSyncDto.AnalyzeResponse response = fileSyncService.analyze(request);
+        FileSyncDto.AnalyzeResponse response = fileSyncService.analyze(releaseAnalyzeRequest());
 
         // then
-        assertThat(response).isNotNull();
-        assertThat(response.getDiscrepancies()).isNotEmpty();
+        assertThat(response.getDiscrepancies()).hasSize(1);
 
         FileSyncDiscrepancy discrepancy = response.getDiscrepancies().get(0);
         assertThat(discrepancy.getStatus()).isEqualTo(FileSyncStatus.FILE_MISSING);
@@ -194,14 +189,9 @@ class FileSyncServiceTest {
     @DisplayName("분석 - 크기 불일치 발견 (SIZE_MISMATCH)")
     void analyze_SizeMismatchFound() throws IOException {
         // given
-        Path versionsDir = tempDir.resolve("versions");
-        Files.createDirectories(versionsDir);
-        Path testFile = versionsDir.resolve("test.sql");
-        Files.writeString(testFile, "SELECT 1; -- Long content here");
-
-        given(fileStorageService.getAbsolutePath("versions")).willReturn(versionsDir);
-        given(fileStorageService.getAbsolutePath("")).willReturn(tempDir);
-        given(releaseAdapter.getRegisteredFiles(any())).willReturn(List.of(
+        Path versionsDir = givenReleaseDirectory();
+        Files.writeString(versionsDir.resolve("test.sql"), "SELECT 1; -- Long content here");
+        given(releaseAdapter.streamRegisteredFiles(any())).willAnswer(invocation -> Stream.of(
                 FileSyncMetadata.builder()
                         .id(1L)
                         .filePath("versions/test.sql")
@@ -213,22 +203,11 @@ class FileSyncServiceTest {
                         .build()
         ));
 
-        // resourceAdapter 설정
-        Path resourceDir = tempDir.resolve("resource");
-        Files.createDirectories(resourceDir);
-        given(fileStorageService.getAbsolutePath("resource")).willReturn(resourceDir);
-        given(resourceAdapter.getRegisteredFiles(any())).willReturn(List.of());
-
-        FileSyncDto.AnalyzeRequest request = FileSyncDto.AnalyzeRequest.builder()
-                .targets(List.of(FileSyncTarget.RELEASE_FILE))
-                .build();
-
         // when
-        FileSyncDto.AnalyzeResponse response = fileSyncService.analyze(request);
+        FileSyncDto.AnalyzeResponse response = fileSyncService.analyze(releaseAnalyzeRequest());
 
         // then
-        assertThat(response).isNotNull();
-        assertThat(response.getDiscrepancies()).isNotEmpty();
+        assertThat(response.getDiscrepancies()).hasSize(1);
 
         FileSyncDiscrepancy discrepancy = response.getDiscrepancies().get(0);
         assertThat(discrepancy.getStatus()).isEqualTo(FileSyncStatus.SIZE_MISMATCH);
@@ -239,29 +218,14 @@ class FileSyncServiceTest {
     @Test
     @DisplayName("분석 - 요약 정보 확인")
     void analyze_SummaryIsCorrect() throws IOException {
-        // given
-        Path versionsDir = tempDir.resolve("versions");
-        Files.createDirectories(versionsDir);
-        // 미등록 파일 2개 생성
+        // given - 미등록 파일 2개 생성
+        Path versionsDir = givenReleaseDirectory();
         Files.writeString(versionsDir.resolve("file1.sql"), "SELECT 1;");
         Files.writeString(versionsDir.resolve("file2.sql"), "SELECT 2;");
-
-        given(fileStorageService.getAbsolutePath("versions")).willReturn(versionsDir);
-        given(fileStorageService.getAbsolutePath("")).willReturn(tempDir);
-        given(releaseAdapter.getRegisteredFiles(any())).willReturn(List.of()); // DB에는 없음
-
-        // resourceAdapter 설정
-        Path resourceDir = tempDir.resolve("resource");
-        Files.createDirectories(resourceDir);
-        given(fileStorageService.getAbsolutePath("resource")).willReturn(resourceDir);
-        given(resourceAdapter.getRegisteredFiles(any())).willReturn(List.of());
-
-        FileSyncDto.AnalyzeRequest request = FileSyncDto.AnalyzeRequest.builder()
-                .targets(List.of(FileSyncTarget.RELEASE_FILE))
-                .build();
+        given(releaseAdapter.streamRegisteredFiles(any())).willAnswer(invocation -> Stream.empty()); // DB에는 없음
 
         // when
-        FileSyncDto.AnalyzeResponse response = fileSyncService.analyze(request);
+        FileSyncDto.AnalyzeResponse response = fileSyncService.analyze(releaseAnalyzeRequest());
 
         // then
         assertThat(response.getSummary()).isNotNull();
@@ -274,60 +238,31 @@ class FileSyncServiceTest {
     @DisplayName("적용 - IGNORE 액션 성공")
     void apply_IgnoreAction() throws IOException {
         // given - 먼저 분석하여 캐시에 등록
-        Path versionsDir = tempDir.resolve("versions");
-        Files.createDirectories(versionsDir);
+        Path versionsDir = givenReleaseDirectory();
         Files.writeString(versionsDir.resolve("test.sql"), "SELECT 1;");
+        given(releaseAdapter.streamRegisteredFiles(any())).willAnswer(invocation -> Stream.empty());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("admin@tscientific", null, List.of()));
 
-        given(fileStorageService.getAbsolutePath("versions")).willReturn(versionsDir);
-        given(fileStorageService.getAbsolutePath("")).willReturn(tempDir);
-        given(releaseAdapter.getRegisteredFiles(any())).willReturn(List.of());
-
-        Path resourceDir = tempDir.resolve("resource");
-        Files.createDirectories(resourceDir);
-        given(fileStorageService.getAbsolutePath("resource")).willReturn(resourceDir);
-        given(resourceAdapter.getRegisteredFiles(any())).willReturn(List.of());
-
-        FileSyncDto.AnalyzeRequest analyzeRequest = FileSyncDto.AnalyzeRequest.builder()
-                .targets(List.of(FileSyncTarget.RELEASE_FILE))
-                .build();
-
-        FileSyncDto.AnalyzeResponse analyzeResponse = fileSyncService.analyze(analyzeRequest);
+        FileSyncDto.AnalyzeResponse analyzeResponse = fileSyncService.analyze(releaseAnalyzeRequest());
         String discrepancyId = analyzeResponse.getDiscrepancies().get(0).getId();
 
         // when
-        FileSyncDto.ApplyRequest applyRequest = FileSyncDto.ApplyRequest.builder()
-                .actions(List.of(
-                        FileSyncDto.ActionItem.builder()
-                                .id(discrepancyId)
-                                .action(FileSyncAction.IGNORE)
-                                .build()
-                ))
-                .build();
-
-        FileSyncDto.ApplyResponse applyResponse = fileSyncService.apply(applyRequest);
+        FileSyncDto.ApplyResponse applyResponse = fileSyncService.apply(applyRequest(
+                List.of(discrepancyId), FileSyncAction.IGNORE));
 
         // then
-        assertThat(applyResponse).isNotNull();
         assertThat(applyResponse.getSummary().getTotal()).isEqualTo(1);
         assertThat(applyResponse.getSummary().getSuccess()).isEqualTo(1);
-        assertThat(applyResponse.getResults().get(0).getMessage()).isEqualTo("무시됨");
+        assertThat(applyResponse.getResults().get(0).getMessage()).isEqualTo("무시 목록에 등록됨");
     }
 
     @Test
     @DisplayName("적용 - 캐시에 없는 ID로 요청 시 실패")
     void apply_InvalidIdFails() {
-        // given
-        FileSyncDto.ApplyRequest request = FileSyncDto.ApplyRequest.builder()
-                .actions(List.of(
-                        FileSyncDto.ActionItem.builder()
-                                .id("invalid-uuid")
-                                .action(FileSyncAction.REGISTER)
-                                .build()
-                ))
-                .build();
-
         // when
-        FileSyncDto.ApplyResponse response = fileSyncService.apply(request);
+        FileSyncDto.ApplyResponse response = fileSyncService.apply(applyRequest(
+                List.of("invalid-uuid"), FileSyncAction.REGISTER));
 
         // then
         assertThat(response.getSummary().getFailed()).isEqualTo(1);
@@ -335,34 +270,142 @@ class FileSyncServiceTest {
         assertThat(response.getResults().get(0).getMessage()).contains("불일치 항목을 찾을 수 없습니다");
     }
 
+    @Test
+    @DisplayName("적용 - 청크 단위로 커밋되며, 실패한 청크는 롤백 후 항목별로 다시 적용되어 앞선 청크는 유지")
+    void apply_FailingChunkKeepsEarlierChunks() {
+        // given - 청크 크기 2: [1, 2] [3, 4] [5], 4번 항목만 실패
+        List<String> ids = givenMissingFiles(5);
+        givenDeleteMetadataFailsFor(4L);
+
+        // when
+        fileSyncService.apply(applyRequest(ids, FileSyncAction.DELETE_METADATA));
+
+        // then
+        assertThat(chunkWriter.chunkSizes).containsExactly(2, 2, 1, 1, 1);
+        assertThat(chunkWriter.committed).containsExactly(1L, 2L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("적용 - 항목별 재시도 후 실패한 항목만 실패로 보고")
+    void apply_ReportsOnlyFailingItemAfterRetry() {
+        // given
+        List<String> ids = givenMissingFiles(5);
+        givenDeleteMetadataFailsFor(4L);
+
+        // when
+        FileSyncDto.ApplyResponse response = fileSyncService.apply(applyRequest(ids, FileSyncAction.DELETE_METADATA));
+
+        // then
+        assertThat(response.getSummary().getSuccess()).isEqualTo(4);
+        assertThat(response.getSummary().getFailed()).isEqualTo(1);
+        assertThat(response.getResults())
+                .filteredOn(result -> !result.isSuccess())
+                .singleElement()
+                .satisfies(result -> {
+                    assertThat(result.getId()).isEqualTo(ids.get(3));
+                    assertThat(result.getMessage()).isEqualTo("처리 실패: 메타데이터 4 삭제 실패");
+                });
+        // 실패한 항목만 다시 적용할 수 있도록 분석 캐시에 남음
+        assertThat(discrepancyCache.get(ids.get(3))).isNotNull();
+        assertThat(discrepancyCache.get(ids.get(2))).isNull();
+    }
+
     @Test
     @DisplayName("분석 - 특정 대상만 필터링")
     void analyze_FilterByTarget() throws IOException {
         // given
-        Path versionsDir = tempDir.resolve("versions");
-        Files.createDirectories(versionsDir);
+        Path versionsDir = givenReleaseDirectory();
         Files.writeString(versionsDir.resolve("release.sql"), "SELECT 1;");
 
         Path resourceDir = tempDir.resolve("resource");
         Files.createDirectories(resourceDir);
         Files.writeString(resourceDir.resolve("script.sh"), "echo hello");
+        given(releaseAdapter.streamRegisteredFiles(any())).willAnswer(invocation -> Stream.empty());
+
+        // when - RELEASE_FILE만 요청
+        FileSyncDto.AnalyzeResponse response = fileSyncService.analyze(releaseAnalyzeRequest());
+
+        // then
+        assertThat(response.getDiscrepancies()).isNotEmpty().allMatch(
+                d -> d.getTarget() == FileSyncTarget.RELEASE_FILE);
+    }
 
+    private Path givenReleaseDirectory() throws IOException {
+        Path versionsDir = tempDir.resolve("versions");
+        Files.createDirectories(versionsDir);
+        given(releaseAdapter.getBaseScanPath()).willReturn("versions");
         given(fileStorageService.getAbsolutePath("versions")).willReturn(versionsDir);
-        given(fileStorageService.getAbsolutePath("resource")).willReturn(resourceDir);
         given(fileStorageService.getAbsolutePath("")).willReturn(tempDir);
-        given(releaseAdapter.getRegisteredFiles(any())).willReturn(List.of());
-        given(resourceAdapter.getRegisteredFiles(any())).willReturn(List.of());
+        return versionsDir;
+    }
 
-        // RELEASE_FILE만 요청
-        FileSyncDto.AnalyzeRequest request = FileSyncDto.AnalyzeRequest.builder()
+    private FileSyncDto.AnalyzeRequest releaseAnalyzeRequest() {
+        return FileSyncDto.AnalyzeRequest.builder()
                 .targets(List.of(FileSyncTarget.RELEASE_FILE))
                 .build();
+    }
 
-        // when
-        FileSyncDto.AnalyzeResponse response = fileSyncService.analyze(request);
+    /**
+     * 파일 없음(FILE_MISSING) 불일치 항목을 분석 캐시에 등록 (DB ID 1 ~ count)
+     */
+    private List<String> givenMissingFiles(int count) {
+        List<FileSyncDiscrepancy> discrepancies = new ArrayList<>();
+        for (long dbId = 1; dbId <= count; dbId++) {
+            discrepancies.add(FileSyncDiscrepancy.builder()
+                    .id("discrepancy-" + dbId)
+                    .target(FileSyncTarget.RELEASE_FILE)
+                    .filePath("versions/missing" + dbId + ".sql")
+                    .fileName("missing" + dbId + ".sql")
+                    .status(FileSyncStatus.FILE_MISSING)
+                    .dbInfo(FileSyncDiscrepancy.DbInfo.builder().id(dbId).build())
+                    .build());
+        }
+        discrepancyCache.put("analysis-1", List.of(FileSyncTarget.RELEASE_FILE), discrepancies);
+        return discrepancies.stream().map(FileSyncDiscrepancy::getId).toList();
+    }
 
-        // then
-        assertThat(response.getDiscrepancies()).allMatch(
-                d -> d.getTarget() == FileSyncTarget.RELEASE_FILE);
+    /**
+     * 메타데이터 삭제를 현재 청크 트랜잭션에 기록하고, 지정한 ID는 실패시킴
+     */
+    private void givenDeleteMetadataFailsFor(Long failingId) {
+        willAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            if (id.equals(failingId)) {
+                throw new IllegalStateException("메타데이터 " + id + " 삭제 실패");
+            }
+            chunkWriter.staged.add(id);
+            return null;
+        }).given(releaseAdapter).deleteMetadata(anyLong());
+    }
+
+    private FileSyncDto.ApplyRequest applyRequest(List<String> ids, FileSyncAction action) {
+        return FileSyncDto.ApplyRequest.builder()
+                .actions(ids.stream()
+                        .map(id -> FileSyncDto.ActionItem.builder().id(id).action(action).build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 청크 트랜잭션 커밋/롤백을 기록하는 청크 실행기 (청크가 성공하면 커밋, 예외가 나면 청크 안의 반영을 버림)
+     */
+    private static class RecordingChunkWriter extends FileSyncChunkWriter {
+
+        private final List<Integer> chunkSizes = new ArrayList<>();
+        private final List<Long> staged = new ArrayList<>();
+        private final List<Long> committed = new ArrayList<>();
+
+        @Override
+        public <T, R> List<R> write(List<T> items, Function<T, R> writer) {
+            chunkSizes.add(items.size());
+            staged.clear();
+            try {
+                List<R> results = super.write(items, writer);
+                committed.addAll(staged);
+                return results;
+            } finally {
+                staged.clear();
+            }
+        }
     }
 }
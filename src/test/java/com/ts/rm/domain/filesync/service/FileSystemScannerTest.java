@@ -0,0 +1,169 @@
+package com.ts.rm.domain.filesync.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.ts.rm.global.file.FileChecksumUtil;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * FileSystemScanner 테스트 (병렬 디렉토리 순회 및 체크섬 계산)
+ */
+@DisplayName("FileSystemScanner 테스트")
+class FileSystemScannerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ForkJoinPool pool;
+    private FileSystemScanner scanner;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        scanner = new FileSystemScanner(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("파일 스캔 - 확장자 필터와 제외 디렉토리 적용, 10MB 미만 파일만 체크섬 계산")
+    void scanFiles_FiltersAndChecksums() throws IOException {
+        // given
+        Path versions = tempDir.resolve("versions");
+        Path small = write(versions.resolve("infraeye2/1.0.0/database/1.patch.sql"), "SELECT 1;");
+        write(versions.resolve("infraeye2/1.0.0/readme.txt"), "skip");
+        write(versions.resolve("infraeye2/.blobs/ab/cd.sql"), "excluded");
+        Path large = versions.resolve("infraeye2/1.0.1/large.sql");
+        Files.createDirectories(large.getParent());
+        try (RandomAccessFile file = new RandomAccessFile(large.toFile(), "rw")) {
+            file.setLength(FileSystemScanner.CHECKSUM_SIZE_LIMIT);
+        }
+
+        // when
+        List<FileSystemScanner.ScannedPath> files = scanner.scanFiles(versions,
+                name -> name.endsWith(".sql"), List.of(".blobs"), null, null);
+
+        // then
+        assertThat(files)
+                .extracting(FileSystemScanner.ScannedPath::path, FileSystemScanner.ScannedPath::size,
+                        FileSystemScanner.ScannedPath::checksum)
+                .containsExactlyInAnyOrder(
+                        tuple(small, 9L, FileChecksumUtil.calculateChecksum(small)),
+                        tuple(large, FileSystemScanner.CHECKSUM_SIZE_LIMIT, null));
+        assertThat(files).allSatisfy(file -> assertThat(file.lastModified())
+                .isEqualTo(Files.getLastModifiedTime(file.path())));
+    }
+
+    @Test
+    @DisplayName("파일 스캔 - 여러 디렉토리에 걸친 파일 처리 후 진행 상황 보고")
+    void scanFiles_ReportsProgress() throws IOException {
+        // given
+        for (int i = 0; i < 1500; i++) {
+            write(tempDir.resolve("dir" + (i % 7) + "/sub" + (i % 3) + "/" + i + ".sql"), "file " + i);
+        }
+        AtomicInteger reports = new AtomicInteger();
+        AtomicInteger lastProcessed = new AtomicInteger();
+
+        // when
+        List<FileSystemScanner.ScannedPath> files = scanner.scanFiles(tempDir, name -> true, null, null,
+                (scanned, processed) -> {
+                    reports.incrementAndGet();
+                    lastProcessed.set(processed);
+                });
+
+        // then
+        assertThat(files).hasSize(1500);
+        assertThat(reports.get()).isGreaterThanOrEqualTo(2);
+        assertThat(lastProcessed).hasValue(1500);
+    }
+
+    @Test
+    @DisplayName("폴더 스캔 - 지정 깊이까지의 폴더만 반환하고 제외 폴더 이름은 결과에서 제외")
+    void scanFolders_DepthAndExcluded() throws IOException {
+        // given
+        Path patches = tempDir.resolve("patches");
+        Files.createDirectories(patches.resolve("infraeye2/202501_patch/database"));
+        Files.createDirectories(patches.resolve(".cache"));
+        write(patches.resolve("infraeye2/readme.md"), "file");
+
+        // when
+        List<FileSystemScanner.ScannedPath> folders = scanner.scanFolders(patches, 2, List.of(".cache"));
+
+        // then
+        assertThat(folders)
+                .extracting(FileSystemScanner.ScannedPath::path)
+                .containsExactlyInAnyOrder(patches.resolve("infraeye2"), patches.resolve("infraeye2/202501_patch"));
+        assertThat(folders).allSatisfy(folder -> {
+            assertThat(folder.size()).isNull();
+            assertThat(folder.checksum()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("경로 지정 스캔 - 파일은 그대로, 디렉토리는 하위 전체 스캔, 삭제/제외 경로는 건너뜀")
+    void scanPaths_FilesAndDirectories() throws IOException {
+        // given
+        Path file = write(tempDir.resolve("versions/infraeye2/1.0.0/1.patch.sql"), "SELECT 1;");
+        Path nested = write(tempDir.resolve("versions/infraeye2/1.0.1/database/2.patch.sql"), "SELECT 2;");
+        write(tempDir.resolve("versions/infraeye2/1.0.1/readme.txt"), "skip");
+        Path blob = write(tempDir.resolve("versions/.blobs/ab/cd.sql"), "excluded");
+
+        // when
+        List<FileSystemScanner.ScannedPath> files = scanner.scanPaths(
+                List.of(file, tempDir.resolve("versions/infraeye2/1.0.1"), tempDir.resolve("versions/deleted.sql"), blob),
+                name -> name.endsWith(".sql"), List.of(".blobs"), null);
+
+        // then
+        assertThat(files)
+                .extracting(FileSystemScanner.ScannedPath::path, FileSystemScanner.ScannedPath::checksum)
+                .containsExactlyInAnyOrder(
+                        tuple(file, FileChecksumUtil.calculateChecksum(file)),
+                        tuple(nested, FileChecksumUtil.calculateChecksum(nested)));
+    }
+
+    @Test
+    @DisplayName("체크섬 일괄 계산 - 크기 제한 없이 계산하고(CRC32C 함께 계산), 캐시에 있는 파일은 읽지 않으며, 없는 파일은 제외")
+    void checksumFiles_NoSizeLimit() throws IOException {
+        // given
+        Path cached = write(tempDir.resolve("job/mariadb/backup_files/cached.sql"), "SELECT 1;");
+        Path large = tempDir.resolve("job/mariadb/backup_files/large.sql");
+        try (RandomAccessFile file = new RandomAccessFile(large.toFile(), "rw")) {
+            file.setLength(FileSystemScanner.CHECKSUM_SIZE_LIMIT);
+        }
+        FileSystemScanner.ChecksumLookup lookup = (path, size, lastModified, fileKey) ->
+                path.equals(cached) ? "cached-checksum" : null;
+
+        // when
+        List<FileSystemScanner.ScannedPath> files = scanner.checksumFiles(
+                List.of(cached, large, tempDir.resolve("job/mariadb/backup_files/deleted.sql")), lookup);
+
+        // then
+        assertThat(files)
+                .extracting(FileSystemScanner.ScannedPath::path, FileSystemScanner.ScannedPath::checksum,
+                        FileSystemScanner.ScannedPath::crc32c)
+                .containsExactlyInAnyOrder(
+                        tuple(cached, "cached-checksum", null),
+                        tuple(large, FileChecksumUtil.calculateChecksum(large),
+                                FileChecksumUtil.calculateHash(large, FileChecksumUtil.HashAlgorithm.CRC32C)));
+    }
+
+    private Path write(Path path, String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        return Files.writeString(path, content);
+    }
+}
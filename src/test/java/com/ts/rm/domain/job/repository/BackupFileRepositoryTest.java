@@ -1,14 +1,19 @@
 package com.ts.rm.domain.job.repository;
 
 import com.ts.rm.config.AbstractTestBase;
+import com.ts.rm.domain.filesync.dto.RegisteredFileRow;
 import com.ts.rm.domain.job.entity.BackupFile;
+import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 /**
  * BackupFileRepository 테스트
@@ -122,4 +127,40 @@ class BackupFileRepositoryTest extends AbstractTestBase {
         assertThat(foundFile).isPresent();
         assertThat(foundFile.get().getFileName()).isEqualTo("find_test.sql");
     }
+
+    @Test
+    @Transactional
+    @DisplayName("파일 동기화용 스트리밍 조회 - 경로 접두어로 필터링 (LIKE 와일드카드 문자는 그대로 비교)")
+    void streamSyncRows() {
+        // given
+        backupFileRepository.save(BackupFile.builder()
+                .fileCategory("MARIADB")
+                .fileType("SQL")
+                .fileName("stream_a.sql")
+                .filePath("job/MARIADB/backup_files/stream_a.sql")
+                .fileSize(1024L)
+                .checksum("abc123")
+                .createdBy("test@test.com")
+                .build());
+        backupFileRepository.save(BackupFile.builder()
+                .fileCategory("MARIADB")
+                .fileType("SQL")
+                .fileName("stream_b.sql")
+                .filePath("job/MARIADB/backupXfiles/stream_b.sql")
+                .fileSize(2048L)
+                .checksum("def456")
+                .createdBy("test@test.com")
+                .build());
+
+        // when
+        List<RegisteredFileRow> rows;
+        try (Stream<RegisteredFileRow> stream = backupFileRepository.streamSyncRows("job/MARIADB/backup_files/stream_")) {
+            rows = stream.toList();
+        }
+
+        // then
+        assertThat(rows)
+                .extracting(RegisteredFileRow::filePath, RegisteredFileRow::fileSize, RegisteredFileRow::checksum)
+                .containsExactly(tuple("job/MARIADB/backup_files/stream_a.sql", 1024L, "abc123"));
+    }
 }
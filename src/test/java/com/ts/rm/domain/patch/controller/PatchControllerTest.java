@@ -9,6 +9,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.ts.rm.domain.patch.mapper.PatchDtoMapper;
+import com.ts.rm.domain.patch.service.PatchJobService;
 import com.ts.rm.domain.patch.service.PatchService;
 import com.ts.rm.global.config.MessageConfig;
 import com.ts.rm.global.exception.BusinessException;
@@ -43,6 +44,9 @@ class PatchControllerTest {
     @MockitoBean
     private PatchDtoMapper patchDtoMapper;
 
+    @MockitoBean
+    private PatchJobService patchJobService;
+
     // Security 관련 MockBean 추가
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
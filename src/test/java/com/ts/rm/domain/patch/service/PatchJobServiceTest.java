@@ -0,0 +1,299 @@
+package com.ts.rm.domain.patch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.atMost;
+
+import com.ts.rm.domain.job.enums.JobStatus;
+import com.ts.rm.domain.patch.dto.PatchDto;
+import com.ts.rm.domain.patch.entity.Patch;
+import com.ts.rm.domain.patch.enums.PatchJobStage;
+import com.ts.rm.global.exception.BusinessException;
+import com.ts.rm.global.exception.ErrorCode;
+import com.ts.rm.global.websocket.messaging.WebSocketMessageSender;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * PatchJobService 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PatchJobService 테스트")
+class PatchJobServiceTest {
+
+    @Mock
+    private PatchGenerationService patchGenerationService;
+
+    @Mock
+    private WebSocketMessageSender webSocketMessageSender;
+
+    @Mock
+    private ExecutorService patchJobExecutor;
+
+    @Mock
+    private PatchJobSnapshotStore patchJobSnapshotStore;
+
+    @InjectMocks
+    private PatchJobService patchJobService;
+
+    private PatchDto.GenerateRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = PatchDto.GenerateRequest.builder()
+                .projectId("infraeye2")
+                .type("STANDARD")
+                .fromVersion("1.0.0")
+                .toVersion("1.1.0")
+                .createdByEmail("admin@tscientific")
+                .build();
+    }
+
+    @Test
+    @DisplayName("작업 등록 - 대기 상태와 작업 ID를 즉시 반환")
+    void submitStandard_ReturnsQueuedJob() {
+        // when
+        PatchDto.JobResponse response = patchJobService.submitStandard(request);
+
+        // then
+        assertThat(response.jobId()).isNotBlank();
+        assertThat(response.status()).isEqualTo(JobStatus.QUEUED);
+        assertThat(response.stage()).isEqualTo(PatchJobStage.QUEUED);
+        assertThat(patchJobService.getJob(response.jobId())).isEqualTo(response);
+        then(patchGenerationService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("작업 실행 - 파일 복사 진행률은 간격 단위로만 전송하고 완료 시 패치 ID 기록")
+    void submitStandard_Completed() {
+        // given
+        runImmediately();
+        Patch patch = Patch.builder().patchId(10L).build();
+        given(patchGenerationService.generatePatchByVersion(eq("infraeye2"), eq("STANDARD"), isNull(),
+                eq("1.0.0"), eq("1.1.0"), eq("admin@tscientific"), isNull(), isNull(), isNull(),
+                anyBoolean(), any(PatchProgressListener.class)))
+                .willAnswer(invocation -> {
+                    PatchProgressListener listener = invocation.getArgument(10);
+                    listener.onProgress(PatchJobStage.RESOLVE_VERSIONS, 0, 0);
+                    for (int processed = 0; processed <= 1000; processed++) {
+                        listener.onProgress(PatchJobStage.COPY_FILES, processed, 1000);
+                    }
+                    listener.onProgress(PatchJobStage.SAVE, 0, 0);
+                    return patch;
+                });
+
+        // when
+        String jobId = patchJobService.submitStandard(request).jobId();
+
+        // then
+        PatchDto.JobResponse job = patchJobService.getJob(jobId);
+        assertThat(job.status()).isEqualTo(JobStatus.SUCCESS);
+        assertThat(job.stage()).isEqualTo(PatchJobStage.COMPLETED);
+        assertThat(job.patchId()).isEqualTo(10L);
+        assertThat(job.processedFiles()).isEqualTo(1000);
+        assertThat(job.endTime()).isNotNull();
+
+        // 실행 시작 1회 + 단계 변경 3회 + 진행률 5% 간격 20회 + 완료 1회
+        then(webSocketMessageSender).should(atMost(25)).sendToTopic(
+                eq(PatchJobService.TOPIC_PREFIX + jobId), eq(PatchJobService.MESSAGE_TYPE), any());
+    }
+
+    @Test
+    @DisplayName("작업 실행 - 작업 스레드가 시작할 때 대기 상태에서 실행 중으로 전환")
+    void submitStandard_RunningWhenStarted() {
+        // given
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        willDoNothing().given(patchJobExecutor).execute(task.capture());
+        AtomicReference<String> jobId = new AtomicReference<>();
+        AtomicReference<JobStatus> statusDuringGeneration = new AtomicReference<>();
+        given(patchGenerationService.generatePatchByVersion(anyString(), anyString(), any(), anyString(),
+                anyString(), anyString(), any(), any(), any(), anyBoolean(), any(PatchProgressListener.class)))
+                .willAnswer(invocation -> {
+                    statusDuringGeneration.set(patchJobService.getJob(jobId.get()).status());
+                    return Patch.builder().patchId(10L).build();
+                });
+        jobId.set(patchJobService.submitStandard(request).jobId());
+        assertThat(patchJobService.getJob(jobId.get()).status()).isEqualTo(JobStatus.QUEUED);
+
+        // when
+        task.getValue().run();
+
+        // then
+        assertThat(statusDuringGeneration.get()).isEqualTo(JobStatus.RUNNING);
+        assertThat(patchJobService.getJob(jobId.get()).status()).isEqualTo(JobStatus.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("작업 실행 - 패치 생성 실패 시 실패 상태와 오류 메시지 기록")
+    void submitStandard_Failed() {
+        // given
+        runImmediately();
+        given(patchGenerationService.generatePatchByVersion(anyString(), anyString(), any(), anyString(),
+                anyString(), anyString(), any(), any(), any(), anyBoolean(), any(PatchProgressListener.class)))
+                .willThrow(new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "버전 범위 내에 미승인 버전이 존재합니다."));
+
+        // when
+        String jobId = patchJobService.submitStandard(request).jobId();
+
+        // then
+        PatchDto.JobResponse job = patchJobService.getJob(jobId);
+        assertThat(job.status()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.stage()).isEqualTo(PatchJobStage.FAILED);
+        assertThat(job.errorMessage()).contains("미승인 버전");
+    }
+
+    @Test
+    @DisplayName("일괄 작업 실행 - 고객사별 성공/실패 상태와 패치 ID 기록")
+    void submitBatch_Completed() {
+        // given
+        runImmediately();
+        given(patchGenerationService.generateBatchPatches(eq("infraeye2"), eq("STANDARD"), eq(List.of(1L, 2L)),
+                eq("1.0.0"), eq("1.1.0"), eq("admin@tscientific"), isNull(), isNull(), isNull(),
+                anyBoolean(), any(PatchProgressListener.class)))
+                .willAnswer(invocation -> {
+                    PatchProgressListener listener = invocation.getArgument(10);
+                    listener.onProgress(PatchJobStage.LINK_CUSTOMER_PATCHES, 2, 2);
+                    return List.of(
+                            new BatchPatchResult(1L, "company_a", Patch.builder().patchId(10L).build(), null),
+                            new BatchPatchResult(2L, "company_b", null, "고객사 패치 구성 실패: disk full"));
+                });
+
+        // when
+        PatchDto.JobResponse submitted = patchJobService.submitBatch(batchRequest());
+
+        // then
+        assertThat(submitted.customers()).extracting(PatchDto.CustomerJobResponse::status)
+                .containsOnly(JobStatus.QUEUED);
+
+        PatchDto.JobResponse job = patchJobService.getJob(submitted.jobId());
+        assertThat(job.status()).isEqualTo(JobStatus.SUCCESS);
+        assertThat(job.stage()).isEqualTo(PatchJobStage.COMPLETED);
+        assertThat(job.errorMessage()).contains("1개 고객사");
+        assertThat(job.customers())
+                .extracting(PatchDto.CustomerJobResponse::customerCode, PatchDto.CustomerJobResponse::status,
+                        PatchDto.CustomerJobResponse::patchId)
+                .containsExactly(
+                        tuple("company_a", JobStatus.SUCCESS, 10L),
+                        tuple("company_b", JobStatus.FAILED, null));
+    }
+
+    @Test
+    @DisplayName("일괄 작업 실행 - 작업 전체 실패 시 모든 고객사를 실패로 기록")
+    void submitBatch_Failed() {
+        // given
+        runImmediately();
+        given(patchGenerationService.generateBatchPatches(anyString(), anyString(), any(), anyString(),
+                anyString(), anyString(), any(), any(), any(), anyBoolean(), any(PatchProgressListener.class)))
+                .willThrow(new BusinessException(ErrorCode.CUSTOMER_NOT_FOUND, "고객사를 찾을 수 없습니다: [2]"));
+
+        // when
+        String jobId = patchJobService.submitBatch(batchRequest()).jobId();
+
+        // then
+        PatchDto.JobResponse job = patchJobService.getJob(jobId);
+        assertThat(job.status()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.customers())
+                .extracting(PatchDto.CustomerJobResponse::customerId, PatchDto.CustomerJobResponse::status)
+                .containsExactly(tuple(1L, JobStatus.FAILED), tuple(2L, JobStatus.FAILED));
+    }
+
+    @Test
+    @DisplayName("작업 등록 - 대기열이 가득 차면 예외")
+    void submitStandard_QueueFull() {
+        // given
+        willThrow(new RejectedExecutionException()).given(patchJobExecutor).execute(any(Runnable.class));
+
+        // when & then
+        assertThatThrownBy(() -> patchJobService.submitStandard(request))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PATCH_JOB_QUEUE_FULL);
+        then(patchJobSnapshotStore).should().remove(anyString());
+    }
+
+    @Test
+    @DisplayName("작업 등록 - 대기 상태부터 종료 상태까지 스냅샷으로 공유")
+    void submitStandard_SharesSnapshots() {
+        // given
+        runImmediately();
+        given(patchGenerationService.generatePatchByVersion(any(), any(), any(), any(), any(), any(), any(),
+                any(), any(), anyBoolean(), any(PatchProgressListener.class)))
+                .willReturn(Patch.builder().patchId(10L).build());
+
+        // when
+        String jobId = patchJobService.submitStandard(request).jobId();
+
+        // then
+        ArgumentCaptor<PatchDto.JobResponse> captor = ArgumentCaptor.forClass(PatchDto.JobResponse.class);
+        then(patchJobSnapshotStore).should(atLeastOnce()).save(captor.capture());
+        assertThat(captor.getAllValues()).extracting(PatchDto.JobResponse::jobId).containsOnly(jobId);
+        assertThat(captor.getAllValues().get(0).status()).isEqualTo(JobStatus.QUEUED);
+        assertThat(captor.getValue().status()).isEqualTo(JobStatus.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("작업 조회 - 다른 인스턴스에서 등록한 작업은 공유된 스냅샷 반환")
+    void getJob_FromSnapshot() {
+        // given
+        PatchDto.JobResponse snapshot = PatchDto.JobResponse.builder()
+                .jobId("remote-job")
+                .status(JobStatus.RUNNING)
+                .stage(PatchJobStage.COPY_FILES)
+                .build();
+        given(patchJobSnapshotStore.find("remote-job")).willReturn(snapshot);
+
+        // when
+        PatchDto.JobResponse response = patchJobService.getJob("remote-job");
+
+        // then
+        assertThat(response).isEqualTo(snapshot);
+    }
+
+    @Test
+    @DisplayName("작업 조회 - 존재하지 않는 작업 ID이면 예외")
+    void getJob_NotFound() {
+        // when & then
+        assertThatThrownBy(() -> patchJobService.getJob("unknown"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PATCH_JOB_NOT_FOUND);
+    }
+
+    private PatchDto.BatchGenerateRequest batchRequest() {
+        return PatchDto.BatchGenerateRequest.builder()
+                .projectId("infraeye2")
+                .type("STANDARD")
+                .customerIds(List.of(1L, 2L))
+                .fromVersion("1.0.0")
+                .toVersion("1.1.0")
+                .createdByEmail("admin@tscientific")
+                .build();
+    }
+
+    private void runImmediately() {
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(patchJobExecutor).execute(any(Runnable.class));
+    }
+}
@@ -0,0 +1,111 @@
+package com.ts.rm.domain.patch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ts.rm.domain.job.enums.JobStatus;
+import com.ts.rm.domain.patch.dto.PatchDto;
+import com.ts.rm.domain.patch.enums.PatchJobStage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * PatchJobSnapshotStore 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PatchJobSnapshotStore 테스트")
+class PatchJobSnapshotStoreTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private PatchJobSnapshotStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new PatchJobSnapshotStore(redisTemplate, objectMapper);
+        ReflectionTestUtils.setField(store, "ttl", Duration.ofHours(2));
+        ReflectionTestUtils.setField(store, "redisEnabled", false);
+    }
+
+    @Test
+    @DisplayName("Redis 사용 시 - 저장한 스냅샷을 다른 인스턴스에서 같은 내용으로 조회")
+    void saveAndFind_RoundTrip() {
+        // given
+        ReflectionTestUtils.setField(store, "redisEnabled", true);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        PatchDto.JobResponse job = PatchDto.JobResponse.builder()
+                .jobId("job-1")
+                .status(JobStatus.SUCCESS)
+                .stage(PatchJobStage.COMPLETED)
+                .processedFiles(3)
+                .totalFiles(3)
+                .patchId(10L)
+                .startTime(LocalDateTime.of(2025, 1, 1, 9, 0))
+                .endTime(LocalDateTime.of(2025, 1, 1, 9, 5))
+                .customers(List.of(PatchDto.CustomerJobResponse.builder()
+                        .customerId(1L)
+                        .status(JobStatus.SUCCESS)
+                        .patchId(10L)
+                        .build()))
+                .build();
+
+        // when
+        store.save(job);
+        ArgumentCaptor<Object> saved = ArgumentCaptor.forClass(Object.class);
+        then(valueOperations).should().set(eq("patch-job:job-1"), saved.capture(), eq(Duration.ofHours(2)));
+        given(valueOperations.get("patch-job:job-1")).willReturn(saved.getValue());
+        PatchDto.JobResponse found = store.find("job-1");
+
+        // then
+        assertThat(found).isEqualTo(job);
+    }
+
+    @Test
+    @DisplayName("Redis 조회 실패 시 - 예외 없이 null 반환")
+    void find_RedisFailure() {
+        // given
+        ReflectionTestUtils.setField(store, "redisEnabled", true);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(anyString())).willThrow(new IllegalStateException("connection refused"));
+
+        // when
+        PatchDto.JobResponse found = store.find("job-1");
+
+        // then
+        assertThat(found).isNull();
+    }
+
+    @Test
+    @DisplayName("Redis 미사용 시 - Redis에 저장/조회하지 않음")
+    void saveAndFind_RedisDisabled() {
+        // when
+        store.save(PatchDto.JobResponse.builder().jobId("job-1").build());
+        PatchDto.JobResponse found = store.find("job-1");
+
+        // then
+        assertThat(found).isNull();
+        then(redisTemplate).should(never()).opsForValue();
+    }
+}
@@ -54,6 +54,9 @@ class PatchServiceTest {
     @Mock
     private ScriptGenerator crateDBScriptGenerator;
 
+    @Mock
+    private PatchZipCacheService patchZipCacheService;
+
     @InjectMocks
     private PatchService patchService;
 
@@ -111,6 +114,7 @@ class PatchServiceTest {
         // Then
         verify(patchRepository).findById(patchId);
         verify(patchRepository).delete(patch);
+        verify(patchZipCacheService).invalidate(outputPath);
 
         // 실제 파일이 삭제되었는지 확인
         assertThat(Files.exists(testPatchDir)).isFalse();
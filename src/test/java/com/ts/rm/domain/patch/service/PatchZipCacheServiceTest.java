@@ -0,0 +1,136 @@
+package com.ts.rm.domain.patch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ts.rm.domain.patch.entity.Patch;
+import com.ts.rm.global.exception.BusinessException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * PatchZipCacheService 테스트
+ */
+class PatchZipCacheServiceTest {
+
+    private static final String OUTPUT_PATH = "patches/infraeye2/20251226123045_1.0.0_1.1.0";
+
+    @TempDir
+    Path basePath;
+
+    private PatchZipCacheService patchZipCacheService;
+    private Patch patch;
+    private Path patchDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        patchZipCacheService = new PatchZipCacheService(ForkJoinPool.commonPool());
+        ReflectionTestUtils.setField(patchZipCacheService, "releaseBasePath", basePath.toString());
+
+        patchDir = basePath.resolve(OUTPUT_PATH);
+        Files.createDirectories(patchDir.resolve("database/mariadb"));
+        Files.writeString(patchDir.resolve("README.md"), "# patch");
+        Files.writeString(patchDir.resolve("database/mariadb/1.patch.sql"), "SELECT 1;");
+
+        patch = Patch.builder()
+                .patchId(1L)
+                .patchName("20251226123045_1.0.0_1.1.0")
+                .outputPath(OUTPUT_PATH)
+                .build();
+    }
+
+    @Test
+    @DisplayName("최초 조회 시 패치 디렉토리 옆에 ZIP 생성")
+    void getOrBuild_CreatesZipNextToPatch() throws IOException {
+        // when
+        PatchZipCacheService.CachedZip cachedZip = patchZipCacheService.getOrBuild(patch);
+
+        // then
+        assertThat(cachedZip.path()).isEqualTo(patchDir.resolveSibling(patchDir.getFileName() + ".zip"));
+        assertThat(cachedZip.size()).isEqualTo(Files.size(cachedZip.path()));
+        assertThat(cachedZip.etag()).matches("\"[0-9a-f]{64}\"");
+        assertThat(cachedZip.uncompressedSize()).isEqualTo("# patch".length() + "SELECT 1;".length());
+        assertThat(entryNames(cachedZip.path()))
+                .containsExactlyInAnyOrder("README.md", "database/mariadb/1.patch.sql");
+    }
+
+    @Test
+    @DisplayName("디렉토리 변경이 없으면 캐시된 ZIP 재사용")
+    void getOrBuild_ReusesCachedZip() throws IOException {
+        // given
+        PatchZipCacheService.CachedZip first = patchZipCacheService.getOrBuild(patch);
+        FileTime firstModified = Files.getLastModifiedTime(first.path());
+
+        // when
+        PatchZipCacheService.CachedZip second = patchZipCacheService.getOrBuild(patch);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(Files.getLastModifiedTime(second.path())).isEqualTo(firstModified);
+    }
+
+    @Test
+    @DisplayName("패치 디렉토리 변경 시 ZIP 재생성")
+    void getOrBuild_RebuildsWhenDirectoryChanges() throws IOException {
+        // given
+        PatchZipCacheService.CachedZip first = patchZipCacheService.getOrBuild(patch);
+        Files.writeString(patchDir.resolve("database/mariadb/2.patch.sql"), "SELECT 2;");
+
+        // when
+        PatchZipCacheService.CachedZip second = patchZipCacheService.getOrBuild(patch);
+
+        // then
+        assertThat(second.sha256()).isNotEqualTo(first.sha256());
+        assertThat(entryNames(second.path())).contains("database/mariadb/2.patch.sql");
+    }
+
+    @Test
+    @DisplayName("캐시 무효화 시 ZIP과 메타 파일 삭제")
+    void invalidate_DeletesCachedZip() {
+        // given
+        PatchZipCacheService.CachedZip cachedZip = patchZipCacheService.getOrBuild(patch);
+
+        // when
+        patchZipCacheService.invalidate(OUTPUT_PATH);
+
+        // then
+        assertThat(cachedZip.path()).doesNotExist();
+        assertThat(cachedZip.path().resolveSibling(patchDir.getFileName() + ".zip.meta")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("빈 패치 디렉토리는 ZIP 생성 실패")
+    void getOrBuild_EmptyDirectory() throws IOException {
+        // given
+        Path emptyDir = basePath.resolve("patches/infraeye2/20251226123045_1.1.0_1.2.0");
+        Files.createDirectories(emptyDir);
+        Patch emptyPatch = Patch.builder()
+                .patchId(2L)
+                .outputPath("patches/infraeye2/20251226123045_1.1.0_1.2.0")
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> patchZipCacheService.getOrBuild(emptyPatch))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private List<String> entryNames(Path zipPath) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (ZipFile zipFile = new ZipFile(zipPath.toFile())) {
+            zipFile.stream().map(ZipEntry::getName).forEach(names::add);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,209 @@
+package com.ts.rm.domain.patch.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ts.rm.domain.releasefile.entity.ReleaseFile;
+import com.ts.rm.domain.releaseversion.entity.ReleaseVersion;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * PatchSegmentCache 테스트 (버전 실행 블록 재사용 및 무효화)
+ */
+@DisplayName("PatchSegmentCache 테스트")
+class PatchSegmentCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private PatchSegmentCache segmentCache;
+    private AtomicInteger renderCount;
+
+    @BeforeEach
+    void setUp() {
+        segmentCache = new PatchSegmentCache();
+        renderCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("승인된 버전은 파일 지문이 같으면 한 번만 렌더링")
+    void getOrRender_ApprovedVersionReused() {
+        // given
+        ReleaseVersion version = version(1L, "1.0.0", true);
+        List<ReleaseFile> files = List.of(file(10L, version, "1.patch.sql", 1, "aaa"));
+
+        // when
+        String first = segmentCache.getOrRender("MariaDB", version, files, this::render);
+        String second = segmentCache.getOrRender("MariaDB", version, files, this::render);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(renderCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("미승인 버전은 캐시하지 않음")
+    void getOrRender_UnapprovedVersionNotCached() {
+        // given
+        ReleaseVersion version = version(1L, "1.0.0", false);
+
+        // when
+        segmentCache.getOrRender("MariaDB", version, List.of(), this::render);
+        segmentCache.getOrRender("MariaDB", version, List.of(), this::render);
+
+        // then
+        assertThat(renderCount).hasValue(2);
+        assertThat(segmentCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("파일 체크섬이나 실행 순서가 바뀌면 다시 렌더링")
+    void getOrRender_FingerprintChanged() {
+        // given
+        ReleaseVersion version = version(1L, "1.0.0", true);
+        ReleaseFile releaseFile = file(10L, version, "1.patch.sql", 1, "aaa");
+        segmentCache.getOrRender("MariaDB", version, List.of(releaseFile), this::render);
+
+        // when
+        releaseFile.setChecksum("bbb");
+        segmentCache.getOrRender("MariaDB", version, List.of(releaseFile), this::render);
+        releaseFile.setExecutionOrder(2);
+        segmentCache.getOrRender("MariaDB", version, List.of(releaseFile), this::render);
+
+        // then
+        assertThat(renderCount).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("무효화 없이도 버전 정보가 바뀌면 다시 렌더링 (다른 노드에서 변경된 경우)")
+    void getOrRender_VersionChangedWithoutEvict() {
+        // given
+        ReleaseVersion version = version(1L, "1.0.0", true);
+        segmentCache.getOrRender("MariaDB+VERSION_HISTORY_ONLY", version, List.of(), this::render);
+
+        // when
+        version.setComment("수정된 코멘트");
+        String rendered = segmentCache.getOrRender("MariaDB+VERSION_HISTORY_ONLY", version, List.of(),
+                this::render);
+
+        // then
+        assertThat(rendered).isEqualTo("block-2");
+        assertThat(renderCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화된 버전은 다시 렌더링")
+    void evict_RendersAgain() {
+        // given
+        ReleaseVersion version = version(1L, "1.0.0", true);
+        segmentCache.getOrRender("CrateDB", version, List.of(), this::render);
+
+        // when
+        segmentCache.evict(1L);
+        segmentCache.getOrRender("CrateDB", version, List.of(), this::render);
+
+        // then
+        assertThat(renderCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 이후에만 반영되고 롤백 시 유지")
+    void evict_DeferredUntilCommit() {
+        // given
+        ReleaseVersion version = version(1L, "1.0.0", true);
+        segmentCache.getOrRender("CrateDB", version, List.of(), this::render);
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            segmentCache.evict(1L);
+            assertThat(segmentCache.size()).isEqualTo(1);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            assertThat(segmentCache.size()).isEqualTo(1);
+
+            segmentCache.evict(1L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(segmentCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("MariaDB 스크립트 - 캐시된 세그먼트로 조립해도 실행 명령이 동일")
+    void mariaDBScript_SameOutputFromCachedSegments() throws IOException {
+        // given
+        Path templateDir = tempDir.resolve("templates/MARIADB");
+        Files.createDirectories(templateDir);
+        Files.writeString(templateDir.resolve("mariadb_patch_template.sh"), "{{SQL_EXECUTION_COMMANDS}}");
+
+        MariaDBScriptGenerator generator = new MariaDBScriptGenerator(new ScriptTemplateCache(), segmentCache);
+        ReflectionTestUtils.setField(generator, "baseReleasePath", tempDir.toString());
+
+        ReleaseVersion v1 = version(1L, "1.0.0", true);
+        ReleaseVersion v2 = version(2L, "1.0.1", true);
+        ReleaseVersion v3 = version(3L, "1.0.2", false);
+        List<ReleaseVersion> versions = List.of(v1, v2, v3);
+        List<ReleaseFile> files = List.of(
+                file(10L, v1, "2.patch.sql", 2, "b"),
+                file(11L, v1, "1.patch.sql", 1, "a"),
+                file(12L, v3, "1.patch.sql", 1, "c"));
+
+        // when
+        generator.generatePatchScript("infraeye2", "1.0.0", "1.0.2", versions, files, "out1", null);
+        generator.generatePatchScript("infraeye2", "1.0.0", "1.0.2", versions, files, "out2", null);
+
+        // then
+        String first = Files.readString(tempDir.resolve("out1/mariadb_patch.sh"));
+        String second = Files.readString(tempDir.resolve("out2/mariadb_patch.sh"));
+        assertThat(second).isEqualTo(first);
+        assertThat(first)
+                .containsSubsequence("버전 1.0.0 패치 적용 중", "execute_sql \"1.patch.sql\"",
+                        "execute_sql \"2.patch.sql\"", "버전 1.0.1 패치 적용 중",
+                        "이 버전에는 MariaDB SQL 파일이 없습니다.", "버전 1.0.2 패치 적용 중")
+                .contains("INSERT INTO CM_DB.VERSION_HISTORY");
+        assertThat(segmentCache.size()).isEqualTo(2);
+    }
+
+    private String render() {
+        return "block-" + renderCount.incrementAndGet();
+    }
+
+    private ReleaseVersion version(Long id, String version, boolean approved) {
+        return ReleaseVersion.builder()
+                .releaseVersionId(id)
+                .releaseType("STANDARD")
+                .version(version)
+                .comment("버전 " + version)
+                .isApproved(approved)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .build();
+    }
+
+    private ReleaseFile file(Long id, ReleaseVersion version, String fileName, int executionOrder,
+            String checksum) {
+        return ReleaseFile.builder()
+                .releaseFileId(id)
+                .releaseVersion(version)
+                .subCategory("MARIADB")
+                .fileName(fileName)
+                .executionOrder(executionOrder)
+                .checksum(checksum)
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.ts.rm.domain.patch.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ts.rm.domain.releasefile.entity.ReleaseFile;
+import com.ts.rm.domain.releaseversion.entity.ReleaseVersion;
+import com.ts.rm.global.exception.BusinessException;
+import com.ts.rm.global.exception.ErrorCode;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 패치 스크립트 템플릿 컴파일/캐시 테스트
+ */
+@DisplayName("ScriptTemplateCache 테스트")
+class ScriptTemplateCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ScriptTemplateCache templateCache;
+    private Path templatePath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        templateCache = new ScriptTemplateCache();
+        templatePath = tempDir.resolve("templates/CRATEDB/cratedb_patch_template.sh");
+        Files.createDirectories(templatePath.getParent());
+        Files.writeString(templatePath, "#!/bin/bash\r\n# {{FROM_VERSION}} -> {{TO_VERSION}}\r\n${ARR[@]} {{UNKNOWN}}\r\n");
+    }
+
+    @AfterEach
+    void tearDown() {
+        templateCache.close();
+    }
+
+    @Test
+    @DisplayName("템플릿 컴파일 - 플레이스홀더 치환, 미지정 플레이스홀더 유지, 줄바꿈 LF 정규화")
+    void compile_RenderSections() throws IOException {
+        // given
+        ScriptTemplate template = ScriptTemplate.compile(Files.readString(templatePath));
+        StringWriter writer = new StringWriter();
+
+        // when
+        template.render(Map.of(
+                "FROM_VERSION", ScriptSection.of("1.0.0"),
+                "TO_VERSION", ScriptSection.of("1.1.0")), writer);
+
+        // then
+        assertThat(template.placeholders()).containsExactly("FROM_VERSION", "TO_VERSION", "UNKNOWN");
+        assertThat(writer.toString()).isEqualTo("#!/bin/bash\n# 1.0.0 -> 1.1.0\n${ARR[@]} {{UNKNOWN}}\n");
+    }
+
+    @Test
+    @DisplayName("템플릿 캐시 - 파일이 바뀌기 전까지 같은 컴파일 결과 재사용")
+    void get_ReusesCompiledTemplate() throws IOException {
+        // when
+        ScriptTemplate first = templateCache.get(templatePath);
+        ScriptTemplate second = templateCache.get(templatePath);
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("템플릿 캐시 - 템플릿 파일 수정 시 다시 컴파일")
+    void get_RecompiledAfterModification() throws Exception {
+        // given
+        ScriptTemplate first = templateCache.get(templatePath);
+
+        // when
+        Files.writeString(templatePath, "# {{TO_VERSION}}\n");
+
+        // then (디렉토리 감시 이벤트는 비동기로 전달되므로 일정 시간 대기)
+        long deadline = System.currentTimeMillis() + 15_000;
+        ScriptTemplate current = templateCache.get(templatePath);
+        while (!current.placeholders().equals(List.of("TO_VERSION")) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            current = templateCache.get(templatePath);
+        }
+        assertThat(current).isNotSameAs(first);
+        assertThat(current.placeholders()).containsExactly("TO_VERSION");
+    }
+
+    @Test
+    @DisplayName("스크립트 생성 - 템플릿이 없으면 예외")
+    void generatePatchScript_TemplateNotFound() {
+        // given
+        CrateDBScriptGenerator generator = new CrateDBScriptGenerator(templateCache, new PatchSegmentCache());
+        ReflectionTestUtils.setField(generator, "baseReleasePath", tempDir.resolve("missing").toString());
+
+        // when & then
+        assertThatThrownBy(() -> generator.generatePatchScript("infraeye2", "1.0.0", "1.0.0",
+                List.of(), List.of(), "out", null))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DATA_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("스크립트 생성 - 출력 파일에 직접 렌더링하며 코멘트의 CR도 LF로 변환")
+    void generatePatchScript_StreamsToFile() throws IOException {
+        // given
+        Files.writeString(templatePath, "{{VERSION_COUNT}}\r\n{{VERSION_METADATA}}\r\n{{SQL_EXECUTION_COMMANDS}}");
+        CrateDBScriptGenerator generator = new CrateDBScriptGenerator(templateCache, new PatchSegmentCache());
+        ReflectionTestUtils.setField(generator, "baseReleasePath", tempDir.toString());
+        ReleaseVersion version = ReleaseVersion.builder()
+                .releaseVersionId(1L)
+                .version("1.0.0")
+                .comment("첫 줄\r\n둘째 줄")
+                .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .build();
+
+        // when
+        generator.generatePatchScript("infraeye2", "1.0.0", "1.0.0", List.of(version), List.of(), "out", null);
+
+        // then
+        assertThat(Files.readString(tempDir.resolve("out/cratedb_patch.sh")))
+                .isEqualTo("1\n    \"1.0.0:2025-01-01:null:첫 줄\n둘째 줄\"\n");
+    }
+
+    @Test
+    @DisplayName("스크립트 미리보기 - 파일을 만들지 않고 생성 결과와 같은 줄 수/크기 계산")
+    void previewPatchScript_MatchesGeneratedFile() throws IOException {
+        // given
+        Files.writeString(templatePath, "#!/bin/bash\r\n{{VERSION_METADATA}}\r\n{{SQL_EXECUTION_COMMANDS}}");
+        CrateDBScriptGenerator generator = new CrateDBScriptGenerator(templateCache, new PatchSegmentCache());
+        ReflectionTestUtils.setField(generator, "baseReleasePath", tempDir.toString());
+        ReleaseVersion version = ReleaseVersion.builder()
+                .releaseVersionId(1L)
+                .version("1.0.0")
+                .comment("한글 코멘트\r\n둘째 줄")
+                .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .build();
+        ReleaseFile file = ReleaseFile.builder()
+                .releaseFileId(10L)
+                .releaseVersion(version)
+                .fileName("1.patch_cratedb.sql")
+                .executionOrder(1)
+                .build();
+
+        // when
+        ScriptPreview preview = generator.previewPatchScript("infraeye2", "1.0.0", "1.0.0",
+                List.of(version), List.of(file), null);
+        generator.generatePatchScript("infraeye2", "1.0.0", "1.0.0", List.of(version), List.of(file), "out", null);
+
+        // then
+        Path script = tempDir.resolve("out/cratedb_patch.sh");
+        assertThat(preview.fileName()).isEqualTo("cratedb_patch.sh");
+        assertThat(preview.lineCount()).isEqualTo(Files.readAllLines(script).size());
+        assertThat(preview.size()).isEqualTo(Files.size(script));
+    }
+}
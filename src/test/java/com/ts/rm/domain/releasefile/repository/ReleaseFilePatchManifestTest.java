@@ -0,0 +1,169 @@
+package com.ts.rm.domain.releasefile.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ts.rm.domain.account.entity.Account;
+import com.ts.rm.domain.patch.service.PatchFileManifest;
+import com.ts.rm.domain.project.entity.Project;
+import com.ts.rm.domain.releasefile.entity.ReleaseFile;
+import com.ts.rm.domain.releasefile.enums.FileCategory;
+import com.ts.rm.domain.releaseversion.entity.ReleaseVersion;
+import com.ts.rm.domain.releaseversion.repository.ReleaseVersionRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 패치 파일 매니페스트 조회 테스트
+ *
+ * <p>버전 범위가 넓어져도 조회 쿼리 수가 일정한지 Hibernate 통계로 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ReleaseFilePatchManifestTest.TestConfig.class)
+@ActiveProfiles("test")
+@DisplayName("패치 파일 매니페스트 조회 테스트")
+class ReleaseFilePatchManifestTest {
+
+    private static final String PROJECT_ID = "infraeye2";
+
+    @Autowired
+    private ReleaseFileRepository releaseFileRepository;
+
+    @Autowired
+    private ReleaseVersionRepository releaseVersionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Account creator = Account.builder()
+                .email("admin@tscientific")
+                .password("password")
+                .accountName("관리자")
+                .role("ADMIN")
+                .status("ACTIVE")
+                .build();
+        entityManager.persist(creator);
+
+        Project project = Project.builder()
+                .projectId(PROJECT_ID)
+                .projectName("Infraeye 2")
+                .build();
+        entityManager.persist(project);
+
+        // 1.0.0 ~ 1.0.19 (버전마다 MariaDB 2개, CrateDB 1개, WEB 1개)
+        for (int patch = 0; patch < 20; patch++) {
+            ReleaseVersion version = ReleaseVersion.builder()
+                    .project(project)
+                    .releaseType("STANDARD")
+                    .version("1.0." + patch)
+                    .majorVersion(1)
+                    .minorVersion(0)
+                    .patchVersion(patch)
+                    .creator(creator)
+                    .isApproved(true)
+                    .build();
+            entityManager.persist(version);
+
+            persistFile(version, FileCategory.DATABASE, "MARIADB", "2.patch.sql", 2);
+            persistFile(version, FileCategory.DATABASE, "MARIADB", "1.patch.sql", 1);
+            persistFile(version, FileCategory.DATABASE, "CRATEDB", "1.patch.sql", 1);
+            persistFile(version, FileCategory.WEB, "build", "web.tar.gz", 1);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("버전 범위와 관계없이 버전 조회 1회 + 매니페스트 조회 1회")
+    void findPatchManifest_ConstantQueryCount() {
+        assertThat(queryCountForRange("1.0.0", "1.0.2")).isEqualTo(2);
+
+        entityManager.clear();
+        assertThat(queryCountForRange("1.0.0", "1.0.19")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("매니페스트는 버전 순서, 버전 내 실행 순서로 파일을 묶음")
+    void findPatchManifest_GroupedAndOrdered() {
+        // given
+        List<ReleaseVersion> versions = releaseVersionRepository.findVersionsBetween(
+                PROJECT_ID, "STANDARD", "1.0.8", "1.0.10");
+
+        // when
+        PatchFileManifest manifest = PatchFileManifest.of(versions, releaseFileRepository.findPatchManifest(
+                versions.stream().map(ReleaseVersion::getReleaseVersionId).toList()));
+
+        // then
+        assertThat(manifest.size()).isEqualTo(12);
+        assertThat(manifest.filesOf(versions.get(0)))
+                .extracting(ReleaseFile::getExecutionOrder)
+                .isSorted();
+        assertThat(manifest.filesBySubCategory("mariadb"))
+                .extracting(file -> file.getReleaseVersion().getVersion() + "/" + file.getFileName())
+                .containsExactly(
+                        "1.0.8/1.patch.sql", "1.0.8/2.patch.sql",
+                        "1.0.9/1.patch.sql", "1.0.9/2.patch.sql",
+                        "1.0.10/1.patch.sql", "1.0.10/2.patch.sql");
+        assertThat(manifest.filesBySubCategory("CRATEDB")).hasSize(3);
+    }
+
+    /**
+     * 버전 범위 조회 → 매니페스트 조회 → 스크립트 생성에서 사용하는 연관 정보 접근까지의 쿼리 수
+     */
+    private long queryCountForRange(String fromVersion, String toVersion) {
+        statistics.clear();
+
+        List<ReleaseVersion> versions = releaseVersionRepository.findVersionsBetween(
+                PROJECT_ID, "STANDARD", fromVersion, toVersion);
+        PatchFileManifest manifest = PatchFileManifest.of(versions, releaseFileRepository.findPatchManifest(
+                versions.stream().map(ReleaseVersion::getReleaseVersionId).toList()));
+
+        // 스크립트 생성 시 접근하는 지연 로딩 대상
+        versions.forEach(ReleaseVersion::getCreatedByName);
+        manifest.filesBySubCategory("MARIADB").forEach(file -> file.getReleaseVersion().getVersion());
+        assertThat(manifest.size()).isEqualTo(versions.size() * 4);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void persistFile(ReleaseVersion version, FileCategory category, String subCategory,
+            String fileName, int executionOrder) {
+        entityManager.persist(ReleaseFile.builder()
+                .releaseVersion(version)
+                .fileType(fileName.substring(fileName.indexOf('.') + 1).toUpperCase())
+                .fileCategory(category)
+                .subCategory(subCategory)
+                .fileName(fileName)
+                .filePath("versions/" + PROJECT_ID + "/standard/1.0.x/" + version.getVersion() + "/"
+                        + subCategory.toLowerCase() + "/" + fileName)
+                .executionOrder(executionOrder)
+                .build());
+    }
+
+    /**
+     * QueryDSL 테스트용 설정
+     */
+    @org.springframework.boot.test.context.TestConfiguration
+    @org.springframework.data.jpa.repository.config.EnableJpaAuditing
+    static class TestConfig {
+        @org.springframework.context.annotation.Bean
+        public com.querydsl.jpa.impl.JPAQueryFactory jpaQueryFactory(EntityManager entityManager) {
+            return new com.querydsl.jpa.impl.JPAQueryFactory(entityManager);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
+import com.ts.rm.domain.patch.util.PatchSegmentCache;
 import com.ts.rm.domain.releasefile.dto.ReleaseFileDto;
 import com.ts.rm.domain.releasefile.entity.ReleaseFile;
 import com.ts.rm.domain.releasefile.enums.FileCategory;
@@ -47,6 +48,9 @@ class ReleaseFileServiceTest {
     @Mock
     private ReleaseFileDtoMapper mapper;
 
+    @Mock
+    private PatchSegmentCache patchSegmentCache;
+
     @InjectMocks
     private ReleaseFileService releaseFileService;
 
@@ -272,6 +276,7 @@ class ReleaseFileServiceTest {
         // JPA Dirty Checking 사용 - 엔티티 조회만 검증
         then(releaseFileRepository).should(times(1)).findById(1L);
         then(mapper).should(times(1)).toDetailResponse(any(ReleaseFile.class));
+        then(patchSegmentCache).should().evict(1L);
     }
 
     @Test
@@ -285,6 +290,7 @@ class ReleaseFileServiceTest {
 
         // then
         then(releaseFileRepository).should(times(1)).delete(any(ReleaseFile.class));
+        then(patchSegmentCache).should().evict(1L);
     }
 
 
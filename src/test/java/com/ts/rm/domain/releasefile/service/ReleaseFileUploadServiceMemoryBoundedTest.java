@@ -0,0 +1,110 @@
+package com.ts.rm.domain.releasefile.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.ts.rm.domain.common.service.FileStorageService;
+import com.ts.rm.domain.releasefile.dto.ReleaseFileDto;
+import com.ts.rm.domain.releasefile.entity.ReleaseFile;
+import com.ts.rm.domain.releasefile.mapper.ReleaseFileDtoMapper;
+import com.ts.rm.domain.releasefile.repository.ReleaseFileRepository;
+import com.ts.rm.domain.releaseversion.entity.ReleaseVersion;
+import com.ts.rm.domain.releaseversion.enums.ReleaseCategory;
+import com.ts.rm.domain.releaseversion.repository.ReleaseVersionRepository;
+import com.ts.rm.global.file.FileChecksumUtil;
+import com.ts.rm.global.file.SyntheticMultipartFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * ReleaseFileUploadService 메모리 사용량 제한 테스트
+ *
+ * <p>파일당 크기 제한(10MB) 안에서 합계가 힙보다 큰 파일들을 한 번에 업로드하여,
+ * 업로드 서비스 경로(검증 → 저장/체크섬 계산 → 메타데이터 저장)가 파일 내용을 메모리에 적재하지 않는지 검증합니다.
+ * <p>힙을 제한한 별도 태스크에서 실행: {@code ./gradlew memoryBoundedTest}
+ */
+@Tag("memory-bounded")
+@DisplayName("ReleaseFileUploadService 메모리 제한 테스트")
+class ReleaseFileUploadServiceMemoryBoundedTest {
+
+    private static final long MAX_HEAP_FOR_TEST = 256L * 1024 * 1024;
+    private static final long FILE_SIZE = 10L * 1024 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("합계가 힙보다 큰 SQL 파일 일괄 업로드 - 스트리밍 저장 및 파일별 체크섬 기록")
+    void uploadReleaseFiles_TotalLargerThanHeap() throws IOException {
+        // given
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        assumeTrue(maxHeap <= MAX_HEAP_FOR_TEST,
+                "힙이 제한된 memoryBoundedTest 태스크에서만 실행합니다 (현재 힙: " + maxHeap + ")");
+
+        ReleaseFileRepository releaseFileRepository = mock(ReleaseFileRepository.class);
+        ReleaseVersionRepository releaseVersionRepository = mock(ReleaseVersionRepository.class);
+        FileStorageService fileStorageService = new FileStorageService(tempDir.toString(), true);
+        ReleaseFileUploadService uploadService = new ReleaseFileUploadService(releaseFileRepository,
+                releaseVersionRepository, mock(ReleaseFileDtoMapper.class), fileStorageService);
+
+        ReleaseVersion version = ReleaseVersion.builder()
+                .releaseVersionId(1L)
+                .releaseType("STANDARD")
+                .releaseCategory(ReleaseCategory.PATCH)
+                .version("1.1.0")
+                .majorVersion(1)
+                .minorVersion(1)
+                .patchVersion(0)
+                .build();
+        given(releaseVersionRepository.findById(1L)).willReturn(Optional.of(version));
+        given(releaseFileRepository.findAllByReleaseVersion_ReleaseVersionIdOrderByExecutionOrderAsc(1L))
+                .willReturn(List.of());
+        given(releaseFileRepository.save(any(ReleaseFile.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        int fileCount = (int) (maxHeap / FILE_SIZE) + 2;
+        List<MultipartFile> files = new ArrayList<>();
+        List<String> expectedChecksums = new ArrayList<>();
+        for (int i = 0; i < fileCount; i++) {
+            files.add(new SyntheticMultipartFile(String.format("%03d_data.sql", i + 1), FILE_SIZE, i));
+            try (InputStream is = new SyntheticMultipartFile.SyntheticInputStream(FILE_SIZE, i)) {
+                expectedChecksums.add(FileChecksumUtil.calculateChecksum(is));
+            }
+        }
+
+        ReleaseFileDto.UploadRequest request = ReleaseFileDto.UploadRequest.builder()
+                .fileCategory("DATABASE")
+                .subCategory("MARIADB")
+                .uploadedBy("testuser")
+                .build();
+
+        // when
+        uploadService.uploadReleaseFiles(1L, files, request);
+
+        // then
+        ArgumentCaptor<ReleaseFile> saved = ArgumentCaptor.forClass(ReleaseFile.class);
+        then(releaseFileRepository).should(times(fileCount)).save(saved.capture());
+        assertThat(saved.getAllValues()).extracting(ReleaseFile::getChecksum)
+                .containsExactlyElementsOf(expectedChecksums);
+        for (ReleaseFile releaseFile : saved.getAllValues()) {
+            assertThat(releaseFile.getFileSize()).isEqualTo(FILE_SIZE);
+            assertThat(Files.size(fileStorageService.getAbsolutePath(releaseFile.getFilePath())))
+                    .isEqualTo(FILE_SIZE);
+        }
+    }
+}
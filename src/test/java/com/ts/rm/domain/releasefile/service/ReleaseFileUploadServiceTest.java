@@ -21,6 +21,7 @@ import com.ts.rm.domain.releaseversion.enums.ReleaseCategory;
 import com.ts.rm.domain.releaseversion.repository.ReleaseVersionRepository;
 import com.ts.rm.global.exception.BusinessException;
 import com.ts.rm.global.exception.ErrorCode;
+import com.ts.rm.global.file.FileChecksumUtil;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -102,20 +103,6 @@ class ReleaseFileUploadServiceTest {
         );
     }
 
-    @Test
-    @DisplayName("체크섬 계산 - 성공")
-    void calculateChecksum_Success() {
-        // given
-        String content = "CREATE TABLE users (id INT PRIMARY KEY);";
-
-        // when
-        String checksum = uploadService.calculateChecksum(content.getBytes());
-
-        // then
-        assertThat(checksum).isNotNull();
-        assertThat(checksum).hasSize(32); // MD5 해시는 32자리 16진수
-    }
-
     @Test
     @DisplayName("파일 업로드 - 빈 파일 예외")
     void uploadReleaseFiles_EmptyFile() {
@@ -236,7 +223,7 @@ class ReleaseFileUploadServiceTest {
 
     @Test
     @DisplayName("파일 업로드 - 성공")
-    void uploadReleaseFiles_Success() {
+    void uploadReleaseFiles_Success() throws Exception {
         // given
         MockMultipartFile sqlFile = new MockMultipartFile(
                 "file",
@@ -254,8 +241,11 @@ class ReleaseFileUploadServiceTest {
         given(releaseVersionRepository.findById(anyLong())).willReturn(Optional.of(testVersion));
         given(releaseFileRepository.findAllByReleaseVersion_ReleaseVersionIdOrderByExecutionOrderAsc(anyLong()))
                 .willReturn(List.of());
-        given(fileStorageService.saveFile(any(MultipartFile.class), anyString()))
-                .willReturn("versions/standard/1.1.x/1.1.0/mariadb/001_create_users_table.sql");
+        given(fileStorageService.saveFileWithChecksum(any(MultipartFile.class), anyString()))
+                .willReturn(new FileStorageService.StoredFile(
+                        "versions/standard/1.1.x/1.1.0/mariadb/001_create_users_table.sql",
+                        sqlFile.getSize(),
+                        FileChecksumUtil.calculateChecksum(sqlFile.getBytes())));
         given(releaseFileRepository.save(any(ReleaseFile.class))).willReturn(testReleaseFile);
         given(mapper.toDetailResponse(any(ReleaseFile.class))).willReturn(detailResponse);
 
@@ -268,7 +258,7 @@ class ReleaseFileUploadServiceTest {
         assertThat(result.get(0).fileName()).isEqualTo("001_create_users_table.sql");
         assertThat(result.get(0).fileCategory()).isEqualTo("database");
 
-        then(fileStorageService).should(times(1)).saveFile(any(MultipartFile.class), anyString());
+        then(fileStorageService).should(times(1)).saveFileWithChecksum(any(MultipartFile.class), anyString());
         then(releaseFileRepository).should(times(1)).save(any(ReleaseFile.class));
     }
 }
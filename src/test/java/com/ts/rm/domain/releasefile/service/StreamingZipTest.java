@@ -2,13 +2,17 @@ package com.ts.rm.domain.releasefile.service;
 
 import com.ts.rm.global.file.StreamingZipUtil;
 import com.ts.rm.global.file.StreamingZipUtil.ZipFileEntry;
+import com.ts.rm.global.file.ZipCompressionPolicy;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -127,6 +131,129 @@ class StreamingZipTest {
         );
     }
 
+    @Test
+    @DisplayName("병렬 압축 ZIP - 순차 압축과 동일한 내용으로 해제됨")
+    void parallelZipMatchesSequential() throws IOException {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        // When
+        try {
+            StreamingZipUtil.compressFilesToStream(outputStream, testFiles, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        // Then - ZipInputStream(데이터 디스크립터/CRC 검증)과 ZipFile(중앙 디렉토리) 모두 읽기 가능
+        byte[] zipBytes = outputStream.toByteArray();
+        assertThat(extractZipEntries(zipBytes)).containsExactly(
+                "database/mariadb/test.sql",
+                "install/readme.txt",
+                "web/large.dat"
+        );
+
+        Path zipPath = tempDir.resolve("parallel.zip");
+        Files.write(zipPath, zipBytes);
+        try (ZipFile zipFile = new ZipFile(zipPath.toFile())) {
+            for (ZipFileEntry testFile : testFiles) {
+                ZipEntry entry = zipFile.getEntry(testFile.zipEntryPath());
+                assertThat(zipFile.getInputStream(entry).readAllBytes())
+                        .isEqualTo(Files.readAllBytes(testFile.sourcePath()));
+                assertThat(entry.getSize()).isEqualTo(Files.size(testFile.sourcePath()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("AUTO 압축 정책 - 이미 압축된 파일은 STORED, 나머지는 DEFLATED")
+    void autoCompressionPolicyStoresIncompressibleEntries() throws IOException {
+        // Given - 확장자로 판별되는 파일과 내용(샘플)으로 판별되는 파일
+        byte[] randomBytes = new byte[256 * 1024];
+        new Random(42).nextBytes(randomBytes);
+        Path jarFile = tempDir.resolve("engine.jar");
+        Files.write(jarFile, "not really a jar".getBytes());
+        Path randomFile = tempDir.resolve("engine.bin");
+        Files.write(randomFile, randomBytes);
+
+        List<ZipFileEntry> files = new ArrayList<>(testFiles);
+        files.add(new ZipFileEntry(jarFile, "engine/engine.jar"));
+        files.add(new ZipFileEntry(randomFile, "engine/engine.bin"));
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (ForkJoinPool executor : new ForkJoinPool[]{null, pool}) {
+                // When
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                StreamingZipUtil.compressFilesToStream(outputStream, files, executor, ZipCompressionPolicy.AUTO);
+
+                // Then
+                Path zipPath = Files.write(tempDir.resolve("auto.zip"), outputStream.toByteArray());
+                try (ZipFile zipFile = new ZipFile(zipPath.toFile())) {
+                    assertThat(zipFile.getEntry("engine/engine.jar").getMethod()).isEqualTo(ZipEntry.STORED);
+                    assertThat(zipFile.getEntry("engine/engine.bin").getMethod()).isEqualTo(ZipEntry.STORED);
+                    assertThat(zipFile.getEntry("database/mariadb/test.sql").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+                    assertThat(zipFile.getEntry("web/large.dat").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+                    assertThat(zipFile.getInputStream(zipFile.getEntry("engine/engine.bin")).readAllBytes())
+                            .isEqualTo(randomBytes);
+                }
+                assertThat(extractZipEntries(outputStream.toByteArray())).hasSize(5);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("모든 엔트리가 STORED이면 매니페스트의 ZIP 길이가 실제 출력 길이와 일치")
+    void storedManifestContentLengthMatchesOutput() throws IOException {
+        // Given - 한글 파일명 포함
+        Path koreanFile = tempDir.resolve("설치가이드.txt");
+        Files.writeString(koreanFile, "설치 가이드 문서");
+        List<ZipFileEntry> files = new ArrayList<>(testFiles);
+        files.add(new ZipFileEntry(koreanFile, "docs\\설치가이드.txt"));
+
+        StreamingZipUtil.ZipManifest manifest = StreamingZipUtil.buildManifest(files, ZipCompressionPolicy.STORE_ALL);
+        assertThat(manifest.hasKnownLength()).isTrue();
+        assertThat(manifest.entries()).hasSize(4);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (ForkJoinPool executor : new ForkJoinPool[]{null, pool}) {
+                // When
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                StreamingZipUtil.compressManifestToStream(outputStream, manifest, executor);
+
+                // Then
+                assertThat(outputStream.size()).isEqualTo(manifest.contentLength());
+                assertThat(extractZipEntries(outputStream.toByteArray()))
+                        .containsExactly("database/mariadb/test.sql", "install/readme.txt",
+                                "web/large.dat", "docs/설치가이드.txt");
+                assertThat(extractZipContent(outputStream.toByteArray(), "database/mariadb/test.sql"))
+                        .isEqualTo("SELECT * FROM test_table;");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("DEFLATED 엔트리가 있으면 ZIP 길이를 알 수 없음")
+    void deflatedManifestHasUnknownLength() throws IOException {
+        // When
+        StreamingZipUtil.ZipManifest manifest = StreamingZipUtil.buildManifest(testFiles, ZipCompressionPolicy.AUTO);
+
+        // Then
+        assertThat(manifest.hasKnownLength()).isFalse();
+        assertThat(manifest.uncompressedSize()).isEqualTo(
+                Files.size(testFiles.get(0).sourcePath()) + Files.size(testFiles.get(1).sourcePath())
+                        + Files.size(testFiles.get(2).sourcePath()));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        StreamingZipUtil.compressManifestToStream(outputStream, manifest, null);
+        assertThat(extractZipEntries(outputStream.toByteArray())).hasSize(3);
+    }
+
     /**
      * ZIP 파일에서 엔트리 목록 추출
      */
@@ -12,6 +12,7 @@ import static org.mockito.Mockito.times;
 
 import com.ts.rm.domain.customer.entity.Customer;
 import com.ts.rm.domain.customer.repository.CustomerRepository;
+import com.ts.rm.domain.patch.util.PatchSegmentCache;
 import com.ts.rm.domain.releaseversion.dto.ReleaseVersionDto;
 import com.ts.rm.domain.releaseversion.entity.ReleaseVersion;
 import com.ts.rm.domain.releaseversion.enums.ReleaseCategory;
@@ -61,6 +62,9 @@ class ReleaseVersionServiceTest {
     @Mock
     private ReleaseVersionTreeService treeService;
 
+    @Mock
+    private PatchSegmentCache patchSegmentCache;
+
     @InjectMocks
     private ReleaseVersionService releaseVersionService;
 
@@ -308,6 +312,7 @@ class ReleaseVersionServiceTest {
         // JPA Dirty Checking 사용 - 엔티티 조회만 검증
         then(releaseVersionRepository).should(times(1)).findById(1L);
         then(mapper).should(times(1)).toDetailResponse(any(ReleaseVersion.class));
+        then(patchSegmentCache).should().evict(1L);
     }
 
     @Test
@@ -321,6 +326,7 @@ class ReleaseVersionServiceTest {
 
         // then
         then(releaseVersionRepository).should(times(1)).delete(any(ReleaseVersion.class));
+        then(patchSegmentCache).should().evict(1L);
     }
 
     @Test
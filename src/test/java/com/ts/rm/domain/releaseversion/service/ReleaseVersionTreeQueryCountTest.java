@@ -0,0 +1,244 @@
+package com.ts.rm.domain.releaseversion.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ts.rm.domain.account.entity.Account;
+import com.ts.rm.domain.customer.entity.Customer;
+import com.ts.rm.domain.project.entity.Project;
+import com.ts.rm.domain.releasefile.entity.ReleaseFile;
+import com.ts.rm.domain.releasefile.enums.FileCategory;
+import com.ts.rm.domain.releaseversion.dto.ReleaseVersionDto;
+import com.ts.rm.domain.releaseversion.entity.ReleaseVersion;
+import com.ts.rm.domain.releaseversion.entity.ReleaseVersionHierarchy;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 릴리즈 버전 트리 조회 쿼리 수 테스트
+ *
+ * <p>버전 수가 늘어나도 트리 조회 쿼리 수가 일정한지(버전 조회 1회 + 파일 카테고리 일괄 조회 1회) Hibernate 통계로 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ReleaseVersionTreeService.class, ReleaseVersionTreeQueryCountTest.TestConfig.class})
+@ActiveProfiles("test")
+@DisplayName("릴리즈 버전 트리 조회 쿼리 수 테스트")
+class ReleaseVersionTreeQueryCountTest {
+
+    private static final String PROJECT_ID = "infraeye2";
+
+    @Autowired
+    private ReleaseVersionTreeService treeService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private Account creator;
+
+    private Project project;
+
+    private ReleaseVersion baseVersion;
+
+    @BeforeEach
+    void setUp() {
+        creator = Account.builder()
+                .email("admin@tscientific")
+                .password("password")
+                .accountName("관리자")
+                .role("ADMIN")
+                .status("ACTIVE")
+                .build();
+        entityManager.persist(creator);
+
+        project = Project.builder()
+                .projectId(PROJECT_ID)
+                .projectName("Infraeye 2")
+                .build();
+        entityManager.persist(project);
+
+        // 표준 1.0.0 ~ 1.0.9, 1.1.0 ~ 1.1.9 (짝수 패치 버전마다 핫픽스 1개)
+        for (int minor = 0; minor < 2; minor++) {
+            for (int patch = 0; patch < 10; patch++) {
+                ReleaseVersion version = persistStandardVersion(minor, patch, 0, null);
+                if (minor == 0 && patch == 0) {
+                    baseVersion = version;
+                }
+                if (patch % 2 == 0) {
+                    persistStandardVersion(minor, patch, 1, version);
+                }
+            }
+        }
+
+        // 고객사 2곳, 고객사마다 커스텀 1.0.0 ~ 1.0.4
+        for (String customerCode : new String[]{"companyA", "companyB"}) {
+            Customer customer = Customer.builder()
+                    .customerCode(customerCode)
+                    .customerName(customerCode + " 고객사")
+                    .isActive(true)
+                    .build();
+            entityManager.persist(customer);
+
+            for (int patch = 0; patch < 5; patch++) {
+                persistCustomVersion(customer, patch);
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("표준 트리 - 버전 수와 관계없이 버전 조회 1회 + 카테고리 조회 1회")
+    void getStandardReleaseTree_ConstantQueryCount() {
+        // given
+        long initialCount = queryCount(() -> treeService.getStandardReleaseTree(PROJECT_ID));
+
+        for (int patch = 10; patch < 30; patch++) {
+            persistStandardVersion(2, patch, 0, null);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        statistics.clear();
+        ReleaseVersionDto.TreeResponse tree = treeService.getStandardReleaseTree(PROJECT_ID);
+        long grownCount = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(initialCount).isEqualTo(2);
+        assertThat(grownCount).isEqualTo(initialCount);
+        assertThat(tree.majorMinorGroups()).hasSize(3);
+        ReleaseVersionDto.VersionNode latest = tree.majorMinorGroups().get(0).versions().get(0);
+        assertThat(latest.fileCategories()).containsExactly("DATABASE", "WEB");
+    }
+
+    @Test
+    @DisplayName("표준 트리 - 핫픽스 노드도 일괄 조회한 카테고리 사용")
+    void getStandardReleaseTree_HotfixCategories() {
+        // when
+        ReleaseVersionDto.TreeResponse tree = treeService.getStandardReleaseTree(PROJECT_ID);
+
+        // then
+        ReleaseVersionDto.VersionNode withHotfix = tree.majorMinorGroups().get(0).versions().stream()
+                .filter(node -> !node.hotfixes().isEmpty())
+                .findFirst()
+                .orElseThrow();
+        assertThat(withHotfix.hotfixes()).hasSize(1);
+        assertThat(withHotfix.hotfixes().get(0).fileCategories()).containsExactly("DATABASE", "WEB");
+    }
+
+    @Test
+    @DisplayName("고객사 커스텀 트리 / 전체 커스텀 트리 - 버전 조회 1회 + 카테고리 조회 1회")
+    void getCustomReleaseTree_ConstantQueryCount() {
+        assertThat(queryCount(() -> treeService.getCustomReleaseTree(PROJECT_ID, "companyA"))).isEqualTo(2);
+
+        entityManager.clear();
+        assertThat(queryCount(() -> treeService.getAllCustomReleaseTree(PROJECT_ID))).isEqualTo(2);
+
+        entityManager.clear();
+        ReleaseVersionDto.CustomTreeResponse tree = treeService.getAllCustomReleaseTree(PROJECT_ID);
+        assertThat(tree.customers()).hasSize(2);
+        assertThat(tree.customers().get(0).customBaseVersion()).isEqualTo("1.0.0");
+        assertThat(tree.customers().get(0).majorMinorGroups().get(0).versions().get(0).fileCategories())
+                .containsExactly("DATABASE", "WEB");
+    }
+
+    /**
+     * 트리 조회 1회에 실행된 쿼리 수
+     */
+    private long queryCount(Runnable treeQuery) {
+        statistics.clear();
+        treeQuery.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private ReleaseVersion persistStandardVersion(int minor, int patch, int hotfix,
+            ReleaseVersion hotfixBaseVersion) {
+        ReleaseVersion version = ReleaseVersion.builder()
+                .project(project)
+                .releaseType("STANDARD")
+                .version("1." + minor + "." + patch)
+                .majorVersion(1)
+                .minorVersion(minor)
+                .patchVersion(patch)
+                .hotfixVersion(hotfix)
+                .hotfixBaseVersion(hotfixBaseVersion)
+                .creator(creator)
+                .isApproved(true)
+                .build();
+        persistWithFiles(version);
+        return version;
+    }
+
+    private void persistCustomVersion(Customer customer, int patch) {
+        ReleaseVersion version = ReleaseVersion.builder()
+                .project(project)
+                .releaseType("CUSTOM")
+                .customer(customer)
+                .version("1.0.0-" + customer.getCustomerCode() + ".1.0." + patch)
+                .majorVersion(1)
+                .minorVersion(0)
+                .patchVersion(0)
+                .customMajorVersion(1)
+                .customMinorVersion(0)
+                .customPatchVersion(patch)
+                .customBaseVersion(baseVersion)
+                .creator(creator)
+                .isApproved(false)
+                .build();
+        persistWithFiles(version);
+    }
+
+    /**
+     * 버전, 클로저 테이블 자기 참조 행, 파일(DATABASE 2개, WEB 1개) 저장
+     */
+    private void persistWithFiles(ReleaseVersion version) {
+        entityManager.persist(version);
+        entityManager.persist(ReleaseVersionHierarchy.builder()
+                .ancestor(version)
+                .descendant(version)
+                .depth(0)
+                .build());
+
+        persistFile(version, FileCategory.DATABASE, "MARIADB", "1.patch.sql", 1);
+        persistFile(version, FileCategory.DATABASE, "CRATEDB", "1.patch.sql", 1);
+        persistFile(version, FileCategory.WEB, "build", "web.tar.gz", 1);
+    }
+
+    private void persistFile(ReleaseVersion version, FileCategory category, String subCategory,
+            String fileName, int executionOrder) {
+        entityManager.persist(ReleaseFile.builder()
+                .releaseVersion(version)
+                .fileType(fileName.substring(fileName.indexOf('.') + 1).toUpperCase())
+                .fileCategory(category)
+                .subCategory(subCategory)
+                .fileName(fileName)
+                .filePath("versions/" + PROJECT_ID + "/" + version.getVersion() + "/"
+                        + subCategory.toLowerCase() + "/" + fileName)
+                .executionOrder(executionOrder)
+                .build());
+    }
+
+    /**
+     * QueryDSL 테스트용 설정
+     */
+    @org.springframework.boot.test.context.TestConfiguration
+    @org.springframework.data.jpa.repository.config.EnableJpaAuditing
+    static class TestConfig {
+        @org.springframework.context.annotation.Bean
+        public com.querydsl.jpa.impl.JPAQueryFactory jpaQueryFactory(EntityManager entityManager) {
+            return new com.querydsl.jpa.impl.JPAQueryFactory(entityManager);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.ts.rm.domain.upload.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.ts.rm.domain.upload.dto.UploadDto;
+import com.ts.rm.domain.upload.entity.UploadChunk;
+import com.ts.rm.domain.upload.entity.UploadSession;
+import com.ts.rm.domain.upload.repository.UploadChunkRepository;
+import com.ts.rm.domain.upload.repository.UploadSessionRepository;
+import com.ts.rm.global.exception.BusinessException;
+import com.ts.rm.global.exception.ErrorCode;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * ChunkedUploadService 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChunkedUploadService 테스트")
+class ChunkedUploadServiceTest {
+
+    private static final String EMAIL = "admin@tscientific";
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path basePath;
+
+    @Mock
+    private UploadSessionRepository sessionRepository;
+
+    @Mock
+    private UploadChunkRepository chunkRepository;
+
+    private ChunkedUploadService chunkedUploadService;
+    private UploadSession session;
+
+    @BeforeEach
+    void setUp() {
+        // 청크 크기 4 bytes → 10 bytes 파일은 [0-3], [4-7], [8-9] 3개 청크
+        chunkedUploadService = new ChunkedUploadService(sessionRepository, chunkRepository,
+                basePath.toString(), DataSize.ofBytes(4), DataSize.ofGigabytes(1), Duration.ofHours(1));
+
+        given(sessionRepository.save(any(UploadSession.class))).willAnswer(returnsFirstArg());
+        UploadDto.SessionResponse created = chunkedUploadService.createSession(
+                UploadDto.CreateRequest.builder().fileName("patch.zip").totalSize((long) CONTENT.length).build(),
+                EMAIL);
+
+        session = UploadSession.builder()
+                .uploadId(created.uploadId())
+                .fileName(created.fileName())
+                .totalSize(created.totalSize())
+                .chunkSize(created.chunkSize())
+                .totalChunks(created.totalChunks())
+                .createdByEmail(EMAIL)
+                .expiresAt(created.expiresAt())
+                .build();
+    }
+
+    @Test
+    @DisplayName("세션 생성 - 전체 크기로 파일 미리 할당 및 청크 개수 계산")
+    void createSession_PreallocatesFile() throws IOException {
+        // then
+        Path uploadFile = uploadFile();
+        assertThat(Files.size(uploadFile)).isEqualTo(CONTENT.length);
+        assertThat(session.getTotalChunks()).isEqualTo(3);
+        assertThat(session.getChunkLength(2)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("청크 업로드 - 순서와 무관하게 청크 위치에 기록")
+    void writeChunk_OutOfOrder() throws IOException {
+        // given
+        given(sessionRepository.findById(session.getUploadId())).willReturn(Optional.of(session));
+
+        // when
+        writeChunk(2);
+        writeChunk(0);
+        writeChunk(1);
+
+        // then
+        assertThat(Files.readAllBytes(uploadFile())).isEqualTo(CONTENT);
+        then(chunkRepository).should(times(3)).save(any(UploadChunk.class));
+    }
+
+    @Test
+    @DisplayName("청크 업로드 - 체크섬 불일치 시 예외 및 수신 기록 안 함")
+    void writeChunk_ChecksumMismatch() {
+        // given
+        given(sessionRepository.findById(session.getUploadId())).willReturn(Optional.of(session));
+        String wrongChecksum = sha256("9999".getBytes(StandardCharsets.US_ASCII));
+
+        // when & then
+        assertThatThrownBy(() -> chunkedUploadService.writeChunk(session.getUploadId(), 0, wrongChecksum,
+                new ByteArrayInputStream(CONTENT, 0, 4), EMAIL))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UPLOAD_CHECKSUM_MISMATCH);
+
+        then(chunkRepository).should(never()).save(any(UploadChunk.class));
+    }
+
+    @Test
+    @DisplayName("청크 업로드 - 손상된 재전송은 이미 검증된 청크를 덮어쓰지 않음")
+    void writeChunk_CorruptResendKeepsVerifiedChunk() throws IOException {
+        // given
+        given(sessionRepository.findById(session.getUploadId())).willReturn(Optional.of(session));
+        writeChunk(0);
+        byte[] corrupted = "9999".getBytes(StandardCharsets.US_ASCII);
+
+        // when
+        assertThatThrownBy(() -> chunkedUploadService.writeChunk(session.getUploadId(), 0, sha256(CONTENT, 4),
+                new ByteArrayInputStream(corrupted), EMAIL))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UPLOAD_CHECKSUM_MISMATCH);
+
+        // then
+        byte[] stored = Files.readAllBytes(uploadFile());
+        assertThat(new String(stored, 0, 4, StandardCharsets.US_ASCII)).isEqualTo("0123");
+        try (Stream<Path> files = Files.list(uploadFile().getParent())) {
+            assertThat(files).containsExactly(uploadFile());
+        }
+    }
+
+    @Test
+    @DisplayName("청크 업로드 - 같은 청크가 동시에 기록되어 유니크 제약에 걸려도 수신 완료로 처리")
+    void writeChunk_ConcurrentDuplicateRecord() throws IOException {
+        // given
+        given(sessionRepository.findById(session.getUploadId())).willReturn(Optional.of(session));
+        given(chunkRepository.save(any(UploadChunk.class)))
+                .willThrow(new DataIntegrityViolationException("uk_uc_upload_chunk"));
+        given(chunkRepository.countByUploadSession_UploadId(session.getUploadId())).willReturn(1L);
+
+        // when
+        UploadDto.ChunkResponse response = chunkedUploadService.writeChunk(session.getUploadId(), 0,
+                sha256(CONTENT, 4), new ByteArrayInputStream(CONTENT, 0, 4), EMAIL);
+
+        // then
+        assertThat(response.receivedChunks()).isEqualTo(1);
+        assertThat(new String(Files.readAllBytes(uploadFile()), 0, 4, StandardCharsets.US_ASCII)).isEqualTo("0123");
+    }
+
+    @Test
+    @DisplayName("청크 업로드 - 청크 크기보다 큰 데이터 전송 시 예외")
+    void writeChunk_Oversized() {
+        // given
+        given(sessionRepository.findById(session.getUploadId())).willReturn(Optional.of(session));
+        byte[] oversized = "01234".getBytes(StandardCharsets.US_ASCII);
+
+        // when & then
+        assertThatThrownBy(() -> chunkedUploadService.writeChunk(session.getUploadId(), 0, sha256(oversized),
+                new ByteArrayInputStream(oversized), EMAIL))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UPLOAD_CHUNK_INVALID);
+    }
+
+    @Test
+    @DisplayName("청크 업로드 - 다른 사용자의 세션이면 예외")
+    void writeChunk_OtherUser() {
+        // given
+        given(sessionRepository.findById(session.getUploadId())).willReturn(Optional.of(session));
+
+        // when & then
+        assertThatThrownBy(() -> chunkedUploadService.writeChunk(session.getUploadId(), 0, sha256(CONTENT),
+                new ByteArrayInputStream(CONTENT, 0, 4), "other@tscientific"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("완료 파일 조회 - 수신되지 않은 청크가 있으면 예외")
+    void getCompletedFile_Incomplete() {
+        // given
+        given(sessionRepository.findById(session.getUploadId())).willReturn(Optional.of(session));
+        given(chunkRepository.countByUploadSession_UploadId(session.getUploadId())).willReturn(2L);
+
+        // when & then
+        assertThatThrownBy(() -> chunkedUploadService.getCompletedFile(session.getUploadId(), EMAIL))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UPLOAD_INCOMPLETE);
+    }
+
+    @Test
+    @DisplayName("완료 파일 조회 - 모든 청크 수신 시 조립된 파일 반환")
+    void getCompletedFile_Complete() throws IOException {
+        // given
+        given(sessionRepository.findById(session.getUploadId())).willReturn(Optional.of(session));
+        writeChunk(0);
+        writeChunk(1);
+        writeChunk(2);
+        given(chunkRepository.countByUploadSession_UploadId(session.getUploadId())).willReturn(3L);
+
+        // when
+        MultipartFile file = chunkedUploadService.getCompletedFile(session.getUploadId(), EMAIL);
+
+        // then
+        assertThat(file.getOriginalFilename()).isEqualTo("patch.zip");
+        assertThat(file.getSize()).isEqualTo(CONTENT.length);
+        assertThat(file.getBytes()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("수신 청크 인덱스를 연속 구간으로 변환")
+    void toRanges() {
+        // when
+        List<UploadDto.ChunkRange> ranges = ChunkedUploadService.toRanges(List.of(0, 1, 2, 5, 7, 8));
+
+        // then
+        assertThat(ranges).containsExactly(
+                new UploadDto.ChunkRange(0, 2),
+                new UploadDto.ChunkRange(5, 5),
+                new UploadDto.ChunkRange(7, 8));
+        assertThat(ChunkedUploadService.toRanges(List.of())).isEmpty();
+    }
+
+    private void writeChunk(int chunkIndex) {
+        int offset = (int) session.getChunkOffset(chunkIndex);
+        int length = session.getChunkLength(chunkIndex);
+        byte[] chunk = new byte[length];
+        System.arraycopy(CONTENT, offset, chunk, 0, length);
+        chunkedUploadService.writeChunk(session.getUploadId(), chunkIndex, sha256(chunk),
+                new ByteArrayInputStream(chunk), EMAIL);
+    }
+
+    private Path uploadFile() {
+        return basePath.resolve(ChunkedUploadService.UPLOAD_DIRECTORY).resolve(session.getUploadId() + ".part");
+    }
+
+    private static String sha256(byte[] data, int length) {
+        byte[] prefix = new byte[length];
+        System.arraycopy(data, 0, prefix, 0, length);
+        return sha256(prefix);
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
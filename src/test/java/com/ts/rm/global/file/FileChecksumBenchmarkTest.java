@@ -0,0 +1,120 @@
+package com.ts.rm.global.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ts.rm.global.file.FileChecksumUtil.HashAlgorithm;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 파일 체크섬 계산 처리량 비교 벤치마크
+ *
+ * <p>기존 방식(8KB InputStream 읽기 + 바이트별 {@code String.format} 16진수 변환)과
+ * {@link FileChecksumUtil}의 SHA-256, CRC32C 계산을 파일 크기별로 비교합니다. 작은 파일은 파일 열기 비용까지 포함하도록
+ * 같은 파일을 반복 계산합니다. 기본 test 태스크에서는 제외되며
+ * {@code ./gradlew benchmark -Dbenchmark.checksum.sizes-kb=1,1024,1048576 -Dbenchmark.checksum.min-mb=256}로 실행합니다.
+ */
+@Tag("benchmark")
+class FileChecksumBenchmarkTest {
+
+    private static final String SIZES_KB = System.getProperty("benchmark.checksum.sizes-kb", "1,1024,1048576");
+    private static final int MIN_MB_PER_RUN = Integer.getInteger("benchmark.checksum.min-mb", 64);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.checksum.iterations", 3);
+
+    @TempDir
+    Path tempDir;
+
+    @FunctionalInterface
+    private interface Hasher {
+
+        String hash(Path file) throws IOException;
+    }
+
+    @Test
+    @DisplayName("기존 SHA-256(InputStream + String.format) vs FileChannel SHA-256 vs CRC32C")
+    void compareChecksumThroughput() throws Exception {
+        for (long sizeKb : Arrays.stream(SIZES_KB.split(",")).map(String::trim).mapToLong(Long::parseLong).toArray()) {
+            Path file = createFile(sizeKb * 1024);
+            int repetitions = (int) Math.max(1, MIN_MB_PER_RUN * 1024L / sizeKb);
+
+            String legacy = legacyChecksum(file);
+            assertThat(FileChecksumUtil.calculateChecksum(file)).isEqualTo(legacy);
+
+            double legacyMbs = measure(file, repetitions, this::legacyChecksum);
+            double sha256Mbs = measure(file, repetitions, FileChecksumUtil::calculateChecksum);
+            double crc32cMbs = measure(file, repetitions,
+                    path -> FileChecksumUtil.calculateHash(path, HashAlgorithm.CRC32C));
+
+            System.out.printf("[benchmark] size=%dKB, repetitions=%d%n", sizeKb, repetitions);
+            System.out.printf("[benchmark] legacy SHA-256: %.1f MB/s, SHA-256: %.1f MB/s (x%.2f), CRC32C: %.1f MB/s (x%.2f)%n",
+                    legacyMbs, sha256Mbs, sha256Mbs / legacyMbs, crc32cMbs, crc32cMbs / legacyMbs);
+
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * 최고 처리량 측정 (MB/s)
+     */
+    private double measure(Path file, int repetitions, Hasher hasher) throws IOException {
+        long bytes = Files.size(file) * repetitions;
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            for (int r = 0; r < repetitions; r++) {
+                hasher.hash(file);
+            }
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+        return (bytes / (1024.0 * 1024.0)) / (bestNanos / 1_000_000_000.0);
+    }
+
+    /**
+     * 기존 계산 방식: 8KB InputStream 읽기 + 바이트별 String.format
+     */
+    private String legacyChecksum(Path file) throws IOException {
+        try (InputStream is = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int bytesRead;
+            while ((bytesRead = is.read(buffer)) != -1) {
+                digest.update(buffer, 0, bytesRead);
+            }
+
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest()) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 임의 내용 파일 생성 (1MB 단위로 기록하여 큰 파일도 힙에 전체를 올리지 않음)
+     */
+    private Path createFile(long size) throws IOException {
+        Path file = tempDir.resolve("checksum-" + size + ".bin");
+        Random random = new Random(42);
+        byte[] chunk = new byte[(int) Math.min(size, 1024 * 1024)];
+        try (OutputStream os = Files.newOutputStream(file)) {
+            for (long written = 0; written < size; written += chunk.length) {
+                random.nextBytes(chunk);
+                os.write(chunk, 0, (int) Math.min(chunk.length, size - written));
+            }
+        }
+        return file;
+    }
+}
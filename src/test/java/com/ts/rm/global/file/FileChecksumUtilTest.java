@@ -0,0 +1,89 @@
+package com.ts.rm.global.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ts.rm.global.file.FileChecksumUtil.HashAlgorithm;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * FileChecksumUtil 테스트
+ */
+class FileChecksumUtilTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("SHA-256 - 표준 테스트 벡터 및 빈 파일")
+    void calculateChecksum_KnownVectors() throws IOException {
+        // given
+        Path abc = Files.writeString(tempDir.resolve("abc.txt"), "abc");
+        Path empty = Files.createFile(tempDir.resolve("empty.txt"));
+
+        // when & then
+        assertThat(FileChecksumUtil.calculateChecksum(abc))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        assertThat(FileChecksumUtil.calculateChecksum(empty))
+                .isEqualTo("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+    }
+
+    @Test
+    @DisplayName("SHA-256 - 읽기 버퍼보다 큰 파일도 스트림/바이트 배열 계산 결과와 동일")
+    void calculateChecksum_LargeFileMatchesStream() throws IOException {
+        // given
+        byte[] content = new byte[3 * 1024 * 1024 + 17];
+        new Random(42).nextBytes(content);
+        Path file = Files.write(tempDir.resolve("large.bin"), content);
+
+        // when
+        String fromFile = FileChecksumUtil.calculateChecksum(file);
+
+        // then
+        assertThat(fromFile).isEqualTo(FileChecksumUtil.calculateChecksum(new ByteArrayInputStream(content)));
+        assertThat(fromFile).isEqualTo(FileChecksumUtil.calculateChecksum(content));
+        assertThat(FileChecksumUtil.copyWithChecksum(new ByteArrayInputStream(content), new ByteArrayOutputStream()))
+                .isEqualTo(new FileChecksumUtil.ChecksumResult(fromFile, content.length));
+    }
+
+    @Test
+    @DisplayName("CRC32C - 표준 테스트 벡터, 내용이 바뀌면 값이 달라짐")
+    void calculateHash_Crc32c() throws IOException {
+        // given
+        Path file = Files.writeString(tempDir.resolve("check.txt"), "123456789");
+        Path changed = Files.write(tempDir.resolve("changed.txt"), "123456780".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        String hash = FileChecksumUtil.calculateHash(file, HashAlgorithm.CRC32C);
+
+        // then
+        assertThat(hash).isEqualTo("e3069283");
+        assertThat(FileChecksumUtil.calculateHash(changed, HashAlgorithm.CRC32C)).isNotEqualTo(hash);
+    }
+
+    @Test
+    @DisplayName("여러 해시 동시 계산 - 읽기 버퍼보다 큰 파일도 알고리즘별 단독 계산 결과와 동일")
+    void calculateHashes_MatchesSingleAlgorithm() throws IOException {
+        // given
+        byte[] content = new byte[3 * 1024 * 1024 + 17];
+        new Random(7).nextBytes(content);
+        Path file = Files.write(tempDir.resolve("both.bin"), content);
+
+        // when
+        List<String> hashes = FileChecksumUtil.calculateHashes(file, HashAlgorithm.SHA_256, HashAlgorithm.CRC32C);
+
+        // then
+        assertThat(hashes).containsExactly(
+                FileChecksumUtil.calculateChecksum(content),
+                FileChecksumUtil.calculateHash(file, HashAlgorithm.CRC32C));
+    }
+}
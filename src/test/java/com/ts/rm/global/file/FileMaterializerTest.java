@@ -0,0 +1,73 @@
+package com.ts.rm.global.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * FileMaterializer 테스트
+ */
+class FileMaterializerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("reflink 미지원 판별 - 파일시스템 미지원(EOPNOTSUPP)")
+    void isUnsupported_OperationNotSupported() {
+        // given
+        String output = "cp: failed to clone '/data/b' from '/data/a': Operation not supported\n";
+
+        // when
+        boolean result = FileMaterializer.isUnsupported(output);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("reflink 미지원 판별 - 다른 파일시스템 간 복제(EXDEV)")
+    void isUnsupported_CrossDevice() {
+        // given
+        String output = "cp: failed to clone '/mnt/b' from '/data/a': Invalid cross-device link\n";
+
+        // when
+        boolean result = FileMaterializer.isUnsupported(output);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("reflink 미지원 판별 - 일시적/파일별 오류는 기억하지 않음")
+    void isUnsupported_TransientFailure() {
+        // when & then
+        assertThat(FileMaterializer.isUnsupported(null)).isFalse();
+        assertThat(FileMaterializer.isUnsupported(
+                "cp: cannot create regular file '/data/b': Permission denied\n")).isFalse();
+        assertThat(FileMaterializer.isUnsupported(
+                "cp: error writing '/data/b': No space left on device\n")).isFalse();
+    }
+
+    @Test
+    @DisplayName("하드 링크 미허용 시 원본과 독립된 파일 생성")
+    void materialize_WithoutHardLink() throws IOException {
+        // given
+        Path source = Files.writeString(tempDir.resolve("source.sql"), "SELECT 1;");
+        Path target = tempDir.resolve("target.sql");
+
+        // when
+        FileMaterializer.Method method = FileMaterializer.materialize(source, target, false);
+        Files.writeString(target, "SELECT 2;");
+
+        // then
+        assertThat(method).isNotEqualTo(FileMaterializer.Method.HARD_LINK);
+        assertThat(Files.readString(source)).isEqualTo("SELECT 1;");
+        assertThat(Files.isWritable(target)).isTrue();
+    }
+}
@@ -0,0 +1,159 @@
+package com.ts.rm.global.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * FileTransferUtil 테스트 (조건부 요청 및 Range 처리)
+ */
+class FileTransferUtilTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = tempDir.resolve("backup.sql");
+        Files.writeString(file, CONTENT);
+        request = new MockHttpServletRequest("GET", "/download");
+        response = new MockHttpServletResponse();
+        response.setContentType("application/octet-stream");
+    }
+
+    @Test
+    @DisplayName("Range 헤더가 없으면 전체 파일 전송")
+    void serveFile_FullContent() throws IOException {
+        // when
+        FileTransferUtil.serveFile(request, response, file);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getContentLengthLong()).isEqualTo(CONTENT.length());
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("단일 구간 요청 시 206 및 Content-Range 응답")
+    void serveFile_SingleRange() throws IOException {
+        // given
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+
+        // when
+        FileTransferUtil.serveFile(request, response, file);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 5-9/20");
+        assertThat(response.getContentAsString()).isEqualTo("56789");
+        assertThat(response.getContentLengthLong()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("끝 구간 요청(bytes=-N) 시 마지막 N 바이트 전송")
+    void serveFile_SuffixRange() throws IOException {
+        // given
+        request.addHeader(HttpHeaders.RANGE, "bytes=-4");
+
+        // when
+        FileTransferUtil.serveFile(request, response, file);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 16-19/20");
+        assertThat(response.getContentAsString()).isEqualTo("ghij");
+    }
+
+    @Test
+    @DisplayName("다중 구간 요청 시 multipart/byteranges 응답")
+    void serveFile_MultipleRanges() throws IOException {
+        // given
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1,10-12");
+
+        // when
+        FileTransferUtil.serveFile(request, response, file);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+        String body = response.getContentAsString(StandardCharsets.US_ASCII);
+        assertThat(body)
+                .contains("Content-Range: bytes 0-1/20\r\n\r\n01\r\n")
+                .contains("Content-Range: bytes 10-12/20\r\n\r\nabc\r\n")
+                .endsWith("--\r\n");
+        assertThat(response.getContentLengthLong()).isEqualTo(response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("파일 범위를 벗어난 구간 요청 시 416 응답")
+    void serveFile_UnsatisfiableRange() {
+        // given
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-200");
+
+        // when
+        FileTransferUtil.serveFile(request, response, file);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */20");
+    }
+
+    @Test
+    @DisplayName("If-Range ETag 일치 시 부분 전송, 불일치 시 전체 전송")
+    void serveFile_IfRange() throws IOException {
+        // given
+        String etag = "\"abc\"";
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-3");
+        request.addHeader(HttpHeaders.IF_RANGE, etag);
+
+        // when
+        FileTransferUtil.serveFile(request, response, file, etag);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("0123");
+
+        // given - 파일이 변경되어 ETag가 달라진 경우
+        MockHttpServletResponse staleResponse = new MockHttpServletResponse();
+
+        // when
+        FileTransferUtil.serveFile(request, staleResponse, file, "\"def\"");
+
+        // then
+        assertThat(staleResponse.getStatus()).isEqualTo(200);
+        assertThat(staleResponse.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 일치 시 304 응답")
+    void serveFile_NotModified() {
+        // given
+        String etag = "\"abc\"";
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+
+        // when
+        FileTransferUtil.serveFile(request, response, file, etag);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+}
@@ -0,0 +1,102 @@
+package com.ts.rm.global.file;
+
+import java.io.File;
+import java.io.InputStream;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 내용을 메모리에 보관하지 않는 테스트용 MultipartFile
+ *
+ * <p>지정한 크기의 결정적(deterministic) 데이터를 스트림으로만 제공하며, {@link #getBytes()} 호출 시 실패합니다.
+ * 메모리 제한 테스트에서 파일 전체를 메모리에 적재하지 않는지 검증할 때 사용합니다.
+ *
+ * @param originalFilename 파일명
+ * @param size             파일 크기 (bytes)
+ * @param seed             내용 생성 시드 (같은 시드와 크기면 같은 내용)
+ */
+public record SyntheticMultipartFile(String originalFilename, long size, long seed) implements MultipartFile {
+
+    public SyntheticMultipartFile(String originalFilename, long size) {
+        this(originalFilename, size, 0);
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/octet-stream";
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() {
+        throw new UnsupportedOperationException("파일 전체를 메모리에 적재하면 안 됩니다");
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new SyntheticInputStream(size, seed);
+    }
+
+    @Override
+    public void transferTo(File dest) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * 지정한 크기의 결정적(deterministic) 데이터를 생성하는 스트림
+     */
+    public static final class SyntheticInputStream extends InputStream {
+
+        private final long size;
+        private final long seed;
+        private long position;
+
+        public SyntheticInputStream(long size, long seed) {
+            this.size = size;
+            this.seed = seed;
+        }
+
+        @Override
+        public int read() {
+            if (position >= size) {
+                return -1;
+            }
+            return valueAt(position++) & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= size) {
+                return -1;
+            }
+            int count = (int) Math.min(len, size - position);
+            for (int i = 0; i < count; i++) {
+                b[off + i] = valueAt(position++);
+            }
+            return count;
+        }
+
+        private byte valueAt(long index) {
+            long value = index + seed;
+            return (byte) ((value * 31) ^ (value >>> 13));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.ts.rm.global.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ts.rm.global.exception.BusinessException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * ZipExtractUtil 테스트
+ */
+class ZipExtractUtilTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("MS949 파일명 ZIP 압축 해제 - 엔트리별 문자셋 판별")
+    void extract_Ms949EntryNames() throws IOException {
+        // given
+        Path zipPath = createZip(Charset.forName("MS949"), "database/MARIADB/1.패치.sql", "web/index.html");
+        Path targetDir = tempDir.resolve("out");
+
+        // when
+        List<ZipExtractUtil.ExtractedFileInfo> files;
+        try (InputStream is = Files.newInputStream(zipPath)) {
+            files = ZipExtractUtil.extract(is, targetDir);
+        }
+
+        // then
+        assertThat(files).extracting(ZipExtractUtil.ExtractedFileInfo::relativePath)
+                .containsExactlyInAnyOrder("database/MARIADB/1.패치.sql", "web/index.html");
+        assertThat(targetDir.resolve("database/MARIADB/1.패치.sql")).exists();
+    }
+
+    @Test
+    @DisplayName("UTF-8 파일명 ZIP 압축 해제 - MultipartFile")
+    void extract_Utf8EntryNames() throws IOException {
+        // given
+        Path zipPath = createZip(StandardCharsets.UTF_8, "리소스/설치가이드.txt");
+        MockMultipartFile zipFile = new MockMultipartFile(
+                "file", "resource.zip", "application/zip", Files.readAllBytes(zipPath));
+        Path targetDir = tempDir.resolve("out");
+
+        // when
+        List<ZipExtractUtil.ExtractedFileInfo> files = ZipExtractUtil.extract(zipFile, targetDir);
+
+        // then
+        assertThat(files).hasSize(1);
+        assertThat(files.get(0).relativePath()).isEqualTo("리소스/설치가이드.txt");
+        assertThat(Files.readString(targetDir.resolve("리소스/설치가이드.txt")))
+                .isEqualTo("content of 리소스/설치가이드.txt");
+    }
+
+    @Test
+    @DisplayName("경로 탐색 엔트리 포함 시 압축 해제 실패")
+    void extract_ZipSlipRejected() throws IOException {
+        // given
+        Path zipPath = createZip(StandardCharsets.UTF_8, "../evil.sh");
+        Path targetDir = tempDir.resolve("out");
+
+        // when & then
+        assertThatThrownBy(() -> ZipExtractUtil.extractWithCallback(zipPath, targetDir, null))
+                .isInstanceOf(BusinessException.class);
+        assertThat(tempDir.resolve("evil.sh")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("병렬 압축 해제 - 압축 해제와 동시에 체크섬 계산")
+    void extractParallel_ComputesChecksums() throws IOException {
+        // given
+        Path zipPath = createZip(Charset.forName("MS949"), "database/MARIADB/1.패치.sql", "web/index.html");
+        Path targetDir = tempDir.resolve("out");
+
+        // when
+        List<ZipExtractUtil.ExtractedEntry> entries =
+                ZipExtractUtil.extractParallel(zipPath, targetDir, Long.MAX_VALUE, ForkJoinPool.commonPool());
+
+        // then
+        assertThat(entries).extracting(ZipExtractUtil.ExtractedEntry::entryName)
+                .containsExactly("database/MARIADB/1.패치.sql", "web/index.html");
+        for (ZipExtractUtil.ExtractedEntry entry : entries) {
+            assertThat(entry.checksum()).isEqualTo(FileChecksumUtil.calculateChecksum(entry.absolutePath()));
+            assertThat(entry.fileSize()).isEqualTo(Files.size(entry.absolutePath()));
+        }
+    }
+
+    @Test
+    @DisplayName("병렬 압축 해제 - 최대 크기 초과 시 실패")
+    void extractParallel_MaxTotalSizeExceeded() throws IOException {
+        // given
+        Path zipPath = createZip(StandardCharsets.UTF_8, "web/a.html", "web/b.html");
+        Path targetDir = tempDir.resolve("out");
+
+        // when & then
+        assertThatThrownBy(() -> ZipExtractUtil.extractParallel(
+                zipPath, targetDir, 10L, ForkJoinPool.commonPool()))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private Path createZip(Charset charset, String... entryNames) throws IOException {
+        Path zipPath = Files.createTempFile(tempDir, "test", ".zip");
+        try (OutputStream os = Files.newOutputStream(zipPath);
+                ZipOutputStream zos = new ZipOutputStream(os, charset)) {
+            for (String entryName : entryNames) {
+                zos.putNextEntry(new ZipEntry(entryName));
+                zos.write(("content of " + entryName).getBytes(StandardCharsets.UTF_8));
+                zos.closeEntry();
+            }
+        }
+        return zipPath;
+    }
+}
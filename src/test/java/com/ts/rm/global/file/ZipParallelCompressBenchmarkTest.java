@@ -0,0 +1,109 @@
+package com.ts.rm.global.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.ZipFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * ZIP 병렬 압축 처리량 벤치마크
+ *
+ * <p>순차 압축(ZipOutputStream)과 {@link ParallelZipWriter}를 스레드 수 1, 2, 4, ... 코어 수로 바꿔가며
+ * 처리량(MB/s)을 비교합니다. 기본 test 태스크에서는 제외되며
+ * {@code ./gradlew benchmark -Dbenchmark.zip.compress-mb=512}로 실행합니다.
+ */
+@Tag("benchmark")
+class ZipParallelCompressBenchmarkTest {
+
+    private static final int TOTAL_MB = Integer.getInteger("benchmark.zip.compress-mb", 128);
+    private static final int FILE_COUNT = Integer.getInteger("benchmark.zip.compress-files", 8);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.zip.iterations", 3);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("순차 압축 vs 병렬 압축 (스레드 수별 처리량)")
+    void compareThroughputByThreadCount() throws Exception {
+        List<StreamingZipUtil.ZipFileEntry> files = createBenchmarkFiles();
+        long totalBytes = (long) TOTAL_MB * 1024 * 1024;
+
+        long sequentialNanos = measure(files, null);
+        System.out.printf("[benchmark] files=%d, total=%dMB%n", FILE_COUNT, TOTAL_MB);
+        System.out.printf("[benchmark] sequential: %.1f MB/s%n", throughput(totalBytes, sequentialNanos));
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= cores; threads = nextThreadCount(threads, cores)) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                long parallelNanos = measure(files, pool);
+                System.out.printf("[benchmark] parallel threads=%d: %.1f MB/s (x%.2f)%n",
+                        threads, throughput(totalBytes, parallelNanos),
+                        (double) sequentialNanos / parallelNanos);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private long measure(List<StreamingZipUtil.ZipFileEntry> files, ForkJoinPool pool) throws IOException {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ITERATIONS; i++) {
+            Path zipPath = tempDir.resolve("benchmark-" + i + ".zip");
+            long start = System.nanoTime();
+            try (OutputStream os = Files.newOutputStream(zipPath)) {
+                StreamingZipUtil.compressFilesToStream(os, files, pool);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+
+            try (ZipFile zipFile = new ZipFile(zipPath.toFile())) {
+                assertThat(zipFile.size()).isEqualTo(files.size());
+            }
+            Files.delete(zipPath);
+        }
+        return best;
+    }
+
+    private static int nextThreadCount(int threads, int cores) {
+        return threads == cores ? cores + 1 : Math.min(threads * 2, cores);
+    }
+
+    private static double throughput(long bytes, long nanos) {
+        return bytes / 1024.0 / 1024.0 / (nanos / 1_000_000_000.0);
+    }
+
+    /**
+     * 압축률이 적당한(SQL 덤프 유사) 파일 생성
+     */
+    private List<StreamingZipUtil.ZipFileEntry> createBenchmarkFiles() throws IOException {
+        Random random = new Random(42);
+        byte[] words = "INSERT INTO release_file VALUES patch version customer engine web ;\n"
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] buffer = new byte[TOTAL_MB / FILE_COUNT * 1024 * 1024];
+
+        List<StreamingZipUtil.ZipFileEntry> files = new ArrayList<>();
+        for (int i = 0; i < FILE_COUNT; i++) {
+            for (int j = 0; j < buffer.length; j++) {
+                buffer[j] = random.nextInt(8) == 0
+                        ? (byte) random.nextInt(256)
+                        : words[random.nextInt(words.length)];
+            }
+            Path file = tempDir.resolve("dump-" + i + ".sql");
+            Files.write(file, buffer);
+            files.add(new StreamingZipUtil.ZipFileEntry(file, "database/mariadb/dump-" + i + ".sql"));
+        }
+        return files;
+    }
+}
@@ -0,0 +1,137 @@
+package com.ts.rm.global.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * ZIP 압축 해제 성능 비교 벤치마크
+ *
+ * <p>기존 방식(ZipInputStream 순차 압축 해제 후 파일별 체크섬 재계산)과
+ * {@link ZipExtractUtil#extractParallel} 방식을 비교합니다. 기본 test 태스크에서는 제외되며
+ * {@code ./gradlew benchmark -Dbenchmark.zip.entries=200 -Dbenchmark.zip.entry-kb=1024}로 실행합니다.
+ */
+@Tag("benchmark")
+class ZipParallelExtractBenchmarkTest {
+
+    private static final int ENTRY_COUNT = Integer.getInteger("benchmark.zip.entries", 64);
+    private static final int ENTRY_SIZE_KB = Integer.getInteger("benchmark.zip.entry-kb", 2048);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.zip.iterations", 3);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("순차 압축 해제 + 체크섬 재계산 vs 병렬 압축 해제(단일 패스 체크섬)")
+    void compareSequentialAndParallelExtract() throws Exception {
+        Path zipPath = createBenchmarkZip();
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+        try {
+            Map<String, String> sequentialChecksums = null;
+            Map<String, String> parallelChecksums = null;
+            long sequentialNanos = Long.MAX_VALUE;
+            long parallelNanos = Long.MAX_VALUE;
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                Path sequentialDir = Files.createDirectory(tempDir.resolve("seq-" + i));
+                long start = System.nanoTime();
+                sequentialChecksums = extractSequential(zipPath, sequentialDir);
+                sequentialNanos = Math.min(sequentialNanos, System.nanoTime() - start);
+
+                Path parallelDir = Files.createDirectory(tempDir.resolve("par-" + i));
+                start = System.nanoTime();
+                parallelChecksums = toChecksumMap(ZipExtractUtil.extractParallel(
+                        zipPath, parallelDir, Long.MAX_VALUE, pool));
+                parallelNanos = Math.min(parallelNanos, System.nanoTime() - start);
+            }
+
+            System.out.printf("[benchmark] entries=%d, entrySize=%dKB, threads=%d%n",
+                    ENTRY_COUNT, ENTRY_SIZE_KB, pool.getParallelism());
+            System.out.printf("[benchmark] sequential+rehash: %d ms, parallel: %d ms (x%.2f)%n",
+                    sequentialNanos / 1_000_000, parallelNanos / 1_000_000,
+                    (double) sequentialNanos / parallelNanos);
+
+            assertThat(parallelChecksums).isEqualTo(sequentialChecksums);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 기존 업로드 처리 방식: ZipInputStream 순차 압축 해제 → 블롭 저장 시 파일을 다시 읽어 체크섬 계산
+     */
+    private Map<String, String> extractSequential(Path zipPath, Path targetDir) throws IOException {
+        Map<String, String> checksums = new HashMap<>();
+        try (ZipInputStream zis = new ZipInputStream(Files.newInputStream(zipPath), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                Path targetPath = ZipExtractUtil.resolveEntryPath(targetDir, entry.getName());
+                if (entry.isDirectory()) {
+                    Files.createDirectories(targetPath);
+                    continue;
+                }
+                Files.createDirectories(targetPath.getParent());
+                Files.copy(zis, targetPath);
+                zis.closeEntry();
+            }
+        }
+        try (var paths = Files.walk(targetDir)) {
+            for (Path file : paths.filter(Files::isRegularFile).toList()) {
+                String entryName = targetDir.relativize(file).toString().replace('\\', '/');
+                checksums.put(entryName, FileChecksumUtil.calculateChecksum(file));
+            }
+        }
+        return checksums;
+    }
+
+    private Map<String, String> toChecksumMap(List<ZipExtractUtil.ExtractedEntry> entries) {
+        Map<String, String> checksums = new HashMap<>();
+        for (ZipExtractUtil.ExtractedEntry entry : entries) {
+            checksums.put(entry.entryName(), entry.checksum());
+        }
+        return checksums;
+    }
+
+    /**
+     * 압축률이 적당한(텍스트 유사) 엔트리로 구성된 ZIP 생성
+     */
+    private Path createBenchmarkZip() throws IOException {
+        Path zipPath = tempDir.resolve("benchmark.zip");
+        Random random = new Random(42);
+        byte[] words = "SELECT INSERT UPDATE release patch version customer engine web "
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] buffer = new byte[ENTRY_SIZE_KB * 1024];
+
+        try (OutputStream os = Files.newOutputStream(zipPath);
+                ZipOutputStream zos = new ZipOutputStream(os, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                for (int j = 0; j < buffer.length; j++) {
+                    buffer[j] = random.nextInt(8) == 0
+                            ? (byte) random.nextInt(256)
+                            : words[random.nextInt(words.length)];
+                }
+                zos.putNextEntry(new ZipEntry("database/MARIADB/" + i + ".sql"));
+                zos.write(buffer);
+                zos.closeEntry();
+            }
+        }
+        return zipPath;
+    }
+}